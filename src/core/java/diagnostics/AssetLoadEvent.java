@@ -0,0 +1,53 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning the read and decode of one image resource. Cache hits are
+ * not recorded, and misses only create the event while {@link #enabled()}.
+ */
+@Name("tanjiro.AssetLoad")
+@Label("Asset Load")
+@Category({"Tanjiro", "Assets"})
+@Description("An image read from the classpath and decoded")
+public class AssetLoadEvent extends Event {
+
+    /** The registered event type, queried for whether a recording wants this event. */
+    private static final EventType TYPE = EventType.getEventType(AssetLoadEvent.class);
+
+    /** The classpath-relative resource path. */
+    @Label("Path")
+    public String path;
+
+    /** Width of the decoded image in pixels, or {@code 0} if it failed to load. */
+    @Label("Width")
+    public int width;
+
+    /** Height of the decoded image in pixels, or {@code 0} if it failed to load. */
+    @Label("Height")
+    public int height;
+
+    /** Size of the decoded pixels at four bytes per pixel. */
+    @Label("Bytes Decoded")
+    @DataAmount
+    public long bytesDecoded;
+
+    /** {@code true} if the resource was found and decoded. */
+    @Label("Loaded")
+    public boolean loaded;
+
+    /**
+     * Returns whether a running recording has this event enabled.
+     *
+     * @return {@code true} if creating and committing the event is worthwhile
+     */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
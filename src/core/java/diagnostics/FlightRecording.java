@@ -0,0 +1,70 @@
+package diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Starts a continuous Flight Recorder recording when the game is launched with the
+ * {@code game.jfr} system property.
+ * <p>
+ * The recording uses the JDK's {@code default} settings, which keep the overhead around one
+ * percent, plus the game's own events ({@link TickEvent}, {@link RenderEvent},
+ * {@link SceneTransitionEvent}, {@link AssetLoadEvent}, {@link MusicEvent}). Only the last
+ * {@link #MAX_AGE} is kept on disk, and it is written to the file named by the property when
+ * the JVM exits, ready to open in JDK Mission Control.
+ */
+public final class FlightRecording {
+
+    /** System property naming the file the recording is dumped to. */
+    public static final String PROPERTY = "game.jfr";
+
+    /** How much history the recording keeps. */
+    public static final Duration MAX_AGE = Duration.ofMinutes(10);
+
+    /**
+     * Not instantiable.
+     */
+    private FlightRecording() {
+    }
+
+    /**
+     * Starts the recording if {@link #PROPERTY} is set. Failures are reported and otherwise
+     * ignored, so the game still runs.
+     *
+     * @return the running recording, or {@code null} if none was requested or it failed to start
+     */
+    public static Recording startIfRequested() {
+        String path = System.getProperty(PROPERTY);
+        if (path == null || path.isBlank()) return null;
+        try {
+            return start(Path.of(path));
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            System.out.println("Could not start flight recording: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Starts a continuous recording that is dumped to a file when the JVM exits.
+     *
+     * @param destination the file to dump to
+     * @return the running recording
+     * @throws IOException    if the destination cannot be used or the settings cannot be read
+     * @throws ParseException if the JDK's settings file is malformed
+     */
+    public static Recording start(Path destination) throws IOException, ParseException {
+        Recording recording = new Recording(Configuration.getConfiguration("default"));
+        recording.setName("Tanjiro");
+        recording.setToDisk(true);
+        recording.setMaxAge(MAX_AGE);
+        recording.setDumpOnExit(true);
+        recording.setDestination(destination);
+        recording.start();
+        return recording;
+    }
+}
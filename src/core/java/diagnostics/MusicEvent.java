@@ -0,0 +1,43 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning the start of a background music track: stopping the old
+ * player, opening the media and starting playback. Created only while {@link #enabled()}.
+ */
+@Name("tanjiro.PlayBGM")
+@Label("Play BGM")
+@Category({"Tanjiro", "Audio"})
+@Description("A background music track started")
+public class MusicEvent extends Event {
+
+    /** The registered event type, queried for whether a recording wants this event. */
+    private static final EventType TYPE = EventType.getEventType(MusicEvent.class);
+
+    /** The classpath-relative resource path of the track. */
+    @Label("Track")
+    public String track;
+
+    /** The requested playback volume. */
+    @Label("Volume")
+    public double volume;
+
+    /** {@code true} if the track was found and playback started. */
+    @Label("Started")
+    public boolean started;
+
+    /**
+     * Returns whether a running recording has this event enabled.
+     *
+     * @return {@code true} if creating and committing the event is worthwhile
+     */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
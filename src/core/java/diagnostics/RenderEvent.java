@@ -0,0 +1,51 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one render pass of a screen.
+ * <p>
+ * Rendering runs every frame without allocating, so views create the event only when
+ * {@link #enabled()} reports that a recording wants it.
+ */
+@Name("tanjiro.Render")
+@Label("Render Pass")
+@Category({"Tanjiro", "Rendering"})
+@Description("One frame drawn by a screen")
+@StackTrace(false)
+public class RenderEvent extends Event {
+
+    /** The registered event type, queried for whether a recording wants this event. */
+    private static final EventType TYPE = EventType.getEventType(RenderEvent.class);
+
+    /** The screen that drew the frame, e.g. {@code "game"} or {@code "boss"}. */
+    @Label("Scene")
+    public String scene;
+
+    /** Terrain tiles repainted onto the cached chunk canvases this frame. */
+    @Label("Tiles Redrawn")
+    public int tilesRedrawn;
+
+    /** Monsters in the world when the frame was drawn. */
+    @Label("Monsters")
+    public int monsters;
+
+    /** Floating texts in the world when the frame was drawn. */
+    @Label("Floating Texts")
+    public int floatingTexts;
+
+    /**
+     * Returns whether a running recording has this event enabled.
+     *
+     * @return {@code true} if creating and committing the event is worthwhile
+     */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,39 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning a switch between screens, including building the new
+ * screen on its first visit and starting its music. Created only while {@link #enabled()}.
+ */
+@Name("tanjiro.SceneTransition")
+@Label("Scene Transition")
+@Category({"Tanjiro", "Scenes"})
+@Description("A switch from one screen to another")
+public class SceneTransitionEvent extends Event {
+
+    /** The registered event type, queried for whether a recording wants this event. */
+    private static final EventType TYPE = EventType.getEventType(SceneTransitionEvent.class);
+
+    /** Simple class name of the screen left, or {@code "none"} for the first transition. */
+    @Label("From")
+    public String from;
+
+    /** Simple class name of the screen shown. */
+    @Label("To")
+    public String to;
+
+    /**
+     * Returns whether a running recording has this event enabled.
+     *
+     * @return {@code true} if creating and committing the event is worthwhile
+     */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,55 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one fixed simulation step of the game world.
+ * <p>
+ * Ticks run many times a frame and the game loop allocates nothing, so callers check
+ * {@link #enabled()} before creating the event; with recording off a tick costs one flag read.
+ */
+@Name("tanjiro.Tick")
+@Label("Simulation Tick")
+@Category({"Tanjiro", "Simulation"})
+@Description("One fixed simulation step of the game world")
+@StackTrace(false)
+public class TickEvent extends Event {
+
+    /** The registered event type, queried for whether a recording wants this event. */
+    private static final EventType TYPE = EventType.getEventType(TickEvent.class);
+
+    /** Number of ticks simulated, including this one. */
+    @Label("Tick")
+    public long tick;
+
+    /** Live monsters after the step. */
+    @Label("Monsters")
+    public int monsters;
+
+    /** Active floating texts after the step. */
+    @Label("Floating Texts")
+    public int floatingTexts;
+
+    /** Chunks resident in memory after the step. */
+    @Label("Loaded Chunks")
+    public int loadedChunks;
+
+    /** Timed events still pending after the step. */
+    @Label("Scheduled Events")
+    public int scheduledEvents;
+
+    /**
+     * Returns whether a running recording has this event enabled.
+     *
+     * @return {@code true} if creating and committing the event is worthwhile
+     */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -2,6 +2,7 @@ package interfaces;
 
 import logic.creatures.Player;
 import logic.util.ItemCounter;
+import logic.util.Recipe;
 import java.util.ArrayList;
 
 /**
@@ -23,6 +24,13 @@ public interface Craftable {
      */
     ArrayList<ItemCounter> getRecipe();
 
+    /**
+     * Returns the recipe compiled into item type ids and amounts, for repeated checks.
+     *
+     * @return the compiled recipe, or {@code null} if this item has no recipe
+     */
+    Recipe getRequirements();
+
     /**
      * Checks whether the player has enough materials and gold to craft this item.
      *
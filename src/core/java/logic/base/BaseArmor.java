@@ -4,6 +4,8 @@ import interfaces.Craftable;
 import interfaces.Equipable;
 import logic.creatures.Player;
 import logic.util.ItemCounter;
+import logic.util.Recipe;
+
 import java.util.ArrayList;
 
 /**
@@ -27,6 +29,9 @@ public abstract class BaseArmor extends BaseItem implements Equipable, Craftable
     /** Gold cost required to craft this armor. */
     protected int craftingPrice = 0;
 
+    /** {@link #getRecipe()} compiled on first use. */
+    private Recipe requirements;
+
     /**
      * Creates a new armor with the given stat bonuses and crafting cost.
      *
@@ -82,12 +87,22 @@ public abstract class BaseArmor extends BaseItem implements Equipable, Craftable
     @Override
     public boolean canCraft(Player p) {
         if (p.getGold() < craftingPrice) return false;
-        for (ItemCounter it : getRecipe()) {
-            int cnt = 0;
-            for (ItemCounter i : p.getInventory()) if (it.equals(i)) cnt += i.getCount();
-            if (it.getCount() > cnt) return false;
+        Recipe recipe = getRequirements();
+        return recipe != null && recipe.isSatisfiedBy(p.getInventory());
+    }
+
+    /**
+     * Returns this armor's recipe compiled once from {@link #getRecipe()}.
+     *
+     * @return the compiled recipe, or {@code null} if {@link #getRecipe()} returns {@code null}
+     */
+    @Override
+    public Recipe getRequirements() {
+        if (requirements == null) {
+            ArrayList<ItemCounter> recipe = getRecipe();
+            if (recipe != null) requirements = Recipe.compile(recipe);
         }
-        return true;
+        return requirements;
     }
 
     /**
@@ -99,16 +114,7 @@ public abstract class BaseArmor extends BaseItem implements Equipable, Craftable
     @Override
     public void craft(Player p) {
         if (!canCraft(p)) return;
-        for (ItemCounter it : getRecipe()) {
-            int remaining = it.getCount();
-            for (ItemCounter i : p.getInventory()) {
-                int start = i.getCount();
-                if (it.equals(i)) i.setCount(i.getCount() - it.getCount());
-                remaining -= (start - i.getCount());
-                if (i.getCount() == 0) { p.getInventory().remove(i); break; }
-                if (remaining == 0) break;
-            }
-        }
+        getRequirements().consume(p.getInventory());
         p.setGold(p.getGold() - getCraftingPrice());
     }
 
@@ -1,21 +1,14 @@
 package logic.base;
 
-import java.util.Objects;
-
 /**
  * The base class for all items in the game.
- * Stores the item's name, stackability, and maximum stack size.
+ * Stores the item's {@link ItemType}: its interned name, stackability, maximum stack size,
+ * and dense id. Items are equal when they share the same type.
  */
 public class BaseItem {
 
-    /** The name of this item. */
-    private final String name;
-
-    /** Whether this item can be stacked in the inventory. */
-    private final boolean stackable;
-
-    /** The maximum number of this item allowed per inventory slot. */
-    private final int maxStack;
+    /** The shared descriptor of this item's kind. */
+    private final ItemType type;
 
     /**
      * Creates a new item with the specified name, stackability, and max stack size.
@@ -27,9 +20,7 @@ public class BaseItem {
      */
     public BaseItem(String name, boolean stackable, int maxStack) {
         if (name == null || name.isBlank()) throw new IllegalArgumentException("Item name cannot be empty");
-        this.name = name;
-        this.stackable = stackable;
-        this.maxStack = stackable ? Math.max(1, maxStack) : 1;
+        this.type = ItemRegistry.intern(name, stackable, stackable ? Math.max(1, maxStack) : 1);
     }
 
     /**
@@ -39,37 +30,50 @@ public class BaseItem {
      */
     public BaseItem(String name) { this(name, true, 64); }
 
+    /**
+     * Returns the shared descriptor of this item's kind.
+     *
+     * @return item type
+     */
+    public ItemType getType() { return type; }
+
+    /**
+     * Returns the dense registry id of this item's kind.
+     *
+     * @return item type id
+     */
+    public int getId() { return type.getId(); }
+
     /**
      * Returns the name of this item.
      *
      * @return item name
      */
-    public String getName() { return name; }
+    public String getName() { return type.getName(); }
 
     /**
      * Returns whether this item can be stacked in the inventory.
      *
      * @return {@code true} if stackable
      */
-    public boolean isStackable() { return stackable; }
+    public boolean isStackable() { return type.isStackable(); }
 
     /**
      * Returns the maximum number of this item allowed per inventory slot.
      *
      * @return max stack size
      */
-    public int getMaxStack() { return maxStack; }
+    public int getMaxStack() { return type.getMaxStack(); }
 
     @Override
-    public String toString() { return String.format("%s (Max: %d)", name, maxStack); }
+    public String toString() { return String.format("%s (Max: %d)", getName(), getMaxStack()); }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (!(o instanceof BaseItem baseItem)) return false;
-        return stackable == baseItem.stackable && maxStack == baseItem.maxStack && Objects.equals(name, baseItem.name);
+        return o instanceof BaseItem baseItem && type == baseItem.type;
     }
 
     @Override
-    public int hashCode() { return Objects.hash(name, stackable, maxStack); }
+    public int hashCode() { return type.getId(); }
 }
@@ -4,6 +4,8 @@ import interfaces.Craftable;
 import interfaces.Equipable;
 import logic.creatures.Player;
 import logic.util.ItemCounter;
+import logic.util.Recipe;
+
 import java.util.ArrayList;
 
 /**
@@ -21,6 +23,9 @@ public abstract class BaseWeapon extends BaseItem implements Craftable, Equipabl
     /** The cooldown of this weapon in seconds between uses. */
     private double cd;
 
+    /** {@link #getRecipe()} compiled on first use. */
+    private Recipe requirements;
+
     /**
      * Creates a new weapon with the given stats.
      *
@@ -42,14 +47,22 @@ public abstract class BaseWeapon extends BaseItem implements Craftable, Equipabl
     @Override
     public boolean canCraft(Player p) {
         if (p.getGold() < craftingPrice) return false;
-        ArrayList<ItemCounter> recipe = getRecipe();
-        if (recipe == null) return false;
-        for (ItemCounter it : recipe) {
-            int cnt = 0;
-            for (ItemCounter i : p.getInventory()) if (it.equals(i)) cnt += i.getCount();
-            if (it.getCount() > cnt) return false;
+        Recipe recipe = getRequirements();
+        return recipe != null && recipe.isSatisfiedBy(p.getInventory());
+    }
+
+    /**
+     * Returns this weapon's recipe compiled once from {@link #getRecipe()}.
+     *
+     * @return the compiled recipe, or {@code null} if {@link #getRecipe()} returns {@code null}
+     */
+    @Override
+    public Recipe getRequirements() {
+        if (requirements == null) {
+            ArrayList<ItemCounter> recipe = getRecipe();
+            if (recipe != null) requirements = Recipe.compile(recipe);
         }
-        return true;
+        return requirements;
     }
 
     /**
@@ -81,17 +94,7 @@ public abstract class BaseWeapon extends BaseItem implements Craftable, Equipabl
     @Override
     public void craft(Player p) {
         if (!canCraft(p)) return;
-        ArrayList<ItemCounter> recipe = getRecipe();
-        for (ItemCounter it : recipe) {
-            int remaining = it.getCount();
-            for (ItemCounter i : p.getInventory()) {
-                int start = i.getCount();
-                if (it.equals(i)) i.setCount(i.getCount() - it.getCount());
-                remaining -= (start - i.getCount());
-                if (i.getCount() == 0) { p.getInventory().remove(i); break; }
-                if (remaining == 0) break;
-            }
-        }
+        getRequirements().consume(p.getInventory());
         p.setGold(p.getGold() - getCraftingPrice());
     }
 
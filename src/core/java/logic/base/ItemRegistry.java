@@ -0,0 +1,93 @@
+package logic.base;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Central registry of {@link ItemType}s.
+ * Every distinct (name, stackable, maxStack) combination is interned once and given the
+ * next dense integer id, so item identity checks are int comparisons and per-type tables
+ * (inventory totals, recipe requirement vectors) can be plain arrays indexed by id.
+ * <p>
+ * Registration is thread-safe: items are also created on the world's chunk loader thread.
+ */
+public final class ItemRegistry {
+
+    /**
+     * Lookup key of an item kind.
+     *
+     * @param name      the item name
+     * @param stackable whether the item stacks
+     * @param maxStack  the maximum stack size
+     */
+    private record Key(String name, boolean stackable, int maxStack) {
+    }
+
+    /** Interned types by key. */
+    private static final Map<Key, ItemType> TYPES = new ConcurrentHashMap<>();
+
+    /** Interned types by id; replaced (never mutated in place) when it grows. */
+    private static volatile ItemType[] byId = new ItemType[32];
+
+    /** Number of registered types. */
+    private static volatile int size;
+
+    private ItemRegistry() {
+    }
+
+    /**
+     * Returns the type for the given attributes, registering it with a new id on first use.
+     *
+     * @param name      the item name
+     * @param stackable whether the item stacks
+     * @param maxStack  the maximum stack size
+     * @return the shared type
+     */
+    public static ItemType intern(String name, boolean stackable, int maxStack) {
+        Key key = new Key(name, stackable, maxStack);
+        ItemType type = TYPES.get(key);
+        return type != null ? type : register(key);
+    }
+
+    /**
+     * Registers a type under the lock unless another thread got there first.
+     *
+     * @param key the type's key
+     * @return the shared type
+     */
+    private static synchronized ItemType register(Key key) {
+        ItemType type = TYPES.get(key);
+        if (type != null) return type;
+        int id = size;
+        type = new ItemType(id, key.name(), key.stackable(), key.maxStack());
+        ItemType[] table = byId;
+        if (id == table.length) table = Arrays.copyOf(table, id * 2);
+        table[id] = type;
+        byId = table;
+        size = id + 1;
+        TYPES.put(key, type);
+        return type;
+    }
+
+    /**
+     * Returns the type with the given id.
+     *
+     * @param id the id
+     * @return the type
+     * @throws IndexOutOfBoundsException if no type has that id
+     */
+    public static ItemType byId(int id) {
+        if (id < 0 || id >= size) throw new IndexOutOfBoundsException("No item type with id " + id);
+        return byId[id];
+    }
+
+    /**
+     * Returns the number of registered types, which bounds every id.
+     *
+     * @return the type count
+     */
+    public static int size() {
+        return size;
+    }
+}
@@ -0,0 +1,67 @@
+package logic.base;
+
+/**
+ * Immutable descriptor shared by every item of one kind: its dense id, name, and stacking rules.
+ * Instances come only from {@link ItemRegistry}, so two items are the same kind exactly when
+ * they share the same {@code ItemType} (and therefore the same {@link #getId() id}).
+ */
+public final class ItemType {
+
+    /** Dense id, assigned in registration order starting at 0. */
+    private final int id;
+
+    /** The display name of this item kind. */
+    private final String name;
+
+    /** Whether items of this kind stack in the inventory. */
+    private final boolean stackable;
+
+    /** The maximum number of items of this kind per inventory slot. */
+    private final int maxStack;
+
+    /**
+     * Creates a descriptor; called by {@link ItemRegistry} only.
+     *
+     * @param id        the dense id
+     * @param name      the item name
+     * @param stackable whether the item stacks
+     * @param maxStack  the maximum stack size
+     */
+    ItemType(int id, String name, boolean stackable, int maxStack) {
+        this.id = id;
+        this.name = name;
+        this.stackable = stackable;
+        this.maxStack = maxStack;
+    }
+
+    /**
+     * Returns the dense id of this item kind.
+     *
+     * @return the id, {@code 0 <= id < ItemRegistry.size()}
+     */
+    public int getId() { return id; }
+
+    /**
+     * Returns the name of this item kind.
+     *
+     * @return item name
+     */
+    public String getName() { return name; }
+
+    /**
+     * Returns whether items of this kind stack in the inventory.
+     *
+     * @return {@code true} if stackable
+     */
+    public boolean isStackable() { return stackable; }
+
+    /**
+     * Returns the maximum number of items of this kind per inventory slot.
+     *
+     * @return max stack size
+     */
+    public int getMaxStack() { return maxStack; }
+
+    @Override
+    public String toString() { return "#" + id + " " + name; }
+}
@@ -1,11 +1,9 @@
 package logic.creatures;
 
 import logic.base.*;
+import logic.util.Inventory;
 import logic.util.ItemCounter;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-
 /**
  * Represents the player character.
  * The player can carry an inventory, equip weapons and armor,
@@ -14,7 +12,7 @@ import java.util.Iterator;
 public class Player extends BaseCreature {
 
     private int gold;
-    private ArrayList<ItemCounter> inventory;
+    private final Inventory inventory;
     private int speed, luck;
 
     private BaseWeapon equippedWeapon = null;
@@ -31,7 +29,7 @@ public class Player extends BaseCreature {
     public Player(int hp, int attack, int defense) {
         super(hp, attack, defense);
         gold = 0;
-        inventory = new ArrayList<>();
+        inventory = new Inventory();
         speed = 0;
         luck = 0;
     }
@@ -59,11 +57,12 @@ public class Player extends BaseCreature {
     // ───────────────── INVENTORY ─────────────────
 
     /**
-     * Returns the player's inventory as a list of {@link ItemCounter} entries.
+     * Returns the player's inventory as a list of {@link ItemCounter} entries in display order,
+     * indexed by item type.
      *
      * @return inventory list
      */
-    public ArrayList<ItemCounter> getInventory() {
+    public Inventory getInventory() {
         return inventory;
     }
 
@@ -76,29 +75,7 @@ public class Player extends BaseCreature {
      * @param amount the quantity to add
      */
     public void addItem(BaseItem item, int amount) {
-        if (item.isStackable()) {
-            int remaining = amount;
-            for (ItemCounter i : inventory) {
-                if (i.getItem().getName().equals(item.getName())) {
-                    int space = item.getMaxStack() - i.getCount();
-                    if (space <= 0) continue;
-                    int add = Math.min(space, remaining);
-                    i.addCount(add);
-                    remaining -= add;
-                    if (remaining <= 0) return;
-                }
-            }
-
-            while (remaining > 0) {
-                int add = Math.min(item.getMaxStack(), remaining);
-                inventory.add(new ItemCounter(item, add));
-                remaining -= add;
-            }
-        } else {
-            for (int i = 0; i < amount; i++) {
-                inventory.add(new ItemCounter(item, 1));
-            }
-        }
+        inventory.addItem(item, amount);
     }
 
     /**
@@ -108,46 +85,28 @@ public class Player extends BaseCreature {
      * @return {@code true} if a potion was found and used, {@code false} otherwise
      */
     public boolean usePotion(Class<? extends BasePotion> type) {
+        ItemCounter ic = inventory.findStack(type);
+        if (ic == null) return false;
 
-        Iterator<ItemCounter> iterator = inventory.iterator();
-
-        while (iterator.hasNext()) {
-
-            ItemCounter ic = iterator.next();
-
-            if (type.isInstance(ic.getItem()) && ic.getCount() > 0) {
-
-                BasePotion potion = (BasePotion) ic.getItem();
-                potion.consume(this);
+        BasePotion potion = (BasePotion) ic.getItem();
+        potion.consume(this);
 
-                ic.setCount(ic.getCount() - 1);
-
-                if (ic.getCount() <= 0) {
-                    iterator.remove();
-                }
-
-                return true;
-            }
+        ic.setCount(ic.getCount() - 1);
+        if (ic.getCount() <= 0) {
+            inventory.remove(ic);
         }
-
-        return false;
+        return true;
     }
 
     /**
-     * Returns the count of items of the specified type in the inventory.
+     * Returns the total count of items of the specified type in the inventory,
+     * summed over all of its stacks.
      *
      * @param type the class of the item to count
      * @return the quantity found, or 0 if none
      */
     public int countItem(Class<?> type) {
-
-        for (ItemCounter ic : inventory) {
-            if (type.isInstance(ic.getItem())) {
-                return ic.getCount();
-            }
-        }
-
-        return 0;
+        return inventory.count(type);
     }
 
     // ───────────────── EQUIPMENT ─────────────────
@@ -26,8 +26,8 @@ public class IronArmor extends BaseArmor {
     @Override
     public ArrayList<ItemCounter> getRecipe() {
         ArrayList<ItemCounter> r = new ArrayList<>();
-        r.add(new ItemCounter(new NormalStone(), 5));
-        r.add(new ItemCounter(new Iron(), 8));
+        r.add(new ItemCounter(NormalStone.MATERIAL, 5));
+        r.add(new ItemCounter(Iron.MATERIAL, 8));
         return r;
     }
 }
@@ -16,6 +16,6 @@ public class StoneArmor extends BaseArmor {
      * {@inheritDoc}
      */
     @Override public ArrayList<ItemCounter> getRecipe() {
-        ArrayList<ItemCounter> r = new ArrayList<>(); r.add(new ItemCounter(new NormalStone(), 10)); return r;
+        ArrayList<ItemCounter> r = new ArrayList<>(); r.add(new ItemCounter(NormalStone.MATERIAL, 10)); return r;
     }
 }
@@ -26,8 +26,8 @@ public class VibraniumArmor extends BaseArmor {
     @Override
     public ArrayList<ItemCounter> getRecipe() {
         ArrayList<ItemCounter> r = new ArrayList<>();
-        r.add(new ItemCounter(new Mithril(), 10));
-        r.add(new ItemCounter(new Vibranium(), 15));
+        r.add(new ItemCounter(Mithril.MATERIAL, 10));
+        r.add(new ItemCounter(Vibranium.MATERIAL, 15));
         return r;
     }
 }
@@ -17,6 +17,6 @@ public class HardstoneSword extends BaseWeapon {
      */
     @Override public ArrayList<ItemCounter> getRecipe() {
         ArrayList<ItemCounter> r = new ArrayList<>();
-        r.add(new ItemCounter(new NormalStone(), 5)); r.add(new ItemCounter(new HardStone(), 10)); return r;
+        r.add(new ItemCounter(NormalStone.MATERIAL, 5)); r.add(new ItemCounter(HardStone.MATERIAL, 10)); return r;
     }
 }
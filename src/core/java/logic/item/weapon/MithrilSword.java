@@ -26,8 +26,8 @@ public class MithrilSword extends BaseWeapon {
     @Override
     public ArrayList<ItemCounter> getRecipe() {
         ArrayList<ItemCounter> r = new ArrayList<>();
-        r.add(new ItemCounter(new Platinum(), 5));
-        r.add(new ItemCounter(new Mithril(), 15));
+        r.add(new ItemCounter(Platinum.MATERIAL, 5));
+        r.add(new ItemCounter(Mithril.MATERIAL, 15));
         return r;
     }
 }
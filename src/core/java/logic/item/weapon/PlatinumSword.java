@@ -26,8 +26,8 @@ public class PlatinumSword extends BaseWeapon {
     @Override
     public ArrayList<ItemCounter> getRecipe() {
         ArrayList<ItemCounter> r = new ArrayList<>();
-        r.add(new ItemCounter(new Iron(), 8));
-        r.add(new ItemCounter(new Platinum(), 10));
+        r.add(new ItemCounter(Iron.MATERIAL, 8));
+        r.add(new ItemCounter(Platinum.MATERIAL, 10));
         return r;
     }
 }
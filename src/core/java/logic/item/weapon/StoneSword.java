@@ -25,7 +25,7 @@ public class StoneSword extends BaseWeapon {
     @Override
     public ArrayList<ItemCounter> getRecipe() {
         ArrayList<ItemCounter> r = new ArrayList<>();
-        r.add(new ItemCounter(new NormalStone(), 10));
+        r.add(new ItemCounter(NormalStone.MATERIAL, 10));
         return r;
     }
 }
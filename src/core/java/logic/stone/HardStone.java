@@ -6,6 +6,9 @@ import logic.base.BaseItem;
  */
 public class HardStone extends baseStone {
 
+    /** The Hard Stone item this node drops; shared by all drops and recipes. */
+    public static final BaseItem MATERIAL = new BaseItem("Hard Stone");
+
     /**
      * Creates a new HardStone node.
      */
@@ -14,5 +17,5 @@ public class HardStone extends baseStone {
     /**
      * {@inheritDoc}
      */
-    @Override protected BaseItem createItem() { return new BaseItem("Hard Stone"); }
+    @Override protected BaseItem createItem() { return MATERIAL; }
 }
@@ -8,6 +8,9 @@ import logic.base.BaseItem;
  */
 public class Iron extends baseStone {
 
+    /** The Iron item this node drops; shared by all drops and recipes. */
+    public static final BaseItem MATERIAL = new BaseItem("Iron");
+
     /**
      * Creates a new Iron ore node.
      */
@@ -20,6 +23,6 @@ public class Iron extends baseStone {
      */
     @Override
     protected BaseItem createItem() {
-        return new BaseItem("Iron");
+        return MATERIAL;
     }
 }
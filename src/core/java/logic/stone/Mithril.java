@@ -8,6 +8,9 @@ import logic.base.BaseItem;
  */
 public class Mithril extends baseStone {
 
+    /** The Mithril item this node drops; shared by all drops and recipes. */
+    public static final BaseItem MATERIAL = new BaseItem("Mithril");
+
     /**
      * Creates a new Mithril ore node.
      */
@@ -20,6 +23,6 @@ public class Mithril extends baseStone {
      */
     @Override
     protected BaseItem createItem() {
-        return new BaseItem("Mithril");
+        return MATERIAL;
     }
 }
@@ -8,6 +8,9 @@ import logic.base.BaseItem;
  */
 public class NormalStone extends baseStone {
 
+    /** The Normal Stone item this node drops; shared by all drops and recipes. */
+    public static final BaseItem MATERIAL = new BaseItem("Normal Stone");
+
     /**
      * Creates a new NormalStone node.
      */
@@ -20,6 +23,6 @@ public class NormalStone extends baseStone {
      */
     @Override
     protected BaseItem createItem() {
-        return new BaseItem("Normal Stone");
+        return MATERIAL;
     }
 }
@@ -8,6 +8,9 @@ import logic.base.BaseItem;
  */
 public class Platinum extends baseStone {
 
+    /** The Platinum item this node drops; shared by all drops and recipes. */
+    public static final BaseItem MATERIAL = new BaseItem("Platinum");
+
     /**
      * Creates a new Platinum ore node.
      */
@@ -20,6 +23,6 @@ public class Platinum extends baseStone {
      */
     @Override
     protected BaseItem createItem() {
-        return new BaseItem("Platinum");
+        return MATERIAL;
     }
 }
@@ -8,6 +8,9 @@ import logic.base.BaseItem;
  */
 public class Vibranium extends baseStone {
 
+    /** The Vibranium item this node drops; shared by all drops and recipes. */
+    public static final BaseItem MATERIAL = new BaseItem("Vibranium");
+
     /**
      * Creates a new Vibranium ore node.
      */
@@ -20,6 +23,6 @@ public class Vibranium extends baseStone {
      */
     @Override
     protected BaseItem createItem() {
-        return new BaseItem("Vibranium");
+        return MATERIAL;
     }
 }
@@ -1,6 +1,6 @@
 package logic.stone;
 import interfaces.Mineable; import logic.base.BaseItem; import logic.creatures.Player;
-import java.util.ArrayList; import java.util.List;
+import java.util.Collections; import java.util.List;
 /**
  * Abstract base class for all mineable ore and stone nodes in the game world.
  * Each node has a fixed durability that is reduced each time it is mined.
@@ -37,17 +37,16 @@ public abstract class baseStone extends BaseItem implements Mineable {
     /**
      * Generates the list of items dropped when this node is fully mined.
      *
-     * @return a list containing {@code dropAmount} items created by {@link #createItem()}
+     * @return a list containing {@code dropAmount} references to the item from {@link #createItem()}
      */
     protected List<BaseItem> dropItems() {
-        List<BaseItem> drops = new ArrayList<>();
-        for (int i = 0; i < dropAmount; i++) drops.add(createItem());
-        return drops;
+        return Collections.nCopies(dropAmount, createItem());
     }
     /**
-     * Factory method that creates one instance of the ore item dropped by this node.
+     * Returns the ore item dropped by this node. Items are immutable flyweights, so
+     * implementations return a shared instance rather than allocating one per drop.
      *
-     * @return a new {@link BaseItem} representing the ore
+     * @return the {@link BaseItem} representing the ore
      */
     protected abstract BaseItem createItem();
     /** {@inheritDoc} */
@@ -0,0 +1,78 @@
+package logic.util;
+
+import interfaces.Craftable;
+import logic.creatures.Player;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Tracks which of a fixed list of recipes a player can currently craft.
+ * <p>
+ * The set is recomputed only after the player's inventory or gold changed since the last
+ * {@link #refresh(Player)}, so a screen that asks every frame pays one version and gold
+ * comparison instead of re-checking every recipe against the inventory.
+ */
+public class CraftableSet {
+
+    /** The recipes being tracked, in display order. */
+    private final List<? extends Craftable> recipes;
+
+    /** Bit {@code i} is set when recipe {@code i} was craftable at the last recomputation. */
+    private final BitSet craftable = new BitSet();
+
+    /** Inventory the set was last computed for. */
+    private Inventory inventory;
+
+    /** {@link Inventory#getVersion()} at the last recomputation. */
+    private long inventoryVersion;
+
+    /** Player gold at the last recomputation. */
+    private int gold;
+
+    /**
+     * Creates a tracker for the given recipes; the first {@link #refresh(Player)} computes it.
+     *
+     * @param recipes the recipes to track
+     */
+    public CraftableSet(List<? extends Craftable> recipes) {
+        this.recipes = recipes;
+    }
+
+    /**
+     * Brings the set up to date with the player's inventory and gold.
+     *
+     * @param player the crafting player
+     * @return {@code true} if the set was recomputed
+     */
+    public boolean refresh(Player player) {
+        Inventory inv = player.getInventory();
+        if (inv == inventory && inv.getVersion() == inventoryVersion && player.getGold() == gold) return false;
+        inventory = inv;
+        inventoryVersion = inv.getVersion();
+        gold = player.getGold();
+        craftable.clear();
+        for (int i = 0, n = recipes.size(); i < n; i++)
+            if (recipes.get(i).canCraft(player)) craftable.set(i);
+        return true;
+    }
+
+    /**
+     * Returns whether a recipe was craftable at the last {@link #refresh(Player)}.
+     *
+     * @param index the recipe index
+     * @return {@code true} if craftable
+     */
+    public boolean isCraftable(int index) {
+        return craftable.get(index);
+    }
+
+    /**
+     * Returns the number of craftable recipes at the last {@link #refresh(Player)}.
+     *
+     * @return the craftable count
+     */
+    public int size() {
+        return craftable.cardinality();
+    }
+}
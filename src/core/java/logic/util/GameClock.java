@@ -0,0 +1,152 @@
+package logic.util;
+
+/**
+ * Virtual game time, advanced from frame timestamps and read by every timed system of a scene.
+ * <p>
+ * The clock turns the wall-clock time between frames into game time: nothing passes while it
+ * is paused, and time passes {@link #getScale()} times faster than real time otherwise, so a
+ * simulation can be frozen behind a menu or fast-forwarded for soak tests. A single long gap
+ * between frames (a stall, or the window being dragged) counts as at most
+ * {@link #getMaxStepNanos()} of real time, so the game never lurches forward after one.
+ */
+public class GameClock {
+
+    /** Default cap on the real time a single frame can contribute, in nanoseconds. */
+    public static final long DEFAULT_MAX_STEP_NANOS = 250_000_000L;
+
+    /** Cap on the real time a single frame can contribute, in nanoseconds. */
+    private final long maxStepNanos;
+
+    /** Game time in nanoseconds. */
+    private long nanos;
+
+    /** Frame timestamp of the previous {@link #sync(long)}, or {@code -1} if the next one only starts counting. */
+    private long lastFrameNanos = -1;
+
+    /** Game time per unit of real time. */
+    private double scale = 1.0;
+
+    /** Game time not yet handed out because it was less than a nanosecond. */
+    private double carry;
+
+    /** {@code true} while game time is frozen. */
+    private boolean paused;
+
+    /**
+     * Creates a running clock at game time zero with the default frame cap.
+     */
+    public GameClock() {
+        this(DEFAULT_MAX_STEP_NANOS);
+    }
+
+    /**
+     * Creates a running clock at game time zero.
+     *
+     * @param maxStepNanos the most real time a single frame can contribute, in nanoseconds
+     */
+    public GameClock(long maxStepNanos) {
+        if (maxStepNanos <= 0) throw new IllegalArgumentException("Max step must be positive");
+        this.maxStepNanos = maxStepNanos;
+    }
+
+    /**
+     * Advances game time to a new frame. The first call after construction or
+     * {@link #resync()} only records the timestamp.
+     *
+     * @param frameNanos the frame timestamp in nanoseconds (e.g. from an animation timer)
+     * @return the game time that passed, in nanoseconds
+     */
+    public long sync(long frameNanos) {
+        long real = lastFrameNanos < 0 ? 0 : Math.max(0, frameNanos - lastFrameNanos);
+        lastFrameNanos = frameNanos;
+        if (paused) return 0;
+        return advance(Math.min(real, maxStepNanos));
+    }
+
+    /**
+     * Advances game time by an amount of real time, applying the time scale. Pausing does
+     * not apply; headless drivers use this to step the clock directly.
+     *
+     * @param realNanos the real time to add, in nanoseconds
+     * @return the game time that passed, in nanoseconds
+     */
+    public long advance(long realNanos) {
+        double exact = realNanos * scale + carry;
+        long step = (long) exact;
+        carry = exact - step;
+        nanos += step;
+        return step;
+    }
+
+    /**
+     * Makes the next {@link #sync(long)} start counting from its own timestamp, so time spent
+     * with the scene off screen is not added.
+     */
+    public void resync() {
+        lastFrameNanos = -1;
+    }
+
+    /**
+     * Returns the game time.
+     *
+     * @return game time in nanoseconds
+     */
+    public long nanos() {
+        return nanos;
+    }
+
+    /**
+     * Returns the game time.
+     *
+     * @return game time in milliseconds
+     */
+    public long millis() {
+        return nanos / 1_000_000;
+    }
+
+    /**
+     * Freezes or unfreezes game time.
+     *
+     * @param paused {@code true} to stop game time passing
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Returns whether game time is frozen.
+     *
+     * @return {@code true} if paused
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Sets how fast game time passes relative to real time.
+     *
+     * @param scale the factor, e.g. {@code 0.5} for slow motion or {@code 100} to fast-forward
+     */
+    public void setScale(double scale) {
+        if (!(scale >= 0) || Double.isInfinite(scale)) throw new IllegalArgumentException("Scale must be finite and non-negative");
+        this.scale = scale;
+    }
+
+    /**
+     * Returns how fast game time passes relative to real time.
+     *
+     * @return the time-scale factor
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Returns the cap on the real time a single frame can contribute.
+     *
+     * @return the cap in nanoseconds
+     */
+    public long getMaxStepNanos() {
+        return maxStepNanos;
+    }
+}
@@ -0,0 +1,369 @@
+package logic.util;
+
+import logic.base.BaseItem;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The player's inventory: an ordered list of {@link ItemCounter} stacks that also indexes
+ * its stacks by item type id and keeps the total count of each type.
+ * <p>
+ * The list order is the display order used by inventory screens; lookups such as
+ * {@link #count(BaseItem)} or finding a stack with room go through the index instead of
+ * scanning every stack. Stacks report count and item changes back to the inventory that
+ * owns them, so the totals stay correct however a stack is edited.
+ */
+public class Inventory extends AbstractList<ItemCounter> {
+
+    /**
+     * All stacks of one item type.
+     */
+    private static final class Stacks {
+
+        /** The item type id these stacks hold. */
+        final int typeId;
+
+        /** The type's stacks in display order. */
+        final List<ItemCounter> list = new ArrayList<>(2);
+
+        /** Sum of the stacks' counts. */
+        int total;
+
+        /**
+         * Creates an empty group for one item type.
+         *
+         * @param typeId the item type id
+         */
+        Stacks(int typeId) {
+            this.typeId = typeId;
+        }
+    }
+
+    /** Stacks in display order. */
+    private final ArrayList<ItemCounter> slots = new ArrayList<>();
+
+    /** Stacks grouped by item type, indexed by type id; grown on demand. */
+    private Stacks[] byId = new Stacks[16];
+
+    /** The non-empty groups of {@link #byId}, in order of first appearance. */
+    private final ArrayList<Stacks> present = new ArrayList<>();
+
+    /** Incremented on every change to the stacks or their counts. */
+    private long version;
+
+    /**
+     * Returns the stack at the given display position.
+     *
+     * @param index the position
+     * @return the stack
+     */
+    @Override
+    public ItemCounter get(int index) {
+        return slots.get(index);
+    }
+
+    /**
+     * Returns the number of stacks.
+     *
+     * @return the stack count
+     */
+    @Override
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Inserts a stack at the given display position and indexes it.
+     *
+     * @param index   the position
+     * @param counter the stack; a stack belongs to at most one inventory
+     */
+    @Override
+    public void add(int index, ItemCounter counter) {
+        slots.add(index, counter);
+        index(counter);
+        modCount++;
+    }
+
+    /**
+     * Replaces the stack at the given display position.
+     *
+     * @param index   the position
+     * @param counter the new stack
+     * @return the replaced stack
+     */
+    @Override
+    public ItemCounter set(int index, ItemCounter counter) {
+        ItemCounter old = slots.set(index, counter);
+        unindex(old);
+        index(counter);
+        return old;
+    }
+
+    /**
+     * Removes the stack at the given display position.
+     *
+     * @param index the position
+     * @return the removed stack
+     */
+    @Override
+    public ItemCounter remove(int index) {
+        ItemCounter old = slots.remove(index);
+        unindex(old);
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Removes the given stack. Unlike a plain list, the exact stack object is preferred over
+     * another stack of the same item, so emptying one of several potion stacks removes that one.
+     *
+     * @param o the stack to remove
+     * @return {@code true} if a stack was removed
+     */
+    @Override
+    public boolean remove(Object o) {
+        for (int i = 0, n = slots.size(); i < n; i++) {
+            if (slots.get(i) == o) {
+                remove(i);
+                return true;
+            }
+        }
+        return super.remove(o);
+    }
+
+    /**
+     * Removes every stack.
+     */
+    @Override
+    public void clear() {
+        for (ItemCounter ic : slots) ic.owner = null;
+        slots.clear();
+        for (Stacks stacks : present) byId[stacks.typeId] = null;
+        present.clear();
+        version++;
+        modCount++;
+    }
+
+    /**
+     * Adds items, topping up existing stacks of the same type before opening new ones.
+     * Non-stackable items each get their own stack.
+     *
+     * @param item   the item to add
+     * @param amount the quantity to add
+     */
+    public void addItem(BaseItem item, int amount) {
+        if (!item.isStackable()) {
+            for (int i = 0; i < amount; i++) add(new ItemCounter(item, 1));
+            return;
+        }
+        int remaining = amount;
+        Stacks stacks = stacks(item.getId());
+        if (stacks != null) {
+            for (int i = 0, n = stacks.list.size(); i < n && remaining > 0; i++) {
+                ItemCounter ic = stacks.list.get(i);
+                int add = Math.min(item.getMaxStack() - ic.getCount(), remaining);
+                if (add <= 0) continue;
+                ic.addCount(add);
+                remaining -= add;
+            }
+        }
+        while (remaining > 0) {
+            int add = Math.min(item.getMaxStack(), remaining);
+            add(new ItemCounter(item, add));
+            remaining -= add;
+        }
+    }
+
+    /**
+     * Removes up to {@code amount} items of the given type, draining stacks in display order
+     * and dropping stacks that become empty.
+     *
+     * @param item   the item type to remove
+     * @param amount the quantity to remove
+     * @return the quantity actually removed
+     */
+    public int removeItem(BaseItem item, int amount) {
+        return removeItem(item.getId(), amount);
+    }
+
+    /**
+     * Removes up to {@code amount} items of the given type, draining stacks in display order
+     * and dropping stacks that become empty.
+     *
+     * @param typeId the item type id, see {@link BaseItem#getId()}
+     * @param amount the quantity to remove
+     * @return the quantity actually removed
+     */
+    public int removeItem(int typeId, int amount) {
+        Stacks stacks = stacks(typeId);
+        int removed = 0;
+        while (stacks != null && removed < amount && !stacks.list.isEmpty()) {
+            ItemCounter ic = stacks.list.get(0);
+            int take = Math.min(ic.getCount(), amount - removed);
+            ic.addCount(-take);
+            removed += take;
+            if (ic.getCount() > 0) break;
+            remove(ic);
+            stacks = stacks(typeId);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the total quantity of an item type across all its stacks.
+     *
+     * @param item the item type
+     * @return the total, or {@code 0} if none
+     */
+    public int count(BaseItem item) {
+        return count(item.getId());
+    }
+
+    /**
+     * Returns the total quantity of an item type across all its stacks.
+     *
+     * @param typeId the item type id, see {@link BaseItem#getId()}
+     * @return the total, or {@code 0} if none
+     */
+    public int count(int typeId) {
+        Stacks stacks = stacks(typeId);
+        return stacks == null ? 0 : stacks.total;
+    }
+
+    /**
+     * Returns the total quantity of all items that are instances of the given class.
+     * Visits each item type once rather than each stack.
+     *
+     * @param type the item class
+     * @return the total, or {@code 0} if none
+     */
+    public int count(Class<?> type) {
+        int total = 0;
+        for (Stacks stacks : present)
+            if (type.isInstance(stacks.list.get(0).getItem())) total += stacks.total;
+        return total;
+    }
+
+    /**
+     * Returns the first non-empty stack holding an instance of the given class.
+     *
+     * @param type the item class
+     * @return the stack, or {@code null} if none
+     */
+    public ItemCounter findStack(Class<?> type) {
+        for (Stacks stacks : present) {
+            if (!type.isInstance(stacks.list.get(0).getItem())) continue;
+            for (ItemCounter ic : stacks.list) if (ic.getCount() > 0) return ic;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of distinct item types held.
+     *
+     * @return the type count
+     */
+    public int typeCount() {
+        return present.size();
+    }
+
+    /**
+     * Returns a counter that changes whenever a stack is added, removed, or changes count,
+     * so callers can cache values derived from the contents and recompute them only after
+     * a change.
+     *
+     * @return the current version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the group of stacks of an item type.
+     *
+     * @param typeId the item type id
+     * @return the group, or {@code null} if the inventory holds none of that type
+     */
+    private Stacks stacks(int typeId) {
+        return typeId < byId.length ? byId[typeId] : null;
+    }
+
+    /**
+     * Adds a stack to the type index.
+     *
+     * @param ic the stack
+     */
+    private void index(ItemCounter ic) {
+        ic.owner = this;
+        version++;
+        int typeId = ic.getItem().getId();
+        if (typeId >= byId.length) byId = Arrays.copyOf(byId, Math.max(typeId + 1, byId.length * 2));
+        Stacks stacks = byId[typeId];
+        if (stacks == null) {
+            stacks = byId[typeId] = new Stacks(typeId);
+            present.add(stacks);
+        }
+        stacks.list.add(ic);
+        stacks.total += ic.getCount();
+    }
+
+    /**
+     * Removes a stack from the type index.
+     *
+     * @param ic the stack
+     */
+    private void unindex(ItemCounter ic) {
+        ic.owner = null;
+        unindex(ic, ic.getItem().getId());
+    }
+
+    /**
+     * Removes a stack from the index entry of the given item type.
+     *
+     * @param ic     the stack
+     * @param typeId the item type id it is indexed under
+     */
+    private void unindex(ItemCounter ic, int typeId) {
+        version++;
+        Stacks stacks = stacks(typeId);
+        if (stacks == null) return;
+        for (int i = 0, n = stacks.list.size(); i < n; i++) {
+            if (stacks.list.get(i) == ic) {
+                stacks.list.remove(i);
+                stacks.total -= ic.getCount();
+                break;
+            }
+        }
+        if (stacks.list.isEmpty()) {
+            byId[typeId] = null;
+            present.remove(stacks);
+        }
+    }
+
+    /**
+     * Called by an owned stack after its count changed.
+     *
+     * @param ic    the stack
+     * @param delta the change in count
+     */
+    void countChanged(ItemCounter ic, int delta) {
+        version++;
+        Stacks stacks = stacks(ic.getItem().getId());
+        if (stacks != null) stacks.total += delta;
+    }
+
+    /**
+     * Called by an owned stack after it was switched to another item; re-indexes it.
+     *
+     * @param ic      the stack
+     * @param oldItem the item it held before
+     */
+    void itemChanged(ItemCounter ic, BaseItem oldItem) {
+        unindex(ic, oldItem.getId());
+        index(ic);
+    }
+}
@@ -1,17 +1,19 @@
 package logic.util;
 
 import logic.base.BaseItem;
-import java.util.Objects;
 
 /**
  * Represents an item paired with a quantity in the player's inventory.
- * Two {@code ItemCounter} objects are considered equal if they hold the same item name.
+ * Two {@code ItemCounter} objects are considered equal if they hold the same item type.
  */
 public class ItemCounter {
 
     private BaseItem item;
     private int count;
 
+    /** The inventory holding this stack, told about every change; {@code null} if none. */
+    Inventory owner;
+
     /**
      * Creates a new ItemCounter with the given item and count.
      * Count is enforced to be at least 1.
@@ -25,11 +27,11 @@ public class ItemCounter {
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         ItemCounter that = (ItemCounter) o;
-        return this.item.getName().equals(that.item.getName());
+        return this.item.getId() == that.item.getId();
     }
 
     @Override
-    public int hashCode() { return Objects.hashCode(item); }
+    public int hashCode() { return item.getId(); }
 
     /**
      * Returns the item being tracked.
@@ -43,7 +45,11 @@ public class ItemCounter {
      *
      * @param item the new item
      */
-    public void setItem(BaseItem item) { this.item = item; }
+    public void setItem(BaseItem item) {
+        BaseItem old = this.item;
+        this.item = item;
+        if (owner != null) owner.itemChanged(this, old);
+    }
 
     /**
      * Returns the current quantity of this item.
@@ -57,12 +63,19 @@ public class ItemCounter {
      *
      * @param count the new quantity
      */
-    public void setCount(int count) { this.count = Math.max(0, count); }
+    public void setCount(int count) {
+        int old = this.count;
+        this.count = Math.max(0, count);
+        if (owner != null) owner.countChanged(this, this.count - old);
+    }
 
     /**
      * Increases the quantity by the given amount.
      *
      * @param amount the amount to add
      */
-    public void addCount(int amount) { this.count += amount; }
+    public void addCount(int amount) {
+        this.count += amount;
+        if (owner != null) owner.countChanged(this, amount);
+    }
 }
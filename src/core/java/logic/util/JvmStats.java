@@ -0,0 +1,93 @@
+package logic.util;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * Samples garbage-collection counts and the allocation rate of the calling thread, for
+ * on-screen diagnostics.
+ * <p>
+ * The allocation rate comes from the JDK's per-thread allocation counter where available
+ * ({@code com.sun.management.ThreadMXBean}); elsewhere it reads as {@code -1}.
+ */
+public final class JvmStats {
+
+    /** The JVM's garbage collectors. */
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    /** Per-thread allocation counter, or {@code null} if the JVM has none. */
+    private final com.sun.management.ThreadMXBean allocations;
+
+    /** Time of the previous {@link #sample(long)}, or {@code -1}. */
+    private long lastNanos = -1;
+
+    /** Bytes the thread had allocated at the previous sample. */
+    private long lastAllocated;
+
+    /** Allocation rate over the last sample interval, in bytes per second. */
+    private long allocationRate = -1;
+
+    /** Collections since JVM start, over all collectors. */
+    private long gcCount;
+
+    /** Time spent collecting since JVM start, in milliseconds. */
+    private long gcMillis;
+
+    /**
+     * Creates a sampler.
+     */
+    public JvmStats() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean sun = threads instanceof com.sun.management.ThreadMXBean t
+                && t.isThreadAllocatedMemorySupported() ? t : null;
+        if (sun != null && !sun.isThreadAllocatedMemoryEnabled()) sun.setThreadAllocatedMemoryEnabled(true);
+        allocations = sun;
+    }
+
+    /**
+     * Takes a sample. Call from the thread whose allocation rate is wanted, a few times a
+     * second at most.
+     *
+     * @param nowNanos the current time in nanoseconds
+     */
+    public void sample(long nowNanos) {
+        long count = 0, millis = 0;
+        for (GarbageCollectorMXBean gc : collectors) {
+            count += Math.max(0, gc.getCollectionCount());
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        gcCount = count;
+        gcMillis = millis;
+        if (allocations == null) return;
+        long allocated = allocations.getCurrentThreadAllocatedBytes();
+        if (lastNanos >= 0 && nowNanos > lastNanos) {
+            allocationRate = (long) ((allocated - lastAllocated) * 1e9 / (nowNanos - lastNanos));
+        }
+        lastNanos = nowNanos;
+        lastAllocated = allocated;
+    }
+
+    /**
+     * @return the calling thread's allocation rate at the last sample in bytes per second,
+     *         or {@code -1} if unknown
+     */
+    public long getAllocationRate() {
+        return allocationRate;
+    }
+
+    /**
+     * @return the number of collections since JVM start
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * @return the time spent collecting since JVM start, in milliseconds
+     */
+    public long getGcMillis() {
+        return gcMillis;
+    }
+}
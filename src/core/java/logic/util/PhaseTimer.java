@@ -0,0 +1,138 @@
+package logic.util;
+
+/**
+ * Measures how long named phases of a frame take and keeps the recent history of each in a
+ * {@link SampleRing}.
+ * <p>
+ * Code brackets each phase with {@link #begin(int)} and {@link #end(int)}; a phase entered
+ * several times in one frame (a simulation step running twice to catch up) adds up.
+ * {@link #endFrame(long)} then records each phase's total for the frame, and the time since
+ * the previous frame. While disabled every call returns after one branch, so the brackets
+ * can stay in hot code permanently.
+ */
+public final class PhaseTimer {
+
+    /** Frames of history kept per phase. */
+    public static final int FRAMES = 256;
+
+    /** Name of each phase. */
+    private final String[] names;
+
+    /** Recent per-frame totals of each phase, in nanoseconds. */
+    private final SampleRing[] phases;
+
+    /** Recent times between frames, in nanoseconds. */
+    private final SampleRing frames = new SampleRing(FRAMES);
+
+    /** Start time of each open phase. */
+    private final long[] started;
+
+    /** Time spent in each phase so far this frame. */
+    private final long[] spent;
+
+    /** Timestamp of the previous {@link #endFrame(long)}, or {@code -1}. */
+    private long lastFrameNanos = -1;
+
+    /** {@code true} while timings are taken. */
+    private boolean enabled;
+
+    /**
+     * Creates a disabled timer.
+     *
+     * @param names the phase names; phase {@code i} is {@code names[i]}
+     */
+    public PhaseTimer(String... names) {
+        this.names = names.clone();
+        phases = new SampleRing[names.length];
+        for (int i = 0; i < names.length; i++) phases[i] = new SampleRing(FRAMES);
+        started = new long[names.length];
+        spent = new long[names.length];
+    }
+
+    /**
+     * Marks the start of a phase.
+     *
+     * @param phase the phase index
+     */
+    public void begin(int phase) {
+        if (enabled) started[phase] = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a phase started with {@link #begin(int)}.
+     *
+     * @param phase the phase index
+     */
+    public void end(int phase) {
+        if (enabled) spent[phase] += System.nanoTime() - started[phase];
+    }
+
+    /**
+     * Records this frame's phase totals and the time since the previous frame.
+     *
+     * @param frameNanos the frame timestamp in nanoseconds
+     */
+    public void endFrame(long frameNanos) {
+        if (!enabled) return;
+        if (lastFrameNanos >= 0) frames.add(frameNanos - lastFrameNanos);
+        lastFrameNanos = frameNanos;
+        for (int i = 0; i < spent.length; i++) {
+            phases[i].add(spent[i]);
+            spent[i] = 0;
+        }
+    }
+
+    /**
+     * Starts or stops taking timings. Enabling starts from empty history.
+     *
+     * @param on {@code true} to take timings
+     */
+    public void setEnabled(boolean on) {
+        if (on && !enabled) {
+            for (int i = 0; i < phases.length; i++) {
+                phases[i].clear();
+                spent[i] = 0;
+            }
+            frames.clear();
+            lastFrameNanos = -1;
+        }
+        enabled = on;
+    }
+
+    /**
+     * @return {@code true} while timings are taken
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the number of phases
+     */
+    public int phaseCount() {
+        return names.length;
+    }
+
+    /**
+     * @param phase the phase index
+     * @return the phase's name
+     */
+    public String name(int phase) {
+        return names[phase];
+    }
+
+    /**
+     * @param phase the phase index
+     * @return the phase's recent per-frame totals, in nanoseconds
+     */
+    public SampleRing phase(int phase) {
+        return phases[phase];
+    }
+
+    /**
+     * @return the recent times between frames, in nanoseconds
+     */
+    public SampleRing frames() {
+        return frames;
+    }
+}
@@ -0,0 +1,102 @@
+package logic.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable, precompiled list of crafting ingredients: parallel arrays of item type ids
+ * and required amounts, with repeated ingredients merged.
+ * <p>
+ * Checking a recipe against an {@link Inventory} costs one indexed count lookup per
+ * ingredient, without building {@link ItemCounter} lists or scanning stacks.
+ */
+public final class Recipe {
+
+    /** Item type id of each ingredient. */
+    private final int[] typeIds;
+
+    /** Required amount of each ingredient, parallel to {@link #typeIds}. */
+    private final int[] amounts;
+
+    /**
+     * Creates a recipe from already merged ingredient arrays.
+     *
+     * @param typeIds the ingredient type ids
+     * @param amounts the required amounts
+     */
+    private Recipe(int[] typeIds, int[] amounts) {
+        this.typeIds = typeIds;
+        this.amounts = amounts;
+    }
+
+    /**
+     * Compiles an ingredient list, merging entries of the same item type.
+     *
+     * @param ingredients the items and amounts required
+     * @return the compiled recipe
+     */
+    public static Recipe compile(List<ItemCounter> ingredients) {
+        int[] ids = new int[ingredients.size()];
+        int[] counts = new int[ingredients.size()];
+        int n = 0;
+        for (ItemCounter ic : ingredients) {
+            int id = ic.getItem().getId();
+            int i = 0;
+            while (i < n && ids[i] != id) i++;
+            if (i == n) ids[n++] = id;
+            counts[i] += ic.getCount();
+        }
+        return new Recipe(Arrays.copyOf(ids, n), Arrays.copyOf(counts, n));
+    }
+
+    /**
+     * Returns the number of distinct ingredients.
+     *
+     * @return the ingredient count
+     */
+    public int size() {
+        return typeIds.length;
+    }
+
+    /**
+     * Returns the item type id of an ingredient.
+     *
+     * @param i the ingredient index, {@code 0 <= i < size()}
+     * @return the item type id
+     */
+    public int getTypeId(int i) {
+        return typeIds[i];
+    }
+
+    /**
+     * Returns the required amount of an ingredient.
+     *
+     * @param i the ingredient index, {@code 0 <= i < size()}
+     * @return the amount
+     */
+    public int getAmount(int i) {
+        return amounts[i];
+    }
+
+    /**
+     * Returns whether the inventory holds every ingredient in the required amount.
+     *
+     * @param inventory the inventory to check
+     * @return {@code true} if all ingredients are present
+     */
+    public boolean isSatisfiedBy(Inventory inventory) {
+        for (int i = 0; i < typeIds.length; i++)
+            if (inventory.count(typeIds[i]) < amounts[i]) return false;
+        return true;
+    }
+
+    /**
+     * Removes every ingredient from the inventory. Callers check
+     * {@link #isSatisfiedBy(Inventory)} first.
+     *
+     * @param inventory the inventory to take ingredients from
+     */
+    public void consume(Inventory inventory) {
+        for (int i = 0; i < typeIds.length; i++) inventory.removeItem(typeIds[i], amounts[i]);
+    }
+}
@@ -0,0 +1,106 @@
+package logic.util;
+
+/**
+ * Fixed-size ring of the most recent {@code long} samples, such as frame or phase timings.
+ * <p>
+ * One thread adds samples and any thread may take a {@link #snapshot(long[])} without
+ * locking: the sample is stored before the published count is advanced, so a reader never
+ * sees a slot that has not been written. A reader racing a writer that laps the whole ring
+ * can get a newer sample in place of an older one, which is harmless for statistics. Adding
+ * a sample is a store and a volatile write, cheap enough to do several times per frame.
+ */
+public final class SampleRing {
+
+    /** The samples; slot {@code i & mask} holds the {@code i}-th sample added. */
+    private final long[] samples;
+
+    /** {@code samples.length - 1}; the capacity is a power of two. */
+    private final int mask;
+
+    /** Number of samples ever added; written only by the adding thread. */
+    private volatile long written;
+
+    /**
+     * Creates an empty ring.
+     *
+     * @param capacity the number of samples kept; a power of two
+     */
+    public SampleRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("Capacity must be a power of two");
+        samples = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds a sample, overwriting the oldest once the ring is full. Only one thread may add.
+     *
+     * @param value the sample
+     */
+    public void add(long value) {
+        long w = written;
+        samples[(int) w & mask] = value;
+        written = w + 1;
+    }
+
+    /**
+     * Copies the most recent samples, oldest first.
+     *
+     * @param dst the array to copy into; at most {@code dst.length} samples are copied
+     * @return the number of samples copied
+     */
+    public int snapshot(long[] dst) {
+        long w = written;
+        int n = (int) Math.min(w, Math.min(samples.length, dst.length));
+        for (int i = 0; i < n; i++) dst[i] = samples[(int) (w - n + i) & mask];
+        return n;
+    }
+
+    /**
+     * Returns the most recent sample.
+     *
+     * @return the last sample added, or {@code 0} if none
+     */
+    public long last() {
+        long w = written;
+        return w == 0 ? 0 : samples[(int) (w - 1) & mask];
+    }
+
+    /**
+     * Returns the number of samples ever added, including overwritten ones.
+     *
+     * @return the sample count
+     */
+    public long total() {
+        return written;
+    }
+
+    /**
+     * Returns the number of samples kept.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return samples.length;
+    }
+
+    /**
+     * Empties the ring. Only the adding thread may call this.
+     */
+    public void clear() {
+        written = 0;
+    }
+
+    /**
+     * Returns a nearest-rank percentile of sorted samples.
+     *
+     * @param sorted the samples in ascending order
+     * @param n      the number of samples used from the start of {@code sorted}
+     * @param q      the quantile, from {@code 0} to {@code 1}
+     * @return the percentile, or {@code 0} if {@code n} is zero
+     */
+    public static long percentile(long[] sorted, int n, double q) {
+        if (n == 0) return 0;
+        int rank = (int) Math.ceil(q * n);
+        return sorted[Math.min(n - 1, Math.max(0, rank - 1))];
+    }
+}
@@ -0,0 +1,290 @@
+package logic.world;
+
+import interfaces.Mineable;
+
+import java.util.Arrays;
+
+/**
+ * A square block of {@link #SIZE}&times;{@link #SIZE} world tiles, the unit in which a
+ * {@link ChunkedWorld} is generated, loaded, and unloaded.
+ * <p>
+ * Tiles are addressed by local row/column inside the chunk. Every change made through
+ * {@link #setTile(int, int, int)} or {@link #setStone(int, int, Mineable)} is queued as a
+ * dirty tile (at most once per tile) so cached renderers can repaint just what changed.
+ * <p>
+ * The chunk also keeps a bitset of which tiles block movement, one bit per tile, derived
+ * from the tile type through the world's solid-type mask whenever a tile is set. Collision
+ * queries read a bit instead of classifying the tile type.
+ */
+public class Chunk {
+
+    /** Number of tile rows and columns in a chunk. */
+    public static final int SIZE = 32;
+
+    /** {@code log2(SIZE)}, for converting world tiles to chunk coordinates. */
+    public static final int SHIFT = 5;
+
+    /** {@code SIZE - 1}, for converting world tiles to local tile coordinates. */
+    public static final int MASK = SIZE - 1;
+
+    /** Chunk column: this chunk covers world columns {@code [cx * SIZE, cx * SIZE + SIZE)}. */
+    private final int cx;
+
+    /** Chunk row: this chunk covers world rows {@code [cy * SIZE, cy * SIZE + SIZE)}. */
+    private final int cy;
+
+    /** Tile types, indexed {@code lr * SIZE + lc}. */
+    private final int[] tiles = new int[SIZE * SIZE];
+
+    /** Bit {@code t} is set if tile type {@code t} blocks movement. */
+    private final long solidTypes;
+
+    /** One bit per tile, set where the tile blocks movement, indexed like {@link #tiles}. */
+    private final long[] solid = new long[SIZE * SIZE / Long.SIZE];
+
+    /** Mineable objects on rock tiles, indexed like {@link #tiles}. */
+    private final Mineable[] stones = new Mineable[SIZE * SIZE];
+
+    /** Per-tile flag so each changed tile is queued once. */
+    private final boolean[] dirtyMask = new boolean[SIZE * SIZE];
+
+    /** Local indices of changed tiles, in change order. */
+    private final int[] dirty = new int[SIZE * SIZE];
+
+    /** Number of valid entries in {@link #dirty}. */
+    private int dirtyCount;
+
+    /** One bit per tile changed after generation, indexed like {@link #tiles}. */
+    private final long[] edited = new long[SIZE * SIZE / Long.SIZE];
+
+    /** {@code true} once gameplay changed a tile after generation. */
+    private boolean modified;
+
+    /** {@code true} while the chunk is part of the live world. */
+    private volatile boolean loaded;
+
+    /**
+     * Creates an empty chunk (all tiles 0) at the given chunk coordinates in which no tile
+     * type is solid.
+     *
+     * @param cx the chunk column
+     * @param cy the chunk row
+     */
+    public Chunk(int cx, int cy) {
+        this(cx, cy, 0);
+    }
+
+    /**
+     * Creates an empty chunk (all tiles 0) at the given chunk coordinates.
+     *
+     * @param cx         the chunk column
+     * @param cy         the chunk row
+     * @param solidTypes bit {@code t} set for every tile type {@code t} (0 to 63) that blocks movement
+     */
+    public Chunk(int cx, int cy, long solidTypes) {
+        this.cx = cx;
+        this.cy = cy;
+        this.solidTypes = solidTypes;
+        if ((solidTypes & 1) != 0) Arrays.fill(solid, -1L);
+    }
+
+    /**
+     * Returns the chunk column.
+     *
+     * @return the chunk column
+     */
+    public int getChunkX() {
+        return cx;
+    }
+
+    /**
+     * Returns the chunk row.
+     *
+     * @return the chunk row
+     */
+    public int getChunkY() {
+        return cy;
+    }
+
+    /**
+     * Returns the world row of this chunk's first tile row.
+     *
+     * @return the origin row
+     */
+    public int getOriginRow() {
+        return cy << SHIFT;
+    }
+
+    /**
+     * Returns the world column of this chunk's first tile column.
+     *
+     * @return the origin column
+     */
+    public int getOriginCol() {
+        return cx << SHIFT;
+    }
+
+    /**
+     * Returns the tile type at a local position.
+     *
+     * @param lr the local row, {@code 0 <= lr < SIZE}
+     * @param lc the local column, {@code 0 <= lc < SIZE}
+     * @return the tile type
+     */
+    public int getTile(int lr, int lc) {
+        return tiles[lr * SIZE + lc];
+    }
+
+    /**
+     * Sets the tile type at a local position and marks it dirty.
+     *
+     * @param lr   the local row
+     * @param lc   the local column
+     * @param type the new tile type
+     */
+    public void setTile(int lr, int lc, int type) {
+        int i = lr * SIZE + lc;
+        tiles[i] = type;
+        if (type >= 0 && type < Long.SIZE && (solidTypes >>> type & 1) != 0) solid[i >>> 6] |= 1L << i;
+        else solid[i >>> 6] &= ~(1L << i);
+        markDirty(lr, lc);
+    }
+
+    /**
+     * Returns whether the tile at a local position blocks movement.
+     *
+     * @param lr the local row
+     * @param lc the local column
+     * @return {@code true} if the tile's type is solid
+     */
+    public boolean isSolid(int lr, int lc) {
+        int i = lr * SIZE + lc;
+        return (solid[i >>> 6] >>> i & 1) != 0;
+    }
+
+    /**
+     * Returns the mineable object at a local position.
+     *
+     * @param lr the local row
+     * @param lc the local column
+     * @return the stone, or {@code null} if the tile holds none
+     */
+    public Mineable getStone(int lr, int lc) {
+        return stones[lr * SIZE + lc];
+    }
+
+    /**
+     * Sets the mineable object at a local position and marks it dirty.
+     *
+     * @param lr    the local row
+     * @param lc    the local column
+     * @param stone the stone, or {@code null} to clear it
+     */
+    public void setStone(int lr, int lc, Mineable stone) {
+        stones[lr * SIZE + lc] = stone;
+        markDirty(lr, lc);
+    }
+
+    /**
+     * Queues a local tile for repainting without changing it, e.g. after a stone's
+     * durability dropped.
+     *
+     * @param lr the local row
+     * @param lc the local column
+     */
+    public void markDirty(int lr, int lc) {
+        int i = lr * SIZE + lc;
+        modified = true;
+        edited[i >>> 6] |= 1L << i;
+        if (dirtyMask[i]) return;
+        dirtyMask[i] = true;
+        dirty[dirtyCount++] = i;
+    }
+
+    /**
+     * Returns the number of distinct tiles changed since the last {@link #clearDirty()}.
+     *
+     * @return the dirty-tile count
+     */
+    public int getDirtyCount() {
+        return dirtyCount;
+    }
+
+    /**
+     * Returns the local index ({@code lr * SIZE + lc}) of the {@code i}-th dirty tile.
+     *
+     * @param i the index, {@code 0 <= i < getDirtyCount()}
+     * @return the local tile index
+     */
+    public int getDirtyIndex(int i) {
+        return dirty[i];
+    }
+
+    /**
+     * Forgets all dirty tiles once a renderer has repainted them.
+     */
+    public void clearDirty() {
+        for (int i = 0; i < dirtyCount; i++) dirtyMask[dirty[i]] = false;
+        dirtyCount = 0;
+    }
+
+    /**
+     * Returns whether gameplay changed this chunk after it was generated.
+     * The changes of modified chunks are kept when unloaded so they survive a revisit.
+     *
+     * @return {@code true} if modified
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Returns whether the chunk is currently part of the live world.
+     * Renderers use this to drop caches of unloaded chunks.
+     *
+     * @return {@code true} if loaded
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Sets the loaded flag; managed by {@link ChunkedWorld}.
+     *
+     * @param loaded the new state
+     */
+    void setLoaded(boolean loaded) {
+        this.loaded = loaded;
+    }
+
+    /**
+     * Clears the dirty queue and modified flag after generation, so freshly generated
+     * chunks count as pristine.
+     */
+    void resetChanges() {
+        clearDirty();
+        Arrays.fill(edited, 0L);
+        modified = false;
+    }
+
+    /**
+     * Collects every tile changed after generation into a compact diff.
+     *
+     * @return the changed tiles with their current types and stones
+     */
+    ChunkEdits edits() {
+        int count = 0;
+        for (long word : edited) count += Long.bitCount(word);
+        int[] indices = new int[count], types = new int[count];
+        Mineable[] kept = new Mineable[count];
+        int n = 0;
+        for (int w = 0; w < edited.length; w++)
+            for (long bits = edited[w]; bits != 0; bits &= bits - 1) {
+                int i = w << 6 | Long.numberOfTrailingZeros(bits);
+                indices[n] = i;
+                types[n] = tiles[i];
+                kept[n++] = stones[i];
+            }
+        return new ChunkEdits(indices, types, kept);
+    }
+}
@@ -0,0 +1,51 @@
+package logic.world;
+
+import interfaces.Mineable;
+
+/**
+ * The gameplay changes of an unloaded {@link Chunk}: the local index, tile type, and stone
+ * of every tile changed after generation. {@link ChunkedWorld} keeps these instead of the
+ * whole chunk and replays them onto the regenerated chunk on revisit, so memory grows with
+ * the number of edited tiles rather than with the number of chunks visited.
+ * <p>
+ * Stones are kept by reference, which carries their remaining durability.
+ */
+final class ChunkEdits {
+
+    /** Local indices ({@code lr * SIZE + lc}) of the edited tiles. */
+    private final int[] indices;
+
+    /** Tile types, parallel to {@link #indices}. */
+    private final int[] tiles;
+
+    /** Stones (or {@code null}), parallel to {@link #indices}. */
+    private final Mineable[] stones;
+
+    /**
+     * Creates a diff from parallel arrays; used by {@link Chunk#edits()}.
+     *
+     * @param indices the local indices of the edited tiles
+     * @param tiles   the tile types
+     * @param stones  the stones
+     */
+    ChunkEdits(int[] indices, int[] tiles, Mineable[] stones) {
+        this.indices = indices;
+        this.tiles = tiles;
+        this.stones = stones;
+    }
+
+    /**
+     * Writes the edits onto a freshly generated chunk. The chunk stays modified, so it is
+     * diffed again when unloaded, but its dirty queue is left empty like any new chunk.
+     *
+     * @param chunk the regenerated chunk at the same coordinates
+     */
+    void applyTo(Chunk chunk) {
+        for (int n = 0; n < indices.length; n++) {
+            int lr = indices[n] >>> Chunk.SHIFT, lc = indices[n] & Chunk.MASK;
+            chunk.setTile(lr, lc, tiles[n]);
+            chunk.setStone(lr, lc, stones[n]);
+        }
+        chunk.clearDirty();
+    }
+}
@@ -0,0 +1,19 @@
+package logic.world;
+
+/**
+ * Fills a freshly created {@link Chunk} with terrain.
+ * <p>
+ * Generators run on the {@link ChunkedWorld} loader thread, so they must only touch the
+ * chunk they are given and must derive all randomness from the chunk coordinates, which
+ * also makes every chunk reproducible after it has been unloaded.
+ */
+@FunctionalInterface
+public interface ChunkGenerator {
+
+    /**
+     * Generates the contents of the given chunk.
+     *
+     * @param chunk the empty chunk to fill
+     */
+    void generate(Chunk chunk);
+}
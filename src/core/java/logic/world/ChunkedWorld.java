@@ -0,0 +1,489 @@
+package logic.world;
+
+import interfaces.Mineable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An unbounded tile map made of {@link Chunk}s streamed in around a moving centre.
+ * <p>
+ * {@link #update(int, int)} requests every chunk within {@code viewRadius} chunks of the
+ * centre from a {@link ChunkGenerator} on a background executor, publishes finished chunks
+ * on the caller's thread, and unloads chunks more than {@code viewRadius + 1} chunks away
+ * (the extra ring avoids thrashing when the centre wobbles across a chunk border).
+ * Memory therefore depends on the view distance, not on how far the world extends.
+ * When a chunk that gameplay modified is unloaded, only its changed tiles are kept (see
+ * {@link ChunkEdits}) and replayed onto the regenerated chunk on revisit, so edits such as
+ * mined ore survive without keeping whole chunks alive.
+ * <p>
+ * All methods except the generator itself run on the owning (simulation) thread.
+ * Tiles of chunks that are not loaded read as {@link #UNLOADED}.
+ */
+public class ChunkedWorld {
+
+    /** Tile type reported for positions whose chunk is not loaded. */
+    public static final int UNLOADED = -1;
+
+    /** Fills new chunks; called on the loader executor. */
+    private final ChunkGenerator generator;
+
+    /** Bit {@code t} is set if tile type {@code t} blocks movement; handed to every chunk. */
+    private final long solidTypes;
+
+    /** Runs chunk generation off the simulation thread. */
+    private final Executor executor;
+
+    /** Chunks kept loaded in every direction around the centre chunk. */
+    private final int viewRadius;
+
+    /** Edge length of {@link #window} in chunks: the view square plus the unload margin. */
+    private final int span;
+
+    /** Loaded chunks around the centre, indexed by offset from {@link #winCx}/{@link #winCy}. */
+    private final Chunk[] window;
+
+    /** All loaded chunks keyed by {@link #key(int, int)}. */
+    private final Map<Long, Chunk> loaded = new HashMap<>();
+
+    /** Chunks being generated in the background. */
+    private final Map<Long, CompletableFuture<Chunk>> pending = new HashMap<>();
+
+    /** Changes of modified chunks that were unloaded, replayed when they are published again. */
+    private final Map<Long, ChunkEdits> edits = new HashMap<>();
+
+    /** Chunk column of the window's first column. */
+    private int winCx;
+
+    /** Chunk row of the window's first row. */
+    private int winCy;
+
+    /** Chunk column of the current centre. */
+    private int centerCx;
+
+    /** Chunk row of the current centre. */
+    private int centerCy;
+
+    /** {@code false} until the first centre has been set. */
+    private boolean centered;
+
+    /** Bumped whenever a tile type changes or a chunk is loaded or unloaded. */
+    private long version;
+
+    /**
+     * Creates a world that generates chunks on its own daemon loader thread.
+     * The thread exits when idle, so an abandoned world needs no explicit shutdown.
+     *
+     * @param generator  fills new chunks
+     * @param viewRadius chunks to keep loaded around the centre in each direction
+     */
+    public ChunkedWorld(ChunkGenerator generator, int viewRadius) {
+        this(generator, viewRadius, newLoaderExecutor(), 0);
+    }
+
+    /**
+     * Creates a world with solid tile types that generates chunks on its own daemon loader thread.
+     *
+     * @param generator  fills new chunks
+     * @param viewRadius chunks to keep loaded around the centre in each direction
+     * @param solidTypes bit {@code t} set for every tile type {@code t} that blocks movement,
+     *                   e.g. from {@link #typeMask(int...)}
+     */
+    public ChunkedWorld(ChunkGenerator generator, int viewRadius, long solidTypes) {
+        this(generator, viewRadius, newLoaderExecutor(), solidTypes);
+    }
+
+    /**
+     * Creates a world that generates chunks on the given executor.
+     *
+     * @param generator  fills new chunks
+     * @param viewRadius chunks to keep loaded around the centre in each direction
+     * @param executor   runs chunk generation (e.g. {@code Runnable::run} for synchronous loading)
+     */
+    public ChunkedWorld(ChunkGenerator generator, int viewRadius, Executor executor) {
+        this(generator, viewRadius, executor, 0);
+    }
+
+    /**
+     * Creates a world with solid tile types that generates chunks on the given executor.
+     *
+     * @param generator  fills new chunks
+     * @param viewRadius chunks to keep loaded around the centre in each direction
+     * @param executor   runs chunk generation (e.g. {@code Runnable::run} for synchronous loading)
+     * @param solidTypes bit {@code t} set for every tile type {@code t} that blocks movement
+     */
+    public ChunkedWorld(ChunkGenerator generator, int viewRadius, Executor executor, long solidTypes) {
+        if (viewRadius < 0) throw new IllegalArgumentException("View radius must not be negative");
+        this.generator = generator;
+        this.solidTypes = solidTypes;
+        this.executor = executor;
+        this.viewRadius = viewRadius;
+        this.span = 2 * viewRadius + 3;
+        this.window = new Chunk[span * span];
+    }
+
+    /**
+     * Creates the single-thread daemon executor used for background generation, for owners
+     * that build a world with an explicit executor but keep the default loading behaviour.
+     *
+     * @return the executor
+     */
+    public static Executor newLoaderExecutor() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 5, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "chunk-loader");
+            t.setDaemon(true);
+            return t;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Packs chunk coordinates into a map key.
+     *
+     * @param cx the chunk column
+     * @param cy the chunk row
+     * @return the key
+     */
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+
+    /**
+     * Streams chunks around a new centre: publishes finished background chunks, and when the
+     * centre moved to another chunk, unloads far chunks and requests the missing near ones.
+     * Cheap to call every tick.
+     *
+     * @param centerRow the world row to centre on (usually the player's)
+     * @param centerCol the world column to centre on
+     */
+    public void update(int centerRow, int centerCol) {
+        boolean changed = !pending.isEmpty() && collectFinished();
+        int cx = centerCol >> Chunk.SHIFT, cy = centerRow >> Chunk.SHIFT;
+        if (!centered || cx != centerCx || cy != centerCy) {
+            recenter(cx, cy);
+            unloadFar();
+            for (int dy = -viewRadius; dy <= viewRadius; dy++)
+                for (int dx = -viewRadius; dx <= viewRadius; dx++)
+                    request(cx + dx, cy + dy);
+            changed = true;
+        }
+        if (changed) rebuildWindow();
+    }
+
+    /**
+     * Like {@link #update(int, int)}, but generates every missing chunk within the view radius
+     * on the calling thread before returning. Used when spawning, where the player must not
+     * stand in unloaded terrain.
+     *
+     * @param centerRow the world row to centre on
+     * @param centerCol the world column to centre on
+     */
+    public void loadAround(int centerRow, int centerCol) {
+        int cx = centerCol >> Chunk.SHIFT, cy = centerRow >> Chunk.SHIFT;
+        recenter(cx, cy);
+        unloadFar();
+        for (int dy = -viewRadius; dy <= viewRadius; dy++)
+            for (int dx = -viewRadius; dx <= viewRadius; dx++) {
+                long k = key(cx + dx, cy + dy);
+                if (loaded.containsKey(k)) continue;
+                CompletableFuture<Chunk> f = pending.remove(k);
+                publish(k, f != null ? f.join() : generate(cx + dx, cy + dy));
+            }
+        rebuildWindow();
+    }
+
+    /**
+     * Moves the centre and the lookup window.
+     *
+     * @param cx the new centre chunk column
+     * @param cy the new centre chunk row
+     */
+    private void recenter(int cx, int cy) {
+        centerCx = cx;
+        centerCy = cy;
+        winCx = cx - viewRadius - 1;
+        winCy = cy - viewRadius - 1;
+        centered = true;
+    }
+
+    /**
+     * Starts loading a chunk unless it is already loaded or loading.
+     *
+     * @param cx the chunk column
+     * @param cy the chunk row
+     */
+    private void request(int cx, int cy) {
+        long k = key(cx, cy);
+        if (loaded.containsKey(k) || pending.containsKey(k)) return;
+        pending.put(k, CompletableFuture.supplyAsync(() -> generate(cx, cy), executor));
+    }
+
+    /**
+     * Creates and generates a chunk; runs on the loader executor.
+     *
+     * @param cx the chunk column
+     * @param cy the chunk row
+     * @return the generated, pristine chunk
+     */
+    private Chunk generate(int cx, int cy) {
+        Chunk chunk = new Chunk(cx, cy, solidTypes);
+        generator.generate(chunk);
+        chunk.resetChanges();
+        return chunk;
+    }
+
+    /**
+     * Publishes background chunks that finished generating and are still wanted.
+     * A failure in the generator is rethrown here.
+     *
+     * @return {@code true} if any chunk was published
+     */
+    private boolean collectFinished() {
+        boolean any = false;
+        for (Iterator<Map.Entry<Long, CompletableFuture<Chunk>>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, CompletableFuture<Chunk>> e = it.next();
+            if (!e.getValue().isDone()) continue;
+            it.remove();
+            Chunk chunk = e.getValue().join();
+            if (isNear(chunk.getChunkX(), chunk.getChunkY())) {
+                publish(e.getKey(), chunk);
+                any = true;
+            }
+        }
+        return any;
+    }
+
+    /**
+     * Makes a chunk part of the live world, replaying the edits kept from its last unload.
+     *
+     * @param k     the chunk key
+     * @param chunk the chunk
+     */
+    private void publish(long k, Chunk chunk) {
+        ChunkEdits kept = edits.remove(k);
+        if (kept != null) kept.applyTo(chunk);
+        chunk.setLoaded(true);
+        loaded.put(k, chunk);
+        version++;
+    }
+
+    /**
+     * Unloads chunks and cancels requests outside the view radius plus the unload margin.
+     */
+    private void unloadFar() {
+        for (Iterator<Map.Entry<Long, Chunk>> it = loaded.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, Chunk> e = it.next();
+            Chunk chunk = e.getValue();
+            if (isNear(chunk.getChunkX(), chunk.getChunkY())) continue;
+            it.remove();
+            chunk.setLoaded(false);
+            version++;
+            if (chunk.isModified()) edits.put(e.getKey(), chunk.edits());
+        }
+        for (Iterator<Map.Entry<Long, CompletableFuture<Chunk>>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, CompletableFuture<Chunk>> e = it.next();
+            long k = e.getKey();
+            if (isNear((int) (k >> 32), (int) k)) continue;
+            e.getValue().cancel(false);
+            it.remove();
+        }
+    }
+
+    /**
+     * Returns whether a chunk lies within the view radius plus the unload margin.
+     *
+     * @param cx the chunk column
+     * @param cy the chunk row
+     * @return {@code true} if the chunk should stay loaded
+     */
+    private boolean isNear(int cx, int cy) {
+        return Math.abs(cx - centerCx) <= viewRadius + 1 && Math.abs(cy - centerCy) <= viewRadius + 1;
+    }
+
+    /**
+     * Refills the lookup window from the loaded chunks.
+     */
+    private void rebuildWindow() {
+        Arrays.fill(window, null);
+        for (Chunk chunk : loaded.values()) {
+            int wx = chunk.getChunkX() - winCx, wy = chunk.getChunkY() - winCy;
+            if (wx >= 0 && wx < span && wy >= 0 && wy < span) window[wy * span + wx] = chunk;
+        }
+    }
+
+    /**
+     * Returns the loaded chunk at the given chunk coordinates.
+     *
+     * @param cx the chunk column
+     * @param cy the chunk row
+     * @return the chunk, or {@code null} if it is not loaded
+     */
+    public Chunk getChunk(int cx, int cy) {
+        int wx = cx - winCx, wy = cy - winCy;
+        if (wx < 0 || wx >= span || wy < 0 || wy >= span) return null;
+        return window[wy * span + wx];
+    }
+
+    /**
+     * Returns the loaded chunk containing a world tile.
+     *
+     * @param row the world row
+     * @param col the world column
+     * @return the chunk, or {@code null} if it is not loaded
+     */
+    public Chunk chunkAt(int row, int col) {
+        return getChunk(col >> Chunk.SHIFT, row >> Chunk.SHIFT);
+    }
+
+    /**
+     * Returns whether the chunk containing a world tile is loaded.
+     *
+     * @param row the world row
+     * @param col the world column
+     * @return {@code true} if the tile can be read and written
+     */
+    public boolean isLoaded(int row, int col) {
+        return chunkAt(row, col) != null;
+    }
+
+    /**
+     * Returns the tile type at a world position.
+     *
+     * @param row the world row
+     * @param col the world column
+     * @return the tile type, or {@link #UNLOADED}
+     */
+    public int getTile(int row, int col) {
+        Chunk chunk = chunkAt(row, col);
+        return chunk == null ? UNLOADED : chunk.getTile(row & Chunk.MASK, col & Chunk.MASK);
+    }
+
+    /**
+     * Returns whether the tile at a world position blocks movement. Tiles of chunks that are
+     * not loaded count as solid, so nothing walks off the edge of the loaded world.
+     *
+     * @param row the world row
+     * @param col the world column
+     * @return {@code true} if the tile is solid or not loaded
+     */
+    public boolean isSolid(int row, int col) {
+        Chunk chunk = chunkAt(row, col);
+        return chunk == null || chunk.isSolid(row & Chunk.MASK, col & Chunk.MASK);
+    }
+
+    /**
+     * Builds a solid-type mask from tile types.
+     *
+     * @param types tile types between 0 and 63
+     * @return the mask with bit {@code t} set for every given type {@code t}
+     */
+    public static long typeMask(int... types) {
+        long mask = 0;
+        for (int t : types) {
+            if (t < 0 || t >= Long.SIZE) throw new IllegalArgumentException("Tile type out of range: " + t);
+            mask |= 1L << t;
+        }
+        return mask;
+    }
+
+    /**
+     * Sets the tile type at a world position.
+     *
+     * @param row  the world row
+     * @param col  the world column
+     * @param type the new tile type
+     * @return {@code false} if the chunk is not loaded and nothing changed
+     */
+    public boolean setTile(int row, int col, int type) {
+        Chunk chunk = chunkAt(row, col);
+        if (chunk == null) return false;
+        chunk.setTile(row & Chunk.MASK, col & Chunk.MASK, type);
+        version++;
+        return true;
+    }
+
+    /**
+     * Returns the mineable object at a world position.
+     *
+     * @param row the world row
+     * @param col the world column
+     * @return the stone, or {@code null} if there is none or the chunk is not loaded
+     */
+    public Mineable getStone(int row, int col) {
+        Chunk chunk = chunkAt(row, col);
+        return chunk == null ? null : chunk.getStone(row & Chunk.MASK, col & Chunk.MASK);
+    }
+
+    /**
+     * Sets the mineable object at a world position.
+     *
+     * @param row   the world row
+     * @param col   the world column
+     * @param stone the stone, or {@code null} to clear it
+     * @return {@code false} if the chunk is not loaded and nothing changed
+     */
+    public boolean setStone(int row, int col, Mineable stone) {
+        Chunk chunk = chunkAt(row, col);
+        if (chunk == null) return false;
+        chunk.setStone(row & Chunk.MASK, col & Chunk.MASK, stone);
+        return true;
+    }
+
+    /**
+     * Queues a world tile for repainting without changing it.
+     *
+     * @param row the world row
+     * @param col the world column
+     */
+    public void markDirty(int row, int col) {
+        Chunk chunk = chunkAt(row, col);
+        if (chunk != null) chunk.markDirty(row & Chunk.MASK, col & Chunk.MASK);
+    }
+
+    /**
+     * Returns a counter that changes whenever the terrain layout may have changed: a tile type
+     * was set, or a chunk was loaded or unloaded. Caches derived from tile types (such as a
+     * {@link FlowField}) compare it to decide when to rebuild.
+     *
+     * @return the terrain version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of chunks in the live world.
+     *
+     * @return the loaded chunk count
+     */
+    public int getLoadedChunkCount() {
+        return loaded.size();
+    }
+
+    /**
+     * Returns the number of chunks still being generated.
+     *
+     * @return the pending chunk count
+     */
+    public int getPendingChunkCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the number of chunks kept loaded around the centre in each direction.
+     *
+     * @return the view radius in chunks
+     */
+    public int getViewRadius() {
+        return viewRadius;
+    }
+}
@@ -0,0 +1,211 @@
+package logic.world;
+
+import java.util.Arrays;
+
+/**
+ * Breadth-first flow field over a square window of tiles centred on a goal tile.
+ * <p>
+ * One {@link #compute(int, int, Passability)} call labels every tile in the window that can
+ * reach the goal with its step distance and the direction of its next step, so any number of
+ * chasers can then follow the field with an O(1) lookup each instead of running their own
+ * search. Moves are 8-directional; a diagonal step is only taken when both orthogonal
+ * neighbours are passable, so chasers never cut the corner of a solid tile.
+ */
+public class FlowField {
+
+    /**
+     * Decides whether a tile can be walked through.
+     */
+    @FunctionalInterface
+    public interface Passability {
+
+        /**
+         * Returns whether the tile at the given world position is passable.
+         *
+         * @param row the world row
+         * @param col the world column
+         * @return {@code true} if passable
+         */
+        boolean isPassable(int row, int col);
+    }
+
+    /** Row offsets of the eight neighbours; orthogonal ones first. */
+    private static final int[] DR = {-1, 0, 1, 0, -1, -1, 1, 1};
+
+    /** Column offsets of the eight neighbours, parallel to {@link #DR}. */
+    private static final int[] DC = {0, -1, 0, 1, -1, 1, -1, 1};
+
+    /** Marker for tiles that are outside the window or cannot reach the goal. */
+    private static final byte NONE = -1;
+
+    /** Tiles from the goal to the window edge in each direction. */
+    private final int radius;
+
+    /** Edge length of the window in tiles ({@code 2 * radius + 1}). */
+    private final int size;
+
+    /** Step distance to the goal per window cell, or {@code -1} if unreachable. */
+    private final int[] dist;
+
+    /** Index into {@link #DR}/{@link #DC} of each cell's next step, or {@link #NONE}. */
+    private final byte[] step;
+
+    /** Passability of each window cell, sampled once per computation. */
+    private final boolean[] open;
+
+    /** BFS queue of window cell indices. */
+    private final int[] queue;
+
+    /** World row of the goal tile. */
+    private int goalRow;
+
+    /** World column of the goal tile. */
+    private int goalCol;
+
+    /**
+     * Creates an empty field (every tile unreachable) covering {@code radius} tiles
+     * around the goal in each direction.
+     *
+     * @param radius the window radius in tiles
+     */
+    public FlowField(int radius) {
+        if (radius < 0) throw new IllegalArgumentException("Radius must not be negative");
+        this.radius = radius;
+        this.size = 2 * radius + 1;
+        this.dist = new int[size * size];
+        this.step = new byte[size * size];
+        this.open = new boolean[size * size];
+        this.queue = new int[size * size];
+        Arrays.fill(dist, -1);
+        Arrays.fill(step, NONE);
+    }
+
+    /**
+     * Recomputes the field towards a new goal tile. The goal itself is always treated as
+     * reachable; tiles outside the window are treated as blocked.
+     *
+     * @param goalRow  the goal's world row
+     * @param goalCol  the goal's world column
+     * @param passable decides which tiles can be walked through
+     */
+    public void compute(int goalRow, int goalCol, Passability passable) {
+        this.goalRow = goalRow;
+        this.goalCol = goalCol;
+        int r0 = goalRow - radius, c0 = goalCol - radius;
+        for (int i = 0, wr = 0; wr < size; wr++)
+            for (int wc = 0; wc < size; wc++, i++)
+                open[i] = passable.isPassable(r0 + wr, c0 + wc);
+        Arrays.fill(dist, -1);
+        Arrays.fill(step, NONE);
+
+        int goal = radius * size + radius;
+        dist[goal] = 0;
+        int head = 0, tail = 0;
+        queue[tail++] = goal;
+        while (head < tail) {
+            int cur = queue[head++];
+            int wr = cur / size, wc = cur % size;
+            for (int d = 0; d < DR.length; d++) {
+                int nr = wr + DR[d], nc = wc + DC[d];
+                if (nr < 0 || nr >= size || nc < 0 || nc >= size) continue;
+                int n = nr * size + nc;
+                if (dist[n] >= 0 || !open[n]) continue;
+                // Diagonal: both orthogonal neighbours must be open, so no corner cutting
+                if (d >= 4 && (!open[wr * size + nc] || !open[nr * size + wc])) continue;
+                dist[n] = dist[cur] + 1;
+                step[n] = (byte) opposite(d);
+                queue[tail++] = n;
+            }
+        }
+    }
+
+    /**
+     * Returns the direction index pointing back along {@code d}.
+     *
+     * @param d a direction index
+     * @return the reverse direction index
+     */
+    private static int opposite(int d) {
+        return d < 4 ? (d + 2) % 4 : 11 - d;
+    }
+
+    /**
+     * Returns the window cell index of a world tile.
+     *
+     * @param row the world row
+     * @param col the world column
+     * @return the cell index, or {@code -1} if outside the window
+     */
+    private int cell(int row, int col) {
+        int wr = row - goalRow + radius, wc = col - goalCol + radius;
+        if (wr < 0 || wr >= size || wc < 0 || wc >= size) return -1;
+        return wr * size + wc;
+    }
+
+    /**
+     * Returns the number of steps from a tile to the goal.
+     *
+     * @param row the world row
+     * @param col the world column
+     * @return the distance, or {@code -1} if the tile cannot reach the goal within the window
+     */
+    public int distance(int row, int col) {
+        int i = cell(row, col);
+        return i < 0 ? -1 : dist[i];
+    }
+
+    /**
+     * Returns whether a tile has a next step towards the goal,
+     * i.e. it is reachable and not the goal itself.
+     *
+     * @param row the world row
+     * @param col the world column
+     * @return {@code true} if {@link #stepRow(int, int)} / {@link #stepCol(int, int)} are meaningful
+     */
+    public boolean hasStep(int row, int col) {
+        int i = cell(row, col);
+        return i >= 0 && step[i] != NONE;
+    }
+
+    /**
+     * Returns the row offset ({@code -1}, {@code 0} or {@code 1}) of a tile's next step.
+     *
+     * @param row the world row
+     * @param col the world column
+     * @return the row offset, or {@code 0} if the tile has no step
+     */
+    public int stepRow(int row, int col) {
+        int i = cell(row, col);
+        return i < 0 || step[i] == NONE ? 0 : DR[step[i]];
+    }
+
+    /**
+     * Returns the column offset ({@code -1}, {@code 0} or {@code 1}) of a tile's next step.
+     *
+     * @param row the world row
+     * @param col the world column
+     * @return the column offset, or {@code 0} if the tile has no step
+     */
+    public int stepCol(int row, int col) {
+        int i = cell(row, col);
+        return i < 0 || step[i] == NONE ? 0 : DC[step[i]];
+    }
+
+    /**
+     * Returns the world row of the goal tile.
+     *
+     * @return the goal row
+     */
+    public int getGoalRow() {
+        return goalRow;
+    }
+
+    /**
+     * Returns the world column of the goal tile.
+     *
+     * @return the goal column
+     */
+    public int getGoalCol() {
+        return goalCol;
+    }
+}
@@ -0,0 +1,312 @@
+package logic.world;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Uniform-grid spatial hash for point entities on the world map, identified by small
+ * non-negative {@code int} ids such as slots in a struct-of-arrays store.
+ * Entities are bucketed by the grid cell containing their position, so radius and
+ * rectangle queries only visit the cells they overlap instead of every entity.
+ * Cells are hashed into a fixed number of buckets, which keeps the structure usable
+ * for worlds of any size; entries from colliding cells are filtered out on lookup.
+ * <p>
+ * Buckets are doubly linked chains threaded through two {@code int} arrays, so inserting,
+ * moving, and removing an entity take constant time and never allocate once the arrays
+ * fit the largest id. The hash does not observe entity positions by itself: owners must
+ * call {@link #move(int, double, double)} whenever an entity moves. Query results are read
+ * with {@link #hit(int)}.
+ */
+public class SpatialHash {
+
+    /** Edge length of one grid cell in pixels. */
+    private final double cellSize;
+
+    /** First id of each bucket's chain, or {@code -1}. */
+    private final int[] head;
+
+    /** {@code head.length - 1}; the bucket count is a power of two. */
+    private final int mask;
+
+    /** Reads an entity's current X position. */
+    private final IntToDoubleFunction xOf;
+
+    /** Reads an entity's current Y position. */
+    private final IntToDoubleFunction yOf;
+
+    /** Next id in the same bucket, or {@code -1}. */
+    private int[] next;
+
+    /** Previous id in the same bucket, or {@code -1} for the first. */
+    private int[] prev;
+
+    /** Grid column each id is linked under. */
+    private int[] cellX;
+
+    /** Grid row each id is linked under. */
+    private int[] cellY;
+
+    /** Ids found by the last query. */
+    private int[] hits = new int[16];
+
+    /** Number of valid entries in {@link #hits}. */
+    private int hitCount;
+
+    /** Number of entities currently stored. */
+    private int size;
+
+    /**
+     * Creates an empty spatial hash.
+     *
+     * @param cellSize        the edge length of one grid cell in pixels (usually one tile)
+     * @param bucketCount     the number of hash buckets; rounded up to a power of two
+     * @param initialCapacity ids below this are stored before the chain arrays grow
+     * @param xOf             reads an entity's X position by id
+     * @param yOf             reads an entity's Y position by id
+     */
+    public SpatialHash(double cellSize, int bucketCount, int initialCapacity,
+                       IntToDoubleFunction xOf, IntToDoubleFunction yOf) {
+        if (cellSize <= 0) throw new IllegalArgumentException("Cell size must be positive");
+        if (initialCapacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+        int n = Integer.highestOneBit(Math.max(1, bucketCount - 1)) << 1;
+        this.cellSize = cellSize;
+        this.head = new int[n];
+        this.mask = n - 1;
+        this.xOf = xOf;
+        this.yOf = yOf;
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+        cellX = new int[initialCapacity];
+        cellY = new int[initialCapacity];
+        Arrays.fill(head, -1);
+    }
+
+    /**
+     * Adds an entity at the given position. The id must not already be stored.
+     *
+     * @param id the entity id, {@code >= 0}
+     * @param x  its X position
+     * @param y  its Y position
+     */
+    public void insert(int id, double x, double y) {
+        if (id >= next.length) grow(id + 1);
+        link(id, cell(x), cell(y));
+        size++;
+    }
+
+    /**
+     * Removes a stored entity.
+     *
+     * @param id the entity id
+     */
+    public void remove(int id) {
+        unlink(id);
+        size--;
+    }
+
+    /**
+     * Re-buckets an entity after it moved. Does nothing if it stayed within its cell.
+     *
+     * @param id the entity id
+     * @param x  the new X position
+     * @param y  the new Y position
+     */
+    public void move(int id, double x, double y) {
+        int gx = cell(x), gy = cell(y);
+        if (gx == cellX[id] && gy == cellY[id]) return;
+        unlink(id);
+        link(id, gx, gy);
+    }
+
+    /**
+     * Removes every entity.
+     */
+    public void clear() {
+        Arrays.fill(head, -1);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of stored entities.
+     *
+     * @return entity count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds every entity strictly within {@code radius} of {@code (cx, cy)}; read them with
+     * {@link #hit(int)}.
+     *
+     * @param cx     the query centre X
+     * @param cy     the query centre Y
+     * @param radius the query radius in pixels
+     * @return the number of entities found
+     */
+    public int queryRadius(double cx, double cy, double radius) {
+        hitCount = 0;
+        double r2 = radius * radius;
+        int minCx = cell(cx - radius), maxCx = cell(cx + radius);
+        int minCy = cell(cy - radius), maxCy = cell(cy + radius);
+        for (int gy = minCy; gy <= maxCy; gy++)
+            for (int gx = minCx; gx <= maxCx; gx++)
+                for (int i = head[bucket(gx, gy)]; i >= 0; i = next[i]) {
+                    if (cellX[i] != gx || cellY[i] != gy) continue;
+                    double dx = xOf.applyAsDouble(i) - cx, dy = yOf.applyAsDouble(i) - cy;
+                    if (dx * dx + dy * dy < r2) addHit(i);
+                }
+        return hitCount;
+    }
+
+    /**
+     * Finds every entity whose position lies inside the axis-aligned box
+     * {@code [minX, maxX) x [minY, maxY)}; read them with {@link #hit(int)}.
+     *
+     * @param minX the left edge
+     * @param minY the top edge
+     * @param maxX the right edge (exclusive)
+     * @param maxY the bottom edge (exclusive)
+     * @return the number of entities found
+     */
+    public int queryAabb(double minX, double minY, double maxX, double maxY) {
+        return queryAabbRows(minX, minY, maxX, maxY, 1, 0);
+    }
+
+    /**
+     * Like {@link #queryAabb(double, double, double, double)}, but only looks at every
+     * {@code step}-th row of grid cells: those whose row {@code gy} satisfies
+     * {@code (gy + phase) % step == 0}. Callers cycling the phase cover the box once every
+     * {@code step} calls at a fraction of the cost of each.
+     *
+     * @param minX  the left edge
+     * @param minY  the top edge
+     * @param maxX  the right edge (exclusive)
+     * @param maxY  the bottom edge (exclusive)
+     * @param step  the row stride; a power of two
+     * @param phase selects the rows, e.g. the current tick
+     * @return the number of entities found
+     */
+    public int queryAabbRows(double minX, double minY, double maxX, double maxY, int step, long phase) {
+        hitCount = 0;
+        int minCx = cell(minX), maxCx = cell(maxX), minCy = cell(minY), maxCy = cell(maxY);
+        int gy = minCy + (int) ((-(minCy + phase)) & (step - 1));
+        for (; gy <= maxCy; gy += step)
+            for (int gx = minCx; gx <= maxCx; gx++) {
+                // Cells away from the edges lie wholly inside the box
+                boolean edge = gx == minCx || gx == maxCx || gy == minCy || gy == maxCy;
+                for (int i = head[bucket(gx, gy)]; i >= 0; i = next[i]) {
+                    if (cellX[i] != gx || cellY[i] != gy) continue;
+                    if (edge) {
+                        double x = xOf.applyAsDouble(i), y = yOf.applyAsDouble(i);
+                        if (x < minX || x >= maxX || y < minY || y >= maxY) continue;
+                    }
+                    addHit(i);
+                }
+            }
+        return hitCount;
+    }
+
+    /**
+     * Returns an entity found by the last query.
+     *
+     * @param k the result number, below the count the query returned
+     * @return the entity id
+     */
+    public int hit(int k) {
+        return hits[k];
+    }
+
+    /**
+     * Returns whether any entity's position lies inside the box {@code [minX, maxX) x [minY, maxY)}.
+     *
+     * @param minX the left edge
+     * @param minY the top edge
+     * @param maxX the right edge (exclusive)
+     * @param maxY the bottom edge (exclusive)
+     * @return {@code true} if at least one entity is inside
+     */
+    public boolean anyInAabb(double minX, double minY, double maxX, double maxY) {
+        for (int gy = cell(minY), maxCy = cell(maxY); gy <= maxCy; gy++)
+            for (int gx = cell(minX), maxCx = cell(maxX); gx <= maxCx; gx++)
+                for (int i = head[bucket(gx, gy)]; i >= 0; i = next[i]) {
+                    double x = xOf.applyAsDouble(i), y = yOf.applyAsDouble(i);
+                    if (x >= minX && x < maxX && y >= minY && y < maxY) return true;
+                }
+        return false;
+    }
+
+    /**
+     * Appends an id to the query results.
+     *
+     * @param i the id
+     */
+    private void addHit(int i) {
+        if (hitCount == hits.length) hits = Arrays.copyOf(hits, hitCount * 2);
+        hits[hitCount++] = i;
+    }
+
+    /**
+     * Prepends an id to the chain of a cell's bucket and records the cell it is linked under.
+     *
+     * @param i  the id
+     * @param gx the cell column
+     * @param gy the cell row
+     */
+    private void link(int i, int gx, int gy) {
+        int b = bucket(gx, gy);
+        cellX[i] = gx;
+        cellY[i] = gy;
+        int first = head[b];
+        next[i] = first;
+        prev[i] = -1;
+        if (first >= 0) prev[first] = i;
+        head[b] = i;
+    }
+
+    /**
+     * Takes an id out of the chain of the bucket it was last linked under.
+     *
+     * @param i the id
+     */
+    private void unlink(int i) {
+        int p = prev[i], n = next[i];
+        if (p >= 0) next[p] = n;
+        else head[bucket(cellX[i], cellY[i])] = n;
+        if (n >= 0) prev[n] = p;
+    }
+
+    /**
+     * Returns the grid cell coordinate containing the given pixel coordinate.
+     *
+     * @param v a pixel coordinate
+     * @return the cell index along that axis
+     */
+    private int cell(double v) {
+        return (int) Math.floor(v / cellSize);
+    }
+
+    /**
+     * Hashes a cell coordinate pair to a bucket index.
+     *
+     * @param cx the cell column
+     * @param cy the cell row
+     * @return the bucket index
+     */
+    private int bucket(int cx, int cy) {
+        return ((cx * 73856093) ^ (cy * 19349663)) & mask;
+    }
+
+    /**
+     * Grows the chain arrays to hold at least {@code capacity} ids.
+     *
+     * @param capacity the required number of ids
+     */
+    private void grow(int capacity) {
+        int n = Math.max(capacity, next.length * 2);
+        next = Arrays.copyOf(next, n);
+        prev = Arrays.copyOf(prev, n);
+        cellX = Arrays.copyOf(cellX, n);
+        cellY = Arrays.copyOf(cellY, n);
+    }
+}
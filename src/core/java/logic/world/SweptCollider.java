@@ -0,0 +1,145 @@
+package logic.world;
+
+/**
+ * Moves axis-aligned boxes through the tile grid of a {@link ChunkedWorld} without letting
+ * them enter solid tiles.
+ * <p>
+ * Each axis is swept separately: a move along x checks every tile column the box's leading
+ * edge would cross, across the rows the box spans, and stops the box flush against the first
+ * solid column. Checking the crossed columns rather than only the destination means a box
+ * moving more than a tile per step cannot pass through a wall, and stopping flush (instead
+ * of refusing the whole move) lets a box slide along a wall when moving diagonally. Boxes
+ * are half-open: a box whose right edge lies exactly on a column boundary does not touch
+ * that column. Solidity comes from the world's per-chunk bitsets, so each crossed tile costs
+ * one bit test.
+ */
+public class SweptCollider {
+
+    /** The world whose solid tiles block movement. */
+    private final ChunkedWorld world;
+
+    /** Edge length of a tile in world units. */
+    private final int tileSize;
+
+    /**
+     * Creates a collider over a world.
+     *
+     * @param world    the world whose solid tiles block movement
+     * @param tileSize the edge length of a tile in world units
+     */
+    public SweptCollider(ChunkedWorld world, int tileSize) {
+        if (tileSize <= 0) throw new IllegalArgumentException("Tile size must be positive");
+        this.world = world;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Moves a box along x, stopping it flush against the first solid column in the way.
+     *
+     * @param left   the box's left edge
+     * @param top    the box's top edge
+     * @param width  the box's width
+     * @param height the box's height
+     * @param dx     the attempted move
+     * @return the box's new left edge
+     */
+    public double moveX(double left, double top, double width, double height, double dx) {
+        if (dx == 0) return left;
+        int r0 = cell(top), r1 = lastCell(top + height);
+        if (dx > 0) {
+            double right = left + width;
+            for (int c = lastCell(right) + 1, to = lastCell(right + dx); c <= to; c++)
+                if (columnBlocked(c, r0, r1)) return Math.max(left, (double) c * tileSize - width);
+        } else {
+            for (int c = cell(left) - 1, to = cell(left + dx); c >= to; c--)
+                if (columnBlocked(c, r0, r1)) return Math.min(left, (double) (c + 1) * tileSize);
+        }
+        return left + dx;
+    }
+
+    /**
+     * Moves a box along y, stopping it flush against the first solid row in the way.
+     *
+     * @param left   the box's left edge
+     * @param top    the box's top edge
+     * @param width  the box's width
+     * @param height the box's height
+     * @param dy     the attempted move
+     * @return the box's new top edge
+     */
+    public double moveY(double left, double top, double width, double height, double dy) {
+        if (dy == 0) return top;
+        int c0 = cell(left), c1 = lastCell(left + width);
+        if (dy > 0) {
+            double bottom = top + height;
+            for (int r = lastCell(bottom) + 1, to = lastCell(bottom + dy); r <= to; r++)
+                if (rowBlocked(r, c0, c1)) return Math.max(top, (double) r * tileSize - height);
+        } else {
+            for (int r = cell(top) - 1, to = cell(top + dy); r >= to; r--)
+                if (rowBlocked(r, c0, c1)) return Math.min(top, (double) (r + 1) * tileSize);
+        }
+        return top + dy;
+    }
+
+    /**
+     * Returns whether a box overlaps any solid tile.
+     *
+     * @param left   the box's left edge
+     * @param top    the box's top edge
+     * @param width  the box's width
+     * @param height the box's height
+     * @return {@code true} if a solid or unloaded tile lies under the box
+     */
+    public boolean overlapsSolid(double left, double top, double width, double height) {
+        int c0 = cell(left), c1 = lastCell(left + width);
+        for (int r = cell(top), r1 = lastCell(top + height); r <= r1; r++)
+            if (rowBlocked(r, c0, c1)) return true;
+        return false;
+    }
+
+    /**
+     * Returns whether any tile of a column between two rows is solid.
+     *
+     * @param c  the column
+     * @param r0 the first row
+     * @param r1 the last row, inclusive
+     * @return {@code true} if the column is blocked
+     */
+    private boolean columnBlocked(int c, int r0, int r1) {
+        for (int r = r0; r <= r1; r++) if (world.isSolid(r, c)) return true;
+        return false;
+    }
+
+    /**
+     * Returns whether any tile of a row between two columns is solid.
+     *
+     * @param r  the row
+     * @param c0 the first column
+     * @param c1 the last column, inclusive
+     * @return {@code true} if the row is blocked
+     */
+    private boolean rowBlocked(int r, int c0, int c1) {
+        for (int c = c0; c <= c1; c++) if (world.isSolid(r, c)) return true;
+        return false;
+    }
+
+    /**
+     * Returns the tile index containing a coordinate.
+     *
+     * @param v the coordinate
+     * @return the row or column
+     */
+    private int cell(double v) {
+        return (int) Math.floor(v / tileSize);
+    }
+
+    /**
+     * Returns the last tile index a half-open span ending at a coordinate covers.
+     *
+     * @param end the exclusive end coordinate
+     * @return the row or column
+     */
+    private int lastCell(double end) {
+        return (int) Math.ceil(end / tileSize) - 1;
+    }
+}
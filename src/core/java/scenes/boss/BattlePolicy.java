@@ -0,0 +1,67 @@
+package scenes.boss;
+
+import logic.creatures.Player;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Chooses the player's action on each turn of a simulated boss battle.
+ * <p>
+ * A policy calls exactly one action method on the battle ({@link BossController#doPlayerAttack()},
+ * {@link BossController#doSkill(int)}, {@link BossController#usePotion(BattleMenuController.PotionEntry)},
+ * {@link BossController#doRestHeal()} or {@link BossController#doDefend()}) and returns its
+ * result. Policies are shared by every worker thread of a {@link BossSimulator}, so they must
+ * keep no state of their own; any randomness comes from the stream passed in.
+ */
+@FunctionalInterface
+public interface BattlePolicy {
+
+    /** Always uses the normal attack. */
+    BattlePolicy ATTACK_ONLY = (battle, rng) -> battle.doPlayerAttack();
+
+    /**
+     * Drinks a potion (or uses Water Wheel, Dead Calm or Rest, in that order) below a third of
+     * max HP; otherwise uses the strongest ready damage skill, falling back to the normal attack.
+     */
+    BattlePolicy GREEDY = (battle, rng) -> {
+        Player p = battle.getPlayer();
+        BattleMenuController menu = battle.getMenuCtrl();
+        if (p.getHealth() * 3 < p.getMaxHealth()) {
+            List<BattleMenuController.PotionEntry> potions = menu.getPotions(p);
+            if (!potions.isEmpty()) return battle.usePotion(potions.get(0));
+            if (menu.isReady(3)) return battle.doSkill(3);
+            if (menu.isReady(1)) return battle.doSkill(1);
+            return battle.doRestHeal();
+        }
+        if (menu.isReady(2)) return battle.doSkill(2);
+        if (menu.isReady(0)) return battle.doSkill(0);
+        return battle.doPlayerAttack();
+    };
+
+    /** Picks uniformly among every action available this turn, including ready skills and potions. */
+    BattlePolicy RANDOM = (battle, rng) -> {
+        BattleMenuController menu = battle.getMenuCtrl();
+        List<BattleMenuController.PotionEntry> potions = menu.getPotions(battle.getPlayer());
+        int skills = 0;
+        for (int i = 0; i < BattleMenuController.SKILL_COUNT; i++) if (menu.isReady(i)) skills++;
+        int pick = rng.nextInt(3 + skills + (potions.isEmpty() ? 0 : 1));
+        if (pick == 0) return battle.doPlayerAttack();
+        if (pick == 1) return battle.doDefend();
+        if (pick == 2) return battle.doRestHeal();
+        pick -= 3;
+        for (int i = 0; i < BattleMenuController.SKILL_COUNT; i++) {
+            if (menu.isReady(i) && pick-- == 0) return battle.doSkill(i);
+        }
+        return battle.usePotion(potions.get(rng.nextInt(potions.size())));
+    };
+
+    /**
+     * Takes the player's turn.
+     *
+     * @param battle the battle, in {@link BossController.BattleState#PLAYER_TURN}
+     * @param rng    the fight's decision stream
+     * @return the result of the chosen action
+     */
+    BossController.ActionResult act(BossController battle, SplittableRandom rng);
+}
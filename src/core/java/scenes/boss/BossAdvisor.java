@@ -0,0 +1,318 @@
+package scenes.boss;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Recommends the player's best action in a boss battle by expectimax search over
+ * {@link CombatState} snapshots.
+ * <p>
+ * Player turns are max nodes over every legal action (attack, each ready skill, Defend, Rest
+ * and each potion stack); enemy turns are chance nodes weighing a normal hit and a critical
+ * hit by {@link BossController#CRIT_CHANCE}. Leaves are scored by
+ * {@link CombatState#evaluate()}. The search deepens one player turn at a time until the time
+ * budget runs out, evaluating the root actions in parallel on a fork-join pool, and answers
+ * with the deepest search that finished. Each worker keeps one state per ply and copies into
+ * it, so the search allocates nothing per node.
+ * <p>
+ * With an unlimited budget the search always stops at the depth limit, so the advice is
+ * deterministic; used that way as a {@link BattlePolicy} it makes a strong baseline bot for
+ * {@link BossSimulator}.
+ */
+public class BossAdvisor implements BattlePolicy {
+
+    /** Default search time, about half a 60 fps frame. */
+    public static final long DEFAULT_BUDGET_NANOS = 8_000_000L;
+
+    /** Deepest search, in player turns. */
+    public static final int MAX_DEPTH = 12;
+
+    /** Nodes searched between checks of the clock. */
+    private static final int CLOCK_CHECK_NODES = 1 << 8;
+
+    /** Pool the root actions are evaluated on. */
+    private final ForkJoinPool pool;
+
+    /** Depth limit, in player turns. */
+    private final int maxDepth;
+
+    /** Time budget per recommendation, in nanoseconds; {@link Long#MAX_VALUE} for none. */
+    private final long budgetNanos;
+
+    /**
+     * Creates an advisor for interactive use: common pool, {@link #MAX_DEPTH} and
+     * {@link #DEFAULT_BUDGET_NANOS}.
+     */
+    public BossAdvisor() {
+        this(ForkJoinPool.commonPool(), MAX_DEPTH, DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Creates an advisor.
+     *
+     * @param pool        the pool to search on
+     * @param maxDepth    the depth limit in player turns, between 1 and {@link #MAX_DEPTH}
+     * @param budgetNanos the time budget per recommendation, or {@link Long#MAX_VALUE} to always
+     *                    search to {@code maxDepth}
+     */
+    public BossAdvisor(ForkJoinPool pool, int maxDepth, long budgetNanos) {
+        if (maxDepth < 1 || maxDepth > MAX_DEPTH) throw new IllegalArgumentException("Depth must be 1 to " + MAX_DEPTH);
+        if (budgetNanos <= 0) throw new IllegalArgumentException("Budget must be positive");
+        this.pool = pool;
+        this.maxDepth = maxDepth;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Recommends an action for the current player turn.
+     *
+     * @param battle the battle, on the player's turn
+     * @return the recommended action and its expected score
+     */
+    public Advice advise(BossController battle) {
+        return advise(CombatState.of(battle));
+    }
+
+    /**
+     * Recommends an action from a snapshot. The first ply is always searched in full, so
+     * there is an answer however small the budget.
+     *
+     * @param root the state at the start of the player's turn
+     * @return the recommended action and its expected score
+     */
+    public Advice advise(CombatState root) {
+        long deadline = budgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + budgetNanos;
+        Advice best = null;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            Iteration it = new Iteration(root, depth, depth == 1 ? Long.MAX_VALUE : deadline);
+            pool.invoke(it);
+            if (it.aborted()) break;
+            best = it.best(depth);
+            if (best.value() >= 1 || System.nanoTime() >= deadline) break;
+        }
+        return best;
+    }
+
+    /**
+     * Takes the recommended action.
+     *
+     * @param battle the battle, on the player's turn
+     * @param rng    unused; the search is deterministic
+     * @return the result of the action
+     */
+    @Override
+    public BossController.ActionResult act(BossController battle, SplittableRandom rng) {
+        return apply(battle, advise(battle).action());
+    }
+
+    /**
+     * Performs a {@link CombatState} action id on a battle.
+     *
+     * @param battle the battle
+     * @param action the action id
+     * @return the result of the action
+     */
+    public static BossController.ActionResult apply(BossController battle, int action) {
+        if (action == CombatState.ATTACK) return battle.doPlayerAttack();
+        if (action < CombatState.DEFEND) return battle.doSkill(action - CombatState.SKILL);
+        if (action == CombatState.DEFEND) return battle.doDefend();
+        if (action == CombatState.REST) return battle.doRestHeal();
+        List<BattleMenuController.PotionEntry> potions = battle.getMenuCtrl().getPotions(battle.getPlayer());
+        return battle.usePotion(potions.get(action - CombatState.POTION));
+    }
+
+    /**
+     * Names a {@link CombatState} action id for display.
+     *
+     * @param battle the battle the action belongs to
+     * @param action the action id
+     * @return e.g. {@code "Attack"}, {@code "Kagura Dance"} or a potion's name
+     */
+    public static String describe(BossController battle, int action) {
+        if (action == CombatState.ATTACK) return "Attack";
+        if (action < CombatState.DEFEND) return BattleMenuController.SKILL_NAMES[action - CombatState.SKILL];
+        if (action == CombatState.DEFEND) return "Defend";
+        if (action == CombatState.REST) return "Rest";
+        return battle.getMenuCtrl().getPotions(battle.getPlayer()).get(action - CombatState.POTION).name();
+    }
+
+    /**
+     * A recommendation.
+     *
+     * @param action the action id, see {@link CombatState}
+     * @param value  the expected score of the action, {@code 1} being a certain win
+     * @param depth  the number of player turns searched ahead
+     */
+    public record Advice(int action, double value, int depth) {
+    }
+
+    /**
+     * One iterative-deepening pass: every legal root action searched to the same depth in
+     * parallel.
+     */
+    @SuppressWarnings("serial") // fork/join tasks are never serialized
+    private static final class Iteration extends RecursiveAction {
+
+        /** The state being advised on. */
+        private final CombatState root;
+
+        /** Depth of this pass, in player turns. */
+        private final int depth;
+
+        /** Time the pass gives up at. */
+        private final long deadline;
+
+        /** One search per legal root action. */
+        private final Search[] searches;
+
+        /**
+         * Creates a pass over every legal root action.
+         *
+         * @param root     the state being advised on
+         * @param depth    the depth, in player turns
+         * @param deadline the {@link System#nanoTime()} to give up at
+         */
+        Iteration(CombatState root, int depth, long deadline) {
+            this.root = root;
+            this.depth = depth;
+            this.deadline = deadline;
+            int legal = 0;
+            for (int a = 0; a < root.actionCount(); a++) if (root.isLegal(a)) legal++;
+            searches = new Search[legal];
+            for (int a = 0, i = 0; a < root.actionCount(); a++) {
+                if (root.isLegal(a)) searches[i++] = new Search(this, a);
+            }
+        }
+
+        /**
+         * Searches every root action in parallel.
+         */
+        @Override
+        protected void compute() {
+            ForkJoinTask.invokeAll(searches);
+        }
+
+        /**
+         * @return {@code true} if any root search ran out of time
+         */
+        boolean aborted() {
+            for (Search s : searches) if (s.aborted) return true;
+            return false;
+        }
+
+        /**
+         * Returns the best root action, preferring the lowest action id on ties.
+         *
+         * @param depth the depth searched
+         * @return the recommendation
+         */
+        Advice best(int depth) {
+            Search best = searches[0];
+            for (Search s : searches) if (s.value > best.value) best = s;
+            return new Advice(best.action, best.value, depth);
+        }
+    }
+
+    /**
+     * Expectimax search below one root action, on its own stack of scratch states.
+     */
+    @SuppressWarnings("serial") // fork/join tasks are never serialized
+    private static final class Search extends RecursiveAction {
+
+        /** The pass this search belongs to. */
+        private final Iteration pass;
+
+        /** The root action searched. */
+        private final int action;
+
+        /** Scratch state per ply. */
+        private final CombatState[] stack;
+
+        /** Nodes visited, for pacing clock checks. */
+        private int nodes;
+
+        /** {@code true} once the deadline passed; the value is then meaningless. */
+        private boolean aborted;
+
+        /** Expected score of {@link #action}. */
+        private double value;
+
+        /**
+         * Creates the search of one root action.
+         *
+         * @param pass   the pass it belongs to
+         * @param action the root action
+         */
+        Search(Iteration pass, int action) {
+            this.pass = pass;
+            this.action = action;
+            // Each player turn uses at most two plies (the action and the enemy's reply).
+            stack = new CombatState[2 * pass.depth + 2];
+            for (int i = 0; i < stack.length; i++) stack[i] = pass.root.copy();
+        }
+
+        /**
+         * Scores the root action.
+         */
+        @Override
+        protected void compute() {
+            value = afterAction(stack[0].copyFrom(pass.root), action, pass.depth, 0);
+        }
+
+        /**
+         * Scores a player turn: the best of its legal actions.
+         *
+         * @param s     the state, player to act
+         * @param depth the player turns left to search
+         * @param ply   the stack slot of {@code s}
+         * @return the expected score
+         */
+        private double playerTurn(CombatState s, int depth, int ply) {
+            if (tick() || depth == 0) return s.evaluate();
+            double best = 0;
+            for (int a = 0, n = s.actionCount(); a < n; a++) {
+                if (!s.isLegal(a)) continue;
+                best = Math.max(best, afterAction(stack[ply + 1].copyFrom(s), a, depth, ply + 1));
+                if (best >= 1) break;
+            }
+            return best;
+        }
+
+        /**
+         * Takes an action in a state and scores the result.
+         *
+         * @param s      the state, which is modified
+         * @param action the action to take
+         * @param depth  the player turns left to search, including this one
+         * @param ply    the stack slot of {@code s}
+         * @return the expected score
+         */
+        private double afterAction(CombatState s, int action, int depth, int ply) {
+            int outcome = s.playerAction(action);
+            if (outcome == CombatState.WON) return 1;
+            if (outcome == CombatState.BOSS_DOWN) return playerTurn(s, depth - 1, ply);
+            CombatState hit = stack[ply + 1].copyFrom(s);
+            double normal = hit.enemyTurn(false) ? playerTurn(hit, depth - 1, ply + 1) : 0;
+            CombatState crit = stack[ply + 1].copyFrom(s);
+            double critical = crit.enemyTurn(true) ? playerTurn(crit, depth - 1, ply + 1) : 0;
+            return (1 - BossController.CRIT_CHANCE) * normal + BossController.CRIT_CHANCE * critical;
+        }
+
+        /**
+         * Counts a node and checks the deadline every {@link #CLOCK_CHECK_NODES} nodes.
+         *
+         * @return {@code true} if the search should stop
+         */
+        private boolean tick() {
+            if (aborted) return true;
+            if ((++nodes & (CLOCK_CHECK_NODES - 1)) == 0 && pass.deadline != Long.MAX_VALUE
+                    && System.nanoTime() >= pass.deadline) {
+                aborted = true;
+            }
+            return aborted;
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package scenes.boss;
 
-import javafx.scene.paint.Color;
 import logic.base.BasePotion;
 import logic.creatures.*;
+import logic.util.GameClock;
+import logic.util.GameRandom;
 import logic.util.ItemCounter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Controller for the sequential boss battle system.
@@ -15,9 +17,24 @@ import java.util.List;
  */
 public class BossController {
 
+    /** Number of bosses in the gauntlet. */
+    public static final int BOSS_COUNT = 3;
+
+    /** Chance of each enemy attack being a critical hit. */
+    public static final double CRIT_CHANCE = 0.20;
+
+    /** Damage multiplier of an enemy critical hit. */
+    public static final double CRIT_MULTIPLIER = 1.6;
+
     /** The player participating in the boss battle. */
     private final Player player;
 
+    /** Game clock the battle's timing reads from; advanced by the view each frame. */
+    private final GameClock clock;
+
+    /** Random stream for battle rolls such as enemy critical hits. */
+    private final SplittableRandom rng;
+
     /** Array of all three boss entries (Akaza, Kokushibo, Muzan). */
     private final BossInfo[] bosses;
 
@@ -36,8 +53,8 @@ public class BossController {
     /** Display name of the current boss. */
     private String bossName;
 
-    /** Theme colour of the current boss, used for UI accents. */
-    private Color bossColor;
+    /** Theme colour of the current boss as a CSS hex string, used for UI accents. */
+    private String bossColor;
 
     /** Current phase of the turn-based battle. */
     private BattleState state = BattleState.PLAYER_TURN;
@@ -51,7 +68,7 @@ public class BossController {
     /** {@code true} when the player shake animation should trigger. */
     private boolean pendingPlayerShake = false;
 
-    /** System time (ms) when the enemy last took an action. */
+    /** Game time (ms) when the enemy last took an action. */
     private long lastEnemyActionMs = 0;
 
     /** Defense bonus amount to remove after the enemy's turn (from the Defend action). */
@@ -63,11 +80,25 @@ public class BossController {
      * @param player the player entering the boss room
      */
     public BossController(Player player) {
+        this(player, new GameClock(), new GameRandom(GameRandom.DEFAULT_SEED));
+    }
+
+    /**
+     * Creates a new BossController driven by the given clock and random source and
+     * initialises the first boss.
+     *
+     * @param player the player entering the boss room
+     * @param clock  the clock the battle's timing reads from
+     * @param random the run's random source
+     */
+    public BossController(Player player, GameClock clock, GameRandom random) {
         this.player = player;
+        this.clock = clock;
+        this.rng = random.stream(GameRandom.BOSS);
         bosses = new BossInfo[]{
-                new BossInfo("Akaza", new EasyBoss(), Color.web("#64B5F6")),
-                new BossInfo("Kokushibo", new MediumBoss(), Color.web("#ce93d8")),
-                new BossInfo("Muzan", new HardBoss(), Color.web("#ef5350")),
+                new BossInfo("Akaza", new EasyBoss(), "#64B5F6"),
+                new BossInfo("Kokushibo", new MediumBoss(), "#ce93d8"),
+                new BossInfo("Muzan", new HardBoss(), "#ef5350"),
         };
         loadBoss(0);
     }
@@ -86,7 +117,7 @@ public class BossController {
         log.add("🛡 Defending! DEF x2 this turn!");
 
         state = BattleState.ENEMY_TURN;
-        lastEnemyActionMs = System.currentTimeMillis();
+        lastEnemyActionMs = clock.millis();
         trimLog();
         return ActionResult.ENEMY_TURN;
     }
@@ -197,7 +228,7 @@ public class BossController {
                     + entry.name() + "! HP: " + player.getHealth() + "/" + player.getMaxHealth());
         }
         state = BattleState.ENEMY_TURN;
-        lastEnemyActionMs = System.currentTimeMillis();
+        lastEnemyActionMs = clock.millis();
         trimLog();
         return ActionResult.ENEMY_TURN;
     }
@@ -212,16 +243,26 @@ public class BossController {
     public ActionResult doRestHeal() {
         if (state != BattleState.PLAYER_TURN) return ActionResult.NONE;
         menuCtrl.close();
-        int heal = Math.max(5, player.getMaxHealth() / 10);
+        int heal = restHeal(player.getMaxHealth());
         player.heal(heal);
         log.add("You rest briefly... +" + heal + " HP  ("
                 + player.getHealth() + "/" + player.getMaxHealth() + ")");
         state = BattleState.ENEMY_TURN;
-        lastEnemyActionMs = System.currentTimeMillis();
+        lastEnemyActionMs = clock.millis();
         trimLog();
         return ActionResult.ENEMY_TURN;
     }
 
+    /**
+     * Returns the HP the Rest action recovers.
+     *
+     * @param maxHealth the player's max HP
+     * @return 10% of max HP, at least 5
+     */
+    static int restHeal(int maxHealth) {
+        return Math.max(5, maxHealth / 10);
+    }
+
     // Enemy Turn
 
     /**
@@ -234,9 +275,9 @@ public class BossController {
 
         menuCtrl.tickCooldowns();
 
-        boolean crit = Math.random() < 0.20;
+        boolean crit = rng.nextDouble() < CRIT_CHANCE;
         int baseDmg = currentBoss.getAttack();
-        if (crit) baseDmg = (int) (baseDmg * 1.6);
+        if (crit) baseDmg = (int) (baseDmg * CRIT_MULTIPLIER);
 
         // Apply berserk debuff (player DEF halved)
         int savedDef = player.getDefense();
@@ -308,7 +349,7 @@ public class BossController {
         }
         log.add(bossName + " HP: " + currentBoss.getHealthPoint() + "/" + currentBoss.getMaxHealthPoint());
         state = BattleState.ENEMY_TURN;
-        lastEnemyActionMs = System.currentTimeMillis();
+        lastEnemyActionMs = clock.millis();
         trimLog();
         return ActionResult.ENEMY_TURN;
     }
@@ -347,6 +388,14 @@ public class BossController {
         return currentBoss;
     }
 
+    /**
+     * @param index the boss index (0–2)
+     * @return the monster instance of that boss
+     */
+    public Monster getBoss(int index) {
+        return bosses[index].monster();
+    }
+
     /**
      * @return the display name of the current boss
      */
@@ -355,9 +404,9 @@ public class BossController {
     }
 
     /**
-     * @return the theme colour of the current boss
+     * @return the theme colour of the current boss as a CSS hex string such as {@code "#64B5F6"}
      */
-    public Color getBossColor() {
+    public String getBossColor() {
         return bossColor;
     }
 
@@ -383,12 +432,19 @@ public class BossController {
     }
 
     /**
-     * @return the system-time (ms) when the enemy last acted
+     * @return the game time (ms) when the enemy last acted
      */
     public long getLastEnemyActionMs() {
         return lastEnemyActionMs;
     }
 
+    /**
+     * @return the game clock the battle's timing reads from
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
     /**
      * @return {@code true} if there is another boss after the current one
      */
@@ -486,8 +542,8 @@ public class BossController {
      *
      * @param name    the display name of the boss
      * @param monster the monster instance
-     * @param color   the theme colour used in the UI
+     * @param color   the theme colour used in the UI, as a CSS hex string
      */
-    public record BossInfo(String name, Monster monster, Color color) {
+    public record BossInfo(String name, Monster monster, String color) {
     }
 }
\ No newline at end of file
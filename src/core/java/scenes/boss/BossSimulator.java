@@ -0,0 +1,415 @@
+package scenes.boss;
+
+import logic.base.BaseArmor;
+import logic.base.BasePotion;
+import logic.base.BaseWeapon;
+import logic.creatures.Player;
+import logic.item.armor.*;
+import logic.item.potion.BigHealthPotion;
+import logic.item.potion.MediumHealthPotion;
+import logic.item.potion.SmallHealthPotion;
+import logic.item.weapon.*;
+import logic.util.GameClock;
+import logic.util.GameRandom;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs large batches of headless boss battles in parallel to measure how a loadout fares
+ * against the Akaza → Kokushibo → Muzan gauntlet.
+ * <p>
+ * Each simulated fight drives a real {@link BossController} with no view or turn delay, so the
+ * numbers follow the game's actual rules. A batch is split over a {@link ForkJoinPool} into
+ * ranges of fights; each range fills its own {@link Result}, and ranges are merged as they
+ * join. Fight {@code i} of a batch always uses the same random streams, derived from the batch
+ * seed and {@code i}, so a batch gives the same totals however it is split across threads,
+ * and different loadouts run with the same seed face the same dice.
+ */
+public class BossSimulator {
+
+    /** Player turns after which a fight is abandoned as a stalemate and counted as a loss. */
+    public static final int MAX_TURNS = 500;
+
+    /** Fights per fork-join leaf; larger ranges are split in half. */
+    private static final int LEAF_FIGHTS = 1_024;
+
+    /** Pool the fights run on. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a simulator that runs on the common fork-join pool.
+     */
+    public BossSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a simulator that runs on the given pool.
+     *
+     * @param pool the pool to run fights on
+     */
+    public BossSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Simulates a batch of gauntlet runs with one loadout.
+     *
+     * @param loadout the player's gear
+     * @param spec    the player's base stats and potions
+     * @param policy  how the player picks actions
+     * @param fights  the number of runs
+     * @param seed    the batch seed
+     * @return the totals over every run
+     */
+    public Result run(Loadout loadout, PlayerSpec spec, BattlePolicy policy, int fights, long seed) {
+        if (fights < 0) throw new IllegalArgumentException("Fight count must not be negative");
+        return pool.invoke(new Batch(loadout, spec, policy, seed, 0, fights));
+    }
+
+    /**
+     * Simulates every weapon/armor pair, each with the same seed.
+     *
+     * @param weapons          the weapons to try
+     * @param armors           the armors to try
+     * @param spec             the player's base stats and potions
+     * @param policy           how the player picks actions
+     * @param fightsPerLoadout the number of runs per pair
+     * @param seed             the batch seed shared by every pair
+     * @return the totals per pair, in weapon-major order
+     */
+    public Map<Loadout, Result> sweep(List<? extends BaseWeapon> weapons, List<? extends BaseArmor> armors,
+                                      PlayerSpec spec, BattlePolicy policy, int fightsPerLoadout, long seed) {
+        Map<Loadout, Result> results = new LinkedHashMap<>();
+        for (BaseWeapon weapon : weapons) {
+            for (BaseArmor armor : armors) {
+                Loadout loadout = new Loadout(weapon, armor);
+                results.put(loadout, run(loadout, spec, policy, fightsPerLoadout, seed));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Prints a balance table: every weapon/armor pair against the gauntlet with the starting
+     * stats and three medium potions.
+     *
+     * @param args optional fights per pair (default 100000) and policy name ({@code greedy},
+     *             {@code attack}, {@code random} or {@code advisor}; default {@code greedy})
+     */
+    public static void main(String[] args) {
+        int fights = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        BattlePolicy policy = switch (args.length > 1 ? args[1] : "greedy") {
+            case "attack" -> BattlePolicy.ATTACK_ONLY;
+            case "random" -> BattlePolicy.RANDOM;
+            case "greedy" -> BattlePolicy.GREEDY;
+            case "advisor" -> new BossAdvisor(ForkJoinPool.commonPool(), 3, Long.MAX_VALUE);
+            default -> throw new IllegalArgumentException("Unknown policy " + args[1]);
+        };
+        PlayerSpec spec = new PlayerSpec(100, 20, 10, 0, 3, 0);
+        long start = System.nanoTime();
+        Map<Loadout, Result> results = new BossSimulator().sweep(weapons(), armors(), spec, policy, fights, GameRandom.DEFAULT_SEED);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        for (Map.Entry<Loadout, Result> e : results.entrySet()) {
+            System.out.printf("%-36s %s%n", e.getKey(), e.getValue());
+        }
+        System.out.printf("%d runs in %.1f s%n", (long) fights * results.size(), seconds);
+    }
+
+    /**
+     * Returns one of every craftable weapon, weakest first.
+     *
+     * @return the weapons
+     */
+    public static List<BaseWeapon> weapons() {
+        return List.of(new WoodenSword(), new StoneSword(), new HardstoneSword(), new IronSword(),
+                new PlatinumSword(), new MithrilSword(), new VibraniumSword());
+    }
+
+    /**
+     * Returns one of every craftable armor, weakest first.
+     *
+     * @return the armors
+     */
+    public static List<BaseArmor> armors() {
+        return List.of(new StoneArmor(), new HardstoneArmor(), new IronArmor(), new PlatinumArmor(),
+                new MithrilArmor(), new VibraniumArmor());
+    }
+
+    /**
+     * Plays one gauntlet run to the end and adds it to a result.
+     *
+     * @param loadout   the player's gear
+     * @param spec      the player's base stats and potions
+     * @param policy    how the player picks actions
+     * @param fightSeed the seed of this run
+     * @param into      the result to add to
+     */
+    static void fight(Loadout loadout, PlayerSpec spec, BattlePolicy policy, long fightSeed, Result into) {
+        Player player = spec.create(loadout);
+        GameRandom random = new GameRandom(fightSeed);
+        SplittableRandom decisions = random.stream(GameRandom.POLICY);
+        BossController battle = new BossController(player, new GameClock(), random);
+        int potionsAtStart = player.countItem(BasePotion.class);
+
+        int turns = 0, bossTurns = 0;
+        boolean won = false;
+        while (turns < MAX_TURNS) {
+            BossController.ActionResult r = policy.act(battle, decisions);
+            if (r == BossController.ActionResult.NONE) r = battle.doPlayerAttack();
+            turns++;
+            bossTurns++;
+            if (r == BossController.ActionResult.ENEMY_TURN) {
+                if (battle.doEnemyTurn() == BossController.ActionResult.PLAYER_DEFEATED) break;
+            } else if (r == BossController.ActionResult.BOSS_DEFEATED || r == BossController.ActionResult.ALL_CLEAR) {
+                into.kills[battle.getBossIndex()]++;
+                into.killTurns[battle.getBossIndex()] += bossTurns;
+                bossTurns = 0;
+                if (r == BossController.ActionResult.ALL_CLEAR) {
+                    won = true;
+                    break;
+                }
+                battle.advanceToNextBoss();
+            }
+        }
+
+        into.fights++;
+        if (won) into.wins++;
+        else if (player.isAlive()) into.stalemates++;
+        into.turns += turns;
+        into.potionsUsed += potionsAtStart - player.countItem(BasePotion.class);
+    }
+
+    /**
+     * A weapon and armor pair.
+     *
+     * @param weapon the weapon, or {@code null} for none
+     * @param armor  the armor, or {@code null} for none
+     */
+    public record Loadout(BaseWeapon weapon, BaseArmor armor) {
+
+        /**
+         * @return the gear names, e.g. {@code "Iron Sword + Stone Armor"}
+         */
+        @Override
+        public String toString() {
+            return (weapon == null ? "No weapon" : weapon.getName()) + " + "
+                    + (armor == null ? "No armor" : armor.getName());
+        }
+    }
+
+    /**
+     * The player's stats before gear, and the potions they bring into the boss room.
+     *
+     * @param health        max HP
+     * @param attack        attack
+     * @param defense       defense
+     * @param smallPotions  number of {@link SmallHealthPotion}s
+     * @param mediumPotions number of {@link MediumHealthPotion}s
+     * @param bigPotions    number of {@link BigHealthPotion}s
+     */
+    public record PlayerSpec(int health, int attack, int defense,
+                             int smallPotions, int mediumPotions, int bigPotions) {
+
+        /** The stats a new game starts with, and no potions. */
+        public static final PlayerSpec STARTER = new PlayerSpec(100, 20, 10, 0, 0, 0);
+
+        /**
+         * Builds a fresh player with these stats, the loadout equipped and the potions in the bag.
+         *
+         * @param loadout the gear to equip
+         * @return the player
+         */
+        public Player create(Loadout loadout) {
+            Player p = new Player(health, attack, defense);
+            if (smallPotions > 0) p.addItem(new SmallHealthPotion(), smallPotions);
+            if (mediumPotions > 0) p.addItem(new MediumHealthPotion(), mediumPotions);
+            if (bigPotions > 0) p.addItem(new BigHealthPotion(), bigPotions);
+            p.equipWeapon(loadout.weapon());
+            p.equipArmor(loadout.armor());
+            return p;
+        }
+    }
+
+    /**
+     * Totals over a batch of gauntlet runs.
+     */
+    public static final class Result {
+
+        /** Runs simulated. */
+        private int fights;
+
+        /** Runs that defeated every boss. */
+        private int wins;
+
+        /** Runs abandoned after {@link #MAX_TURNS} with the player still alive. */
+        private int stalemates;
+
+        /** Player turns over all runs. */
+        private long turns;
+
+        /** Potions drunk over all runs. */
+        private long potionsUsed;
+
+        /** Times each boss was defeated. */
+        private final int[] kills = new int[BossController.BOSS_COUNT];
+
+        /** Player turns spent on each boss, over the runs that defeated it. */
+        private final long[] killTurns = new long[BossController.BOSS_COUNT];
+
+        /**
+         * Adds another result's totals to this one.
+         *
+         * @param other the result to add
+         * @return this result
+         */
+        Result merge(Result other) {
+            fights += other.fights;
+            wins += other.wins;
+            stalemates += other.stalemates;
+            turns += other.turns;
+            potionsUsed += other.potionsUsed;
+            for (int i = 0; i < kills.length; i++) {
+                kills[i] += other.kills[i];
+                killTurns[i] += other.killTurns[i];
+            }
+            return this;
+        }
+
+        /**
+         * @return the number of runs simulated
+         */
+        public int getFights() {
+            return fights;
+        }
+
+        /**
+         * @return the number of runs that defeated every boss
+         */
+        public int getWins() {
+            return wins;
+        }
+
+        /**
+         * @return the number of runs abandoned as stalemates
+         */
+        public int getStalemates() {
+            return stalemates;
+        }
+
+        /**
+         * @return the fraction of runs that defeated every boss, or {@code 0} for an empty batch
+         */
+        public double winRate() {
+            return fights == 0 ? 0 : (double) wins / fights;
+        }
+
+        /**
+         * @param boss the boss index (0 = Akaza, 1 = Kokushibo, 2 = Muzan)
+         * @return the number of runs that defeated this boss
+         */
+        public int getKills(int boss) {
+            return kills[boss];
+        }
+
+        /**
+         * @param boss the boss index
+         * @return the average player turns taken to defeat this boss, or {@code NaN} if it never fell
+         */
+        public double meanTurnsToKill(int boss) {
+            return kills[boss] == 0 ? Double.NaN : (double) killTurns[boss] / kills[boss];
+        }
+
+        /**
+         * @return the average player turns per run, or {@code 0} for an empty batch
+         */
+        public double meanTurns() {
+            return fights == 0 ? 0 : (double) turns / fights;
+        }
+
+        /**
+         * @return the average potions drunk per run, or {@code 0} for an empty batch
+         */
+        public double meanPotionsUsed() {
+            return fights == 0 ? 0 : (double) potionsUsed / fights;
+        }
+
+        /**
+         * @return a one-line summary of the batch
+         */
+        @Override
+        public String toString() {
+            return String.format("win %.1f%%  turns/kill %.1f / %.1f / %.1f  potions %.2f  (%d runs)",
+                    winRate() * 100, meanTurnsToKill(0), meanTurnsToKill(1), meanTurnsToKill(2),
+                    meanPotionsUsed(), fights);
+        }
+    }
+
+    /**
+     * A range of fights of one batch, split in half until small enough to run directly.
+     */
+    @SuppressWarnings("serial") // fork/join tasks are never serialized
+    private static final class Batch extends RecursiveTask<Result> {
+
+        /** The player's gear. */
+        private final Loadout loadout;
+
+        /** The player's base stats and potions. */
+        private final PlayerSpec spec;
+
+        /** How the player picks actions. */
+        private final BattlePolicy policy;
+
+        /** The batch seed. */
+        private final long seed;
+
+        /** First fight index of the range. */
+        private final int from;
+
+        /** One past the last fight index of the range. */
+        private final int to;
+
+        /**
+         * Creates a task for fights {@code from} (inclusive) to {@code to} (exclusive).
+         *
+         * @param loadout the player's gear
+         * @param spec    the player's base stats and potions
+         * @param policy  how the player picks actions
+         * @param seed    the batch seed
+         * @param from    the first fight index
+         * @param to      one past the last fight index
+         */
+        Batch(Loadout loadout, PlayerSpec spec, BattlePolicy policy, long seed, int from, int to) {
+            this.loadout = loadout;
+            this.spec = spec;
+            this.policy = policy;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Runs the range directly or splits it.
+         *
+         * @return the totals over the range
+         */
+        @Override
+        protected Result compute() {
+            if (to - from <= LEAF_FIGHTS) {
+                Result result = new Result();
+                for (int i = from; i < to; i++) fight(loadout, spec, policy, GameRandom.mix(seed + i), result);
+                return result;
+            }
+            int mid = (from + to) >>> 1;
+            Batch left = new Batch(loadout, spec, policy, seed, from, mid);
+            left.fork();
+            Result right = new Batch(loadout, spec, policy, seed, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package scenes.boss;
+
+import logic.base.BasePotion;
+import logic.creatures.Monster;
+import logic.creatures.Player;
+
+import java.util.List;
+
+/**
+ * A compact, copyable snapshot of a boss battle at the start of the player's turn, for
+ * searching ahead with {@link BossAdvisor}.
+ * <p>
+ * The state holds only the numbers the turn rules read: player and boss stats, skill
+ * cooldowns, the Dead Calm and Constant Flux flags, and the potion stacks as heal amounts and
+ * counts. Its actions mirror {@link BossController} exactly but skip the battle log, and the
+ * enemy turn takes the critical-hit outcome as a parameter so a search can weigh both.
+ * {@link #copyFrom(CombatState)} reuses the target's arrays, so a search that keeps one state
+ * per ply allocates nothing per node.
+ */
+public final class CombatState {
+
+    /** Action: normal attack. */
+    public static final int ATTACK = 0;
+
+    /** Action: first skill; skill {@code i} is {@code SKILL + i}. */
+    public static final int SKILL = 1;
+
+    /** Action: Defend. */
+    public static final int DEFEND = SKILL + BattleMenuController.SKILL_COUNT;
+
+    /** Action: Rest. */
+    public static final int REST = DEFEND + 1;
+
+    /** Action: first potion stack; stack {@code i} of {@link BattleMenuController#getPotions} is {@code POTION + i}. */
+    public static final int POTION = REST + 1;
+
+    /** {@link #playerAction(int)} outcome: the enemy acts next. */
+    public static final int ENEMY_NEXT = 0;
+
+    /** {@link #playerAction(int)} outcome: the boss fell and the next one is up, player to act. */
+    public static final int BOSS_DOWN = 1;
+
+    /** {@link #playerAction(int)} outcome: the last boss fell. */
+    public static final int WON = 2;
+
+    /** Max HP of each boss, shared between copies. */
+    private final int[] bossMaxHp;
+
+    /** Attack of each boss, shared between copies. */
+    private final int[] bossAtk;
+
+    /** Defense of each boss, shared between copies. */
+    private final int[] bossDef;
+
+    /** HP each potion stack heals, shared between copies. */
+    private final int[] potionHeal;
+
+    /** Potions left in each stack. */
+    private final int[] potionCount;
+
+    /** Remaining cooldown of each skill, in enemy turns. */
+    private final int[] cooldowns = new int[BattleMenuController.SKILL_COUNT];
+
+    /** Player HP. */
+    private int hp;
+
+    /** Player max HP. */
+    private int maxHp;
+
+    /** Player attack. */
+    private int atk;
+
+    /** Player defense. */
+    private int def;
+
+    /** Defense bonus from Defend, removed after the enemy's turn. */
+    private int defenseBonus;
+
+    /** {@code true} while Dead Calm halves the next enemy attack. */
+    private boolean shield;
+
+    /** {@code true} while Constant Flux halves the player's DEF for the next enemy attack. */
+    private boolean berserk;
+
+    /** Index of the current boss. */
+    private int boss;
+
+    /** Current boss HP. */
+    private int bossHp;
+
+    /** {@code true} once every boss has fallen. */
+    private boolean won;
+
+    /**
+     * Creates a state with the given shared tables and an empty potion bag.
+     *
+     * @param bossMaxHp  max HP of each boss
+     * @param bossAtk    attack of each boss
+     * @param bossDef    defense of each boss
+     * @param potionHeal HP each potion stack heals
+     */
+    private CombatState(int[] bossMaxHp, int[] bossAtk, int[] bossDef, int[] potionHeal) {
+        this.bossMaxHp = bossMaxHp;
+        this.bossAtk = bossAtk;
+        this.bossDef = bossDef;
+        this.potionHeal = potionHeal;
+        this.potionCount = new int[potionHeal.length];
+    }
+
+    /**
+     * Captures a battle. The result is only meaningful on the player's turn.
+     *
+     * @param battle the battle
+     * @return a snapshot of it
+     */
+    public static CombatState of(BossController battle) {
+        Player p = battle.getPlayer();
+        int n = BossController.BOSS_COUNT;
+        int[] maxHp = new int[n], atk = new int[n], def = new int[n];
+        for (int i = 0; i < n; i++) {
+            Monster m = battle.getBoss(i);
+            maxHp[i] = m.getMaxHealthPoint();
+            atk[i] = m.getAttack();
+            def[i] = m.getDefense();
+        }
+        BattleMenuController menu = battle.getMenuCtrl();
+        List<BattleMenuController.PotionEntry> potions = menu.getPotions(p);
+        int[] heal = new int[potions.size()];
+        for (int i = 0; i < heal.length; i++) heal[i] = healOf((BasePotion) potions.get(i).counter().getItem(), p.getMaxHealth());
+
+        CombatState s = new CombatState(maxHp, atk, def, heal);
+        for (int i = 0; i < heal.length; i++) s.potionCount[i] = potions.get(i).count();
+        for (int i = 0; i < s.cooldowns.length; i++) s.cooldowns[i] = menu.getCooldown(i);
+        s.hp = p.getHealth();
+        s.maxHp = p.getMaxHealth();
+        s.atk = p.getAttack();
+        s.def = p.getDefense();
+        s.shield = menu.isShieldWallActive();
+        s.berserk = menu.isBerserkDebuffActive();
+        s.boss = battle.getBossIndex();
+        s.bossHp = battle.getCurrentBoss().getHealthPoint();
+        s.won = battle.getState() == BossController.BattleState.ALL_CLEAR;
+        return s;
+    }
+
+    /**
+     * Returns how much a potion heals a player with the given max HP, by letting it heal a
+     * scratch player from zero.
+     *
+     * @param potion    the potion
+     * @param maxHealth the player's max HP
+     * @return the HP healed
+     */
+    private static int healOf(BasePotion potion, int maxHealth) {
+        Player probe = new Player(maxHealth, 0, 0);
+        probe.setHealth(0);
+        potion.consume(probe);
+        return probe.getHealth();
+    }
+
+    /**
+     * Returns a new, independent copy of this state.
+     *
+     * @return the copy
+     */
+    public CombatState copy() {
+        return new CombatState(bossMaxHp, bossAtk, bossDef, potionHeal).copyFrom(this);
+    }
+
+    /**
+     * Overwrites this state with another snapshot of the same battle.
+     *
+     * @param o the state to copy; must come from the same {@link #of(BossController)} snapshot
+     * @return this state
+     */
+    public CombatState copyFrom(CombatState o) {
+        System.arraycopy(o.potionCount, 0, potionCount, 0, potionCount.length);
+        System.arraycopy(o.cooldowns, 0, cooldowns, 0, cooldowns.length);
+        hp = o.hp;
+        maxHp = o.maxHp;
+        atk = o.atk;
+        def = o.def;
+        defenseBonus = o.defenseBonus;
+        shield = o.shield;
+        berserk = o.berserk;
+        boss = o.boss;
+        bossHp = o.bossHp;
+        won = o.won;
+        return this;
+    }
+
+    /**
+     * Returns the number of action ids, legal or not.
+     *
+     * @return {@link #POTION} plus the number of potion stacks
+     */
+    public int actionCount() {
+        return POTION + potionCount.length;
+    }
+
+    /**
+     * Returns whether an action can be taken now.
+     *
+     * @param action the action id
+     * @return {@code false} for a skill on cooldown or an empty potion stack
+     */
+    public boolean isLegal(int action) {
+        if (action >= POTION) return potionCount[action - POTION] > 0;
+        if (action >= SKILL && action < DEFEND) return cooldowns[action - SKILL] <= 0;
+        return action >= 0;
+    }
+
+    /**
+     * Takes the player's turn, as the matching {@link BossController} action would.
+     *
+     * @param action a legal action id
+     * @return {@link #ENEMY_NEXT}, {@link #BOSS_DOWN} or {@link #WON}
+     */
+    public int playerAction(int action) {
+        switch (action) {
+            case ATTACK -> hitBoss(atk);
+            case SKILL -> {
+                hitBoss(atk * 2);
+                cooldowns[0] = BattleMenuController.SKILL_MAX_CD[0];
+            }
+            case SKILL + 1 -> {
+                shield = true;
+                cooldowns[1] = BattleMenuController.SKILL_MAX_CD[1];
+            }
+            case SKILL + 2 -> {
+                for (int h = 0; h < 3; h++) hitBoss(atk);
+                berserk = true;
+                cooldowns[2] = BattleMenuController.SKILL_MAX_CD[2];
+            }
+            case SKILL + 3 -> {
+                int base = Math.max(0, atk - bossDef[boss]);
+                hitBoss(atk);
+                heal(Math.max(1, (int) (base * 0.30)));
+                cooldowns[3] = BattleMenuController.SKILL_MAX_CD[3];
+            }
+            case DEFEND -> {
+                defenseBonus = def;
+                def += defenseBonus;
+                return ENEMY_NEXT;
+            }
+            case REST -> {
+                heal(BossController.restHeal(maxHp));
+                return ENEMY_NEXT;
+            }
+            default -> {
+                potionCount[action - POTION]--;
+                heal(potionHeal[action - POTION]);
+                return ENEMY_NEXT;
+            }
+        }
+        if (bossHp > 0) return ENEMY_NEXT;
+        if (boss + 1 < bossMaxHp.length) {
+            boss++;
+            bossHp = bossMaxHp[boss];
+            return BOSS_DOWN;
+        }
+        won = true;
+        return WON;
+    }
+
+    /**
+     * Plays the enemy's turn with a known critical-hit outcome, as
+     * {@link BossController#doEnemyTurn()} would.
+     *
+     * @param crit whether the attack is a critical hit
+     * @return {@code true} if the player survives
+     */
+    public boolean enemyTurn(boolean crit) {
+        for (int i = 0; i < cooldowns.length; i++) if (cooldowns[i] > 0) cooldowns[i]--;
+        int dmg = bossAtk[boss];
+        if (crit) dmg = (int) (dmg * BossController.CRIT_MULTIPLIER);
+        int savedDef = def;
+        if (berserk) {
+            def = savedDef / 2;
+            berserk = false;
+        }
+        if (shield) {
+            dmg /= 2;
+            shield = false;
+        }
+        hp = Math.max(0, hp - Math.max(0, dmg - def));
+        def = savedDef;
+        if (defenseBonus > 0) {
+            def = Math.max(0, def - defenseBonus);
+            defenseBonus = 0;
+        }
+        return hp > 0;
+    }
+
+    /**
+     * Scores the state for the search: {@code 1} for a win, {@code 0} for a loss, and in
+     * between mostly by how far through the gauntlet the player is, then by HP left.
+     *
+     * @return the score in {@code [0, 1]}
+     */
+    public double evaluate() {
+        if (won) return 1;
+        if (hp <= 0) return 0;
+        double progress = (boss + 1.0 - (double) bossHp / bossMaxHp[boss]) / bossMaxHp.length;
+        return 0.9 * progress + 0.09 * hp / maxHp;
+    }
+
+    /**
+     * Deals damage to the current boss, reduced by its defense.
+     *
+     * @param damage the raw damage
+     */
+    private void hitBoss(int damage) {
+        bossHp = Math.max(0, bossHp - Math.max(0, damage - bossDef[boss]));
+    }
+
+    /**
+     * Heals the player, up to max HP.
+     *
+     * @param amount the HP to restore
+     */
+    private void heal(int amount) {
+        hp = Math.min(maxHp, hp + amount);
+    }
+
+    /**
+     * @return {@code true} once every boss has fallen
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * @return the player's HP
+     */
+    public int getHp() {
+        return hp;
+    }
+
+    /**
+     * @return the index of the current boss
+     */
+    public int getBossIndex() {
+        return boss;
+    }
+
+    /**
+     * @return the current boss's HP
+     */
+    public int getBossHp() {
+        return bossHp;
+    }
+}
@@ -0,0 +1,250 @@
+package scenes.game;
+
+import java.util.Arrays;
+
+/**
+ * Min-heap of timed game events keyed on the simulation tick they fall due.
+ * <p>
+ * Each event is a small integer kind plus two integer arguments, stored in parallel arrays,
+ * so scheduling and firing events allocates nothing once the heap has grown to its working
+ * size. Checking for due events costs one comparison against the earliest event, and firing
+ * {@code k} of {@code n} pending events costs {@code O(k log n)}. Events due on the same
+ * tick fire in the order they were scheduled.
+ * <p>
+ * Due events are consumed with a {@link #poll(long)} loop; after a successful poll the
+ * fired event is available through {@link #kind()}, {@link #argA()} and {@link #argB()}.
+ */
+public class EventScheduler {
+
+    /** Tick each queued event falls due, in heap order. */
+    private long[] due;
+
+    /** Scheduling sequence number of each queued event, breaking ties between equal ticks. */
+    private long[] seq;
+
+    /** Kind of each queued event. */
+    private int[] kind;
+
+    /** First argument of each queued event. */
+    private int[] argA;
+
+    /** Second argument of each queued event. */
+    private int[] argB;
+
+    /** Number of queued events. */
+    private int size;
+
+    /** Sequence number given to the next scheduled event. */
+    private long nextSeq;
+
+    /** Kind of the event returned by the last successful {@link #poll(long)}. */
+    private int firedKind;
+
+    /** First argument of the last fired event. */
+    private int firedA;
+
+    /** Second argument of the last fired event. */
+    private int firedB;
+
+    /**
+     * Creates an empty scheduler.
+     *
+     * @param initialCapacity the number of pending events held before the heap grows
+     */
+    public EventScheduler(int initialCapacity) {
+        if (initialCapacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+        due = new long[initialCapacity];
+        seq = new long[initialCapacity];
+        kind = new int[initialCapacity];
+        argA = new int[initialCapacity];
+        argB = new int[initialCapacity];
+    }
+
+    /**
+     * Queues an event.
+     *
+     * @param dueTick the tick at or after which the event fires
+     * @param k       the event kind
+     * @param a       the first argument
+     * @param b       the second argument
+     */
+    public void schedule(long dueTick, int k, int a, int b) {
+        if (size == due.length) grow();
+        int i = size++;
+        due[i] = dueTick;
+        seq[i] = nextSeq++;
+        kind[i] = k;
+        argA[i] = a;
+        argB[i] = b;
+        siftUp(i);
+    }
+
+    /**
+     * Removes the earliest event if it is due, making it available through {@link #kind()},
+     * {@link #argA()} and {@link #argB()}.
+     *
+     * @param nowTick the current tick
+     * @return {@code true} if an event fired, {@code false} if none is due
+     */
+    public boolean poll(long nowTick) {
+        if (size == 0 || due[0] > nowTick) return false;
+        firedKind = kind[0];
+        firedA = argA[0];
+        firedB = argB[0];
+        size--;
+        if (size > 0) {
+            move(size, 0);
+            siftDown(0);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the kind of the event fired by the last successful {@link #poll(long)}.
+     *
+     * @return the event kind
+     */
+    public int kind() {
+        return firedKind;
+    }
+
+    /**
+     * Returns the first argument of the last fired event.
+     *
+     * @return the first argument
+     */
+    public int argA() {
+        return firedA;
+    }
+
+    /**
+     * Returns the second argument of the last fired event.
+     *
+     * @return the second argument
+     */
+    public int argB() {
+        return firedB;
+    }
+
+    /**
+     * Returns the tick the earliest pending event falls due.
+     *
+     * @return the earliest due tick, or {@link Long#MAX_VALUE} if nothing is pending
+     */
+    public long peekDue() {
+        return size == 0 ? Long.MAX_VALUE : due[0];
+    }
+
+    /**
+     * Returns the number of pending events.
+     *
+     * @return the event count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of pending events of one kind. Scans the heap; meant for tests and
+     * diagnostics rather than per-frame use.
+     *
+     * @param k the event kind
+     * @return the count
+     */
+    public int count(int k) {
+        int n = 0;
+        for (int i = 0; i < size; i++) if (kind[i] == k) n++;
+        return n;
+    }
+
+    /**
+     * Drops every pending event.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Moves an event up until its parent is earlier.
+     *
+     * @param i the heap slot
+     */
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(i, parent)) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    /**
+     * Moves an event down until both children are later.
+     *
+     * @param i the heap slot
+     */
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) return;
+            int child = left + 1 < size && before(left + 1, left) ? left + 1 : left;
+            if (!before(child, i)) return;
+            swap(i, child);
+            i = child;
+        }
+    }
+
+    /**
+     * Returns whether the event in slot {@code i} fires before the one in slot {@code j}.
+     *
+     * @param i a heap slot
+     * @param j another heap slot
+     * @return {@code true} if {@code i} is earlier
+     */
+    private boolean before(int i, int j) {
+        return due[i] < due[j] || (due[i] == due[j] && seq[i] < seq[j]);
+    }
+
+    /**
+     * Exchanges two heap slots.
+     *
+     * @param i a heap slot
+     * @param j another heap slot
+     */
+    private void swap(int i, int j) {
+        long d = due[i], s = seq[i];
+        int k = kind[i], a = argA[i], b = argB[i];
+        move(j, i);
+        due[j] = d;
+        seq[j] = s;
+        kind[j] = k;
+        argA[j] = a;
+        argB[j] = b;
+    }
+
+    /**
+     * Copies an event from one slot to another.
+     *
+     * @param from the source slot
+     * @param to   the destination slot
+     */
+    private void move(int from, int to) {
+        due[to] = due[from];
+        seq[to] = seq[from];
+        kind[to] = kind[from];
+        argA[to] = argA[from];
+        argB[to] = argB[from];
+    }
+
+    /**
+     * Doubles the heap's capacity.
+     */
+    private void grow() {
+        int n = due.length * 2;
+        due = Arrays.copyOf(due, n);
+        seq = Arrays.copyOf(seq, n);
+        kind = Arrays.copyOf(kind, n);
+        argA = Arrays.copyOf(argA, n);
+        argB = Arrays.copyOf(argB, n);
+    }
+}
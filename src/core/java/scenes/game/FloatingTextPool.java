@@ -0,0 +1,277 @@
+package scenes.game;
+
+/**
+ * Fixed-capacity store of the floating-text pop-ups (damage numbers, pickups, event notes)
+ * that rise from a world position and fade out.
+ * <p>
+ * Texts are kept as parallel arrays in creation order and age in simulation ticks, so
+ * spawning, updating and expiring them allocates nothing beyond the display strings.
+ * When the pool is full the oldest text is dropped. Counters such as damage numbers that
+ * hit the same target within {@link #MERGE_TICKS} ticks are merged into one text showing
+ * the running total instead of stacking a new pop-up per hit.
+ */
+public class FloatingTextPool {
+
+    /** Ticks after a counter's last bump during which further amounts are merged into it. */
+    public static final int MERGE_TICKS = 30;
+
+    /** Vertical velocity in pixels per tick (negative = upward). */
+    public static final double RISE_PER_TICK = -1.2;
+
+    /** Maximum number of live texts. */
+    private final int capacity;
+
+    /** Current X pixel position per text. */
+    private final double[] x;
+
+    /** Current Y pixel position per text. */
+    private final double[] y;
+
+    /** Y pixel position at the start of the current tick per text. */
+    private final double[] prevY;
+
+    /** Display string per text. */
+    private final String[] text;
+
+    /** Colour per text as a packed {@code 0xRRGGBB} value. */
+    private final int[] color;
+
+    /** Ticks since the text was spawned or last merged into. */
+    private final int[] age;
+
+    /** Ticks the text stays visible. */
+    private final int[] life;
+
+    /** Merge key of a counter text, or {@code null} for plain texts. */
+    private final Object[] key;
+
+    /** Running total of a counter text. */
+    private final int[] amount;
+
+    /** Number of live texts, stored in slots {@code [0, count)}. */
+    private int count;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param capacity the maximum number of live texts
+     */
+    public FloatingTextPool(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+        this.capacity = capacity;
+        x = new double[capacity];
+        y = new double[capacity];
+        prevY = new double[capacity];
+        text = new String[capacity];
+        color = new int[capacity];
+        age = new int[capacity];
+        life = new int[capacity];
+        key = new Object[capacity];
+        amount = new int[capacity];
+    }
+
+    /**
+     * Spawns a plain text.
+     *
+     * @param px        the x pixel position
+     * @param py        the y pixel position
+     * @param s         the string to display
+     * @param rgb       the colour as a packed {@code 0xRRGGBB} value
+     * @param lifeTicks how many ticks the text stays visible
+     */
+    public void add(double px, double py, String s, int rgb, int lifeTicks) {
+        int i = claim();
+        x[i] = px;
+        y[i] = py;
+        prevY[i] = py;
+        text[i] = s;
+        color[i] = rgb;
+        age[i] = 0;
+        life[i] = Math.max(1, lifeTicks);
+        key[i] = null;
+    }
+
+    /**
+     * Spawns a counter text showing {@code pre + value + post}, or adds {@code value} to a
+     * live counter with the same key and colour that was bumped within {@link #MERGE_TICKS}
+     * ticks. A merged counter restarts its lifetime but keeps rising from where it is.
+     *
+     * @param target    the merge key, e.g. the entity that was hit; {@code null} never merges
+     * @param px        the x pixel position for a new text
+     * @param py        the y pixel position for a new text
+     * @param pre       text before the amount
+     * @param value     the amount to show or add
+     * @param post      text after the amount
+     * @param rgb       the colour as a packed {@code 0xRRGGBB} value
+     * @param lifeTicks how many ticks the text stays visible
+     */
+    public void addCounter(Object target, double px, double py, String pre, int value, String post,
+                           int rgb, int lifeTicks) {
+        for (int i = count - 1; i >= 0; i--) {
+            if (target != null && key[i] == target && color[i] == rgb && age[i] <= MERGE_TICKS) {
+                amount[i] += value;
+                text[i] = pre + amount[i] + post;
+                age[i] = 0;
+                life[i] = Math.max(1, lifeTicks);
+                return;
+            }
+        }
+        add(px, py, pre + value + post, rgb, lifeTicks);
+        key[count - 1] = target;
+        amount[count - 1] = value;
+    }
+
+    /**
+     * Records every text's Y position at the start of a tick, for interpolation.
+     */
+    public void savePrevious() {
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    /**
+     * Advances every text by one tick and drops the expired ones, keeping creation order.
+     */
+    public void update() {
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (++age[i] > life[i]) continue;
+            y[i] += RISE_PER_TICK;
+            if (n != i) move(i, n);
+            n++;
+        }
+        clear(n, count);
+        count = n;
+    }
+
+    /**
+     * Removes every text.
+     */
+    public void clear() {
+        clear(0, count);
+        count = 0;
+    }
+
+    /**
+     * Returns a free slot at the end, dropping the oldest text first if the pool is full.
+     *
+     * @return the slot index
+     */
+    private int claim() {
+        if (count == capacity) {
+            for (int i = 1; i < count; i++) move(i, i - 1);
+            count--;
+        }
+        return count++;
+    }
+
+    /**
+     * Copies a text from one slot to another.
+     *
+     * @param from the source slot
+     * @param to   the destination slot
+     */
+    private void move(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        prevY[to] = prevY[from];
+        text[to] = text[from];
+        color[to] = color[from];
+        age[to] = age[from];
+        life[to] = life[from];
+        key[to] = key[from];
+        amount[to] = amount[from];
+    }
+
+    /**
+     * Drops the object references held by slots {@code [from, to)} so they can be collected.
+     *
+     * @param from the first slot
+     * @param to   the slot after the last
+     */
+    private void clear(int from, int to) {
+        for (int i = from; i < to; i++) {
+            text[i] = null;
+            key[i] = null;
+        }
+    }
+
+    /**
+     * Returns the number of live texts.
+     *
+     * @return the text count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the maximum number of live texts.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the X pixel position of a text.
+     *
+     * @param i the text index, {@code 0 <= i < size()}
+     * @return the x position
+     */
+    public double getX(int i) {
+        return x[i];
+    }
+
+    /**
+     * Returns the Y pixel position of a text.
+     *
+     * @param i the text index
+     * @return the y position
+     */
+    public double getY(int i) {
+        return y[i];
+    }
+
+    /**
+     * Returns the Y position of a text interpolated between the previous and current tick.
+     *
+     * @param i     the text index
+     * @param alpha the interpolation factor in {@code [0, 1)}
+     * @return the interpolated Y position
+     */
+    public double renderY(int i, double alpha) {
+        return prevY[i] + (y[i] - prevY[i]) * alpha;
+    }
+
+    /**
+     * Returns the display string of a text.
+     *
+     * @param i the text index
+     * @return the string
+     */
+    public String getText(int i) {
+        return text[i];
+    }
+
+    /**
+     * Returns the colour of a text.
+     *
+     * @param i the text index
+     * @return the colour as a packed {@code 0xRRGGBB} value
+     */
+    public int getColor(int i) {
+        return color[i];
+    }
+
+    /**
+     * Returns how opaque a text should be drawn, fading linearly over its lifetime.
+     *
+     * @param i     the text index
+     * @param alpha the interpolation factor in {@code [0, 1)}
+     * @return the opacity in {@code [0, 1]}
+     */
+    public double opacity(int i, double alpha) {
+        return Math.max(0, 1.0 - (age[i] + alpha) / life[i]);
+    }
+}
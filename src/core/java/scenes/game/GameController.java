@@ -0,0 +1,1799 @@
+package scenes.game;
+
+import diagnostics.TickEvent;
+import interfaces.Mineable;
+import logic.base.BaseItem;
+import logic.creatures.*;
+import logic.pickaxe.Pickaxe;
+import logic.util.GameClock;
+import logic.util.GameRandom;
+import logic.util.PhaseTimer;
+import logic.stone.*;
+import logic.world.Chunk;
+import logic.world.ChunkedWorld;
+import logic.world.FlowField;
+import logic.world.SweptCollider;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+
+/**
+ * Controller for the main game world scene.
+ * Manages the tile-based world map, player movement, combat, mining,
+ * monster AI, ore/monster respawning, and floating text notifications.
+ * <p>
+ * The map is an unbounded {@link ChunkedWorld} streamed around the player. The
+ * {@link #ROWS}&times;{@link #COLS} home area with the buildings sits at the origin;
+ * everything around it is generated procedurally, one {@link Chunk} at a time.
+ * <p>
+ * This class has no JavaFX dependency: input arrives as {@link InputKey} and mouse flags,
+ * and outcomes are reported through a {@link GameListener}, so the world can be simulated
+ * headless (tests, benchmarks, servers) as well as driven by {@link GameView}.
+ */
+public class GameController {
+
+    /**
+     * Width in pixels of a single world tile.
+     */
+    public static final int TILE_SIZE = 48;
+
+    /**
+     * Number of tile columns in the home area, which is also the viewport width in tiles.
+     */
+    public static final int COLS = 20;
+
+    /**
+     * Number of tile rows in the home area, which is also the viewport height in tiles.
+     */
+    public static final int ROWS = 15;
+
+    /**
+     * Viewport width in pixels ({@code TILE_SIZE * COLS}).
+     */
+    public static final int W = TILE_SIZE * COLS;
+
+    /**
+     * Viewport height in pixels ({@code TILE_SIZE * ROWS}).
+     */
+    public static final int H = TILE_SIZE * ROWS;
+
+    /**
+     * Chunks kept loaded around the player in each direction; one chunk already covers
+     * more than the viewport, the second ring gives the loader time to stream ahead.
+     */
+    private static final int VIEW_RADIUS_CHUNKS = 2;
+
+    /**
+     * Tiles around the player covered by the chase flow field: the 5-tile aggro range plus
+     * room for detours around rocks.
+     */
+    private static final int FLOW_RADIUS = 12;
+
+    /**
+     * Percentage of wild (non-home) tiles that hold rock or ore.
+     */
+    private static final int WILD_ROCK_PERCENT = 12;
+
+
+    /**
+     * Player movement speed in pixels per simulation tick.
+     */
+    public static final double PLAYER_SPEED = 2.5;
+
+    /**
+     * Extra movement speed per point of the player's speed stat, in pixels per simulation tick.
+     */
+    public static final double SPEED_PER_POINT = 0.25;
+
+    /**
+     * Gap between a tile-sized sprite's edge and its collision box, in pixels.
+     */
+    private static final int BODY_INSET = 5;
+
+    /**
+     * Edge length of the collision box of the player and monsters, in pixels.
+     */
+    private static final int BODY_SIZE = TILE_SIZE - 2 * BODY_INSET;
+
+    /**
+     * Number of fixed simulation ticks per second, independent of the display refresh rate.
+     */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /**
+     * Length of one simulation tick in nanoseconds.
+     */
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+
+    /**
+     * Length of one simulation tick in seconds.
+     */
+    public static final double TICK_SECONDS = 1.0 / TICKS_PER_SECOND;
+
+    /**
+     * Most ticks of real time a single {@link #update(long)} call may count, so a long stall
+     * is dropped instead of being replayed in one burst. The clock's time scale applies on top.
+     */
+    private static final int MAX_TICKS_PER_UPDATE = 5;
+
+    /**
+     * Tile type: plain ground.
+     */
+    public static final int T_GROUND = 0;
+
+    /**
+     * Tile type: grass (decorative ground variant).
+     */
+    public static final int T_GRASS = 1;
+
+    /**
+     * Tile type: normal stone rock (solid, mineable).
+     */
+    public static final int T_NORMAL_ROCK = 2;
+
+    /**
+     * Tile type: hard stone rock (solid, mineable).
+     */
+    public static final int T_HARD_ROCK = 3;
+
+    /**
+     * Tile type: iron ore rock (solid, mineable).
+     */
+    public static final int T_IRON_ROCK = 4;
+
+    /**
+     * Tile type: platinum ore rock (solid, mineable).
+     */
+    public static final int T_PLATINUM = 5;
+
+    /**
+     * Tile type: mithril ore rock (solid, mineable).
+     */
+    public static final int T_MITHRIL = 10;
+
+    /**
+     * Tile type: vibranium ore rock (solid, mineable).
+     */
+    public static final int T_VIBRANIUM = 11;
+
+    /**
+     * Tile type: the shop building entrance.
+     */
+    public static final int T_SHOP = 6;
+
+    /**
+     * Tile type: the crafting station entrance.
+     */
+    public static final int T_CRAFT = 7;
+
+    /**
+     * Tile type: the boss door entrance.
+     */
+    public static final int T_BOSS_DOOR = 8;
+
+    /**
+     * Tile type: decorative path tile.
+     */
+    public static final int T_PATH = 9;
+
+    /**
+     * Tile property: the tile blocks movement.
+     */
+    public static final int TILE_SOLID = 1;
+
+    /**
+     * Tile property: the tile is a rock or ore the pickaxe can mine.
+     */
+    public static final int TILE_MINEABLE = 2;
+
+    /**
+     * Tile property: the tile is a building entrance.
+     */
+    public static final int TILE_BUILDING = 4;
+
+    /**
+     * {@code TILE_} property bits of each tile type, indexed by type.
+     */
+    private static final int[] TILE_PROPS = tilePropertyTable();
+
+    /**
+     * Solid-type mask handed to the world, which keeps a solidity bitset per chunk from it.
+     */
+    private static final long SOLID_TYPES = solidTypeMask();
+
+    /**
+     * Weighted pool of rock types used for wild terrain and ore respawns.
+     */
+    private static final int[] ORE_POOL = {
+            T_NORMAL_ROCK, T_NORMAL_ROCK, T_NORMAL_ROCK, T_NORMAL_ROCK,
+            T_HARD_ROCK, T_HARD_ROCK, T_HARD_ROCK,
+            T_IRON_ROCK, T_IRON_ROCK,
+            T_PLATINUM, T_MITHRIL, T_VIBRANIUM
+    };
+
+    /**
+     * Duration in milliseconds that a notification message is displayed.
+     */
+    public static final long NOTIF_DURATION = 2200;
+
+    /**
+     * Maximum number of floating texts alive at once; the oldest is dropped beyond this.
+     */
+    public static final int FLOATING_TEXT_CAPACITY = 96;
+
+    /**
+     * Floating-text colour for damage dealt to monsters ({@code #ff5252}).
+     */
+    public static final int COLOR_DAMAGE = 0xff5252;
+
+    /**
+     * Floating-text colour for damage taken by the player ({@code #ff1744}).
+     */
+    public static final int COLOR_PLAYER_HURT = 0xff1744;
+
+    /**
+     * Floating-text colour for gold rewards ({@code #ffd700}).
+     */
+    public static final int COLOR_GOLD = 0xffd700;
+
+    /**
+     * Floating-text colour for item pickups ({@code #ffff00}).
+     */
+    public static final int COLOR_YELLOW = 0xffff00;
+
+    /**
+     * Floating-text colour for mining hits ({@code #ffffff}).
+     */
+    public static final int COLOR_WHITE = 0xffffff;
+
+    /**
+     * Floating-text colour for ore respawns ({@code #00ffff}).
+     */
+    public static final int COLOR_CYAN = 0x00ffff;
+
+    /**
+     * Timed simulation phase: firing due respawns and other scheduled events.
+     */
+    public static final int PHASE_RESPAWNS = 0;
+
+    /**
+     * Timed simulation phase: player movement and collision.
+     */
+    public static final int PHASE_MOVEMENT = 1;
+
+    /**
+     * Timed simulation phase: monster AI, movement and contact damage.
+     */
+    public static final int PHASE_MONSTERS = 2;
+
+    /**
+     * Names of the timed simulation phases, indexed by the {@code PHASE_} constants.
+     */
+    public static final String[] PHASE_NAMES = {"processRespawns", "handleMovement", "updateMonsters"};
+
+    /**
+     * Scheduled event: a mined ore tile may respawn; arguments are the row and column.
+     */
+    static final int EV_ORE_RESPAWN = 0;
+
+    /**
+     * Scheduled event: a defeated monster respawns; the first argument is its type.
+     */
+    static final int EV_MONSTER_RESPAWN = 1;
+
+    /**
+     * Scheduled event: the attack cooldown has expired.
+     */
+    static final int EV_ATTACK_READY = 2;
+
+    /**
+     * Scheduled event: the mining cooldown has expired.
+     */
+    static final int EV_MINE_READY = 3;
+
+    /**
+     * Scheduled event: the attack animation ends.
+     */
+    static final int EV_ATTACK_ANIM_END = 4;
+
+    /**
+     * Scheduled event: a notification expires; the first argument is its sequence number.
+     */
+    static final int EV_NOTIF_EXPIRE = 5;
+
+    /**
+     * Ticks between AI updates of a wandering monster that is off screen but within
+     * {@link #AI_MID_MARGIN} of the view; a power of two.
+     */
+    public static final int AI_MID_INTERVAL = 4;
+
+    /**
+     * Ticks between AI updates of a wandering monster farther from the view; a power of two.
+     */
+    public static final int AI_FAR_INTERVAL = 32;
+
+    /**
+     * Distance beyond the edges of the view within which an off-screen monster still counts as
+     * mid-range, in pixels.
+     */
+    public static final double AI_MID_MARGIN = TILE_SIZE * 10.0;
+
+    /**
+     * Milliseconds between successive player attacks.
+     */
+    private static final long ATTACK_COOLDOWN = 600;
+
+    /**
+     * Milliseconds between successive mining hits.
+     */
+    private static final long MINE_COOLDOWN = 280;
+
+    /**
+     * Minimum milliseconds before a mined ore respawns.
+     */
+    private static final long ORE_RESPAWN_MIN = 1_000;
+
+    /**
+     * Maximum milliseconds before a mined ore respawns.
+     */
+    private static final long ORE_RESPAWN_MAX = 2_000;
+
+    /**
+     * Minimum milliseconds before a defeated monster respawns.
+     */
+    private static final long MON_RESPAWN_MIN = 1_000;
+
+    /**
+     * Maximum milliseconds before a defeated monster respawns.
+     */
+    private static final long MON_RESPAWN_MAX = 3_000;
+
+    /**
+     * The chunked tile map, streamed around the player.
+     */
+    private final ChunkedWorld world;
+
+    /**
+     * Runs chunk generation for {@link #world}: a background thread in play, the calling
+     * thread when the run must not depend on timing.
+     */
+    private final Executor chunkLoader;
+
+    /**
+     * Moves the player and wandering monsters through the world without entering solid tiles.
+     */
+    private final SweptCollider collider;
+
+    /**
+     * Seed from which the home layout and every wild chunk are generated; the run seed.
+     */
+    private final long worldSeed;
+
+    /**
+     * The player character.
+     */
+    private final Player player;
+
+    /**
+     * Single-element array holding the player's active pickaxe (shared by reference).
+     */
+    private final Pickaxe[] pickaxeHolder;
+
+    /**
+     * Live monsters on the world map, in struct-of-arrays form with a tile-cell grid index.
+     */
+    private final MonsterStore monsters = new MonsterStore(TILE_SIZE, 64);
+
+    /**
+     * Shared chase map towards the player's tile, followed by every aggroed monster.
+     */
+    private final FlowField flowField = new FlowField(FLOW_RADIUS);
+
+    /**
+     * Decides which tiles the flow field may route through.
+     */
+    private final FlowField.Passability passable = this::isPassable;
+
+    /**
+     * Terrain version {@link #flowField} was computed against, or {@code -1} if never computed.
+     */
+    private long flowVersion = -1;
+
+    /**
+     * Reusable buffer for the indices of monsters killed by one attack.
+     */
+    private int[] killed = new int[16];
+
+    /**
+     * Active floating-text pop-ups (damage numbers, notifications).
+     */
+    private final FloatingTextPool floatingTexts = new FloatingTextPool(FLOATING_TEXT_CAPACITY);
+
+    /**
+     * Set of movement keys currently held down.
+     */
+    private final Set<InputKey> keys = EnumSet.noneOf(InputKey.class);
+
+    /**
+     * Timed events (respawns, cooldown expiries, animation ends, notification expiries),
+     * keyed on the tick they fall due.
+     */
+    private final EventScheduler scheduler = new EventScheduler(64);
+
+    /** Times the simulation phases of each frame; disabled unless a diagnostics overlay is shown. */
+    private final PhaseTimer phaseTimer = new PhaseTimer(PHASE_NAMES);
+
+    /**
+     * Random stream for initial monster placement, respawn delays and respawn positions.
+     */
+    private final SplittableRandom spawnRng;
+
+    /**
+     * Random stream for monster wandering.
+     */
+    private final SplittableRandom wanderRng;
+
+    /**
+     * {@code true} while the left mouse button is held (attack action).
+     */
+    private boolean leftMouseDown = false;
+
+    /**
+     * {@code true} while the right mouse button is held (mine action).
+     */
+    private boolean rightMouseDown = false;
+
+    /**
+     * Player's current X position in pixels.
+     */
+    private double playerX;
+
+    /**
+     * Player's current Y position in pixels.
+     */
+    private double playerY;
+
+    /**
+     * Direction the player is facing: 0=up, 1=left, 2=down, 3=right.
+     */
+    private int facing = 2;
+
+    /**
+     * Current animation frame index, incremented over time.
+     */
+    private int animFrame = 0;
+
+    /**
+     * Simulation time (nanoseconds) of the last animation frame increment.
+     */
+    private long lastAnimTime = 0;
+
+    /**
+     * Remaining invincibility ticks after the player takes damage.
+     */
+    private int playerInvincibleFrames = 0;
+
+    /**
+     * {@code true} while the attack animation should be shown.
+     */
+    private boolean isAttackAnim = false;
+
+    /**
+     * {@code true} when the attack cooldown has expired.
+     */
+    private boolean attackReady = true;
+
+    /**
+     * {@code true} when the mining cooldown has expired.
+     */
+    private boolean mineReady = true;
+
+    /**
+     * Player X position at the start of the current tick, used for render interpolation.
+     */
+    private double prevPlayerX;
+
+    /**
+     * Player Y position at the start of the current tick, used for render interpolation.
+     */
+    private double prevPlayerY;
+
+    /**
+     * Number of monsters whose AI ran during the last tick.
+     */
+    private int aiUpdates = 0;
+
+    /**
+     * Next monster index the far-tier round robin visits.
+     */
+    private int farCursor = 0;
+
+    /**
+     * Total simulated time in nanoseconds ({@code ticks * TICK_NANOS}).
+     */
+    private long simTimeNanos = 0;
+
+    /**
+     * Number of fixed ticks simulated so far.
+     */
+    private long ticks = 0;
+
+    /**
+     * Game clock that turns frame timestamps into simulation time; paused or scaled by the caller.
+     */
+    private final GameClock clock;
+
+    /**
+     * Frame time not yet consumed by a whole tick.
+     */
+    private long accumulatorNanos = 0;
+
+    /**
+     * Fraction of a tick elapsed since the last simulated tick, in {@code [0, 1)}.
+     */
+    private double interpolation = 0;
+
+    /**
+     * The most recently triggered notification message to display on-screen.
+     */
+    private String notifMsg = "";
+
+    /**
+     * Simulation time (ms) when the current notification message was set.
+     */
+    private long notifTime = 0;
+
+    /**
+     * Incremented per notification, so only the latest one's expiry event clears it.
+     */
+    private int notifSeq = 0;
+
+    /**
+     * {@code true} once the game has ended (player died or transitioned away).
+     */
+    private boolean gameEnded = false;
+
+    /**
+     * Log that input changes are recorded into, or {@code null} when not recording.
+     */
+    private InputLog inputLog;
+
+    /**
+     * Receiver of gameplay events; never {@code null}.
+     */
+    private GameListener listener = GameListener.NONE;
+
+    /**
+     * Creates a new GameController, loads the world around the home area, spawns monsters,
+     * and positions the player at the centre of the home area.
+     *
+     * @param player  the player character
+     * @param pickaxe the player's starting pickaxe
+     */
+    public GameController(Player player, Pickaxe pickaxe) {
+        this(player, pickaxe, new GameRandom(GameRandom.DEFAULT_SEED));
+    }
+
+    /**
+     * Creates a new GameController for a seeded run, driven by its own real-time clock.
+     *
+     * @param player  the player character
+     * @param pickaxe the player's starting pickaxe
+     * @param random  the run's random source
+     */
+    public GameController(Player player, Pickaxe pickaxe, GameRandom random) {
+        this(player, pickaxe, random, ChunkedWorld.newLoaderExecutor());
+    }
+
+    /**
+     * Creates a new GameController for a seeded run, driven by its own real-time clock, that
+     * generates chunks on the given executor.
+     *
+     * @param player      the player character
+     * @param pickaxe     the player's starting pickaxe
+     * @param random      the run's random source
+     * @param chunkLoader runs chunk generation; {@code Runnable::run} loads chunks on the
+     *                    ticking thread so the run does not depend on loader timing
+     */
+    public GameController(Player player, Pickaxe pickaxe, GameRandom random, Executor chunkLoader) {
+        this(player, pickaxe, new GameClock(MAX_TICKS_PER_UPDATE * TICK_NANOS), random, chunkLoader);
+    }
+
+    /**
+     * Creates a new GameController driven by the given clock and random source, streaming
+     * chunks in on a background thread.
+     *
+     * @param player  the player character
+     * @param pickaxe the player's starting pickaxe
+     * @param clock   the clock {@link #update(long)} reads simulation time from
+     * @param random  the run's random source; the world, spawns and wandering all derive from it
+     */
+    public GameController(Player player, Pickaxe pickaxe, GameClock clock, GameRandom random) {
+        this(player, pickaxe, clock, random, ChunkedWorld.newLoaderExecutor());
+    }
+
+    /**
+     * Creates a new GameController driven by the given clock and random source that generates
+     * chunks on the given executor. With a same-thread executor, two controllers built from
+     * the same seed and fed the same input produce the same run; with a background loader,
+     * when chunks arrive (and so collision against unloaded terrain and chase paths) depends
+     * on timing.
+     *
+     * @param player      the player character
+     * @param pickaxe     the player's starting pickaxe
+     * @param clock       the clock {@link #update(long)} reads simulation time from
+     * @param random      the run's random source; the world, spawns and wandering all derive from it
+     * @param chunkLoader runs chunk generation
+     */
+    public GameController(Player player, Pickaxe pickaxe, GameClock clock, GameRandom random, Executor chunkLoader) {
+        this.player = player;
+        this.clock = clock;
+        this.worldSeed = random.getSeed();
+        this.spawnRng = random.stream(GameRandom.SPAWN);
+        this.wanderRng = random.stream(GameRandom.WANDER);
+        this.chunkLoader = chunkLoader;
+        this.world = new ChunkedWorld(this::generateChunk, VIEW_RADIUS_CHUNKS, chunkLoader, SOLID_TYPES);
+        this.collider = new SweptCollider(world, TILE_SIZE);
+        this.pickaxeHolder = new Pickaxe[]{pickaxe};
+        this.playerX = 9 * TILE_SIZE;
+        this.playerY = 7 * TILE_SIZE;
+        world.loadAround(ROWS / 2, 9);
+        spawnMonsters();
+        this.prevPlayerX = playerX;
+        this.prevPlayerY = playerY;
+    }
+
+    /**
+     * Generates one chunk of the world: ground/grass with scattered rock and ore, and the two
+     * roads that continue the home area's cross-shaped paths. The chunk at the origin also
+     * receives the home area. Runs on the chunk loader thread, so it only touches the given chunk.
+     *
+     * @param chunk the empty chunk to fill
+     */
+    private void generateChunk(Chunk chunk) {
+        Random rng = new Random(worldSeed ^ chunk.getChunkX() * 341_873_128_712L ^ chunk.getChunkY() * 132_897_987_541L);
+        int r0 = chunk.getOriginRow(), c0 = chunk.getOriginCol();
+        for (int lr = 0; lr < Chunk.SIZE; lr++)
+            for (int lc = 0; lc < Chunk.SIZE; lc++) {
+                if (r0 + lr == ROWS / 2 || c0 + lc == COLS / 2) chunk.setTile(lr, lc, T_PATH);
+                else if (rng.nextInt(100) < WILD_ROCK_PERCENT)
+                    putRock(chunk, lr, lc, ORE_POOL[rng.nextInt(ORE_POOL.length)]);
+                else chunk.setTile(lr, lc, rng.nextInt(10) < 4 ? T_GRASS : T_GROUND);
+            }
+        if (chunk.getChunkX() == 0 && chunk.getChunkY() == 0) generateHome(chunk, worldSeed);
+    }
+
+    /**
+     * Generates the home area into the origin chunk (which it fits, so local and world
+     * coordinates coincide): ground/grass tiles, border walls with gates where the roads
+     * leave, paths, buildings, and initial ore deposits.
+     *
+     * @param chunk the origin chunk
+     * @param seed  the world seed
+     */
+    private static void generateHome(Chunk chunk, long seed) {
+        Random rng = new Random(seed);
+        for (int r = 0; r < ROWS; r++)
+            for (int c = 0; c < COLS; c++) {
+                chunk.setTile(r, c, rng.nextInt(10) < 4 ? T_GRASS : T_GROUND);
+                chunk.setStone(r, c, null);
+            }
+
+        // Border walls
+        for (int r = 0; r < ROWS; r++) {
+            putRock(chunk, r, 0, T_NORMAL_ROCK);
+            putRock(chunk, r, COLS - 1, T_NORMAL_ROCK);
+        }
+        for (int c = 0; c < COLS; c++) {
+            putRock(chunk, 0, c, T_NORMAL_ROCK);
+            putRock(chunk, ROWS - 1, c, T_NORMAL_ROCK);
+        }
+
+        // Cross-shaped stone paths, leaving through gates in the walls
+        for (int c = 1; c < COLS - 1; c++) chunk.setTile(ROWS / 2, c, T_PATH);
+        for (int r = 1; r < ROWS - 1; r++) chunk.setTile(r, COLS / 2, T_PATH);
+        for (int[] gate : new int[][]{{ROWS / 2, 0}, {ROWS / 2, COLS - 1}, {0, COLS / 2}, {ROWS - 1, COLS / 2}}) {
+            chunk.setTile(gate[0], gate[1], T_PATH);
+            chunk.setStone(gate[0], gate[1], null);
+        }
+
+        // Buildings
+        placeBuilding(chunk, 2, 2, T_SHOP);
+        placeBuilding(chunk, 2, COLS - 4, T_CRAFT);
+        placeBuilding(chunk, ROWS - 3, COLS / 2 - 1, T_BOSS_DOOR);
+
+        // Ore deposits — each spec is {tileType, count}
+        int[][] rockSpecs = {
+                {T_NORMAL_ROCK, 18}, {T_HARD_ROCK, 12}, {T_IRON_ROCK, 8},
+                {T_PLATINUM, 4}, {T_MITHRIL, 3}, {T_VIBRANIUM, 2}
+        };
+        for (int[] spec : rockSpecs)
+            for (int i = 0; i < spec[1]; i++) {
+                int r = 1 + rng.nextInt(ROWS - 2);
+                int c = 1 + rng.nextInt(COLS - 2);
+                int t = chunk.getTile(r, c);
+                if ((t == T_GROUND || t == T_GRASS) && !isProtectedArea(r, c))
+                    putRock(chunk, r, c, spec[0]);
+            }
+    }
+
+    /**
+     * Places a building tile in the origin chunk and surrounds it with path tiles.
+     *
+     * @param chunk the origin chunk
+     * @param r     the row of the main building entrance tile
+     * @param c     the column of the main building entrance tile
+     * @param type  the tile type constant for the building entrance
+     */
+    private static void placeBuilding(Chunk chunk, int r, int c, int type) {
+        for (int dr = -1; dr <= 1; dr++)
+            for (int dc = 0; dc <= 1; dc++)
+                if (r + dr >= 0 && r + dr < ROWS && c + dc >= 0 && c + dc < COLS)
+                    chunk.setTile(r + dr, c + dc, T_PATH);
+        chunk.setTile(r, c, type);
+    }
+
+    /**
+     * Returns {@code true} if the given tile position is a protected area where
+     * ore deposits should not be placed (e.g. near the player start or buildings).
+     *
+     * @param r the row index
+     * @param c the column index
+     * @return {@code true} if the position is protected
+     */
+    private static boolean isProtectedArea(int r, int c) {
+        if (Math.abs(r - ROWS / 2) < 3 && Math.abs(c - COLS / 2) < 3) return true;
+        if (r <= 4 && c <= 5) return true;
+        if (r <= 4 && c >= COLS - 6) return true;
+        if (r >= ROWS - 5 && Math.abs(c - COLS / 2) < 4) return true;
+        return false;
+    }
+
+    /**
+     * Places a rock/ore tile at the given grid position and creates the matching stone object.
+     * Does nothing if the tile's chunk is not loaded.
+     *
+     * @param r    the row index
+     * @param c    the column index
+     * @param type the tile type constant (e.g. {@link #T_NORMAL_ROCK})
+     */
+    public void placeRock(int r, int c, int type) {
+        if (world.setTile(r, c, type)) world.setStone(r, c, createStone(type));
+    }
+
+    /**
+     * Places a rock/ore tile and its stone object into a chunk.
+     *
+     * @param chunk the chunk
+     * @param lr    the local row
+     * @param lc    the local column
+     * @param type  the tile type constant
+     */
+    private static void putRock(Chunk chunk, int lr, int lc, int type) {
+        chunk.setTile(lr, lc, type);
+        chunk.setStone(lr, lc, createStone(type));
+    }
+
+    /**
+     * Creates a fresh stone object for a rock/ore tile type.
+     *
+     * @param type the tile type constant
+     * @return the stone, or {@code null} if the type is not a rock
+     */
+    private static Mineable createStone(int type) {
+        return switch (type) {
+            case T_NORMAL_ROCK -> new NormalStone();
+            case T_HARD_ROCK -> new HardStone();
+            case T_IRON_ROCK -> new Iron();
+            case T_PLATINUM -> new Platinum();
+            case T_MITHRIL -> new Mithril();
+            case T_VIBRANIUM -> new Vibranium();
+            default -> null;
+        };
+    }
+
+    // ── Monster spawning ─────────────────────────────────────────────────────
+
+    /**
+     * Spawns the initial set of monsters on the world map with randomised positions.
+     */
+    private void spawnMonsters() {
+        int[][] specs = {{0, 4}, {1, 2}, {2, 1}}; // {type, count}
+        for (int[] spec : specs)
+            for (int i = 0; i < spec[1]; i++) {
+                double mx, my;
+                int tries = 0;
+                do {
+                    mx = (2 + spawnRng.nextInt(COLS - 4)) * TILE_SIZE;
+                    my = (2 + spawnRng.nextInt(ROWS - 4)) * TILE_SIZE;
+                    tries++;
+                } while (isSolid(mx, my) || (isNearPlayer(mx, my, 200) || isMonsterAt(mx, my)) && tries < 30);
+
+                Monster m = switch (spec[0]) {
+                    case 0 -> new EasyMonster();
+                    case 1 -> new MediumMonster();
+                    default -> new HardMonster();
+                };
+                addMonster(m, mx, my, spec[0]);
+            }
+    }
+
+    /**
+     * Adds a monster to the world, drawing its first wander delay from the wander stream.
+     * Used by the initial spawn, and by tests and benchmarks that need a specific population.
+     *
+     * @param m    the monster's combat stats
+     * @param x    the left edge of its body in pixels
+     * @param y    the top edge of its body in pixels
+     * @param tier the monster tier: 0 easy, 1 medium, 2 hard
+     * @return the monster's index in {@link #getMonsters()}
+     */
+    public int addMonster(Monster m, double x, double y, int tier) {
+        return monsters.add(m, x, y, tier, 1 + wanderRng.nextDouble() * 2, ticks);
+    }
+
+    /**
+     * Returns whether a monster's tile-sized body overlaps the tile-sized box at {@code (x, y)}.
+     * Used as a spawn-clearance check for monsters and respawning ore.
+     *
+     * @param x the box's left edge in pixels
+     * @param y the box's top edge in pixels
+     * @return {@code true} if a monster is in the way
+     */
+    private boolean isMonsterAt(double x, double y) {
+        return monsters.anyInAabb(x - TILE_SIZE + 1, y - TILE_SIZE + 1, x + TILE_SIZE, y + TILE_SIZE);
+    }
+
+    /**
+     * Advances the game state to the given frame time.
+     * The frame time is fed to the {@link GameClock}, and the game time it reports is
+     * accumulated and consumed in fixed {@link #TICK_NANOS} steps, so the simulation runs at
+     * {@link #TICKS_PER_SECOND} of game time whatever the caller's frame rate, and not at all
+     * while the clock is paused. The leftover fraction is exposed through
+     * {@link #getInterpolation()} for rendering.
+     * When the player dies, {@link GameListener#onPlayerDefeated(Player)} is fired once
+     * and every later call returns {@code false}.
+     *
+     * @param nowNanos the current time in nanoseconds (e.g. from an animation timer)
+     * @return {@code false} if the game has ended, {@code true} otherwise
+     */
+    public boolean update(long nowNanos) {
+        if (gameEnded) return false;
+        if (!checkAlive()) return false;
+
+        accumulatorNanos += clock.sync(nowNanos);
+
+        while (accumulatorNanos >= TICK_NANOS) {
+            accumulatorNanos -= TICK_NANOS;
+            if (!tick()) return false;
+        }
+        interpolation = (double) accumulatorNanos / TICK_NANOS;
+        return true;
+    }
+
+    /**
+     * Advances the simulation by exactly one fixed step of {@link #TICK_NANOS}.
+     * Headless callers can invoke this directly to run as fast as possible.
+     *
+     * @return {@code false} if the game has ended, {@code true} otherwise
+     */
+    public boolean tick() {
+        if (gameEnded || !checkAlive()) return false;
+
+        TickEvent event = TickEvent.enabled() ? new TickEvent() : null;
+        if (event != null) event.begin();
+        ticks++;
+        simTimeNanos += TICK_NANOS;
+        prevPlayerX = playerX;
+        prevPlayerY = playerY;
+        monsters.savePrevious();
+        floatingTexts.savePrevious();
+
+        // Update animation frame counter
+        if (simTimeNanos - lastAnimTime > 140_000_000L) {
+            animFrame++;
+            lastAnimTime = simTimeNanos;
+        }
+
+        world.update(tileOf(playerY + TILE_SIZE / 2.0), tileOf(playerX + TILE_SIZE / 2.0));
+        phaseTimer.begin(PHASE_RESPAWNS);
+        while (scheduler.poll(ticks)) fire(scheduler.kind(), scheduler.argA(), scheduler.argB());
+        phaseTimer.end(PHASE_RESPAWNS);
+        phaseTimer.begin(PHASE_MOVEMENT);
+        handleMovement();
+        phaseTimer.end(PHASE_MOVEMENT);
+        if (leftMouseDown) handleAttack();
+        if (rightMouseDown) handleMining();
+        phaseTimer.begin(PHASE_MONSTERS);
+        updateMonsters();
+        phaseTimer.end(PHASE_MONSTERS);
+        floatingTexts.update();
+
+        if (playerInvincibleFrames > 0) playerInvincibleFrames--;
+
+        if (event != null && event.shouldCommit()) {
+            event.tick = ticks;
+            event.monsters = monsters.size();
+            event.floatingTexts = floatingTexts.size();
+            event.loadedChunks = world.getLoadedChunkCount();
+            event.scheduledEvents = scheduler.size();
+            event.commit();
+        }
+        return true;
+    }
+
+    /**
+     * Ends the game and notifies the listener if the player has died.
+     *
+     * @return {@code true} if the player is still alive
+     */
+    private boolean checkAlive() {
+        if (player.isAlive()) return true;
+        gameEnded = true;
+        listener.onPlayerDefeated(player);
+        return false;
+    }
+
+    /**
+     * Reads keyboard input and moves the player character at {@link #getPlayerSpeed()},
+     * applying diagonal normalisation and swept collision against solid tiles.
+     */
+    private void handleMovement() {
+        double speed = getPlayerSpeed();
+        double dx = 0, dy = 0;
+        if (keys.contains(InputKey.W) || keys.contains(InputKey.UP)) {
+            dy -= speed;
+            facing = 0;
+        }
+        if (keys.contains(InputKey.S) || keys.contains(InputKey.DOWN)) {
+            dy += speed;
+            facing = 2;
+        }
+        if (keys.contains(InputKey.A) || keys.contains(InputKey.LEFT)) {
+            dx -= speed;
+            facing = 1;
+        }
+        if (keys.contains(InputKey.D) || keys.contains(InputKey.RIGHT)) {
+            dx += speed;
+            facing = 3;
+        }
+
+        // Diagonal normalisation — prevents faster diagonal movement
+        if (dx != 0 && dy != 0) {
+            dx *= 0.707;
+            dy *= 0.707;
+        }
+
+        if (dx != 0) playerX = collider.moveX(playerX + BODY_INSET, playerY + BODY_INSET, BODY_SIZE, BODY_SIZE, dx) - BODY_INSET;
+        if (dy != 0) playerY = collider.moveY(playerX + BODY_INSET, playerY + BODY_INSET, BODY_SIZE, BODY_SIZE, dy) - BODY_INSET;
+    }
+
+    /**
+     * Returns how far the player walks per simulation tick: the base {@link #PLAYER_SPEED}
+     * plus {@link #SPEED_PER_POINT} for each point of the speed stat.
+     *
+     * @return the speed in pixels per tick, never negative
+     */
+    public double getPlayerSpeed() {
+        return Math.max(0, PLAYER_SPEED + player.getSpeed() * SPEED_PER_POINT);
+    }
+
+    /**
+     * Attempts a player attack if the attack cooldown has expired.
+     * Hits all monsters within melee range, deals damage, and awards gold for kills.
+     */
+    private void handleAttack() {
+        if (!attackReady) return;
+        attackReady = false;
+        scheduler.schedule(dueAfter(ATTACK_COOLDOWN), EV_ATTACK_READY, 0, 0);
+
+        isAttackAnim = true;
+        scheduler.schedule(dueAfter(ATTACK_COOLDOWN), EV_ATTACK_ANIM_END, 0, 0);
+
+        double range = TILE_SIZE * 1.6;
+        int found = monsters.queryRadius(playerX, playerY, range);
+        if (killed.length < found) killed = new int[found];
+        int kills = 0;
+        for (int k = 0; k < found; k++) {
+            int i = monsters.hit(k);
+            Monster m = monsters.getMonster(i);
+            double mx = monsters.getX(i), my = monsters.getY(i);
+            player.attack(m);
+            monsters.syncHp(i);
+            int dmg = Math.max(1, player.getAttack() - m.getDefense());
+            floatingTexts.addCounter(m, mx + 8, my - 8, "-", dmg, "", COLOR_DAMAGE, ticks(1000));
+            if (!m.isAlive()) {
+                int tier = monsters.getTier(i);
+                int gold = m.dropMoney();
+                player.setGold(player.getGold() + gold);
+                floatingTexts.add(mx, my - 20, "+" + gold + "g!", COLOR_GOLD, ticks(1800));
+                showNotif("Monster defeated! +" + gold + " gold");
+                listener.onMonsterKilled(tier, gold);
+
+                long delay = MON_RESPAWN_MIN + (long) (spawnRng.nextDouble() * (MON_RESPAWN_MAX - MON_RESPAWN_MIN));
+                scheduler.schedule(dueAfter(delay), EV_MONSTER_RESPAWN, tier, 0);
+                killed[kills++] = i;
+            }
+        }
+        // Swap-remove from the highest index down, so the other kills keep their indices
+        Arrays.sort(killed, 0, kills);
+        for (int k = kills - 1; k >= 0; k--) monsters.remove(killed[k]);
+        if (found == 0) showNotif("No monsters in range! (get closer)");
+    }
+
+    /**
+     * Attempts a mining hit on the tile the player is facing if the mine cooldown has expired.
+     * Reduces the ore's durability and awards items if it breaks.
+     */
+    private void handleMining() {
+        if (!mineReady) return;
+        mineReady = false;
+        scheduler.schedule(dueAfter(MINE_COOLDOWN), EV_MINE_READY, 0, 0);
+
+        int tr = facingRow(), tc = facingCol();
+        if (!inBounds(tr, tc)) return;
+
+        int tile = world.getTile(tr, tc);
+        if (!isMineableTile(tile)) return;
+
+        Mineable stone = world.getStone(tr, tc);
+        if (stone == null || stone.isBroken()) return;
+
+        List<BaseItem> drops = pickaxeHolder[0].use(stone, player);
+        world.markDirty(tr, tc);
+        floatingTexts.add(tc * TILE_SIZE + 12, tr * TILE_SIZE, "⛏", COLOR_WHITE, ticks(700));
+
+        if (stone.isBroken()) {
+            int brokenType = tile;
+            world.setTile(tr, tc, T_GROUND);
+            world.setStone(tr, tc, null);
+
+            long delay = ORE_RESPAWN_MIN + (long) (spawnRng.nextDouble() * (ORE_RESPAWN_MAX - ORE_RESPAWN_MIN));
+            scheduler.schedule(dueAfter(delay), EV_ORE_RESPAWN, tr, tc);
+
+            if (!drops.isEmpty()) {
+                for (BaseItem item : drops) player.addItem(item, 1);
+                String name = drops.get(0).getName();
+                showNotif("+ " + drops.size() + "x " + name);
+                floatingTexts.add(tc * TILE_SIZE, tr * TILE_SIZE,
+                        "+" + drops.size() + " " + name, COLOR_YELLOW, ticks(1500));
+            }
+            listener.onOreMined(tr, tc, brokenType, drops);
+        } else {
+            showNotif("Mining... [" + stone.getDurability() + "/" + stone.getMaxDurability() + "]");
+        }
+    }
+
+    /**
+     * Updates monster AI for each frame: aggro detection, chasing, wandering,
+     * and attacking the player on contact.
+     * <p>
+     * Chasing monsters and wandering monsters on screen update every tick. Wandering monsters
+     * off screen update every {@link #AI_MID_INTERVAL} ticks within {@link #AI_MID_MARGIN} of
+     * the view and every {@link #AI_FAR_INTERVAL} ticks beyond it, catching up on the ticks
+     * they skipped in one step. The view is the camera rectangle centred on the player.
+     * Each tier is found without walking the whole population: the grid yields the monsters on
+     * screen every tick and, for the mid range, every {@code AI_MID_INTERVAL}-th row of grid
+     * cells in turn, while the far tier is walked round robin, {@code 1 / AI_FAR_INTERVAL} of
+     * the monster indices per tick. A monster is not touched on the ticks it does not update.
+     */
+    private void updateMonsters() {
+        double aggroRange = TILE_SIZE * 5.0;
+        double attackRange = TILE_SIZE * 1.2;
+        double viewLeft = playerX + TILE_SIZE / 2.0 - W / 2.0, viewTop = playerY + TILE_SIZE / 2.0 - H / 2.0;
+        aiUpdates = 0;
+
+        // Only monsters the grid reports near the player are candidates for aggro
+        int near = monsters.queryRadius(playerX, playerY, aggroRange);
+        for (int k = 0; k < near; k++) monsters.setAggroTick(monsters.hit(k), ticks);
+        if (near > 0) refreshFlowField();
+
+        // On screen, every tick; the aggro radius lies inside the view
+        int onScreen = monsters.queryAabb(viewLeft - TILE_SIZE, viewTop - TILE_SIZE, viewLeft + W, viewTop + H);
+        for (int k = 0; k < onScreen; k++) {
+            int i = monsters.hit(k);
+            boolean aggro = monsters.getAggroTick(i) == ticks;
+            monsters.setAggro(i, aggro);
+            if (aggro || aiInterval(monsters.getX(i) - viewLeft, monsters.getY(i) - viewTop) == 1)
+                updateMonster(i, aggro, attackRange);
+        }
+
+        // Mid range: this tick's share of the cell rows around the view
+        int mid = monsters.queryAabbRows(viewLeft - TILE_SIZE - AI_MID_MARGIN, viewTop - TILE_SIZE - AI_MID_MARGIN,
+                viewLeft + W + AI_MID_MARGIN, viewTop + H + AI_MID_MARGIN, AI_MID_INTERVAL, ticks);
+        for (int k = 0; k < mid; k++) {
+            int i = monsters.hit(k);
+            if (monsters.getAiTick(i) == ticks
+                    || aiInterval(monsters.getX(i) - viewLeft, monsters.getY(i) - viewTop) != AI_MID_INTERVAL) continue;
+            monsters.setAggro(i, false);
+            updateMonster(i, false, attackRange);
+        }
+
+        // Far tier: the next slice of indices, skipping monsters the passes above own
+        int n = monsters.size();
+        for (int left = (n + AI_FAR_INTERVAL - 1) / AI_FAR_INTERVAL; left > 0; left--) {
+            if (farCursor >= n) farCursor = 0;
+            int i = farCursor++;
+            if (monsters.getAiTick(i) == ticks
+                    || aiInterval(monsters.getX(i) - viewLeft, monsters.getY(i) - viewTop) != AI_FAR_INTERVAL) continue;
+            monsters.setAggro(i, false);
+            updateMonster(i, false, attackRange);
+        }
+    }
+
+    /**
+     * Runs one monster's AI for the ticks since it last ran: a chasing monster steps along the
+     * flow field and attacks the player on contact; a wandering one catches up on its walk.
+     *
+     * @param i           the monster's index
+     * @param aggro       {@code true} if it is chasing the player
+     * @param attackRange the distance within which it hits the player
+     */
+    private void updateMonster(int i, boolean aggro, double attackRange) {
+        long elapsed = ticks - monsters.getAiTick(i);
+        monsters.setAiTick(i, ticks);
+        aiUpdates++;
+        if (!aggro) {
+            wander(i, elapsed);
+            return;
+        }
+
+        double mx = monsters.getX(i), my = monsters.getY(i);
+        double dist = Math.hypot(playerX - mx, playerY - my);
+        int mr = tileOf(my + TILE_SIZE / 2.0), mc = tileOf(mx + TILE_SIZE / 2.0);
+        // Head for the next tile on the flow field; straight at the player once on the same tile
+        double tx = playerX, ty = playerY;
+        if (flowField.hasStep(mr, mc)) {
+            tx = (mc + flowField.stepCol(mr, mc)) * TILE_SIZE;
+            ty = (mr + flowField.stepRow(mr, mc)) * TILE_SIZE;
+        }
+        double nx = tx - mx, ny = ty - my;
+        double len = Math.hypot(nx, ny);
+        double spd = Math.min(len, 0.5 * (1 + monsters.getTier(i) * 0.3));
+        if (len > 0) monsters.moveTo(i, mx + (nx / len) * spd, my + (ny / len) * spd);
+
+        if (dist < attackRange && playerInvincibleFrames <= 0) {
+            Monster m = monsters.getMonster(i);
+            m.attack(player);
+            playerInvincibleFrames = 150;
+            int dmg = Math.max(0, m.getAttack() - player.getDefense());
+            floatingTexts.addCounter(player, playerX, playerY - 10, "-", dmg, " HP",
+                    COLOR_PLAYER_HURT, ticks(1200));
+            listener.onPlayerHit(dmg);
+        }
+    }
+
+    /**
+     * Walks a wandering monster for the given number of ticks. Each leg between direction
+     * changes moves at its own velocity, and a new direction is picked on the tick the wander
+     * timer runs out, as if the monster had been updated every tick; only wall sliding is
+     * coarser, since each leg is swept as one move along x and then y.
+     *
+     * @param i       the monster's index
+     * @param elapsed the ticks since its AI last ran
+     */
+    private void wander(int i, long elapsed) {
+        double mx = monsters.getX(i), my = monsters.getY(i);
+        double x = mx, y = my, timer = monsters.getMoveTimer(i);
+        for (long left = elapsed; left > 0; ) {
+            // Ticks left on the current heading; the tick the timer runs out on takes the next one
+            long run = Math.min(left, Math.max(0, (long) Math.ceil(timer / TICK_SECONDS) - 1));
+            if (run > 0) {
+                // The swept move stops at the first wall, so a long catch-up step cannot tunnel
+                x = collider.moveX(x + BODY_INSET, y + BODY_INSET, BODY_SIZE, BODY_SIZE, monsters.getDx(i) * run) - BODY_INSET;
+                y = collider.moveY(x + BODY_INSET, y + BODY_INSET, BODY_SIZE, BODY_SIZE, monsters.getDy(i) * run) - BODY_INSET;
+                timer -= run * TICK_SECONDS;
+                left -= run;
+            }
+            if (left > 0) {
+                timer = 1.5 + wanderRng.nextDouble() * 2;
+                double angle = wanderRng.nextDouble() * Math.PI * 2;
+                monsters.setVelocity(i, Math.cos(angle) * 0.6, Math.sin(angle) * 0.6);
+                // The expiry tick itself walks the new heading without counting down the new timer
+                timer += TICK_SECONDS;
+            }
+        }
+        monsters.setMoveTimer(i, timer);
+        if (x != mx || y != my) monsters.moveTo(i, x, y);
+    }
+
+    /**
+     * Returns how often a wandering monster's AI runs, from where it is relative to the view.
+     *
+     * @param vx the left edge of its body relative to the view's left edge
+     * @param vy the top edge of its body relative to the view's top edge
+     * @return the ticks between updates: 1 on screen, {@link #AI_MID_INTERVAL} or
+     *         {@link #AI_FAR_INTERVAL} off screen
+     */
+    private static int aiInterval(double vx, double vy) {
+        double gap = Math.max(Math.max(-TILE_SIZE - vx, vx - W), Math.max(-TILE_SIZE - vy, vy - H));
+        if (gap < 0) return 1;
+        return gap < AI_MID_MARGIN ? AI_MID_INTERVAL : AI_FAR_INTERVAL;
+    }
+
+    /**
+     * Recomputes the chase flow field if the player changed tile or the terrain changed since
+     * the last computation, so one BFS serves every chasing monster.
+     */
+    private void refreshFlowField() {
+        int pr = tileOf(playerY + TILE_SIZE / 2.0), pc = tileOf(playerX + TILE_SIZE / 2.0);
+        long version = world.getVersion();
+        if (version == flowVersion && pr == flowField.getGoalRow() && pc == flowField.getGoalCol()) return;
+        flowField.compute(pr, pc, passable);
+        flowVersion = version;
+    }
+
+    /**
+     * Handles a scheduled event that fell due this tick.
+     *
+     * @param kind the event kind, one of the {@code EV_} constants
+     * @param a    the first event argument
+     * @param b    the second event argument
+     */
+    private void fire(int kind, int a, int b) {
+        switch (kind) {
+            case EV_ORE_RESPAWN -> respawnOre(a, b);
+            case EV_MONSTER_RESPAWN -> respawnMonster(a);
+            case EV_ATTACK_READY -> attackReady = true;
+            case EV_MINE_READY -> mineReady = true;
+            case EV_ATTACK_ANIM_END -> isAttackAnim = false;
+            case EV_NOTIF_EXPIRE -> {
+                if (a == notifSeq) notifMsg = "";
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Places a random ore on a mined tile, unless the tile has been built over or the
+     * player or a monster is standing on it.
+     *
+     * @param r the tile row
+     * @param c the tile column
+     */
+    private void respawnOre(int r, int c) {
+        int t = world.getTile(r, c);
+        if ((t == T_GROUND || t == T_GRASS)
+                && !isNearPlayer(c * TILE_SIZE, r * TILE_SIZE, TILE_SIZE)
+                && !isMonsterAt(c * TILE_SIZE, r * TILE_SIZE)) {
+            int randomTile = ORE_POOL[spawnRng.nextInt(ORE_POOL.length)];
+            placeRock(r, c, randomTile);
+            String oreName = switch (randomTile) {
+                case T_NORMAL_ROCK -> "Normal Stone";
+                case T_HARD_ROCK -> "Hard Stone";
+                case T_IRON_ROCK -> "Iron";
+                case T_PLATINUM -> "Platinum";
+                case T_MITHRIL -> "Mithril";
+                case T_VIBRANIUM -> "Vibranium";
+                default -> "Ore";
+            };
+            floatingTexts.add(c * TILE_SIZE, r * TILE_SIZE - 10,
+                    "✨ " + oreName + " appeared!", COLOR_CYAN, ticks(2000));
+        }
+    }
+
+    /**
+     * Spawns a monster of the given type at a random free position away from the player.
+     *
+     * @param type the monster type
+     */
+    private void respawnMonster(int type) {
+        double mx, my;
+        int tries = 0;
+        do {
+            mx = (2 + spawnRng.nextInt(COLS - 4)) * TILE_SIZE;
+            my = (2 + spawnRng.nextInt(ROWS - 4)) * TILE_SIZE;
+            tries++;
+        } while ((isSolid(mx + 5, my + 5) || isNearPlayer(mx, my, 200) || isMonsterAt(mx, my)) && tries < 30);
+
+        Monster m = switch (type) {
+            case 0 -> new EasyMonster();
+            case 1 -> new MediumMonster();
+            default -> new HardMonster();
+        };
+        addMonster(m, mx, my, type);
+        floatingTexts.add(mx, my - 14, "👹 Monster appeared!",
+                COLOR_DAMAGE, ticks(2200));
+    }
+
+    /**
+     * Checks whether the player is standing adjacent to a building and returns its type.
+     * Displays a "nothing nearby" notification if no building is found.
+     *
+     * @return the {@link BuildingType} of the nearby building, or {@link BuildingType#NONE}
+     */
+    public BuildingType checkBuildingEntry() {
+        int pc = tileOf(playerX + TILE_SIZE / 2.0);
+        int pr = tileOf(playerY + TILE_SIZE / 2.0);
+        for (int dr = -1; dr <= 1; dr++)
+            for (int dc = -1; dc <= 1; dc++) {
+                int r = pr + dr, c = pc + dc;
+                if (!inBounds(r, c)) continue;
+                switch (world.getTile(r, c)) {
+                    case T_SHOP:
+                        return BuildingType.SHOP;
+                    case T_CRAFT:
+                        return BuildingType.CRAFT;
+                    case T_BOSS_DOOR:
+                        return BuildingType.BOSS;
+                }
+            }
+        showNotif("Nothing to enter nearby.");
+        return BuildingType.NONE;
+    }
+
+    /**
+     * Returns whether the world position {@code (px, py)} is inside a solid tile (rock/ore).
+     *
+     * @param px the x pixel coordinate
+     * @param py the y pixel coordinate
+     * @return {@code true} if the tile is solid or its chunk is not loaded yet
+     */
+    public boolean isSolid(double px, double py) {
+        return world.isSolid(tileOf(py), tileOf(px));
+    }
+
+    /**
+     * Returns whether monsters can walk through the tile at {@code (r, c)}.
+     *
+     * @param r the tile row
+     * @param c the tile column
+     * @return {@code true} if the tile is not solid
+     */
+    private boolean isPassable(int r, int c) {
+        return !world.isSolid(r, c);
+    }
+
+    /**
+     * Returns the {@code TILE_} property bits of a tile type. Types outside the table,
+     * including {@link ChunkedWorld#UNLOADED}, are solid and nothing else.
+     *
+     * @param t the tile type
+     * @return the property bits, e.g. {@link #TILE_SOLID} | {@link #TILE_MINEABLE} for ore
+     */
+    public static int tileProperties(int t) {
+        return t >= 0 && t < TILE_PROPS.length ? TILE_PROPS[t] : TILE_SOLID;
+    }
+
+    /**
+     * Returns whether a tile type is a rock or ore the pickaxe can mine.
+     *
+     * @param t the tile type
+     * @return {@code true} if mineable
+     */
+    public static boolean isMineableTile(int t) {
+        return (tileProperties(t) & TILE_MINEABLE) != 0;
+    }
+
+    /**
+     * Returns whether a tile type is a building entrance.
+     *
+     * @param t the tile type
+     * @return {@code true} for the shop, crafting station and boss door
+     */
+    public static boolean isBuildingTile(int t) {
+        return (tileProperties(t) & TILE_BUILDING) != 0;
+    }
+
+    /**
+     * Builds {@link #TILE_PROPS}: every rock and ore is solid and mineable, and the shop,
+     * crafting station and boss door are buildings the player can walk onto.
+     *
+     * @return the property table
+     */
+    private static int[] tilePropertyTable() {
+        int[] props = new int[T_VIBRANIUM + 1];
+        for (int t : new int[]{T_NORMAL_ROCK, T_HARD_ROCK, T_IRON_ROCK, T_PLATINUM, T_MITHRIL, T_VIBRANIUM})
+            props[t] = TILE_SOLID | TILE_MINEABLE;
+        for (int t : new int[]{T_SHOP, T_CRAFT, T_BOSS_DOOR}) props[t] = TILE_BUILDING;
+        return props;
+    }
+
+    /**
+     * Collects the solid tile types of {@link #TILE_PROPS} into a mask for the world.
+     *
+     * @return the mask with bit {@code t} set for each solid type {@code t}
+     */
+    private static long solidTypeMask() {
+        long mask = 0;
+        for (int t = 0; t < TILE_PROPS.length; t++) if ((TILE_PROPS[t] & TILE_SOLID) != 0) mask |= 1L << t;
+        return mask;
+    }
+
+    /**
+     * Converts a duration in milliseconds to whole simulation ticks.
+     *
+     * @param ms the duration in milliseconds
+     * @return the number of ticks
+     */
+    private static int ticks(long ms) {
+        return (int) (ms * TICKS_PER_SECOND / 1000);
+    }
+
+    /**
+     * Returns the first tick at least {@code ms} milliseconds of simulation time from now.
+     *
+     * @param ms the delay in milliseconds
+     * @return the due tick for {@link #scheduler}
+     */
+    private long dueAfter(long ms) {
+        return ticks + (ms * TICKS_PER_SECOND + 999) / 1000;
+    }
+
+    /**
+     * Returns whether the grid position {@code (r, c)} lies in a loaded chunk.
+     *
+     * @param r the row index
+     * @param c the column index
+     * @return {@code true} if the position is valid
+     */
+    public boolean inBounds(int r, int c) {
+        return world.isLoaded(r, c);
+    }
+
+    /**
+     * Converts a pixel coordinate to a tile index, rounding down so negative
+     * coordinates map to negative tiles.
+     *
+     * @param px the pixel coordinate
+     * @return the tile row or column
+     */
+    public static int tileOf(double px) {
+        return (int) Math.floor(px / TILE_SIZE);
+    }
+
+    /**
+     * Returns {@code true} if the world position {@code (x, y)} is within {@code dist} pixels
+     * of the player's current position.
+     *
+     * @param x    the X pixel coordinate to test
+     * @param y    the Y pixel coordinate to test
+     * @param dist the maximum allowed distance in pixels
+     * @return {@code true} if within range
+     */
+    private boolean isNearPlayer(double x, double y, double dist) {
+        return Math.hypot(x - playerX, y - playerY) < dist;
+    }
+
+    /**
+     * Returns the world row of the tile the player is currently facing.
+     *
+     * @return the facing tile's row
+     */
+    public int facingRow() {
+        int pr = tileOf(playerY + TILE_SIZE / 2.0);
+        return facing == 0 ? pr - 1 : facing == 2 ? pr + 1 : pr;
+    }
+
+    /**
+     * Returns the world column of the tile the player is currently facing.
+     *
+     * @return the facing tile's column
+     */
+    public int facingCol() {
+        int pc = tileOf(playerX + TILE_SIZE / 2.0);
+        return facing == 1 ? pc - 1 : facing == 3 ? pc + 1 : pc;
+    }
+
+    /**
+     * Displays a notification message on the HUD for {@link #NOTIF_DURATION} milliseconds.
+     *
+     * @param msg the text to show in the notification area
+     */
+    private void showNotif(String msg) {
+        notifMsg = msg;
+        notifTime = simTimeNanos / 1_000_000;
+        scheduler.schedule(dueAfter(NOTIF_DURATION), EV_NOTIF_EXPIRE, ++notifSeq, 0);
+    }
+
+    /**
+     * Registers that the given key has been pressed.
+     *
+     * @param key the pressed key
+     */
+    public void keyPressed(InputKey key) {
+        if (keys.add(key)) record(InputLog.keyCode(key, true));
+    }
+
+    /**
+     * Registers that the given key has been released.
+     *
+     * @param key the released key
+     */
+    public void keyReleased(InputKey key) {
+        if (keys.remove(key)) record(InputLog.keyCode(key, false));
+    }
+
+    /**
+     * Prepares the simulation to be paused while its scene is off screen: releases every held
+     * key and mouse button, whose release events go to another scene, and restarts the frame
+     * clock so the next {@link #update(long)} does not catch up on the time spent away.
+     */
+    public void suspend() {
+        for (InputKey key : InputLog.keys()) keyReleased(key);
+        setLeftMouse(false);
+        setRightMouse(false);
+        clock.resync();
+        accumulatorNanos = 0;
+        interpolation = 0;
+    }
+
+    /**
+     * Sets the receiver of gameplay events such as player defeat.
+     *
+     * @param listener the listener to notify, or {@code null} to stop receiving events
+     */
+    public void setListener(GameListener listener) {
+        this.listener = listener == null ? GameListener.NONE : listener;
+    }
+
+    /**
+     * Sets whether the left mouse button (attack) is held down.
+     *
+     * @param on {@code true} if pressed
+     */
+    public void setLeftMouse(boolean on) {
+        if (leftMouseDown != on) record(InputLog.code(InputLog.LEFT_MOUSE, on));
+        leftMouseDown = on;
+    }
+
+    /**
+     * Sets whether the right mouse button (mine) is held down.
+     *
+     * @param on {@code true} if pressed
+     */
+    public void setRightMouse(boolean on) {
+        if (rightMouseDown != on) record(InputLog.code(InputLog.RIGHT_MOUSE, on));
+        rightMouseDown = on;
+    }
+
+    /**
+     * Starts recording every input change into a new log, for replay with {@link ReplayPlayer}.
+     * Must be called before the first tick, so the log covers the whole run.
+     *
+     * @return the log being recorded into
+     * @throws IllegalStateException if the simulation has already started
+     */
+    public InputLog startRecording() {
+        if (ticks != 0) throw new IllegalStateException("Recording must start before the first tick");
+        inputLog = new InputLog(worldSeed);
+        return inputLog;
+    }
+
+    /**
+     * Returns the executor chunk generation runs on.
+     *
+     * @return the chunk loader given at construction, or the default background loader
+     */
+    Executor getChunkLoader() {
+        return chunkLoader;
+    }
+
+    /**
+     * Stops recording and marks the current tick as the end of the log.
+     *
+     * @return the finished log, or {@code null} if nothing was being recorded
+     */
+    public InputLog stopRecording() {
+        InputLog log = inputLog;
+        if (log != null) log.finish(ticks);
+        inputLog = null;
+        return log;
+    }
+
+    /**
+     * Appends an input change to the log being recorded, if any.
+     *
+     * @param code the input code
+     */
+    private void record(int code) {
+        if (inputLog != null) inputLog.record(ticks, code);
+    }
+
+    /**
+     * Returns the player character.
+     *
+     * @return the player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Returns the single-element array holding the player's active pickaxe.
+     *
+     * @return the pickaxe holder array
+     */
+    public Pickaxe[] getPickaxeHolder() {
+        return pickaxeHolder;
+    }
+
+    /**
+     * Returns the chunked tile map.
+     *
+     * @return the world
+     */
+    public ChunkedWorld getWorld() {
+        return world;
+    }
+
+    /**
+     * Returns the live monsters on the world map.
+     *
+     * @return the monster store
+     */
+    public MonsterStore getMonsters() {
+        return monsters;
+    }
+
+    /**
+     * Returns the number of monsters whose AI ran during the last tick; the rest were skipped
+     * by the level-of-detail schedule.
+     *
+     * @return the monster AI update count
+     */
+    public int getAiUpdateCount() {
+        return aiUpdates;
+    }
+
+    /**
+     * Returns the active floating-text pop-ups.
+     *
+     * @return the floating-text pool
+     */
+    public FloatingTextPool getFloatingTexts() {
+        return floatingTexts;
+    }
+
+    /**
+     * Returns the timer of the simulation phases ({@link #PHASE_NAMES}), for diagnostics.
+     *
+     * @return the phase timer, disabled by default
+     */
+    public PhaseTimer getPhaseTimer() {
+        return phaseTimer;
+    }
+
+    /**
+     * Returns the number of pending timed events (respawns, cooldowns, expiries).
+     *
+     * @return the event count
+     */
+    public int getScheduledEventCount() {
+        return scheduler.size();
+    }
+
+    /**
+     * Returns the player's X position interpolated between the last two ticks for rendering.
+     *
+     * @return interpolated player X position
+     */
+    public double getRenderPlayerX() {
+        return prevPlayerX + (playerX - prevPlayerX) * interpolation;
+    }
+
+    /**
+     * Returns the player's Y position interpolated between the last two ticks for rendering.
+     *
+     * @return interpolated player Y position
+     */
+    public double getRenderPlayerY() {
+        return prevPlayerY + (playerY - prevPlayerY) * interpolation;
+    }
+
+    /**
+     * Returns how far the current frame lies between the previous and the latest tick.
+     *
+     * @return the interpolation factor in {@code [0, 1)}
+     */
+    public double getInterpolation() {
+        return interpolation;
+    }
+
+    /**
+     * Returns the clock driving {@link #update(long)}, for pausing and time scaling.
+     *
+     * @return the game clock
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns the number of fixed ticks simulated so far.
+     *
+     * @return the tick count
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns the player's current X position in pixels.
+     *
+     * @return player X position
+     */
+    public double getPlayerX() {
+        return playerX;
+    }
+
+    /**
+     * Returns the player's current Y position in pixels.
+     *
+     * @return player Y position
+     */
+    public double getPlayerY() {
+        return playerY;
+    }
+
+    /**
+     * Returns the direction the player is currently facing.
+     * Values: 0=up, 1=left, 2=down, 3=right.
+     *
+     * @return facing direction index
+     */
+    public int getFacing() {
+        return facing;
+    }
+
+    /**
+     * Returns the current animation frame index.
+     *
+     * @return animation frame
+     */
+    public int getAnimFrame() {
+        return animFrame;
+    }
+
+    /**
+     * Returns whether an attack animation is currently playing.
+     *
+     * @return {@code true} if the attack animation is active
+     */
+    public boolean isAttackAnim() {
+        return isAttackAnim;
+    }
+
+    /**
+     * Returns the number of remaining player invincibility ticks after taking damage.
+     *
+     * @return invincibility ticks remaining
+     */
+    public int getInvincibleFrames() {
+        return playerInvincibleFrames;
+    }
+
+    /**
+     * Returns the most recently triggered notification message.
+     *
+     * @return the notification message string
+     */
+    public String getNotifMsg() {
+        return notifMsg;
+    }
+
+    /**
+     * Returns how long the current notification has been shown, in simulation time.
+     *
+     * @return notification age in milliseconds
+     */
+    public long getNotifAge() {
+        return simTimeNanos / 1_000_000 - notifTime;
+    }
+
+    /**
+     * Returns the number of pending scheduled events of one kind, for tests.
+     *
+     * @param kind the event kind, one of the {@code EV_} constants
+     * @return the pending count
+     */
+    int pendingEvents(int kind) {
+        return scheduler.count(kind);
+    }
+
+    /**
+     * The type of building the player is adjacent to on the game world map.
+     */
+    public enum BuildingType {NONE, SHOP, CRAFT, BOSS}
+}
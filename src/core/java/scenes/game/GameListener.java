@@ -0,0 +1,54 @@
+package scenes.game;
+
+import logic.base.BaseItem;
+import logic.creatures.Player;
+
+import java.util.List;
+
+/**
+ * Receives gameplay events from a {@link GameController}.
+ * All methods default to doing nothing, so implementations only override what they need
+ * (the JavaFX view switches scenes on defeat; a headless run may just count kills).
+ */
+public interface GameListener {
+
+    /** A listener that ignores every event. */
+    GameListener NONE = new GameListener() {
+    };
+
+    /**
+     * Called once when the player's health reaches zero and the world stops updating.
+     *
+     * @param player the defeated player
+     */
+    default void onPlayerDefeated(Player player) {
+    }
+
+    /**
+     * Called when the player kills a world monster.
+     *
+     * @param type the monster tier (0=easy, 1=medium, 2=hard)
+     * @param gold the gold awarded for the kill
+     */
+    default void onMonsterKilled(int type, int gold) {
+    }
+
+    /**
+     * Called when a monster's attack lands on the player.
+     *
+     * @param damage the damage dealt after defense
+     */
+    default void onPlayerHit(int damage) {
+    }
+
+    /**
+     * Called when an ore tile breaks.
+     *
+     * @param row   the row of the broken tile
+     * @param col   the column of the broken tile
+     * @param type  the tile type that was broken
+     * @param drops the items the ore dropped
+     */
+    default void onOreMined(int row, int col, int type, List<BaseItem> drops) {
+    }
+}
@@ -0,0 +1,38 @@
+package scenes.game;
+
+/**
+ * Keyboard keys understood by {@link GameController}.
+ * Names mirror the JavaFX {@code KeyCode} constants so the view can translate with {@link #fromName(String)}
+ * while the controller itself stays free of any UI toolkit types.
+ */
+public enum InputKey {
+    /** Move up. */
+    W,
+    /** Move left. */
+    A,
+    /** Move down. */
+    S,
+    /** Move right. */
+    D,
+    /** Move up (arrow key). */
+    UP,
+    /** Move down (arrow key). */
+    DOWN,
+    /** Move left (arrow key). */
+    LEFT,
+    /** Move right (arrow key). */
+    RIGHT;
+
+    /**
+     * Looks up the input key with the given name.
+     *
+     * @param name the key name, e.g. {@code "W"} or {@code "LEFT"}
+     * @return the matching key, or {@code null} if the game does not use that key
+     */
+    public static InputKey fromName(String name) {
+        for (InputKey k : values()) {
+            if (k.name().equals(name)) return k;
+        }
+        return null;
+    }
+}
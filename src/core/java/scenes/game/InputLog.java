@@ -0,0 +1,354 @@
+package scenes.game;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A recorded stream of the input a {@link GameController} received, tagged with the
+ * simulation tick it arrived before and the run seed, so the session can be replayed
+ * exactly by {@link ReplayPlayer}.
+ * <p>
+ * Each event is stored as two unsigned LEB128 varints: the ticks since the previous event
+ * and an input code ({@code inputId << 1 | down}). Held inputs change a few times per second
+ * at most, so a typical event takes two bytes. The file form is a small header
+ * ({@link #MAGIC}, {@link #VERSION}, seed, end tick, event count, data length) followed by
+ * the encoded events.
+ * <p>
+ * Only the world controls are recorded: the movement keys and the two mouse buttons, which
+ * drive walking, mining and combat. Buying, crafting and equipping in the shop, crafting and
+ * inventory screens and everything in the boss room change the player through their own
+ * controllers and are not in the log, so a session that used them diverges on replay from the
+ * first such action. Logs meant for replay should stay in the world.
+ */
+public final class InputLog {
+
+    /** File signature, {@code "TSRP"}. */
+    public static final int MAGIC = 0x54535250;
+
+    /** Format version written to and expected in the header. */
+    public static final int VERSION = 1;
+
+    /** Input id of the left mouse button (attack). */
+    public static final int LEFT_MOUSE = 0;
+
+    /** Input id of the right mouse button (mine). */
+    public static final int RIGHT_MOUSE = 1;
+
+    /** Input id of the first {@link InputKey}; key {@code k} is {@code KEY_BASE + k.ordinal()}. */
+    public static final int KEY_BASE = 2;
+
+    /** The keys by ordinal, for decoding. */
+    private static final InputKey[] KEYS = InputKey.values();
+
+    /** Seed of the recorded run. */
+    private final long seed;
+
+    /** Encoded events. */
+    private byte[] data;
+
+    /** Number of bytes used in {@link #data}. */
+    private int length;
+
+    /** Number of recorded events. */
+    private int events;
+
+    /** Tick of the last recorded event. */
+    private long lastTick;
+
+    /** Tick the recording ended at; playback runs until this tick. */
+    private long endTick;
+
+    /**
+     * Creates an empty log for a run.
+     *
+     * @param seed the run seed
+     */
+    public InputLog(long seed) {
+        this(seed, new byte[256], 0, 0, 0);
+    }
+
+    /**
+     * Creates a log from decoded parts.
+     *
+     * @param seed    the run seed
+     * @param data    the encoded events
+     * @param length  the number of bytes used
+     * @param events  the event count
+     * @param endTick the tick the recording ended at
+     */
+    private InputLog(long seed, byte[] data, int length, int events, long endTick) {
+        this.seed = seed;
+        this.data = data;
+        this.length = length;
+        this.events = events;
+        this.endTick = endTick;
+    }
+
+    /**
+     * Returns the input code of a key press or release.
+     *
+     * @param key  the key
+     * @param down {@code true} for a press
+     * @return the input code
+     */
+    public static int keyCode(InputKey key, boolean down) {
+        return code(KEY_BASE + key.ordinal(), down);
+    }
+
+    /**
+     * Returns the input code of an input changing state.
+     *
+     * @param inputId the input id, e.g. {@link #LEFT_MOUSE}
+     * @param down    {@code true} if pressed
+     * @return the input code
+     */
+    public static int code(int inputId, boolean down) {
+        return inputId << 1 | (down ? 1 : 0);
+    }
+
+    /**
+     * Returns the input id of a code.
+     *
+     * @param code the input code
+     * @return the input id
+     */
+    public static int inputId(int code) {
+        return code >>> 1;
+    }
+
+    /**
+     * Returns whether a code is a press.
+     *
+     * @param code the input code
+     * @return {@code true} for a press, {@code false} for a release
+     */
+    public static boolean isDown(int code) {
+        return (code & 1) != 0;
+    }
+
+    /**
+     * Returns every key, indexed by ordinal. The array is shared and must not be modified.
+     *
+     * @return the keys
+     */
+    static InputKey[] keys() {
+        return KEYS;
+    }
+
+    /**
+     * Returns the key of a key input id.
+     *
+     * @param inputId the input id, at least {@link #KEY_BASE}
+     * @return the key
+     */
+    public static InputKey key(int inputId) {
+        return KEYS[inputId - KEY_BASE];
+    }
+
+    /**
+     * Appends an event. Ticks must not decrease.
+     *
+     * @param tick the number of ticks simulated when the input arrived
+     * @param code the input code
+     */
+    public void record(long tick, int code) {
+        if (tick < lastTick) throw new IllegalArgumentException("Ticks must not decrease");
+        ensureRoom(20);
+        writeVarint(tick - lastTick);
+        writeVarint(code);
+        lastTick = tick;
+        events++;
+        endTick = Math.max(endTick, tick);
+    }
+
+    /**
+     * Marks the tick the recording ended at, so playback simulates the idle ticks after the
+     * last event too.
+     *
+     * @param tick the final tick
+     */
+    public void finish(long tick) {
+        endTick = Math.max(endTick, Math.max(tick, lastTick));
+    }
+
+    /**
+     * Returns the seed of the recorded run.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of recorded events.
+     *
+     * @return the event count
+     */
+    public int size() {
+        return events;
+    }
+
+    /**
+     * Returns the tick the recording ended at.
+     *
+     * @return the end tick
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+
+    /**
+     * Returns the encoded size of the events.
+     *
+     * @return the size in bytes, excluding the header
+     */
+    public int byteSize() {
+        return length;
+    }
+
+    /**
+     * Returns a cursor over the events, positioned before the first.
+     *
+     * @return a new cursor
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Writes the log in its file form.
+     *
+     * @param out the stream to write to; not closed
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream d = new DataOutputStream(out);
+        d.writeInt(MAGIC);
+        d.writeByte(VERSION);
+        d.writeLong(seed);
+        d.writeLong(endTick);
+        d.writeInt(events);
+        d.writeInt(length);
+        d.write(data, 0, length);
+        d.flush();
+    }
+
+    /**
+     * Reads a log written by {@link #write(OutputStream)}.
+     *
+     * @param in the stream to read from; not closed
+     * @return the log
+     * @throws IOException if reading fails or the data is not a log of this version
+     */
+    public static InputLog read(InputStream in) throws IOException {
+        DataInputStream d = new DataInputStream(in);
+        if (d.readInt() != MAGIC) throw new IOException("Not an input log");
+        int version = d.readUnsignedByte();
+        if (version != VERSION) throw new IOException("Unsupported input log version " + version);
+        long seed = d.readLong();
+        long endTick = d.readLong();
+        int events = d.readInt();
+        int length = d.readInt();
+        if (events < 0 || length < 0) throw new IOException("Corrupt input log header");
+        byte[] data = new byte[length];
+        d.readFully(data);
+        return new InputLog(seed, data, length, events, endTick);
+    }
+
+    /**
+     * Grows {@link #data} so that at least {@code n} more bytes fit.
+     *
+     * @param n the bytes needed
+     */
+    private void ensureRoom(int n) {
+        if (length + n > data.length) data = Arrays.copyOf(data, Math.max(length + n, data.length * 2));
+    }
+
+    /**
+     * Appends an unsigned LEB128 varint.
+     *
+     * @param v the non-negative value
+     */
+    private void writeVarint(long v) {
+        while ((v & ~0x7FL) != 0) {
+            data[length++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        data[length++] = (byte) v;
+    }
+
+    /**
+     * Iterates over the events of a log in order.
+     */
+    public final class Cursor {
+
+        /** Read position in {@link #data}. */
+        private int pos;
+
+        /** Events read so far. */
+        private int read;
+
+        /** Tick of the current event. */
+        private long tick;
+
+        /** Input code of the current event. */
+        private int code;
+
+        /**
+         * Creates a cursor before the first event.
+         */
+        private Cursor() {
+        }
+
+        /**
+         * Moves to the next event.
+         *
+         * @return {@code false} if there are no more events
+         */
+        public boolean next() {
+            if (read == events) return false;
+            tick += readVarint();
+            code = (int) readVarint();
+            read++;
+            return true;
+        }
+
+        /**
+         * Returns the tick of the current event.
+         *
+         * @return the number of ticks simulated when the input arrived
+         */
+        public long tick() {
+            return tick;
+        }
+
+        /**
+         * Returns the input code of the current event.
+         *
+         * @return the input code
+         */
+        public int code() {
+            return code;
+        }
+
+        /**
+         * Reads an unsigned LEB128 varint.
+         *
+         * @return the value
+         */
+        private long readVarint() {
+            long v = 0;
+            for (int shift = 0; ; shift += 7) {
+                if (pos >= length) throw new IllegalStateException("Truncated input log");
+                byte b = data[pos++];
+                v |= (long) (b & 0x7F) << shift;
+                if (b >= 0) return v;
+            }
+        }
+    }
+}
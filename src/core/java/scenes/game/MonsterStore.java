@@ -0,0 +1,501 @@
+package scenes.game;
+
+import logic.creatures.Monster;
+import logic.world.SpatialHash;
+
+import java.util.Arrays;
+
+/**
+ * The monsters on the world map, stored as parallel primitive arrays (struct of arrays).
+ * <p>
+ * Each monster is an index into columns for position, previous position, wander velocity and
+ * timer, aggro state, last AI tick, tier and HP, so the per-tick update walks a few dense
+ * arrays instead of chasing a pointer per monster and per field. The {@link Monster} object of
+ * each monster is kept in a column of its own and only read when combat needs its stats.
+ * Removing a monster moves the last one into its slot, so indices are stable only until the
+ * next removal.
+ * <p>
+ * A {@link SpatialHash} keyed by monster index answers the range queries around the player.
+ * A monster that moves to another cell, or is removed, is relinked in constant time, so
+ * keeping the index current costs nothing per tick for monsters that stay put. Query results
+ * are read with {@link #hit(int)}, like {@link EventScheduler#poll(long)}.
+ */
+public final class MonsterStore {
+
+    /** Number of grid buckets; a power of two. */
+    private static final int BUCKETS = 4096;
+
+    /** Combat stats of each monster. */
+    private Monster[] monster;
+
+    /** Left edge of each monster's tile-sized body. */
+    private double[] x;
+
+    /** Top edge of each monster's tile-sized body. */
+    private double[] y;
+
+    /** {@link #x} at the start of the current tick, for interpolation. */
+    private double[] prevX;
+
+    /** {@link #y} at the start of the current tick, for interpolation. */
+    private double[] prevY;
+
+    /** Wander velocity along x, in pixels per tick. */
+    private double[] dx;
+
+    /** Wander velocity along y, in pixels per tick. */
+    private double[] dy;
+
+    /** Seconds until each monster picks a new wander direction. */
+    private double[] moveTimer;
+
+    /** Last tick each monster was within aggro range of the player, or {@code -1}. */
+    private long[] aggroTick;
+
+    /** Tick each monster's AI last ran, so a skipped monster can catch up on the time it missed. */
+    private long[] aiTick;
+
+    /** {@code true} while a monster is chasing the player. */
+    private boolean[] aggro;
+
+    /** Monster tier: 0 easy, 1 medium, 2 hard. */
+    private int[] tier;
+
+    /** Current HP, mirrored from the {@link Monster} after every hit. */
+    private int[] hp;
+
+    /** Maximum HP. */
+    private int[] maxHp;
+
+    /** Grid index over the monster positions, keyed by monster index. */
+    private final SpatialHash grid;
+
+    /** Number of monsters. */
+    private int size;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param cellSize        the edge length of a grid cell in pixels (usually one tile)
+     * @param initialCapacity the number of monsters held before the columns grow
+     */
+    public MonsterStore(double cellSize, int initialCapacity) {
+        if (initialCapacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+        monster = new Monster[initialCapacity];
+        x = new double[initialCapacity];
+        y = new double[initialCapacity];
+        prevX = new double[initialCapacity];
+        prevY = new double[initialCapacity];
+        dx = new double[initialCapacity];
+        dy = new double[initialCapacity];
+        moveTimer = new double[initialCapacity];
+        aggroTick = new long[initialCapacity];
+        aiTick = new long[initialCapacity];
+        aggro = new boolean[initialCapacity];
+        tier = new int[initialCapacity];
+        hp = new int[initialCapacity];
+        maxHp = new int[initialCapacity];
+        grid = new SpatialHash(cellSize, BUCKETS, initialCapacity, i -> x[i], i -> y[i]);
+    }
+
+    /**
+     * Adds a standing monster.
+     *
+     * @param m         the monster's combat stats
+     * @param px        the left edge of its body
+     * @param py        the top edge of its body
+     * @param t         its tier
+     * @param moveDelay seconds until it first picks a wander direction
+     * @param tick      the current tick, from which its AI counts elapsed time
+     * @return the new monster's index
+     */
+    public int add(Monster m, double px, double py, int t, double moveDelay, long tick) {
+        if (size == x.length) grow();
+        int i = size++;
+        monster[i] = m;
+        x[i] = prevX[i] = px;
+        y[i] = prevY[i] = py;
+        dx[i] = dy[i] = 0;
+        moveTimer[i] = moveDelay;
+        aggroTick[i] = -1;
+        aiTick[i] = tick;
+        aggro[i] = false;
+        tier[i] = t;
+        hp[i] = m.getHealthPoint();
+        maxHp[i] = m.getMaxHealthPoint();
+        grid.insert(i, px, py);
+        return i;
+    }
+
+    /**
+     * Removes a monster by moving the last monster into its slot. When removing several,
+     * remove the highest index first so the others keep their indices.
+     *
+     * @param i the index
+     */
+    public void remove(int i) {
+        int last = --size;
+        grid.remove(i);
+        if (i != last) {
+            grid.remove(last);
+            monster[i] = monster[last];
+            x[i] = x[last];
+            y[i] = y[last];
+            prevX[i] = prevX[last];
+            prevY[i] = prevY[last];
+            dx[i] = dx[last];
+            dy[i] = dy[last];
+            moveTimer[i] = moveTimer[last];
+            aggroTick[i] = aggroTick[last];
+            aiTick[i] = aiTick[last];
+            aggro[i] = aggro[last];
+            tier[i] = tier[last];
+            hp[i] = hp[last];
+            maxHp[i] = maxHp[last];
+            grid.insert(i, x[i], y[i]);
+        }
+        monster[last] = null;
+    }
+
+    /**
+     * Removes every monster.
+     */
+    public void clear() {
+        Arrays.fill(monster, 0, size, null);
+        grid.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of monsters.
+     *
+     * @return the monster count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of a monster.
+     *
+     * @param m the monster's combat stats, compared by identity
+     * @return its index, or {@code -1} if it is not in the store
+     */
+    public int indexOf(Monster m) {
+        for (int i = 0; i < size; i++) if (monster[i] == m) return i;
+        return -1;
+    }
+
+    /**
+     * Records every monster's position at the start of a tick, for interpolation.
+     */
+    public void savePrevious() {
+        System.arraycopy(x, 0, prevX, 0, size);
+        System.arraycopy(y, 0, prevY, 0, size);
+    }
+
+    /**
+     * Moves a monster, relinking it in the grid index if it entered another cell.
+     *
+     * @param i  the index
+     * @param nx the new left edge
+     * @param ny the new top edge
+     */
+    public void moveTo(int i, double nx, double ny) {
+        x[i] = nx;
+        y[i] = ny;
+        grid.move(i, nx, ny);
+    }
+
+    /**
+     * Returns a monster's combat stats.
+     *
+     * @param i the index
+     * @return the monster
+     */
+    public Monster getMonster(int i) {
+        return monster[i];
+    }
+
+    /**
+     * Returns a monster's left edge.
+     *
+     * @param i the index
+     * @return the x position in pixels
+     */
+    public double getX(int i) {
+        return x[i];
+    }
+
+    /**
+     * Returns a monster's top edge.
+     *
+     * @param i the index
+     * @return the y position in pixels
+     */
+    public double getY(int i) {
+        return y[i];
+    }
+
+    /**
+     * Returns a monster's interpolated left edge between the previous and current tick.
+     *
+     * @param i     the index
+     * @param alpha the fraction of a tick since the last one, in {@code [0, 1]}
+     * @return the x position to draw at
+     */
+    public double renderX(int i, double alpha) {
+        return prevX[i] + (x[i] - prevX[i]) * alpha;
+    }
+
+    /**
+     * Returns a monster's interpolated top edge between the previous and current tick.
+     *
+     * @param i     the index
+     * @param alpha the fraction of a tick since the last one, in {@code [0, 1]}
+     * @return the y position to draw at
+     */
+    public double renderY(int i, double alpha) {
+        return prevY[i] + (y[i] - prevY[i]) * alpha;
+    }
+
+    /**
+     * Returns a monster's wander velocity along x.
+     *
+     * @param i the index
+     * @return pixels per tick
+     */
+    public double getDx(int i) {
+        return dx[i];
+    }
+
+    /**
+     * Returns a monster's wander velocity along y.
+     *
+     * @param i the index
+     * @return pixels per tick
+     */
+    public double getDy(int i) {
+        return dy[i];
+    }
+
+    /**
+     * Sets a monster's wander velocity.
+     *
+     * @param i  the index
+     * @param vx pixels per tick along x
+     * @param vy pixels per tick along y
+     */
+    public void setVelocity(int i, double vx, double vy) {
+        dx[i] = vx;
+        dy[i] = vy;
+    }
+
+    /**
+     * Returns the seconds until a monster picks a new wander direction.
+     *
+     * @param i the index
+     * @return the timer in seconds
+     */
+    public double getMoveTimer(int i) {
+        return moveTimer[i];
+    }
+
+    /**
+     * Sets the seconds until a monster picks a new wander direction.
+     *
+     * @param i       the index
+     * @param seconds the timer in seconds
+     */
+    public void setMoveTimer(int i, double seconds) {
+        moveTimer[i] = seconds;
+    }
+
+    /**
+     * Returns the last tick a monster was within aggro range.
+     *
+     * @param i the index
+     * @return the tick, or {@code -1} if never
+     */
+    public long getAggroTick(int i) {
+        return aggroTick[i];
+    }
+
+    /**
+     * Records that a monster is within aggro range.
+     *
+     * @param i    the index
+     * @param tick the current tick
+     */
+    public void setAggroTick(int i, long tick) {
+        aggroTick[i] = tick;
+    }
+
+    /**
+     * Returns the tick a monster's AI last ran.
+     *
+     * @param i the index
+     * @return the tick
+     */
+    public long getAiTick(int i) {
+        return aiTick[i];
+    }
+
+    /**
+     * Records that a monster's AI ran.
+     *
+     * @param i    the index
+     * @param tick the current tick
+     */
+    public void setAiTick(int i, long tick) {
+        aiTick[i] = tick;
+    }
+
+    /**
+     * Returns whether a monster is chasing the player.
+     *
+     * @param i the index
+     * @return {@code true} while aggroed
+     */
+    public boolean isAggro(int i) {
+        return aggro[i];
+    }
+
+    /**
+     * Sets whether a monster is chasing the player.
+     *
+     * @param i  the index
+     * @param on {@code true} while aggroed
+     */
+    public void setAggro(int i, boolean on) {
+        aggro[i] = on;
+    }
+
+    /**
+     * Returns a monster's tier.
+     *
+     * @param i the index
+     * @return 0 easy, 1 medium, 2 hard
+     */
+    public int getTier(int i) {
+        return tier[i];
+    }
+
+    /**
+     * Returns a monster's current HP.
+     *
+     * @param i the index
+     * @return the HP
+     */
+    public int getHp(int i) {
+        return hp[i];
+    }
+
+    /**
+     * Returns a monster's maximum HP.
+     *
+     * @param i the index
+     * @return the maximum HP
+     */
+    public int getMaxHp(int i) {
+        return maxHp[i];
+    }
+
+    /**
+     * Copies a monster's HP from its {@link Monster} after combat changed it.
+     *
+     * @param i the index
+     */
+    public void syncHp(int i) {
+        hp[i] = monster[i].getHealthPoint();
+    }
+
+    /**
+     * Finds every monster whose position lies strictly within {@code radius} of
+     * {@code (cx, cy)}; read them with {@link #hit(int)}.
+     *
+     * @param cx     the query centre x
+     * @param cy     the query centre y
+     * @param radius the query radius in pixels
+     * @return the number of monsters found
+     */
+    public int queryRadius(double cx, double cy, double radius) {
+        return grid.queryRadius(cx, cy, radius);
+    }
+
+    /**
+     * Finds every monster whose position lies inside the box {@code [minX, maxX) x [minY, maxY)};
+     * read them with {@link #hit(int)}.
+     *
+     * @param minX the left edge
+     * @param minY the top edge
+     * @param maxX the right edge (exclusive)
+     * @param maxY the bottom edge (exclusive)
+     * @return the number of monsters found
+     */
+    public int queryAabb(double minX, double minY, double maxX, double maxY) {
+        return grid.queryAabb(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Like {@link #queryAabb(double, double, double, double)}, but only looks at every
+     * {@code step}-th row of grid cells: those whose row {@code gy} satisfies
+     * {@code (gy + phase) % step == 0}. Callers cycling the phase cover the box once every
+     * {@code step} calls at a fraction of the cost of each.
+     *
+     * @param minX  the left edge
+     * @param minY  the top edge
+     * @param maxX  the right edge (exclusive)
+     * @param maxY  the bottom edge (exclusive)
+     * @param step  the row stride; a power of two
+     * @param phase selects the rows, e.g. the current tick
+     * @return the number of monsters found
+     */
+    public int queryAabbRows(double minX, double minY, double maxX, double maxY, int step, long phase) {
+        return grid.queryAabbRows(minX, minY, maxX, maxY, step, phase);
+    }
+
+    /**
+     * Returns a monster found by the last query.
+     *
+     * @param k the result number, below the count the query returned
+     * @return the monster's index
+     */
+    public int hit(int k) {
+        return grid.hit(k);
+    }
+
+    /**
+     * Returns whether any monster's position lies inside the box {@code [minX, maxX) x [minY, maxY)}.
+     *
+     * @param minX the left edge
+     * @param minY the top edge
+     * @param maxX the right edge (exclusive)
+     * @param maxY the bottom edge (exclusive)
+     * @return {@code true} if at least one monster is inside
+     */
+    public boolean anyInAabb(double minX, double minY, double maxX, double maxY) {
+        return grid.anyInAabb(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Doubles the capacity of every column.
+     */
+    private void grow() {
+        int n = x.length * 2;
+        monster = Arrays.copyOf(monster, n);
+        x = Arrays.copyOf(x, n);
+        y = Arrays.copyOf(y, n);
+        prevX = Arrays.copyOf(prevX, n);
+        prevY = Arrays.copyOf(prevY, n);
+        dx = Arrays.copyOf(dx, n);
+        dy = Arrays.copyOf(dy, n);
+        moveTimer = Arrays.copyOf(moveTimer, n);
+        aggroTick = Arrays.copyOf(aggroTick, n);
+        aiTick = Arrays.copyOf(aiTick, n);
+        aggro = Arrays.copyOf(aggro, n);
+        tier = Arrays.copyOf(tier, n);
+        hp = Arrays.copyOf(hp, n);
+        maxHp = Arrays.copyOf(maxHp, n);
+    }
+}
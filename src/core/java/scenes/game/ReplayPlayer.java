@@ -0,0 +1,88 @@
+package scenes.game;
+
+import logic.creatures.Player;
+import logic.pickaxe.Pickaxe;
+import logic.util.GameRandom;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Plays an {@link InputLog} back into a headless {@link GameController} as fast as the
+ * simulation runs, feeding each recorded input in before the tick it originally preceded.
+ * <p>
+ * The controller must be freshly built from the log's seed (see
+ * {@link InputLog#getSeed()}) with the same starting player and pickaxe as the recorded run,
+ * and must load chunks on the ticking thread through {@link #SAME_THREAD} (see
+ * {@link #newController(InputLog, Player, Pickaxe)}). A background loader would publish
+ * chunks whenever it finished, and unloaded tiles block movement, so collision and chase
+ * paths would depend on how fast the replay runs. Loading in line makes every replay of a log
+ * identical tick for tick, which makes any recorded session a repeatable workload for
+ * profiling and benchmarks. The live run streamed chunks in the background, so the replay
+ * follows it only as long as its chunks arrived before the player reached them, and only up
+ * to the first shop, crafting, equipment or boss-room action, which {@link InputLog} does
+ * not record.
+ */
+public final class ReplayPlayer {
+
+    /** Chunk loader that generates on the calling thread; required by {@link #play(InputLog, GameController)}. */
+    public static final Executor SAME_THREAD = Runnable::run;
+
+    /**
+     * Not instantiable; playback is a static operation.
+     */
+    private ReplayPlayer() {
+    }
+
+    /**
+     * Builds a controller ready to replay a log: seeded from it, loading chunks through
+     * {@link #SAME_THREAD}.
+     *
+     * @param log     the recorded input
+     * @param player  the starting player of the recorded run
+     * @param pickaxe the starting pickaxe of the recorded run
+     * @return a fresh controller
+     */
+    public static GameController newController(InputLog log, Player player, Pickaxe pickaxe) {
+        return new GameController(player, pickaxe, new GameRandom(log.getSeed()), SAME_THREAD);
+    }
+
+    /**
+     * Replays a whole log, stopping early if the player dies.
+     *
+     * @param log        the recorded input
+     * @param controller a fresh controller built from the log's seed that loads chunks through
+     *                   {@link #SAME_THREAD}
+     * @return the number of ticks simulated
+     * @throws IllegalArgumentException if the controller loads chunks on another executor
+     */
+    public static long play(InputLog log, GameController controller) {
+        if (controller.getChunkLoader() != SAME_THREAD)
+            throw new IllegalArgumentException("Replay needs a controller that loads chunks through SAME_THREAD");
+        long start = controller.getTicks();
+        InputLog.Cursor events = log.cursor();
+        boolean pending = events.next();
+        while (controller.getTicks() < log.getEndTick()) {
+            while (pending && events.tick() <= controller.getTicks()) {
+                apply(controller, events.code());
+                pending = events.next();
+            }
+            if (!controller.tick()) break;
+        }
+        return controller.getTicks() - start;
+    }
+
+    /**
+     * Delivers one recorded input to a controller.
+     *
+     * @param controller the controller
+     * @param code       the input code, see {@link InputLog#code(int, boolean)}
+     */
+    public static void apply(GameController controller, int code) {
+        int id = InputLog.inputId(code);
+        boolean down = InputLog.isDown(code);
+        if (id == InputLog.LEFT_MOUSE) controller.setLeftMouse(down);
+        else if (id == InputLog.RIGHT_MOUSE) controller.setRightMouse(down);
+        else if (down) controller.keyPressed(InputLog.key(id));
+        else controller.keyReleased(InputLog.key(id));
+    }
+}
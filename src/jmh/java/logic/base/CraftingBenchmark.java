@@ -0,0 +1,69 @@
+package logic.base;
+
+import logic.creatures.Player;
+import logic.item.weapon.IronSword;
+import logic.stone.Iron;
+import logic.stone.NormalStone;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BaseWeapon#canCraft(Player)} and {@link BaseWeapon#craft(Player)}
+ * for a two-ingredient recipe.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CraftingBenchmark {
+
+    /** The crafting player, stocked with enough for one craft. */
+    private Player player;
+
+    /** The weapon being crafted. */
+    private IronSword sword;
+
+    /**
+     * Stocks the player for one Iron Sword.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        player = new Player(100, 20, 10);
+        sword = new IronSword();
+        restock();
+    }
+
+    /**
+     * Gives the player the materials and gold for one craft.
+     */
+    private void restock() {
+        player.addItem(NormalStone.MATERIAL, 5);
+        player.addItem(Iron.MATERIAL, 8);
+        player.setGold(sword.getCraftingPrice());
+    }
+
+    /**
+     * Checks craftability with all requirements met.
+     *
+     * @return whether the sword can be crafted
+     */
+    @Benchmark
+    public boolean canCraft() {
+        return sword.canCraft(player);
+    }
+
+    /**
+     * Crafts the sword, then restocks the consumed materials and gold.
+     *
+     * @return the remaining gold
+     */
+    @Benchmark
+    public int craftAndRestock() {
+        sword.craft(player);
+        restock();
+        return player.getGold();
+    }
+}
@@ -0,0 +1,53 @@
+package logic.pickaxe;
+
+import logic.creatures.Player;
+import logic.stone.Iron;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mining an ore node to completion through {@link Pickaxe#use}, which ends in
+ * {@code baseStone.mine} adding the drops to the player.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MiningBenchmark {
+
+    /** The mining player. */
+    private Player player;
+
+    /** A pickaxe strong enough to need a few hits per node. */
+    private Pickaxe pickaxe;
+
+    /**
+     * Creates the player and pickaxe.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        player = new Player(100, 20, 10);
+        pickaxe = Pickaxe.createIronPickaxe();
+    }
+
+    /**
+     * Mines a fresh Iron node until it breaks, then drops the gathered ore so the
+     * inventory does not grow across invocations.
+     *
+     * @return the number of hits taken
+     */
+    @Benchmark
+    public int mineIronNode() {
+        Iron node = new Iron();
+        int hits = 0;
+        while (!node.isBroken()) {
+            pickaxe.use(node, player);
+            hits++;
+        }
+        player.getInventory().clear();
+        return hits;
+    }
+}
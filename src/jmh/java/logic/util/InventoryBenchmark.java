@@ -0,0 +1,71 @@
+package logic.util;
+
+import logic.base.BaseItem;
+import logic.creatures.Player;
+import logic.stone.Iron;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Player#addItem(BaseItem, int)} against inventories holding
+ * {@code stacks} distinct item types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InventoryBenchmark {
+
+    /** Number of distinct item types already in the inventory. */
+    @Param({"1", "16", "256"})
+    public int stacks;
+
+    /** The player whose inventory is filled. */
+    private Player player;
+
+    /** A stackable item present in the inventory. */
+    private BaseItem present;
+
+    /** A non-stackable item; every add opens a new stack. */
+    private BaseItem single;
+
+    /**
+     * Fills the inventory with one stack of each filler type.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        player = new Player(100, 20, 10);
+        for (int i = 1; i < stacks; i++) player.addItem(new BaseItem("Bench Filler " + i), 1);
+        present = Iron.MATERIAL;
+        player.addItem(present, 1);
+        single = new BaseItem("Bench Relic", false, 1);
+    }
+
+    /**
+     * Adds one and removes one of an already present stackable item, keeping the size fixed.
+     *
+     * @return the resulting count, so the work is not eliminated
+     */
+    @Benchmark
+    public int addAndRemoveStackable() {
+        player.addItem(present, 1);
+        player.getInventory().removeItem(present, 1);
+        return player.getInventory().count(present);
+    }
+
+    /**
+     * Adds a non-stackable item and removes its new stack again.
+     *
+     * @return the inventory size
+     */
+    @Benchmark
+    public int addAndRemoveNonStackable() {
+        Inventory inv = player.getInventory();
+        player.addItem(single, 1);
+        inv.removeItem(single, 1);
+        return inv.size();
+    }
+}
@@ -0,0 +1,66 @@
+package scenes.game;
+
+import logic.creatures.EasyMonster;
+import logic.creatures.Player;
+import logic.pickaxe.Pickaxe;
+import logic.util.GameRandom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one fixed simulation step of {@link GameController#update(long)} with
+ * {@code monsters} monsters spread around the home area.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameControllerBenchmark {
+
+    /** Number of monsters added on top of the initial spawn. */
+    @Param({"10", "100", "1000", "10000"})
+    public int monsters;
+
+    /** The controller under test. */
+    private GameController controller;
+
+    /** Time passed to the next {@link GameController#update(long)} call. */
+    private long now;
+
+    /**
+     * Creates an unkillable player and a controller populated with monsters. Chunks load on
+     * the benchmark thread, so every trial measures the same seeded world.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Player player = new Player(100, 20, 10);
+        player.setMaxHealthPoint(Integer.MAX_VALUE);
+        player.setHealth(Integer.MAX_VALUE);
+        controller = new GameController(player, Pickaxe.createNormalStonePickaxe(),
+                new GameRandom(GameRandom.DEFAULT_SEED), ReplayPlayer.SAME_THREAD);
+        Random rng = new Random(1);
+        int span = 3 * GameController.COLS * GameController.TILE_SIZE;
+        for (int i = 0; i < monsters; i++) {
+            double x = rng.nextInt(span) - span / 3.0;
+            double y = rng.nextInt(span) - span / 3.0;
+            controller.addMonster(new EasyMonster(), x, y, 0);
+        }
+        now = 0;
+        controller.update(now);
+    }
+
+    /**
+     * Advances the game by exactly one tick.
+     *
+     * @return whether the game is still running
+     */
+    @Benchmark
+    public boolean updateOneTick() {
+        now += GameController.TICK_NANOS;
+        return controller.update(now);
+    }
+}
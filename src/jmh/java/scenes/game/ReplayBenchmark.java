@@ -0,0 +1,86 @@
+package scenes.game;
+
+import logic.creatures.Player;
+import logic.pickaxe.Pickaxe;
+import logic.util.GameRandom;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures end-to-end simulation throughput by replaying a recorded session through a fresh
+ * headless {@link GameController} per invocation, with no frame pacing.
+ * <p>
+ * {@code replay} names an {@link InputLog} file saved by {@code gradle run -Precord=...};
+ * when empty, a scripted walk of {@link #SCRIPT_TICKS} ticks is replayed instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ReplayBenchmark {
+
+    /** Length of the built-in scripted session, in ticks (one minute of play). */
+    static final int SCRIPT_TICKS = 3_600;
+
+    /** Path of a recorded input log, or empty for the built-in script. */
+    @Param({""})
+    public String replay;
+
+    /** The session replayed by every invocation. */
+    private InputLog log;
+
+    /**
+     * Loads the recorded session or builds the scripted one.
+     *
+     * @throws IOException if the recording cannot be read
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (replay.isEmpty()) {
+            log = script();
+        } else {
+            try (InputStream in = Files.newInputStream(Path.of(replay))) {
+                log = InputLog.read(in);
+            }
+        }
+    }
+
+    /**
+     * Replays the whole session from a fresh world.
+     *
+     * @return the number of ticks simulated
+     */
+    @Benchmark
+    public long replaySession() {
+        Player player = new Player(100, 20, 10);
+        player.setMaxHealthPoint(Integer.MAX_VALUE);
+        player.setHealth(Integer.MAX_VALUE);
+        GameController controller = ReplayPlayer.newController(log, player, Pickaxe.createNormalStonePickaxe());
+        return ReplayPlayer.play(log, controller);
+    }
+
+    /**
+     * Builds a session that walks a square around the home area while attacking and mining.
+     *
+     * @return the scripted log
+     */
+    private static InputLog script() {
+        InputLog script = new InputLog(GameRandom.DEFAULT_SEED);
+        InputKey[] legs = {InputKey.D, InputKey.S, InputKey.A, InputKey.W};
+        for (int t = 0, leg = 0; t < SCRIPT_TICKS; t += 90, leg = (leg + 1) % legs.length) {
+            if (t > 0) script.record(t, InputLog.keyCode(legs[(leg + 3) % legs.length], false));
+            script.record(t, InputLog.keyCode(legs[leg], true));
+            script.record(t, InputLog.code(leg % 2 == 0 ? InputLog.LEFT_MOUSE : InputLog.RIGHT_MOUSE, true));
+            script.record(t + 30, InputLog.code(leg % 2 == 0 ? InputLog.LEFT_MOUSE : InputLog.RIGHT_MOUSE, false));
+        }
+        script.finish(SCRIPT_TICKS);
+        return script;
+    }
+}
@@ -1,5 +1,7 @@
 package application;
 
+import assets.AssetCache;
+import diagnostics.FlightRecording;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -15,11 +17,13 @@ public class Main extends Application {
     public static SceneManager sceneManager;
 
     /**
-     * Standard Java entry point; delegates to {@link Application#launch}.
+     * Standard Java entry point; starts a flight recording if one was requested with the
+     * {@code game.jfr} system property, then delegates to {@link Application#launch}.
      *
      * @param args command-line arguments (unused)
      */
     public static void main(String[] args) {
+        FlightRecording.startIfRequested();
         launch(args);
     }
 
@@ -33,9 +37,7 @@ public class Main extends Application {
     public void start(Stage stage) {
         stage.setTitle("Tanjiro: The Swordsmith");
         stage.setResizable(false);
-        stage.getIcons().add(new javafx.scene.image.Image(
-                Objects.requireNonNull(getClass().getResourceAsStream("/images/logo.png"))
-        ));
+        stage.getIcons().add(Objects.requireNonNull(AssetCache.image("/images/logo.png")));
 
         sceneManager = new SceneManager(stage);
 
@@ -0,0 +1,39 @@
+package application;
+
+import javafx.scene.Scene;
+
+/**
+ * A screen whose {@link Scene} is built once and then kept by the {@link SceneManager},
+ * so switching back to it only swaps the stage's scene instead of rebuilding it.
+ * <p>
+ * The manager calls {@link #resume()} each time the screen is shown and {@link #suspend()}
+ * each time another screen replaces it; {@link #dispose()} is called once when the screen
+ * will never be shown again.
+ */
+public interface ManagedScene {
+
+    /**
+     * Returns the screen's scene, building it on the first call.
+     *
+     * @return the same scene on every call
+     */
+    Scene getScene();
+
+    /**
+     * Starts the screen's animation loop; called each time the screen is shown.
+     */
+    void resume();
+
+    /**
+     * Stops the screen's animation loop and drops transient input; called each time the
+     * screen is hidden. A suspended screen can be resumed later with its state intact.
+     */
+    void suspend();
+
+    /**
+     * Releases the screen for good; it is not shown again afterwards.
+     */
+    default void dispose() {
+        suspend();
+    }
+}
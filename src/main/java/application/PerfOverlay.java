@@ -0,0 +1,228 @@
+package application;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import logic.util.JvmStats;
+import logic.util.PhaseTimer;
+import logic.util.SampleRing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Diagnostics overlay toggled with F3: a histogram of recent frame times with p50/p99/max,
+ * the same figures for each timed phase, the render thread's allocation rate, GC activity,
+ * and live entity counts.
+ * <p>
+ * Timings come from {@link PhaseTimer}s, which only measure while the overlay is shown. The
+ * text is rebuilt a few times a second rather than every frame, so the overlay's own
+ * garbage barely shows up in the allocation rate it reports.
+ */
+public class PerfOverlay {
+
+    /** How often the statistics and text are recomputed, in nanoseconds. */
+    private static final long REFRESH_NANOS = 250_000_000L;
+
+    /** Number of histogram buckets. */
+    private static final int BUCKETS = 25;
+
+    /** Width of a histogram bucket, in nanoseconds; the last bucket holds everything slower. */
+    private static final long BUCKET_NANOS = 2_000_000L;
+
+    /** Frame time of a 60 fps frame, marked on the histogram. */
+    private static final long FRAME_60_NANOS = 16_666_667L;
+
+    /** Width of the overlay panel in pixels. */
+    private static final double PANEL_W = 290;
+
+    /** Height of one text line in pixels. */
+    private static final double LINE_H = 13;
+
+    /** Height of the histogram in pixels. */
+    private static final double HIST_H = 48;
+
+    /** Overlay text font. */
+    private static final Font FONT = Font.font("Monospaced", 11);
+
+    /** Panel background. */
+    private static final Color PANEL_BG = Color.rgb(0, 0, 0, 0.72);
+
+    /** Histogram bar colour for frames within budget. */
+    private static final Color BAR_OK = Color.web("#81c784");
+
+    /** Histogram bar colour for frames over budget. */
+    private static final Color BAR_SLOW = Color.web("#e57373");
+
+    /** Timers shown; the first one's frame intervals feed the histogram. */
+    private final PhaseTimer[] timers;
+
+    /** Labels of the live counts. */
+    private final List<String> countLabels = new ArrayList<>();
+
+    /** Sources of the live counts. */
+    private final List<IntSupplier> counts = new ArrayList<>();
+
+    /** GC and allocation sampler. */
+    private final JvmStats jvm = new JvmStats();
+
+    /** Scratch copy of a ring's samples, sorted for percentiles. */
+    private final long[] scratch = new long[PhaseTimer.FRAMES];
+
+    /** Frame counts per histogram bucket. */
+    private final int[] histogram = new int[BUCKETS];
+
+    /** Largest bucket count, for scaling the bars. */
+    private int histogramMax;
+
+    /** Cached text lines. */
+    private String[] lines = new String[0];
+
+    /** Time of the last refresh, or {@code -1} to refresh on the next draw. */
+    private long lastRefresh = -1;
+
+    /** {@code true} while the overlay is shown. */
+    private boolean visible;
+
+    /**
+     * Creates a hidden overlay.
+     *
+     * @param timers the phase timers to show; the first one's frame intervals feed the
+     *               histogram
+     */
+    public PerfOverlay(PhaseTimer... timers) {
+        this.timers = timers.clone();
+    }
+
+    /**
+     * Adds a live count to the overlay.
+     *
+     * @param label the label, e.g. {@code "monsters"}
+     * @param value the source of the count, read a few times a second on the FX thread
+     * @return this overlay
+     */
+    public PerfOverlay count(String label, IntSupplier value) {
+        countLabels.add(label);
+        counts.add(value);
+        return this;
+    }
+
+    /**
+     * Shows or hides the overlay, starting or stopping the timers with it.
+     */
+    public void toggle() {
+        visible = !visible;
+        for (PhaseTimer t : timers) t.setEnabled(visible);
+        lastRefresh = -1;
+    }
+
+    /**
+     * @return {@code true} while the overlay is shown
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Closes the current frame on every timer. Call once per frame, after all timed phases.
+     *
+     * @param nowNanos the frame timestamp
+     */
+    public void endFrame(long nowNanos) {
+        for (PhaseTimer t : timers) t.endFrame(nowNanos);
+    }
+
+    /**
+     * Draws the overlay if it is shown. The graphics context must be in screen coordinates.
+     *
+     * @param gc       the graphics context
+     * @param x        the panel's left edge
+     * @param y        the panel's top edge
+     * @param nowNanos the frame timestamp
+     */
+    public void draw(GraphicsContext gc, double x, double y, long nowNanos) {
+        if (!visible) return;
+        if (lastRefresh < 0 || nowNanos - lastRefresh >= REFRESH_NANOS) {
+            refresh(nowNanos);
+            lastRefresh = nowNanos;
+        }
+
+        double h = 10 + HIST_H + 8 + lines.length * LINE_H + 6;
+        gc.setFill(PANEL_BG);
+        gc.fillRoundRect(x, y, PANEL_W, h, 8, 8);
+
+        double bw = (PANEL_W - 20) / BUCKETS, base = y + 10 + HIST_H;
+        for (int b = 0; b < BUCKETS; b++) {
+            if (histogram[b] == 0) continue;
+            double bh = Math.max(1, HIST_H * histogram[b] / histogramMax);
+            gc.setFill((b + 1) * BUCKET_NANOS > FRAME_60_NANOS ? BAR_SLOW : BAR_OK);
+            gc.fillRect(x + 10 + b * bw, base - bh, bw - 1, bh);
+        }
+        gc.setStroke(Color.GRAY);
+        double mark = x + 10 + (double) FRAME_60_NANOS / BUCKET_NANOS * bw;
+        gc.strokeLine(mark, y + 10, mark, base);
+
+        gc.setFill(Color.WHITE);
+        gc.setFont(FONT);
+        gc.setTextAlign(TextAlignment.LEFT);
+        double ty = base + 8 + LINE_H - 3;
+        for (String line : lines) {
+            gc.fillText(line, x + 10, ty);
+            ty += LINE_H;
+        }
+    }
+
+    /**
+     * Recomputes the histogram, percentiles and counters and rebuilds the text.
+     *
+     * @param nowNanos the current time
+     */
+    private void refresh(long nowNanos) {
+        jvm.sample(nowNanos);
+        List<String> out = new ArrayList<>();
+
+        SampleRing frames = timers[0].frames();
+        int n = frames.snapshot(scratch);
+        Arrays.fill(histogram, 0);
+        histogramMax = 1;
+        for (int i = 0; i < n; i++) {
+            int b = (int) Math.min(BUCKETS - 1, scratch[i] / BUCKET_NANOS);
+            histogramMax = Math.max(histogramMax, ++histogram[b]);
+        }
+        out.add(String.format("%-16s %6s %6s %6s", "ms", "p50", "p99", "max"));
+        out.add(stats("frame", frames));
+        for (PhaseTimer t : timers) {
+            for (int p = 0; p < t.phaseCount(); p++) out.add(stats(t.name(p), t.phase(p)));
+        }
+
+        long rate = jvm.getAllocationRate();
+        out.add(String.format("alloc %s   GC %d (%d ms)",
+                rate < 0 ? "n/a" : String.format("%.1f MB/s", rate / 1e6), jvm.getGcCount(), jvm.getGcMillis()));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < counts.size(); i++) {
+            if (sb.length() > 0) sb.append("  ");
+            sb.append(countLabels.get(i)).append(' ').append(counts.get(i).getAsInt());
+        }
+        if (sb.length() > 0) out.add(sb.toString());
+        lines = out.toArray(new String[0]);
+    }
+
+    /**
+     * Formats a ring's p50, p99 and max in milliseconds.
+     *
+     * @param label the row label
+     * @param ring  the samples
+     * @return the text row
+     */
+    private String stats(String label, SampleRing ring) {
+        int n = ring.snapshot(scratch);
+        Arrays.sort(scratch, 0, n);
+        return String.format("%-16s %6.2f %6.2f %6.2f", label,
+                SampleRing.percentile(scratch, n, 0.50) / 1e6,
+                SampleRing.percentile(scratch, n, 0.99) / 1e6,
+                n == 0 ? 0 : scratch[n - 1] / 1e6);
+    }
+}
@@ -1,9 +1,12 @@
 package application;
 
 import audio.AudioManager;
+import diagnostics.SceneTransitionEvent;
 import javafx.stage.Stage;
 import logic.creatures.Player;
 import logic.pickaxe.Pickaxe;
+import logic.util.GameClock;
+import logic.util.GameRandom;
 import scenes.boss.BossController;
 import scenes.boss.BossView;
 import scenes.game.GameController;
@@ -13,10 +16,17 @@ import scenes.gameover.GameOverView;
 import scenes.mainmenu.MainMenuController;
 import scenes.mainmenu.MainMenuView;
 
+import java.util.SplittableRandom;
+
 /**
  * Central scene coordinator for the game.
  * Owns the primary {@link Stage} and is responsible for transitioning between
  * all screens: main menu, game world, boss room, and game-over screen.
+ * <p>
+ * Screens are {@link ManagedScene}s that are built once and kept: the menu for the whole
+ * session, and the game world and boss room for the current run. Moving between the world
+ * and the boss room suspends one screen and resumes the other, so the world, its monsters,
+ * and the battle all survive the trip. A run's screens are disposed when it ends.
  */
 public class SceneManager {
 
@@ -29,6 +39,30 @@ public class SceneManager {
     /** The primary JavaFX stage managed by this coordinator. */
     private final Stage stage;
 
+    /**
+     * Random source of the current run, created with its world from {@link #runSeed()};
+     * runs started with the same seed play out the same for the same input.
+     */
+    private GameRandom random;
+
+    /** The screen currently on the stage, or {@code null} before the first transition. */
+    private ManagedScene current;
+
+    /** The main menu, built on first use and kept for the session. */
+    private MainMenuView mainMenu;
+
+    /** The player of the current run, or {@code null} when no run is in progress. */
+    private Player runPlayer;
+
+    /** The game world of the current run, or {@code null} if not built yet. */
+    private GameView gameView;
+
+    /** The boss room of the current run, or {@code null} if not entered yet. */
+    private BossView bossView;
+
+    /** The game-over screen being shown, or {@code null}. */
+    private GameOverView gameOverView;
+
     /**
      * Creates a new SceneManager and configures the window dimensions.
      *
@@ -44,25 +78,39 @@ public class SceneManager {
      * Transitions to the main menu screen and starts the menu BGM.
      */
     public void showMainMenu() {
+        ManagedScene from = current;
+        SceneTransitionEvent transition = beginTransition();
         AudioManager.playBGM("/sounds/menu.mp3", 0.1);
 
-        MainMenuController controller = new MainMenuController();
-        MainMenuView view = new MainMenuView(controller);
-        stage.setScene(view.build());
+        if (mainMenu == null)
+            mainMenu = new MainMenuView(new MainMenuController(new GameRandom(GameRandom.DEFAULT_SEED)));
+        show(mainMenu);
+        endRun();
+        endTransition(transition, from);
     }
 
     /**
-     * Transitions to the main game world screen.
+     * Transitions to the main game world screen. Returning with the player of the current
+     * run resumes the existing world; a different player starts a new run.
      *
      * @param player  the player character to use in the game
-     * @param pickaxe the starting pickaxe for the player
+     * @param pickaxe the starting pickaxe for the player, used only when a new run starts
      */
     public void showGame(Player player, Pickaxe pickaxe) {
+        ManagedScene from = current;
+        SceneTransitionEvent transition = beginTransition();
         AudioManager.playBGM("/sounds/bgm.mp3", 0.1);
 
-        GameController controller = new GameController(player, pickaxe);
-        GameView view = new GameView(controller);
-        stage.setScene(view.buildScene());
+        if (player != runPlayer) {
+            endRun();
+            runPlayer = player;
+        }
+        if (gameView == null) {
+            random = new GameRandom(runSeed());
+            gameView = new GameView(new GameController(player, pickaxe, random));
+        }
+        show(gameView);
+        endTransition(transition, from);
     }
 
     /**
@@ -73,11 +121,14 @@ public class SceneManager {
      *                      passed by reference so the boss scene can read upgrades
      */
     public void showBossRoom(Player player, Pickaxe[] pickaxeHolder) {
+        ManagedScene from = current;
+        SceneTransitionEvent transition = beginTransition();
         AudioManager.playBGM("/sounds/boss.mp3", 0.02);
 
-        BossController controller = new BossController(player);
-        BossView view = new BossView(controller, pickaxeHolder);
-        stage.setScene(view.build());
+        if (bossView == null) bossView = new BossView(
+                new BossController(player, new GameClock(), random), pickaxeHolder);
+        show(bossView);
+        endTransition(transition, from);
     }
 
     /**
@@ -87,10 +138,86 @@ public class SceneManager {
      * @param player the player whose final stats are displayed
      */
     public void showGameOver(boolean won, Player player) {
+        ManagedScene from = current;
+        SceneTransitionEvent transition = beginTransition();
         AudioManager.playBGM("/sounds/menu.mp3", 0.02);
 
-        GameOverController controller = new GameOverController(won, player);
-        GameOverView view = new GameOverView(controller);
-        stage.setScene(view.build());
+        GameOverView view = new GameOverView(new GameOverController(won, player, random));
+        show(view);
+        endRun();
+        gameOverView = view;
+        endTransition(transition, from);
+    }
+
+    /**
+     * Puts a screen on the stage, suspending the one it replaces.
+     *
+     * @param next the screen to show
+     */
+    private void show(ManagedScene next) {
+        if (current != null && current != next) current.suspend();
+        current = next;
+        stage.setScene(next.getScene());
+        next.resume();
+    }
+
+    /**
+     * Starts timing a screen switch if a recording wants it.
+     *
+     * @return the started event, or {@code null} when transitions are not being recorded
+     */
+    private static SceneTransitionEvent beginTransition() {
+        SceneTransitionEvent event = SceneTransitionEvent.enabled() ? new SceneTransitionEvent() : null;
+        if (event != null) event.begin();
+        return event;
+    }
+
+    /**
+     * Records a finished screen switch, to the screen now on the stage.
+     *
+     * @param event the event returned by {@link #beginTransition()}, or {@code null}
+     * @param from  the screen that was on the stage before the switch, or {@code null}
+     */
+    private void endTransition(SceneTransitionEvent event, ManagedScene from) {
+        if (event == null || !event.shouldCommit()) return;
+        event.from = from == null ? "none" : from.getClass().getSimpleName();
+        event.to = current.getClass().getSimpleName();
+        event.commit();
+    }
+
+    /**
+     * Returns the seed for a new run: the {@code game.seed} system property if set, otherwise
+     * a fresh seed, which is printed so the run can be reproduced with {@code -Dgame.seed}.
+     *
+     * @return the run seed
+     */
+    private static long runSeed() {
+        Long fixed = Long.getLong("game.seed");
+        if (fixed != null) return fixed;
+        long seed = new SplittableRandom().nextLong();
+        System.out.println("Run seed: " + seed);
+        return seed;
+    }
+
+    /**
+     * Disposes the screens of the current run, except the one on the stage.
+     */
+    private void endRun() {
+        gameView = dispose(gameView);
+        bossView = dispose(bossView);
+        gameOverView = dispose(gameOverView);
+        runPlayer = null;
+    }
+
+    /**
+     * Disposes a screen unless it is on the stage.
+     *
+     * @param view the screen, or {@code null}
+     * @param <T>  the screen type
+     * @return {@code null}, for clearing the field that held the screen
+     */
+    private <T extends ManagedScene> T dispose(T view) {
+        if (view != null && view != current) view.dispose();
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package assets;
+
+import diagnostics.AssetLoadEvent;
+import javafx.scene.image.Image;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Application-wide cache of decoded images and sprite atlases.
+ * Each image is read and decoded once per requested size and then shared by every scene,
+ * so rebuilding a scene (e.g. returning from the boss room) costs no image loading.
+ * Images are decoded directly at the size they are drawn at, so drawing them needs no scaling.
+ * All methods must be called on the JavaFX application thread.
+ */
+public class AssetCache {
+
+    /** Decoded images keyed by {@code path@widthxheight}; {@code null} values mark missing resources. */
+    private static final Map<String, Image> images = new HashMap<>();
+
+    /** Packed atlases keyed by name. */
+    private static final Map<String, SpriteAtlas> atlases = new HashMap<>();
+
+    /**
+     * Returns an image at its natural size.
+     *
+     * @param path the classpath-relative resource path (e.g. {@code "/images/logo.png"})
+     * @return the decoded image, or {@code null} if the resource is missing or unreadable
+     */
+    public static Image image(String path) {
+        return image(path, 0, 0);
+    }
+
+    /**
+     * Returns an image decoded and smoothly scaled to the given size.
+     *
+     * @param path   the classpath-relative resource path
+     * @param width  the width to decode at, or {@code 0} for the natural width
+     * @param height the height to decode at, or {@code 0} for the natural height
+     * @return the decoded image, or {@code null} if the resource is missing or unreadable
+     */
+    public static Image image(String path, double width, double height) {
+        String key = path + "@" + width + "x" + height;
+        if (images.containsKey(key)) return images.get(key);
+        AssetLoadEvent event = AssetLoadEvent.enabled() ? new AssetLoadEvent() : null;
+        if (event != null) event.begin();
+        Image img = null;
+        try (InputStream s = AssetCache.class.getResourceAsStream(path)) {
+            if (s != null) {
+                img = new Image(s, width, height, false, true);
+                if (img.isError()) img = null;
+            }
+        } catch (Exception e) {
+            img = null;
+        }
+        if (img == null) System.out.println("Could not load image: " + path);
+        images.put(key, img);
+        if (event != null && event.shouldCommit()) {
+            event.path = path;
+            event.loaded = img != null;
+            if (img != null) {
+                event.width = (int) img.getWidth();
+                event.height = (int) img.getHeight();
+                event.bytesDecoded = 4L * event.width * event.height;
+            }
+            event.commit();
+        }
+        return img;
+    }
+
+    /**
+     * Returns a sprite atlas, packing it on first use from images decoded at the cell size.
+     * Later calls with the same name return the cached atlas whatever the other arguments.
+     *
+     * @param name   the cache key of the atlas
+     * @param cellW  the width of every sprite
+     * @param cellH  the height of every sprite
+     * @param paths  the classpath-relative resource paths, in sprite-index order
+     * @return the atlas
+     */
+    public static SpriteAtlas atlas(String name, int cellW, int cellH, String... paths) {
+        SpriteAtlas atlas = atlases.get(name);
+        if (atlas == null) {
+            Image[] sprites = new Image[paths.length];
+            for (int i = 0; i < paths.length; i++) sprites[i] = image(paths[i], cellW, cellH);
+            atlas = new SpriteAtlas(cellW, cellH, sprites);
+            atlases.put(name, atlas);
+        }
+        return atlas;
+    }
+}
@@ -0,0 +1,106 @@
+package assets;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Equally sized sprites packed into a single image and drawn by source rectangle.
+ * Sprites are copied in at their final size, so drawing one is an unscaled blit from
+ * one shared texture instead of scaling a separate full-size image.
+ */
+public class SpriteAtlas {
+
+    /** Width of every sprite in pixels. */
+    private final int cellW;
+
+    /** Height of every sprite in pixels. */
+    private final int cellH;
+
+    /** Sprites per atlas row. */
+    private final int columns;
+
+    /** The packed sprite sheet. */
+    private final WritableImage sheet;
+
+    /** Whether each sprite slot holds an image; missing sources leave a transparent slot. */
+    private final boolean[] present;
+
+    /**
+     * Packs the given sprites into a near-square grid.
+     *
+     * @param cellW   the width of every sprite
+     * @param cellH   the height of every sprite
+     * @param sprites the sprites, already at {@code cellW x cellH}; {@code null} entries are skipped
+     */
+    public SpriteAtlas(int cellW, int cellH, Image... sprites) {
+        this.cellW = cellW;
+        this.cellH = cellH;
+        this.columns = Math.max(1, (int) Math.ceil(Math.sqrt(sprites.length)));
+        int rows = Math.max(1, (sprites.length + columns - 1) / columns);
+        this.sheet = new WritableImage(columns * cellW, rows * cellH);
+        this.present = new boolean[sprites.length];
+        for (int i = 0; i < sprites.length; i++) {
+            Image img = sprites[i];
+            PixelReader reader = img == null ? null : img.getPixelReader();
+            if (reader == null) continue;
+            int w = Math.min(cellW, (int) img.getWidth()), h = Math.min(cellH, (int) img.getHeight());
+            sheet.getPixelWriter().setPixels(srcX(i), srcY(i), w, h, reader, 0, 0);
+            present[i] = true;
+        }
+    }
+
+    /**
+     * Returns the X position of a sprite in the sheet.
+     *
+     * @param index the sprite index
+     * @return the source X
+     */
+    private int srcX(int index) {
+        return (index % columns) * cellW;
+    }
+
+    /**
+     * Returns the Y position of a sprite in the sheet.
+     *
+     * @param index the sprite index
+     * @return the source Y
+     */
+    private int srcY(int index) {
+        return (index / columns) * cellH;
+    }
+
+    /**
+     * Returns whether the sprite at an index was loaded.
+     *
+     * @param index the sprite index
+     * @return {@code true} if the sprite can be drawn
+     */
+    public boolean has(int index) {
+        return index >= 0 && index < present.length && present[index];
+    }
+
+    /**
+     * Draws a sprite unscaled with its top-left corner at the given position.
+     * Missing sprites draw nothing.
+     *
+     * @param gc    the graphics context
+     * @param index the sprite index
+     * @param x     the destination X
+     * @param y     the destination Y
+     */
+    public void draw(GraphicsContext gc, int index, double x, double y) {
+        if (!has(index)) return;
+        gc.drawImage(sheet, srcX(index), srcY(index), cellW, cellH, x, y, cellW, cellH);
+    }
+
+    /**
+     * Returns the packed sprite sheet.
+     *
+     * @return the sheet image
+     */
+    public Image getSheet() {
+        return sheet;
+    }
+}
@@ -1,5 +1,6 @@
 package audio;
 
+import diagnostics.MusicEvent;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
@@ -20,11 +21,15 @@ public class AudioManager {
      * @param volume       the playback volume, between {@code 0.0} (silent) and {@code 1.0} (full)
      */
     public static void playBGM(String resourcePath, double volume) {
+        MusicEvent event = MusicEvent.enabled() ? new MusicEvent() : null;
+        if (event != null) event.begin();
+        boolean started = false;
         stopBGM();
         try {
             var url = AudioManager.class.getResource(resourcePath);
             if (url == null) {
                 System.out.println("Not found: " + resourcePath);
+                commitMusic(event, resourcePath, volume, false);
                 return;
             }
 
@@ -33,10 +38,28 @@ public class AudioManager {
             mediaPlayer.setCycleCount(MediaPlayer.INDEFINITE);
             mediaPlayer.setVolume(volume);
             mediaPlayer.play();
+            started = true;
 
         } catch (Exception e) {
             System.out.println("Could not play: " + e.getMessage());
         }
+        commitMusic(event, resourcePath, volume, started);
+    }
+
+    /**
+     * Fills in and commits a music event if a recording still wants it.
+     *
+     * @param event        the event begun by {@link #playBGM(String, double)}, or {@code null}
+     * @param resourcePath the track
+     * @param volume       the requested volume
+     * @param started      {@code true} if playback started
+     */
+    private static void commitMusic(MusicEvent event, String resourcePath, double volume, boolean started) {
+        if (event == null || !event.shouldCommit()) return;
+        event.track = resourcePath;
+        event.volume = volume;
+        event.started = started;
+        event.commit();
     }
 
     /**
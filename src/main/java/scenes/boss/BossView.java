@@ -1,13 +1,18 @@
 package scenes.boss;
 
 import application.Main;
+import application.ManagedScene;
+import application.PerfOverlay;
 import application.SceneManager;
+import assets.AssetCache;
+import diagnostics.RenderEvent;
 import javafx.animation.AnimationTimer;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.image.Image;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
@@ -19,15 +24,16 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.TextAlignment;
 import logic.creatures.Player;
 import logic.pickaxe.Pickaxe;
+import logic.util.PhaseTimer;
 
-import java.util.Objects;
 
 /**
  * JavaFX view for the boss battle scene.
  * Renders the animated battle arena on a {@link javafx.scene.canvas.Canvas},
  * manages all UI buttons and sub-menu overlays, and drives the game loop.
+ * The view is kept while the player flees to the world and back.
  */
-public class BossView {
+public class BossView implements ManagedScene {
 
     /** Scene width in pixels. */
     private static final int W = SceneManager.W;
@@ -44,6 +50,15 @@ public class BossView {
     /** Single-element array holding the player's current pickaxe (for the Flee button). */
     private final Pickaxe[] pickaxeHolder;
 
+    /** Side length in pixels at which boss sprites are drawn. */
+    private static final int BOSS_SIZE = 320;
+
+    /** Width in pixels at which player sprites are drawn. */
+    private static final int PLAYER_W = 300;
+
+    /** Height in pixels at which player sprites are drawn. */
+    private static final int PLAYER_H = 320;
+
     /** Sprite images for each of the four player skills (indexed 0–3). */
     private final Image[] imgPlayerSkills = new Image[4];
 
@@ -77,24 +92,27 @@ public class BossView {
     /** Index of the skill currently animating (0–3), or {@code -1} for a normal attack. */
     private int activeSkillIdx = -1;
 
-    /** System time (ms) when the current attack animation should end. */
+    /** Game time (ms) when the current attack animation should end. */
     private long attackAnimEndMs = 0;
 
     /** Current horizontal shake offset for the boss sprite in pixels. */
     private double bossShakeX = 0;
 
-    /** System time (ms) of the last boss shake trigger. */
+    /** Game time (ms) of the last boss shake trigger. */
     private double lastShakeTime = 0;
 
     /** Current horizontal shake offset for the player sprite in pixels. */
     private double playerShakeX = 0;
 
-    /** System time (ms) of the last player shake trigger. */
+    /** Game time (ms) of the last player shake trigger. */
     private double lastPlayerShake = 0;
 
     /** The main game loop animation timer. */
     private AnimationTimer GameLoop;
 
+    /** The battle scene, built on the first {@link #getScene()}. */
+    private Scene scene;
+
     /** Battle action buttons shown at the bottom of the screen. */
     private Button attackBtn, skillBtn, bagBtn, fleeBtn, nextBtn, defenseBtn;
 
@@ -110,6 +128,36 @@ public class BossView {
     /** The pane containing the heal sub-menu overlay. */
     private Pane healPane;
 
+    /** Parsed theme colour of the boss at {@link #bossColorIndex}. */
+    private Color bossColor;
+
+    /** Boss index {@link #bossColor} was parsed for, or {@code -1} before the first frame. */
+    private int bossColorIndex = -1;
+
+    /** Timed phase: the enemy's turn. */
+    private static final int PHASE_ENEMY_TURN = 0;
+
+    /** Timed phase: the advisor's search. */
+    private static final int PHASE_ADVISOR = 1;
+
+    /** Timed phase: drawing the battle. */
+    private static final int PHASE_RENDER = 2;
+
+    /** Times the battle's frame phases while the diagnostics overlay is shown. */
+    private final PhaseTimer phaseTimer = new PhaseTimer("enemyTurn", "advisor", "render");
+
+    /** Diagnostics overlay, toggled with F3. */
+    private final PerfOverlay perfOverlay = new PerfOverlay(phaseTimer);
+
+    /** Searches for the recommended action when the advisor is on. */
+    private final BossAdvisor advisor = new BossAdvisor();
+
+    /** {@code true} while the advisor's recommendation is shown; toggled with H. */
+    private boolean advisorOn = false;
+
+    /** Recommendation for the current player turn, or {@code null} until the next search. */
+    private String adviceText;
+
     /**
      * Creates a new BossView.
      *
@@ -124,45 +172,81 @@ public class BossView {
     }
 
     /**
-     * Loads all boss, player, and skill sprite images from the classpath resources.
+     * Fetches all boss, player, and skill sprite images from the shared {@link AssetCache},
+     * decoded at the size they are drawn at.
      */
     private void loadImages() {
-        imgBoss1 = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/images/Akaza.png")));
-        imgBoss2 = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/images/Kokushibo.png")));
-        imgBoss3 = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/images/Muzan.png")));
-        imgPlayerIdle = loadImg("/images/player_idle.png");
-        imgPlayerAttack = loadImg("/images/player_slash_right.png");
+        imgBoss1 = AssetCache.image("/images/Akaza.png", BOSS_SIZE, BOSS_SIZE);
+        imgBoss2 = AssetCache.image("/images/Kokushibo.png", BOSS_SIZE, BOSS_SIZE);
+        imgBoss3 = AssetCache.image("/images/Muzan.png", BOSS_SIZE, BOSS_SIZE);
+        imgPlayerIdle = playerImage("/images/player_idle.png");
+        imgPlayerAttack = playerImage("/images/player_slash_right.png");
 
         // One image per skill:
         // 0: Hinokami Kagura, 1: Dead Calm, 2: Constant Flux 3: Water Wheel
-        imgPlayerSkills[0] = loadImg("/images/player-skill-hinokamikagura.png");
-        imgPlayerSkills[1] = loadImg("/images/player-skill-deadcalm.png");
-        imgPlayerSkills[2] = loadImg("/resources/images/player-skill-constantflux.png");
-        imgPlayerSkills[3] = loadImg("/resources/images/player-skill-waterwheel.png");
+        imgPlayerSkills[0] = playerImage("/images/player-skill-hinokamikagura.png");
+        imgPlayerSkills[1] = playerImage("/images/player-skill-deadcalm.png");
+        imgPlayerSkills[2] = playerImage("/images/player-skill-constantflux.png");
+        imgPlayerSkills[3] = playerImage("/images/player-skill-waterwheel.png");
     }
 
     /**
-     * Attempts to load an image from the given classpath resource path.
+     * Returns a player sprite from the shared cache, decoded at the battle sprite size.
      *
      * @param p the classpath-relative resource path
-     * @return the loaded {@link Image}, or {@code null} if the resource could not be found or loaded
+     * @return the image, or {@code null} if the resource could not be found or loaded
      */
-    private Image loadImg(String p) {
-        try {
-            var s = getClass().getResourceAsStream(p);
-            return s == null ? null : new Image(s);
-        } catch (Exception e) {
-            return null;
-        }
+    private Image playerImage(String p) {
+        return AssetCache.image(p, PLAYER_W, PLAYER_H);
     }
 
     /**
-     * Builds and returns the complete boss battle {@link Scene}.
-     * Starts the animation/game loop which runs until the battle ends.
+     * Returns the boss battle {@link Scene}, building it on the first call.
+     *
+     * @return the battle scene
+     */
+    @Override
+    public Scene getScene() {
+        if (scene == null) scene = build();
+        return scene;
+    }
+
+    /**
+     * Starts the animation/game loop, which runs until the battle ends or the player flees.
+     * A resumed battle continues where the player fled from it, with no game time passed;
+     * advice shown before fleeing is dropped so the advisor re-plans for the current state.
+     */
+    @Override
+    public void resume() {
+        getScene();
+        adviceText = null;
+        controller.getClock().resync();
+        GameLoop.start();
+    }
+
+    /**
+     * Returns the battle's game time, which drives every animation and turn delay.
+     *
+     * @return game time in milliseconds
+     */
+    private long nowMs() {
+        return controller.getClock().millis();
+    }
+
+    /**
+     * Stops the animation/game loop.
+     */
+    @Override
+    public void suspend() {
+        if (GameLoop != null) GameLoop.stop();
+    }
+
+    /**
+     * Builds the complete boss battle {@link Scene}.
      *
      * @return the ready-to-display JavaFX scene
      */
-    public Scene build() {
+    private Scene build() {
         Canvas canvas = new Canvas(W, H);
         GraphicsContext gc = canvas.getGraphicsContext2D();
         BattleMenuController menuCtrl = controller.getMenuCtrl();
@@ -174,12 +258,12 @@ public class BossView {
                         showSkillAnim = true;        // mark as skill (not normal attack)
                         activeSkillIdx = idx;         // remember which skill (0-3)
                         showAttackAnim = true;
-                        attackAnimEndMs = System.currentTimeMillis() + ANIM_DURATION;
+                        attackAnimEndMs = nowMs() + ANIM_DURATION;
                         controller.clearAttackAnimFlag();
                     }
                     if (controller.isPendingBossShake()) {
                         bossShakeX = 8;
-                        lastShakeTime = System.currentTimeMillis();
+                        lastShakeTime = nowMs();
                         controller.clearBossShakeFlag();
                     }
                     applyResult(r);
@@ -240,23 +324,47 @@ public class BossView {
         GameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                animTime += 1.0 / 60;
+                animTime += controller.getClock().sync(now) / 1e9;
                 updateVisualState();
 
                 if (controller.getState() == BossController.BattleState.ENEMY_TURN
-                        && System.currentTimeMillis() - controller.getLastEnemyActionMs() > 900) {
+                        && nowMs() - controller.getLastEnemyActionMs() > 900) {
+                    phaseTimer.begin(PHASE_ENEMY_TURN);
                     handleEnemyTurn();
+                    phaseTimer.end(PHASE_ENEMY_TURN);
+                }
+                if (advisorOn && adviceText == null
+                        && controller.getState() == BossController.BattleState.PLAYER_TURN) {
+                    phaseTimer.begin(PHASE_ADVISOR);
+                    BossAdvisor.Advice advice = advisor.advise(controller);
+                    adviceText = String.format("ADVISOR: %s  (score %.2f, %d turns ahead)  |  H: hide",
+                            BossAdvisor.describe(controller, advice.action()), advice.value(), advice.depth());
+                    phaseTimer.end(PHASE_ADVISOR);
                 }
+                phaseTimer.begin(PHASE_RENDER);
+                RenderEvent event = RenderEvent.enabled() ? new RenderEvent() : null;
+                if (event != null) event.begin();
                 render(gc);
+                if (event != null && event.shouldCommit()) {
+                    event.scene = "boss";
+                    event.commit();
+                }
+                phaseTimer.end(PHASE_RENDER);
+                perfOverlay.draw(gc, W - 300, 10, now);
+                perfOverlay.endFrame(now);
                 if (skillPane.isVisible()) skillMenuView.update();
                 if (healPane.isVisible()) {
                     healMenuView.update(menuCtrl.getPotions(controller.getPlayer()));
                 }
             }
         };
-        GameLoop.start();
 
-        return new Scene(root, W, H);
+        Scene battleScene = new Scene(root, W, H);
+        battleScene.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.H) advisorOn = !advisorOn;
+            if (e.getCode() == KeyCode.F3) perfOverlay.toggle();
+        });
+        return battleScene;
     }
 
     /**
@@ -279,12 +387,12 @@ public class BossView {
             showAttackAnim = true;
             showSkillAnim = false;    // this is a normal attack, not a skill
             activeSkillIdx = -1;
-            attackAnimEndMs = System.currentTimeMillis() + ANIM_DURATION;
+            attackAnimEndMs = nowMs() + ANIM_DURATION;
             controller.clearAttackAnimFlag();
         }
         if (controller.isPendingBossShake()) {
             bossShakeX = 8;
-            lastShakeTime = System.currentTimeMillis();
+            lastShakeTime = nowMs();
             controller.clearBossShakeFlag();
         }
         applyResult(r);
@@ -316,7 +424,7 @@ public class BossView {
         r = controller.doEnemyTurn();
         if (controller.isPendingPlayerShake()) {
             playerShakeX = 10;
-            lastPlayerShake = System.currentTimeMillis();
+            lastPlayerShake = nowMs();
             controller.clearPlayerShakeFlag();
         }
         applyResult(r);
@@ -328,6 +436,7 @@ public class BossView {
     private void handleNextBoss() {
         if (controller.hasNextBoss()) {
             controller.advanceToNextBoss();
+            adviceText = null;
             nextBtn.setVisible(false);
             attackBtn.setVisible(true);
             skillBtn.setVisible(true);
@@ -346,6 +455,7 @@ public class BossView {
      * @param r the action result from the controller
      */
     private void applyResult(BossController.ActionResult r) {
+        if (r != BossController.ActionResult.NONE) adviceText = null;
         switch (r) {
             case ENEMY_TURN -> setButtonsEnabled(false);
             case PLAYER_TURN -> setButtonsEnabled(true);
@@ -358,7 +468,7 @@ public class BossView {
                 GameLoop.stop();
                 fleeBtn.setText("☠  Game Over");
                 fleeBtn.setVisible(true);
-                imgPlayerIdle = loadImg("/images/player-dead.png");
+                imgPlayerIdle = playerImage("/images/player-dead.png");
                 fleeBtn.setOnAction(e ->
                         Main.sceneManager.showGameOver(false, controller.getPlayer()));
             }
@@ -371,15 +481,28 @@ public class BossView {
      * Updates transient visual states (shake offsets, attack animation timeout) each frame.
      */
     private void updateVisualState() {
-        if (System.currentTimeMillis() - lastShakeTime > 80) bossShakeX = 0;
-        if (System.currentTimeMillis() - lastPlayerShake > 80) playerShakeX = 0;
-        if (showAttackAnim && System.currentTimeMillis() > attackAnimEndMs) {
+        if (nowMs() - lastShakeTime > 80) bossShakeX = 0;
+        if (nowMs() - lastPlayerShake > 80) playerShakeX = 0;
+        if (showAttackAnim && nowMs() > attackAnimEndMs) {
             showAttackAnim = false;
             showSkillAnim = false;
             activeSkillIdx = -1;
         }
     }
 
+    /**
+     * Returns the current boss's theme colour, parsing it only when the boss changes.
+     *
+     * @return the theme colour
+     */
+    private Color bossColor() {
+        if (bossColorIndex != controller.getBossIndex()) {
+            bossColorIndex = controller.getBossIndex();
+            bossColor = Color.web(controller.getBossColor());
+        }
+        return bossColor;
+    }
+
     /**
      * Renders the full battle scene: background, boss, player character, HP bars, log, and turn indicator.
      *
@@ -387,7 +510,7 @@ public class BossView {
      */
     private void render(GraphicsContext gc) {
 
-        Color bossColor = controller.getBossColor();
+        Color bossColor = bossColor();
         LinearGradient bg = new LinearGradient(0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
                 new Stop(0, Color.web("#0a0015")),
                 new Stop(0.5, bossColor.deriveColor(0, 0.3, 0.2, 1)),
@@ -419,7 +542,7 @@ public class BossView {
      * @param gc the graphics context
      */
     private void drawBoss(GraphicsContext gc) {
-        Color bossColor = controller.getBossColor();
+        Color bossColor = bossColor();
         double bx = W * 0.62 + bossShakeX, by = H * 0.12;
         double scale = 1 + Math.sin(animTime * 1.2) * 0.015;
         gc.save();
@@ -434,9 +557,9 @@ public class BossView {
             default -> imgBoss3;
         };
         double alpha = controller.getCurrentBoss().isAlive() ? 1.0 : 0.3;
-        if (img != null && !img.isError()) {
+        if (img != null) {
             gc.setGlobalAlpha(alpha);
-            gc.drawImage(img, 0, 0, 320, 320);
+            gc.drawImage(img, 0, 0);
             gc.setGlobalAlpha(1.0);
         }
         gc.restore();
@@ -455,7 +578,7 @@ public class BossView {
      * @param gc the graphics context
      */
     private void drawPlayerChar(GraphicsContext gc) {
-        double sw = 300, sh = 320;
+        double sw = PLAYER_W, sh = PLAYER_H;
         double px = W * 0.06 + playerShakeX, py = (r == BossController.ActionResult.PLAYER_DEFEATED) ? H * 0.3 : H * 0.12;
         // Status effect glow
         if (showSkillAnim && activeSkillIdx == 3) {
@@ -478,15 +601,14 @@ public class BossView {
         Image sprite = imgPlayerIdle;
         if (showAttackAnim) {
             if (showSkillAnim && activeSkillIdx >= 0 && activeSkillIdx < 4
-                    && imgPlayerSkills[activeSkillIdx] != null
-                    && !imgPlayerSkills[activeSkillIdx].isError()) {
+                    && imgPlayerSkills[activeSkillIdx] != null) {
                 sprite = imgPlayerSkills[activeSkillIdx];  // skill-specific image
-            } else if (imgPlayerAttack != null && !imgPlayerAttack.isError()) {
+            } else if (imgPlayerAttack != null) {
                 sprite = imgPlayerAttack;                  // normal attack fallback
             }
         }
-        if (sprite != null && !sprite.isError()) {
-            gc.drawImage(sprite, px, py, sw, sh);
+        if (sprite != null) {
+            gc.drawImage(sprite, px, py);
             double plateW = 80, plateH = 30;
             double plateX = px + sw / 2.0 - plateW / 2.0, plateY = py - 38;
             gc.setFill(Color.rgb(0, 0, 0, 0.7));
@@ -624,7 +746,8 @@ public class BossView {
         gc.setFont(Font.font("Arial", 11));
         boolean skillOpen = controller.getMenuCtrl().getMenuState() == BattleMenuController.MenuState.SKILLS;
         String hint = switch (controller.getState()) {
-            case PLAYER_TURN -> "FIGHT: open skill menu  |  BAG: use items  |  FLEE: escape battle";
+            case PLAYER_TURN -> advisorOn && adviceText != null ? adviceText
+                    : "FIGHT: open skill menu  |  BAG: use items  |  FLEE: escape battle  |  H: advisor";
             case ENEMY_TURN -> "Enemy is preparing their next move...";
             case VICTORY -> "Boss defeated! Proceed to the next challenge.";
             case DEFEAT -> "You have fallen in battle...";
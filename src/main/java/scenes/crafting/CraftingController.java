@@ -5,6 +5,7 @@ import logic.base.BaseItem;
 import logic.creatures.Player;
 import logic.item.armor.*;
 import logic.item.weapon.*;
+import logic.util.CraftableSet;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +22,9 @@ public class CraftingController {
     /** The full list of craftable items available at this station (weapons and armors). */
     private final List<Craftable> recipes = new ArrayList<>();
 
+    /** Which recipes the player can currently craft, refreshed when inventory or gold change. */
+    private final CraftableSet craftable = new CraftableSet(recipes);
+
     /**
      * Creates a new CraftingController and builds the recipe catalogue.
      *
@@ -69,6 +73,18 @@ public class CraftingController {
         return player;
     }
 
+    /**
+     * Returns whether the player can currently craft the recipe at the given index.
+     * Cheap enough to call for every recipe on every frame.
+     *
+     * @param index the index into the recipe list
+     * @return {@code true} if the player has the materials and gold
+     */
+    public boolean canCraft(int index) {
+        craftable.refresh(player);
+        return craftable.isCraftable(index);
+    }
+
     /**
      * Attempts to craft the recipe at the given index.
      * On success, consumes required materials/gold and adds the item to the player's inventory.
@@ -79,7 +95,7 @@ public class CraftingController {
     public CraftResult craft(int index) {
         Craftable recipe = recipes.get(index);
 
-        if (recipe.canCraft(player)) {
+        if (canCraft(index)) {
             recipe.craft(player);
             player.addItem((BaseItem) recipe, 1);
 
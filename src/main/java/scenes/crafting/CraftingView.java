@@ -14,7 +14,8 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.TextAlignment;
 import logic.base.BaseItem;
-import logic.util.ItemCounter;
+import logic.base.ItemRegistry;
+import logic.util.Recipe;
 
 /**
  * JavaFX view for the crafting station overlay.
@@ -179,7 +180,7 @@ public class CraftingView {
             double x = START_X + col * GAP_X;
             double y = START_Y + row * GAP_Y;
 
-            boolean canCraft = recipe.canCraft(player);
+            boolean canCraft = controller.canCraft(i);
             Color headerColor = Color.web("#00838f");
 
             gc.setFill(canCraft
@@ -203,14 +204,13 @@ public class CraftingView {
 
             gc.setFont(materialFont);
             gc.setFill(Color.web("#cfd8dc"));
-            int matRow = 0;
-            for (ItemCounter mat : recipe.getRecipe()) {
+            Recipe mats = recipe.getRequirements();
+            for (int m = 0; m < mats.size(); m++) {
                 gc.fillText(
-                        mat.getItem().getName() + " : " + mat.getCount(),
+                        ItemRegistry.byId(mats.getTypeId(m)).getName() + " : " + mats.getAmount(m),
                         x + CARD_W / 2.0,
-                        y + 48 + (16 * matRow)
+                        y + 48 + (16 * m)
                 );
-                matRow++;
             }
 
             gc.setFont(goldFont);
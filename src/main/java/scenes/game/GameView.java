@@ -1,20 +1,30 @@
 package scenes.game;
 
 import application.Main;
+import application.ManagedScene;
+import application.PerfOverlay;
+import assets.AssetCache;
+import assets.SpriteAtlas;
+import diagnostics.RenderEvent;
 import javafx.animation.AnimationTimer;
+import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.TextAlignment;
+import logic.creatures.Player;
 import logic.util.ItemCounter;
+import logic.util.PhaseTimer;
+import logic.world.Chunk;
+import logic.world.ChunkedWorld;
 import scenes.crafting.CraftingController;
 import scenes.crafting.CraftingView;
 import scenes.inventory.InventoryController;
@@ -22,15 +32,24 @@ import scenes.inventory.InventoryView;
 import scenes.shop.ShopController;
 import scenes.shop.ShopView;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 /**
  * JavaFX view for the main game world scene.
- * Renders the tile map, player character, monsters, floating texts, and HUD onto a canvas.
+ * Renders the tile map, player character, monsters, floating texts, and HUD through a
+ * camera that follows the player; the tile map is cached as one canvas per visible chunk.
  * Also manages the shop, crafting, and inventory overlay panels.
+ * The view is kept across boss-room trips, so the world and its overlays survive them.
  */
-public class GameView {
+public class GameView implements ManagedScene {
 
     /** Scene width in pixels. */
     private static final int W = GameController.W;
@@ -38,14 +57,139 @@ public class GameView {
     /** Scene height in pixels. */
     private static final int H = GameController.H;
 
+    /** Edge length of one chunk canvas in pixels. */
+    private static final int CHUNK_PX = Chunk.SIZE * GameController.TILE_SIZE;
+
+    /** Ground tile fill. */
+    private static final Color GROUND = Color.web("#4a7c38");
+
+    /** Grass tile fill. */
+    private static final Color GRASS = Color.web("#3d6b2d");
+
+    /** Grass blade accent. */
+    private static final Color GRASS_BLADE = Color.web("#2d5220");
+
+    /** Path tile fill. */
+    private static final Color PATH = Color.web("#8d7b6a");
+
+    /** Path tile border. */
+    private static final Color PATH_EDGE = Color.web("#7a6a5a", 0.4);
+
+    /** Normal rock light/dark colours. */
+    private static final Color NORMAL_LIGHT = Color.web("#9e9e9e"), NORMAL_DARK = Color.web("#757575");
+
+    /** Hard rock light/dark colours. */
+    private static final Color HARD_LIGHT = Color.web("#78909c"), HARD_DARK = Color.web("#455a64");
+
+    /** Iron rock light/dark colours. */
+    private static final Color IRON_LIGHT = Color.web("#bf8f5b"), IRON_DARK = Color.web("#8d6030");
+
+    /** Platinum rock light/dark colours. */
+    private static final Color PLATINUM_LIGHT = Color.web("#90caf9"), PLATINUM_DARK = Color.web("#1976d2");
+
+    /** Mithril rock light/dark colours. */
+    private static final Color MITHRIL_LIGHT = Color.web("#ce93d8"), MITHRIL_DARK = Color.web("#7b1fa2");
+
+    /** Vibranium rock light/dark colours. */
+    private static final Color VIBRANIUM_LIGHT = Color.web("#80cbc4"), VIBRANIUM_DARK = Color.web("#00695c");
+
+    /** Shop tile base, inner panel, and label colours. */
+    private static final Color SHOP_BASE = Color.web("#5d4037"), SHOP_INNER = Color.web("#795548"),
+            SHOP_TEXT = Color.web("#ffd54f");
+
+    /** Crafting station tile base, inner panel, and label colours. */
+    private static final Color CRAFT_BASE = Color.web("#1a237e"), CRAFT_INNER = Color.web("#283593"),
+            CRAFT_TEXT = Color.web("#80cbc4");
+
+    /** Boss door tile base, inner panel, and label colours. */
+    private static final Color BOSS_BASE = Color.web("#b71c1c"), BOSS_INNER = Color.web("#c62828"),
+            BOSS_TEXT = Color.web("#ff5252");
+
+    /** Background of rock durability bars. */
+    private static final Color DURABILITY_BG = Color.rgb(0, 0, 0, 0.5);
+
+    /** Bold 9pt tile label font. */
+    private static final Font FONT_BOLD_9 = Font.font("Arial", FontWeight.BOLD, 9);
+
+    /** Bold 10pt tile label font. */
+    private static final Font FONT_BOLD_10 = Font.font("Arial", FontWeight.BOLD, 10);
+
+    /** Bold 11pt HUD font. */
+    private static final Font FONT_BOLD_11 = Font.font("Arial", FontWeight.BOLD, 11);
+
+    /** Bold 13pt floating-text and banner font. */
+    private static final Font FONT_BOLD_13 = Font.font("Arial", FontWeight.BOLD, 13);
+
+    /** Regular 9pt monster label font. */
+    private static final Font FONT_9 = Font.font("Arial", 9);
+
+    /** Regular 10pt HUD list font. */
+    private static final Font FONT_10 = Font.font("Arial", 10);
+
+    /** Regular 11pt HUD font. */
+    private static final Font FONT_11 = Font.font("Arial", 11);
+
+    /** Monster ground shadow. */
+    private static final Color MONSTER_SHADOW = Color.rgb(0, 0, 0, 0.2);
+
+    /** Player ground shadow. */
+    private static final Color PLAYER_SHADOW = Color.rgb(0, 0, 0, 0.25);
+
+    /** Glow around aggroed monsters. */
+    private static final Color AGGRO_GLOW = Color.rgb(255, 50, 50, 0.4);
+
+    /** Background of monster HP bars. */
+    private static final Color MONSTER_HP_BG = Color.web("#1a0000", 0.6);
+
+    /** Background of the top HUD bar. */
+    private static final Color HUD_BAR_BG = Color.rgb(0, 0, 0, 0.72);
+
+    /** Background of the equipped-gear box. */
+    private static final Color GEAR_BG = Color.rgb(0, 0, 0, 0.55);
+
+    /** Background of the inventory and controls panels. */
+    private static final Color PANEL_BG = Color.rgb(0, 0, 0, 0.70);
+
+    /** Empty part of the player HP bar. */
+    private static final Color HP_BACK = Color.web("#7f0000");
+
+    /** Player HP bar above half health. */
+    private static final Color HP_HIGH = Color.web("#e53935");
+
+    /** HUD text colours. */
+    private static final Color ATK_TEXT = Color.web("#ff8a65"), DEF_TEXT = Color.web("#90caf9"),
+            GOLD_TEXT = Color.web("#ffd700"), PICKAXE_TEXT = Color.web("#b0bec5"),
+            WEAPON_TEXT = Color.web("#ffcc80"), ARMOR_TEXT = Color.web("#80cbc4"),
+            NONE_TEXT = Color.web("#757575"), MONSTER_COUNT_TEXT = Color.web("#ff8a80"),
+            INVENTORY_TITLE = Color.web("#ffd54f"), CONTROLS_TITLE = Color.web("#80cbc4");
+
+    /** Lines of the controls panel. */
+    private static final String[] CONTROL_LINES = {"WASD-Move", "E-Inventory", "LMB-Attack", "RMB-Mine",
+            "(yellow border = mine target)", "(cyan border = enter building)"};
+
+    /** Display names of the monster tiers, indexed by monster type. */
+    private static final String[] MONSTER_NAMES = {"Rui", "Enmu", "Daki"};
+
+    /** Number of opacity levels cached per colour by {@link #faded(int, double)}. */
+    private static final int FADE_STEPS = 32;
+
+    /** Number of inventory stacks listed on the HUD. */
+    private static final int HUD_INVENTORY_LINES = 5;
+
     /** The game-world controller providing map and entity state. */
     private final GameController controller;
 
-    /** Player walk sprite images, indexed by facing direction (0=up, 1=left, 2=down, 3=right). */
-    private final Image[] playerWalkImgs = new Image[4];
+    /** Atlas index of the first monster sprite; monster type {@code t} is at {@code SPRITE_MONSTER + t}. */
+    private static final int SPRITE_MONSTER = 0;
+
+    /** Atlas index of the first player walk sprite, by facing direction (0=up, 1=left, 2=down, 3=right). */
+    private static final int SPRITE_WALK = 3;
+
+    /** Atlas index of the first player slash/attack sprite, by facing direction. */
+    private static final int SPRITE_SLASH = 7;
 
-    /** Player slash/attack sprite images, indexed by facing direction. */
-    private final Image[] playerSlashImgs = new Image[4];
+    /** Tile-sized monster and player sprites, shared with every other GameView. */
+    private SpriteAtlas sprites;
 
     /** Controller for the shop overlay. */
     private ShopController shopController;
@@ -71,18 +215,74 @@ public class GameView {
     /** The root stack pane holding the canvas and overlay layers. */
     private StackPane root;
 
-    /** Sprite image for easy-tier monsters (Rui). */
-    private Image imgEasyMonster;
+    /** Viewport-sized, clipped layer showing the cached terrain under the dynamic canvas. */
+    private Pane terrainLayer;
 
-    /** Sprite image for medium-tier monsters (Enmu). */
-    private Image imgMediumMonster;
+    /** Holds the chunk canvases at their world positions; translated by the camera. */
+    private Group terrainWorld;
 
-    /** Sprite image for hard-tier monsters (Daki). */
-    private Image imgHardMonster;
+    /** Cached terrain canvas of each visible chunk; repainted only where tiles change. */
+    private final Map<Chunk, Canvas> chunkCanvases = new HashMap<>();
+
+    /** Chunk canvases that scrolled out of view, kept for reuse. */
+    private final ArrayDeque<Canvas> spareCanvases = new ArrayDeque<>();
+
+    /** World X pixel shown at the left edge of the screen. */
+    private double camX;
+
+    /** World Y pixel shown at the top edge of the screen. */
+    private double camY;
+
+    /** {@link ChunkedWorld#getVersion()} when chunk canvases were last checked for release. */
+    private long terrainVersion = -1;
+
+    /** Visible chunk range ({@code cx0, cx1, cy0, cy1}) when canvases were last checked. */
+    private final int[] terrainRange = new int[4];
+
+    /** Packed {@code 0xRRGGBB} colours with a cached opacity ramp in {@link #fadeRamps}. */
+    private final int[] fadeKeys = new int[16];
+
+    /** Opacity ramps of {@link #fadeKeys}, {@link #FADE_STEPS} + 1 colours each. */
+    private final Color[][] fadeRamps = new Color[16][];
+
+    /** Number of cached opacity ramps. */
+    private int fadeCount;
+
+    /** Cached {@code "name hp/max"} labels per monster type, indexed by HP. */
+    private final String[][] monsterLabels = new String[MONSTER_NAMES.length][];
+
+    /** Cached HUD labels, rebuilt only when the values they show change. */
+    private final HudText hpText = new HudText(), atkText = new HudText(), defText = new HudText(),
+            goldText = new HudText(), pickaxeText = new HudText(), weaponText = new HudText(),
+            armorText = new HudText(), monsterCountText = new HudText(), moreText = new HudText();
+
+    /** Cached HUD inventory lines. */
+    private final HudText[] inventoryText = new HudText[HUD_INVENTORY_LINES];
 
     /** The main game animation timer driving the game loop. */
     private AnimationTimer gameLoop;
 
+    /** The game scene, built on the first {@link #getScene()}. */
+    private Scene scene;
+
+    /** Timed render phase: terrain layer and tile highlights. */
+    private static final int PHASE_DRAW_WORLD = 0;
+
+    /** Timed render phase: monsters and their labels. */
+    private static final int PHASE_DRAW_MONSTERS = 1;
+
+    /** Timed render phase: the HUD. */
+    private static final int PHASE_DRAW_HUD = 2;
+
+    /** Times the render phases while the diagnostics overlay is shown. */
+    private final PhaseTimer renderTimer = new PhaseTimer("drawWorld", "drawMonsters", "drawHUD");
+
+    /** Diagnostics overlay, toggled with F3. */
+    private final PerfOverlay perfOverlay;
+
+    /** File the run's input log is saved to on dispose, or {@code null} when not recording. */
+    private final String recordPath;
+
     /**
      * Creates a new GameView and pre-loads all images and sub-scene overlays.
      *
@@ -90,39 +290,45 @@ public class GameView {
      */
     public GameView(GameController controller) {
         this.controller = controller;
+        String path = System.getProperty("game.record");
+        this.recordPath = path != null && controller.getTicks() == 0 ? path : null;
+        if (recordPath != null) controller.startRecording();
+        this.perfOverlay = new PerfOverlay(renderTimer, controller.getPhaseTimer())
+                .count("monsters", () -> controller.getMonsters().size())
+                .count("ai", controller::getAiUpdateCount)
+                .count("texts", () -> controller.getFloatingTexts().size())
+                .count("chunks", () -> controller.getWorld().getLoadedChunkCount())
+                .count("events", controller::getScheduledEventCount);
         loadImages();
         buildSubScenes();
     }
 
     /**
-     * Pre-loads all monster and player sprite images from classpath resources.
+     * Writes the recorded input log, if this run is being recorded, so it can be replayed
+     * headless with {@link ReplayPlayer}.
      */
-    private void loadImages() {
-        imgEasyMonster = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/images/Rui.png")));
-        imgMediumMonster = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/images/Enmu.png")));
-        imgHardMonster = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/images/Daki.png")));
-
-        String[] dirs = {"up", "left", "down", "right"};
-        for (int i = 0; i < 4; i++) {
-            playerWalkImgs[i] = loadImage("/images/player_walk_" + dirs[i] + ".png");
-            playerSlashImgs[i] = loadImage("/images/player_slash_" + dirs[i] + ".png");
+    private void saveRecording() {
+        InputLog log = controller.stopRecording();
+        if (log == null) return;
+        try (OutputStream out = Files.newOutputStream(Path.of(recordPath))) {
+            log.write(out);
+        } catch (IOException e) {
+            System.out.println("Could not save recording: " + e.getMessage());
         }
     }
 
     /**
-     * Attempts to load an image from the given classpath resource path.
-     *
-     * @param path the classpath-relative resource path
-     * @return the loaded {@link Image}, or {@code null} if the resource could not be found
+     * Fetches the monster and player sprite atlas, which is packed on first use and reused
+     * by every later GameView.
      */
-    private Image loadImage(String path) {
-        try {
-            var s = getClass().getResourceAsStream(path);
-            return s == null ? null : new Image(s);
-        } catch (Exception e) {
-            System.out.println("Could not load image: " + path);
-            return null;
-        }
+    private void loadImages() {
+        for (int i = 0; i < inventoryText.length; i++) inventoryText[i] = new HudText();
+        sprites = AssetCache.atlas("world", GameController.TILE_SIZE, GameController.TILE_SIZE,
+                "/images/Rui.png", "/images/Enmu.png", "/images/Daki.png",
+                "/images/player_walk_up.png", "/images/player_walk_left.png",
+                "/images/player_walk_down.png", "/images/player_walk_right.png",
+                "/images/player_slash_up.png", "/images/player_slash_left.png",
+                "/images/player_slash_down.png", "/images/player_slash_right.png");
     }
 
     /**
@@ -146,25 +352,80 @@ public class GameView {
     }
 
     /**
-     * Builds and returns the main game {@link Scene} with all input handlers and the game loop.
+     * Returns the main game {@link Scene}, building it with all input handlers and the game
+     * loop on the first call. The loop runs only while the view is resumed.
+     *
+     * @return the game scene
+     */
+    @Override
+    public Scene getScene() {
+        if (scene == null) scene = buildScene();
+        return scene;
+    }
+
+    /**
+     * Starts the game loop.
+     */
+    @Override
+    public void resume() {
+        getScene();
+        gameLoop.start();
+    }
+
+    /**
+     * Stops the game loop and releases held input, leaving the world as it is.
+     */
+    @Override
+    public void suspend() {
+        if (gameLoop != null) gameLoop.stop();
+        controller.suspend();
+    }
+
+    /**
+     * Stops the game loop, detaches from the controller, and drops the cached chunk canvases.
+     */
+    @Override
+    public void dispose() {
+        suspend();
+        saveRecording();
+        controller.setListener(null);
+        if (terrainWorld != null) terrainWorld.getChildren().clear();
+        chunkCanvases.clear();
+        spareCanvases.clear();
+    }
+
+    /**
+     * Builds the main game {@link Scene} with all input handlers and the game loop.
      *
      * @return the ready-to-display JavaFX scene
      */
-    public Scene buildScene() {
+    private Scene buildScene() {
         Canvas canvas = new Canvas(W, H);
         GraphicsContext gc = canvas.getGraphicsContext2D();
 
+        terrainWorld = new Group();
+        terrainLayer = new Pane(terrainWorld);
+        terrainLayer.setPrefSize(W, H);
+        terrainLayer.setMaxSize(W, H);
+        terrainLayer.setClip(new Rectangle(W, H));
+        terrainLayer.setStyle("-fx-background-color: #1b1b1b;");
+
         root = new StackPane();
-        root.getChildren().addAll(canvas, shopLayer, craftLayer, invLayer);
+        root.getChildren().addAll(terrainLayer, canvas, shopLayer, craftLayer, invLayer);
 
         Scene scene = new Scene(root, W, H);
 
         scene.setOnKeyPressed(e -> {
-            controller.keyPressed(e.getCode());
+            InputKey key = InputKey.fromName(e.getCode().name());
+            if (key != null) controller.keyPressed(key);
             if (e.getCode() == KeyCode.SPACE) handleBuildingEntry();
             if (e.getCode() == KeyCode.E) toggleInventory();
+            if (e.getCode() == KeyCode.F3) perfOverlay.toggle();
+        });
+        scene.setOnKeyReleased(e -> {
+            InputKey key = InputKey.fromName(e.getCode().name());
+            if (key != null) controller.keyReleased(key);
         });
-        scene.setOnKeyReleased(e -> controller.keyReleased(e.getCode()));
 
         scene.setOnMousePressed(e -> {
             if (e.getButton() == MouseButton.PRIMARY) controller.setLeftMouse(true);
@@ -182,18 +443,23 @@ public class GameView {
                         || craftLayer.isVisible()
                         || invLayer.isVisible();
 
-                if (!overlayOpen) {
-                    controller.update(now, this);
-                }
+                controller.getClock().setPaused(overlayOpen);
+                controller.update(now);
 
                 render(gc, now);
+                perfOverlay.endFrame(now);
 
                 if (shopLayer.isVisible()) shopView.update();
                 if (craftLayer.isVisible()) craftView.update();
                 if (invLayer.isVisible()) invView.update();
             }
         };
-        gameLoop.start();
+        controller.setListener(new GameListener() {
+            @Override
+            public void onPlayerDefeated(Player player) {
+                Main.sceneManager.showGameOver(false, player);
+            }
+        });
 
         return scene;
     }
@@ -206,11 +472,8 @@ public class GameView {
         switch (type) {
             case SHOP -> toggleShop();
             case CRAFT -> toggleCraft();
-            case BOSS -> {
-                gameLoop.stop();
-                Main.sceneManager.showBossRoom(controller.getPlayer(),
-                        controller.getPickaxeHolder());
-            }
+            case BOSS -> Main.sceneManager.showBossRoom(controller.getPlayer(),
+                    controller.getPickaxeHolder());
             default -> {
             }
         }
@@ -249,130 +512,240 @@ public class GameView {
     }
 
     /**
-     * Renders the full game world scene for one frame.
+     * Renders the full game world scene for one frame, without allocating in steady state:
+     * colours, fonts, and labels are cached and only rebuilt when what they show changes.
+     * Static tiles live on cached per-chunk canvases and only changed tiles are repainted;
+     * the dynamic canvas is cleared and redrawn each frame, in world coordinates shifted by
+     * the camera, with the HUD drawn on top in screen coordinates.
+     * Moving entities are drawn interpolated between the last two simulation ticks
+     * (see {@link GameController#getInterpolation()}), so motion stays smooth at any refresh rate.
      *
      * @param gc       the graphics context to draw onto
      * @param nowNanos the current time in nanoseconds (from the animation timer)
      */
     private void render(GraphicsContext gc, long nowNanos) {
-        drawWorld(gc);
+        // Whole pixels keep the cached chunk canvases sharp while scrolling
+        camX = Math.floor(controller.getRenderPlayerX() + GameController.TILE_SIZE / 2.0 - W / 2.0);
+        camY = Math.floor(controller.getRenderPlayerY() + GameController.TILE_SIZE / 2.0 - H / 2.0);
+        RenderEvent event = RenderEvent.enabled() ? new RenderEvent() : null;
+        if (event != null) event.begin();
+        renderTimer.begin(PHASE_DRAW_WORLD);
+        int tilesRedrawn = updateTerrain();
+
+        gc.clearRect(0, 0, W, H);
+        // Set the transform directly: save()/restore() would copy the whole state every frame
+        gc.setTransform(1, 0, 0, 1, -camX, -camY);
+        drawHighlights(gc);
+        renderTimer.end(PHASE_DRAW_WORLD);
+        renderTimer.begin(PHASE_DRAW_MONSTERS);
         drawMonsters(gc);
+        renderTimer.end(PHASE_DRAW_MONSTERS);
         drawPlayer(gc);
         drawFloatingTexts(gc);
+        gc.setTransform(1, 0, 0, 1, 0, 0);
+        renderTimer.begin(PHASE_DRAW_HUD);
         drawHUD(gc);
+        renderTimer.end(PHASE_DRAW_HUD);
+        perfOverlay.draw(gc, W - 300, 64, nowNanos);
+        if (event != null && event.shouldCommit()) {
+            event.scene = "game";
+            event.tilesRedrawn = tilesRedrawn;
+            event.monsters = controller.getMonsters().size();
+            event.floatingTexts = controller.getFloatingTexts().size();
+            event.commit();
+        }
     }
 
     /**
-     * Draws all world tiles, building highlights, and the facing-tile indicator.
+     * Brings the terrain layer in line with the camera: releases the canvases of chunks that
+     * scrolled out of view or were unloaded, paints newly visible chunks in full, repaints the
+     * dirty tiles of the rest, and scrolls the layer.
      *
-     * @param gc the graphics context
+     * @return the number of tiles painted
      */
-    private void drawWorld(GraphicsContext gc) {
-        int[][] world = controller.getWorld();
-
-        for (int r = 0; r < GameController.ROWS; r++) {
-            for (int c = 0; c < GameController.COLS; c++) {
-                double x = c * GameController.TILE_SIZE;
-                double y = r * GameController.TILE_SIZE;
-
-                switch (world[r][c]) {
-                    case GameController.T_GROUND -> {
-                        gc.setFill(Color.web("#4a7c38"));
-                        gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
-                    }
-                    case GameController.T_GRASS -> {
-                        gc.setFill(Color.web("#3d6b2d"));
-                        gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
-                        gc.setFill(Color.web("#2d5220"));
-                        gc.fillRect(x + 8, y + 10, 3, 8);
-                        gc.fillRect(x + 20, y + 6, 3, 10);
-                        gc.fillRect(x + 32, y + 12, 3, 7);
-                    }
-                    case GameController.T_PATH -> {
-                        gc.setFill(Color.web("#8d7b6a"));
-                        gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
-                        gc.setStroke(Color.web("#7a6a5a", 0.4));
-                        gc.strokeRect(x + 1, y + 1, GameController.TILE_SIZE - 2, GameController.TILE_SIZE - 2);
-                    }
-                    case GameController.T_NORMAL_ROCK -> drawRock(gc, x, y, controller.getStoneObjects()[r][c],
-                            Color.web("#9e9e9e"), Color.web("#757575"), "N");
-                    case GameController.T_HARD_ROCK -> drawRock(gc, x, y, controller.getStoneObjects()[r][c],
-                            Color.web("#78909c"), Color.web("#455a64"), "H");
-                    case GameController.T_IRON_ROCK -> drawRock(gc, x, y, controller.getStoneObjects()[r][c],
-                            Color.web("#bf8f5b"), Color.web("#8d6030"), "Fe");
-                    case GameController.T_PLATINUM -> drawRock(gc, x, y, controller.getStoneObjects()[r][c],
-                            Color.web("#90caf9"), Color.web("#1976d2"), "Pt");
-                    case GameController.T_MITHRIL -> drawRock(gc, x, y, controller.getStoneObjects()[r][c],
-                            Color.web("#ce93d8"), Color.web("#7b1fa2"), "Mi");
-                    case GameController.T_VIBRANIUM -> drawRock(gc, x, y, controller.getStoneObjects()[r][c],
-                            Color.web("#80cbc4"), Color.web("#00695c"), "Vb");
-                    case GameController.T_SHOP -> {
-                        gc.setFill(Color.web("#5d4037"));
-                        gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
-                        gc.setFill(Color.web("#795548"));
-                        gc.fillRect(x + 4, y + 4, GameController.TILE_SIZE - 8, GameController.TILE_SIZE - 8);
-                        gc.setFill(Color.web("#ffd54f"));
-                        gc.setFont(Font.font("Arial", FontWeight.BOLD, 10));
-                        gc.setTextAlign(TextAlignment.CENTER);
-                        gc.fillText("SHOP", x + GameController.TILE_SIZE / 2.0, y + 28);
-                        gc.fillText("🛒", x + GameController.TILE_SIZE / 2.0, y + 18);
-                    }
-                    case GameController.T_CRAFT -> {
-                        gc.setFill(Color.web("#1a237e"));
-                        gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
-                        gc.setFill(Color.web("#283593"));
-                        gc.fillRect(x + 4, y + 4, GameController.TILE_SIZE - 8, GameController.TILE_SIZE - 8);
-                        gc.setFill(Color.web("#80cbc4"));
-                        gc.setFont(Font.font("Arial", FontWeight.BOLD, 9));
-                        gc.setTextAlign(TextAlignment.CENTER);
-                        gc.fillText("CRAFT", x + GameController.TILE_SIZE / 2.0, y + 28);
-                        gc.fillText("⚒", x + GameController.TILE_SIZE / 2.0, y + 18);
-                    }
-                    case GameController.T_BOSS_DOOR -> {
-                        gc.setFill(Color.web("#b71c1c"));
-                        gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
-                        gc.setFill(Color.web("#c62828"));
-                        gc.fillRoundRect(x + 4, y + 4, GameController.TILE_SIZE - 8, GameController.TILE_SIZE - 8, 6, 6);
-                        gc.setFill(Color.web("#ff5252"));
-                        gc.setFont(Font.font("Arial", FontWeight.BOLD, 9));
-                        gc.setTextAlign(TextAlignment.CENTER);
-                        gc.fillText("BOSS", x + GameController.TILE_SIZE / 2.0, y + 28);
-                        gc.fillText("💀", x + GameController.TILE_SIZE / 2.0, y + 18);
+    private int updateTerrain() {
+        int cx0 = Math.floorDiv((int) camX, CHUNK_PX), cx1 = Math.floorDiv((int) camX + W - 1, CHUNK_PX);
+        int cy0 = Math.floorDiv((int) camY, CHUNK_PX), cy1 = Math.floorDiv((int) camY + H - 1, CHUNK_PX);
+
+        ChunkedWorld world = controller.getWorld();
+        if (world.getVersion() != terrainVersion || cx0 != terrainRange[0] || cx1 != terrainRange[1]
+                || cy0 != terrainRange[2] || cy1 != terrainRange[3]) {
+            terrainVersion = world.getVersion();
+            terrainRange[0] = cx0;
+            terrainRange[1] = cx1;
+            terrainRange[2] = cy0;
+            terrainRange[3] = cy1;
+            releaseHiddenChunks(cx0, cx1, cy0, cy1);
+        }
+
+        int painted = 0;
+        for (int cy = cy0; cy <= cy1; cy++)
+            for (int cx = cx0; cx <= cx1; cx++) {
+                Chunk chunk = world.getChunk(cx, cy);
+                if (chunk == null) continue;
+                Canvas canvas = chunkCanvases.get(chunk);
+                if (canvas == null) {
+                    canvas = spareCanvases.isEmpty() ? new Canvas(CHUNK_PX, CHUNK_PX) : spareCanvases.pop();
+                    canvas.relocate(cx * CHUNK_PX, cy * CHUNK_PX);
+                    terrainWorld.getChildren().add(canvas);
+                    chunkCanvases.put(chunk, canvas);
+                    GraphicsContext tgc = canvas.getGraphicsContext2D();
+                    for (int lr = 0; lr < Chunk.SIZE; lr++)
+                        for (int lc = 0; lc < Chunk.SIZE; lc++)
+                            drawTile(tgc, chunk, lr, lc);
+                    painted += Chunk.SIZE * Chunk.SIZE;
+                } else {
+                    GraphicsContext tgc = canvas.getGraphicsContext2D();
+                    for (int i = 0, n = chunk.getDirtyCount(); i < n; i++) {
+                        int idx = chunk.getDirtyIndex(i);
+                        drawTile(tgc, chunk, idx / Chunk.SIZE, idx % Chunk.SIZE);
                     }
+                    painted += chunk.getDirtyCount();
                 }
-                gc.setTextAlign(TextAlignment.LEFT);
+                chunk.clearDirty();
+            }
+
+        terrainWorld.setTranslateX(-camX);
+        terrainWorld.setTranslateY(-camY);
+        return painted;
+    }
+
+    /**
+     * Releases the canvases of chunks outside the visible range or no longer loaded.
+     * Only called when the range or the loaded chunks may have changed.
+     *
+     * @param cx0 the first visible chunk column
+     * @param cx1 the last visible chunk column
+     * @param cy0 the first visible chunk row
+     * @param cy1 the last visible chunk row
+     */
+    private void releaseHiddenChunks(int cx0, int cx1, int cy0, int cy1) {
+        for (Iterator<Map.Entry<Chunk, Canvas>> it = chunkCanvases.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Chunk, Canvas> e = it.next();
+            Chunk chunk = e.getKey();
+            if (chunk.isLoaded() && chunk.getChunkX() >= cx0 && chunk.getChunkX() <= cx1
+                    && chunk.getChunkY() >= cy0 && chunk.getChunkY() <= cy1) continue;
+            terrainWorld.getChildren().remove(e.getValue());
+            spareCanvases.push(e.getValue());
+            it.remove();
+        }
+    }
+
+    /**
+     * Draws a single tile onto its chunk's canvas. Every tile starts with an opaque fill,
+     * so a tile can be repainted in place without clearing it first.
+     *
+     * @param gc    the chunk canvas graphics context
+     * @param chunk the chunk holding the tile
+     * @param lr    the local tile row
+     * @param lc    the local tile column
+     */
+    private void drawTile(GraphicsContext gc, Chunk chunk, int lr, int lc) {
+        double x = lc * GameController.TILE_SIZE;
+        double y = lr * GameController.TILE_SIZE;
+
+        switch (chunk.getTile(lr, lc)) {
+            case GameController.T_GROUND -> {
+                gc.setFill(GROUND);
+                gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
+            }
+            case GameController.T_GRASS -> {
+                gc.setFill(GRASS);
+                gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
+                gc.setFill(GRASS_BLADE);
+                gc.fillRect(x + 8, y + 10, 3, 8);
+                gc.fillRect(x + 20, y + 6, 3, 10);
+                gc.fillRect(x + 32, y + 12, 3, 7);
+            }
+            case GameController.T_PATH -> {
+                gc.setFill(PATH);
+                gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
+                gc.setStroke(PATH_EDGE);
+                gc.strokeRect(x + 1, y + 1, GameController.TILE_SIZE - 2, GameController.TILE_SIZE - 2);
+            }
+            case GameController.T_NORMAL_ROCK -> drawRock(gc, x, y, chunk.getStone(lr, lc),
+                    NORMAL_LIGHT, NORMAL_DARK, "N");
+            case GameController.T_HARD_ROCK -> drawRock(gc, x, y, chunk.getStone(lr, lc),
+                    HARD_LIGHT, HARD_DARK, "H");
+            case GameController.T_IRON_ROCK -> drawRock(gc, x, y, chunk.getStone(lr, lc),
+                    IRON_LIGHT, IRON_DARK, "Fe");
+            case GameController.T_PLATINUM -> drawRock(gc, x, y, chunk.getStone(lr, lc),
+                    PLATINUM_LIGHT, PLATINUM_DARK, "Pt");
+            case GameController.T_MITHRIL -> drawRock(gc, x, y, chunk.getStone(lr, lc),
+                    MITHRIL_LIGHT, MITHRIL_DARK, "Mi");
+            case GameController.T_VIBRANIUM -> drawRock(gc, x, y, chunk.getStone(lr, lc),
+                    VIBRANIUM_LIGHT, VIBRANIUM_DARK, "Vb");
+            case GameController.T_SHOP -> {
+                gc.setFill(SHOP_BASE);
+                gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
+                gc.setFill(SHOP_INNER);
+                gc.fillRect(x + 4, y + 4, GameController.TILE_SIZE - 8, GameController.TILE_SIZE - 8);
+                gc.setFill(SHOP_TEXT);
+                gc.setFont(FONT_BOLD_10);
+                gc.setTextAlign(TextAlignment.CENTER);
+                gc.fillText("SHOP", x + GameController.TILE_SIZE / 2.0, y + 28);
+                gc.fillText("🛒", x + GameController.TILE_SIZE / 2.0, y + 18);
+            }
+            case GameController.T_CRAFT -> {
+                gc.setFill(CRAFT_BASE);
+                gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
+                gc.setFill(CRAFT_INNER);
+                gc.fillRect(x + 4, y + 4, GameController.TILE_SIZE - 8, GameController.TILE_SIZE - 8);
+                gc.setFill(CRAFT_TEXT);
+                gc.setFont(FONT_BOLD_9);
+                gc.setTextAlign(TextAlignment.CENTER);
+                gc.fillText("CRAFT", x + GameController.TILE_SIZE / 2.0, y + 28);
+                gc.fillText("⚒", x + GameController.TILE_SIZE / 2.0, y + 18);
+            }
+            case GameController.T_BOSS_DOOR -> {
+                gc.setFill(BOSS_BASE);
+                gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
+                gc.setFill(BOSS_INNER);
+                gc.fillRoundRect(x + 4, y + 4, GameController.TILE_SIZE - 8, GameController.TILE_SIZE - 8, 6, 6);
+                gc.setFill(BOSS_TEXT);
+                gc.setFont(FONT_BOLD_9);
+                gc.setTextAlign(TextAlignment.CENTER);
+                gc.fillText("BOSS", x + GameController.TILE_SIZE / 2.0, y + 28);
+                gc.fillText("💀", x + GameController.TILE_SIZE / 2.0, y + 18);
             }
         }
+        gc.setTextAlign(TextAlignment.LEFT);
+    }
 
-        int[] ft = controller.facingTile();
-        int[][] w = controller.getWorld();
-        if (controller.inBounds(ft[0], ft[1])) {
-            int t = w[ft[0]][ft[1]];
-            boolean isOre = (t >= GameController.T_NORMAL_ROCK && t <= GameController.T_PLATINUM)
-                    || t == GameController.T_MITHRIL || t == GameController.T_VIBRANIUM;
-            if (isOre) {
+    /**
+     * Draws the facing-tile indicator and nearby building highlights on the dynamic layer,
+     * in world coordinates.
+     *
+     * @param gc the graphics context
+     */
+    private void drawHighlights(GraphicsContext gc) {
+        int fr = controller.facingRow(), fc = controller.facingCol();
+        ChunkedWorld w = controller.getWorld();
+        if (controller.inBounds(fr, fc)) {
+            int t = w.getTile(fr, fc);
+            if (GameController.isMineableTile(t)) {
                 gc.setStroke(Color.YELLOW);
                 gc.setLineWidth(3);
-                gc.strokeRect(ft[1] * GameController.TILE_SIZE + 2, ft[0] * GameController.TILE_SIZE + 2,
+                gc.strokeRect(fc * GameController.TILE_SIZE + 2, fr * GameController.TILE_SIZE + 2,
                         GameController.TILE_SIZE - 4, GameController.TILE_SIZE - 4);
                 gc.setLineWidth(1);
             }
         }
 
-        int pc = (int) ((controller.getPlayerX() + GameController.TILE_SIZE / 2.0) / GameController.TILE_SIZE);
-        int pr = (int) ((controller.getPlayerY() + GameController.TILE_SIZE / 2.0) / GameController.TILE_SIZE);
+        int pc = GameController.tileOf(controller.getPlayerX() + GameController.TILE_SIZE / 2.0);
+        int pr = GameController.tileOf(controller.getPlayerY() + GameController.TILE_SIZE / 2.0);
         for (int dr = -1; dr <= 1; dr++)
             for (int dc = -1; dc <= 1; dc++) {
                 int r = pr + dr, c = pc + dc;
                 if (!controller.inBounds(r, c)) continue;
-                int t = w[r][c];
-                if (t == GameController.T_SHOP || t == GameController.T_CRAFT || t == GameController.T_BOSS_DOOR) {
+                int t = w.getTile(r, c);
+                if (GameController.isBuildingTile(t)) {
                     gc.setStroke(Color.CYAN);
                     gc.setLineWidth(2.5);
                     gc.strokeRect(c * GameController.TILE_SIZE + 2, r * GameController.TILE_SIZE + 2,
                             GameController.TILE_SIZE - 4, GameController.TILE_SIZE - 4);
                     gc.setFill(Color.CYAN);
-                    gc.setFont(Font.font("Arial", FontWeight.BOLD, 10));
+                    gc.setFont(FONT_BOLD_10);
                     gc.setTextAlign(TextAlignment.CENTER);
                     gc.fillText("[SPACE]", c * GameController.TILE_SIZE + GameController.TILE_SIZE / 2.0,
                             r * GameController.TILE_SIZE - 4);
@@ -395,23 +768,24 @@ public class GameView {
      */
     private void drawRock(GraphicsContext gc, double x, double y,
                           interfaces.Mineable stone, Color light, Color dark, String label) {
+        Color darker = dark.darker();
         gc.setFill(dark);
         gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
         gc.setFill(light);
         gc.fillRoundRect(x + 3, y + 3, GameController.TILE_SIZE - 6, GameController.TILE_SIZE - 6, 8, 8);
-        gc.setStroke(dark.darker());
+        gc.setStroke(darker);
         gc.setLineWidth(1.5);
         gc.strokeLine(x + 12, y + 12, x + 20, y + 20);
         gc.strokeLine(x + 26, y + 14, x + 32, y + 24);
         gc.setLineWidth(1);
-        gc.setFill(dark.darker());
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 10));
+        gc.setFill(darker);
+        gc.setFont(FONT_BOLD_10);
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText(label, x + GameController.TILE_SIZE / 2.0, y + 30);
         gc.setTextAlign(TextAlignment.LEFT);
         if (stone != null) {
             double pct = (double) stone.getDurability() / stone.getMaxDurability();
-            gc.setFill(Color.rgb(0, 0, 0, 0.5));
+            gc.setFill(DURABILITY_BG);
             gc.fillRect(x + 4, y + GameController.TILE_SIZE - 8, GameController.TILE_SIZE - 8, 5);
             gc.setFill(pct > 0.5 ? Color.LIMEGREEN : pct > 0.25 ? Color.ORANGE : Color.RED);
             gc.fillRect(x + 4, y + GameController.TILE_SIZE - 8, (GameController.TILE_SIZE - 8) * pct, 5);
@@ -419,62 +793,80 @@ public class GameView {
     }
 
     /**
-     * Draws all live monster entities with their sprites, aggro indicators, and HP bars.
+     * Draws the monsters in view with their sprites, aggro indicators, and HP bars. Only the
+     * monsters the grid finds within a tile of the camera rectangle are drawn.
      *
      * @param gc the graphics context
      */
     private void drawMonsters(GraphicsContext gc) {
-        for (GameController.MonsterEntity me : controller.getMonsters()) {
-            if (!me.monster.isAlive()) continue;
-            double x = me.x, y = me.y;
-
-            gc.setFill(Color.rgb(0, 0, 0, 0.2));
+        double alpha = controller.getInterpolation();
+        MonsterStore monsters = controller.getMonsters();
+        int margin = GameController.TILE_SIZE;
+        int visible = monsters.queryAabb(camX - margin, camY - margin, camX + W + margin, camY + H + margin);
+        for (int k = 0; k < visible; k++) {
+            int i = monsters.hit(k);
+            double x = monsters.renderX(i, alpha), y = monsters.renderY(i, alpha);
+            int type = monsters.getTier(i);
+
+            gc.setFill(MONSTER_SHADOW);
             gc.fillOval(x + 6, y + 38, 36, 10);
 
-            Image img = switch (me.type) {
-                case 0 -> imgEasyMonster;
-                case 1 -> imgMediumMonster;
-                default -> imgHardMonster;
-            };
-
-            if (img != null && !img.isError()) {
-                gc.drawImage(img, x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
+            int sprite = SPRITE_MONSTER + Math.min(type, 2);
+            if (sprites.has(sprite)) {
+                sprites.draw(gc, sprite, x, y);
             } else {
                 gc.setFill(Color.RED);
                 gc.fillRect(x, y, GameController.TILE_SIZE, GameController.TILE_SIZE);
                 gc.setFill(Color.WHITE);
-                gc.setFont(Font.font("Arial", FontWeight.BOLD, 9));
+                gc.setFont(FONT_BOLD_9);
                 gc.setTextAlign(TextAlignment.CENTER);
                 gc.fillText("?", x + GameController.TILE_SIZE / 2.0, y + GameController.TILE_SIZE / 2.0);
                 gc.setTextAlign(TextAlignment.LEFT);
             }
 
-            if (me.aggro) {
-                gc.setFill(Color.rgb(255, 50, 50, 0.4));
+            if (monsters.isAggro(i)) {
+                gc.setFill(AGGRO_GLOW);
                 gc.fillOval(x - 4, y - 4, GameController.TILE_SIZE + 8, GameController.TILE_SIZE + 8);
                 gc.setFill(Color.RED);
-                gc.setFont(Font.font("Arial", FontWeight.BOLD, 11));
+                gc.setFont(FONT_BOLD_11);
                 gc.setTextAlign(TextAlignment.CENTER);
                 gc.fillText("!", x + GameController.TILE_SIZE / 2.0, y);
                 gc.setTextAlign(TextAlignment.LEFT);
             }
 
-            int hp = me.monster.getHealthPoint(), mhp = me.monster.getMaxHealthPoint();
+            int hp = monsters.getHp(i), mhp = monsters.getMaxHp(i);
             double pct = (double) hp / mhp;
-            gc.setFill(Color.web("#1a0000", 0.6));
+            gc.setFill(MONSTER_HP_BG);
             gc.fillRect(x + 2, y + GameController.TILE_SIZE - 8, GameController.TILE_SIZE - 4, 5);
             gc.setFill(pct > 0.5 ? Color.LIMEGREEN : pct > 0.25 ? Color.ORANGE : Color.RED);
             gc.fillRect(x + 2, y + GameController.TILE_SIZE - 8, (GameController.TILE_SIZE - 4) * pct, 5);
-            gc.setFont(Font.font("Arial", 9));
-            String name = me.type == 0 ? "Rui" : me.type == 1 ? "Enmu" : "Daki";
+            gc.setFont(FONT_9);
             gc.setFill(Color.WHITE);
             gc.setTextAlign(TextAlignment.CENTER);
-            gc.fillText(name + " " + hp + "/" + mhp,
+            gc.fillText(monsterLabel(type, hp, mhp),
                     x + GameController.TILE_SIZE / 2.0, y + GameController.TILE_SIZE + 10);
             gc.setTextAlign(TextAlignment.LEFT);
         }
     }
 
+    /**
+     * Returns the {@code "name hp/max"} label of a monster, building each distinct label once.
+     *
+     * @param type the monster type
+     * @param hp   the current HP
+     * @param mhp  the maximum HP (fixed per type)
+     * @return the label
+     */
+    private String monsterLabel(int type, int hp, int mhp) {
+        int t = Math.min(type, MONSTER_NAMES.length - 1);
+        if (hp < 0 || hp > mhp) return MONSTER_NAMES[t] + " " + hp + "/" + mhp;
+        String[] labels = monsterLabels[t];
+        if (labels == null || labels.length != mhp + 1) labels = monsterLabels[t] = new String[mhp + 1];
+        String label = labels[hp];
+        if (label == null) label = labels[hp] = MONSTER_NAMES[t] + " " + hp + "/" + mhp;
+        return label;
+    }
+
     /**
      * Draws the player character sprite (with invincibility blink and attack/walk animation).
      *
@@ -483,14 +875,13 @@ public class GameView {
     private void drawPlayer(GraphicsContext gc) {
         if (controller.getInvincibleFrames() > 0 && controller.getAnimFrame() % 2 == 0) return;
 
-        Image[] sprites = controller.isAttackAnim() ? playerSlashImgs : playerWalkImgs;
-        Image sprite = sprites[controller.getFacing()];
+        int sprite = (controller.isAttackAnim() ? SPRITE_SLASH : SPRITE_WALK) + controller.getFacing();
 
-        if (sprite != null && !sprite.isError()) {
-            gc.setFill(Color.rgb(0, 0, 0, 0.25));
-            gc.fillOval(controller.getPlayerX() + 8, controller.getPlayerY() + 38, 32, 10);
-            gc.drawImage(sprite, controller.getPlayerX(), controller.getPlayerY(),
-                    GameController.TILE_SIZE, GameController.TILE_SIZE);
+        if (sprites.has(sprite)) {
+            double px = controller.getRenderPlayerX(), py = controller.getRenderPlayerY();
+            gc.setFill(PLAYER_SHADOW);
+            gc.fillOval(px + 8, py + 38, 32, 10);
+            sprites.draw(gc, sprite, px, py);
         }
     }
 
@@ -500,19 +891,39 @@ public class GameView {
      * @param gc the graphics context
      */
     private void drawFloatingTexts(GraphicsContext gc) {
-        long now = System.currentTimeMillis();
+        FloatingTextPool texts = controller.getFloatingTexts();
+        double interp = controller.getInterpolation();
         gc.setTextAlign(TextAlignment.CENTER);
-        for (GameController.FloatingText ft : controller.getFloatingTexts()) {
-            double age = (now - ft.born) / (double) ft.life;
-            double alpha = Math.max(0, 1.0 - age);
-            Color c = ft.color;
-            gc.setFill(Color.color(c.getRed(), c.getGreen(), c.getBlue(), alpha));
-            gc.setFont(Font.font("Arial", FontWeight.BOLD, 13));
-            gc.fillText(ft.text, ft.x + GameController.TILE_SIZE / 2.0, ft.y);
+        gc.setFont(FONT_BOLD_13);
+        for (int i = 0, n = texts.size(); i < n; i++) {
+            gc.setFill(faded(texts.getColor(i), texts.opacity(i, interp)));
+            gc.fillText(texts.getText(i), texts.getX(i) + GameController.TILE_SIZE / 2.0, texts.renderY(i, interp));
         }
         gc.setTextAlign(TextAlignment.LEFT);
     }
 
+    /**
+     * Returns a colour at the given opacity, quantised to {@link #FADE_STEPS} levels so each
+     * colour's fade is built once and reused.
+     *
+     * @param rgb     the colour as a packed {@code 0xRRGGBB} value
+     * @param opacity the opacity in {@code [0, 1]}
+     * @return the cached colour
+     */
+    private Color faded(int rgb, double opacity) {
+        int level = (int) Math.round(Math.max(0, Math.min(1, opacity)) * FADE_STEPS);
+        for (int i = 0; i < fadeCount; i++)
+            if (fadeKeys[i] == rgb) return fadeRamps[i][level];
+        Color[] ramp = new Color[FADE_STEPS + 1];
+        for (int l = 0; l <= FADE_STEPS; l++)
+            ramp[l] = Color.rgb((rgb >> 16) & 0xff, (rgb >> 8) & 0xff, rgb & 0xff, (double) l / FADE_STEPS);
+        if (fadeCount < fadeKeys.length) {
+            fadeKeys[fadeCount] = rgb;
+            fadeRamps[fadeCount++] = ramp;
+        }
+        return ramp[level];
+    }
+
     /**
      * Draws the heads-up display: HP/gold bar, equipped gear, inventory preview,
      * control hints, and notification banner.
@@ -523,95 +934,139 @@ public class GameView {
         var player = controller.getPlayer();
         var pickaxe = controller.getPickaxeHolder()[0];
 
-        gc.setFill(Color.rgb(0, 0, 0, 0.72));
+        gc.setFill(HUD_BAR_BG);
         gc.fillRect(0, 0, W, 56);
 
-        double hpPct = (double) player.getHealth() / player.getMaxHealth();
-        gc.setFill(Color.web("#7f0000"));
+        int hp = player.getHealth(), maxHp = player.getMaxHealth();
+        double hpPct = (double) hp / maxHp;
+        gc.setFill(HP_BACK);
         gc.fillRoundRect(10, 8, 170, 16, 5, 5);
-        gc.setFill(hpPct > 0.5 ? Color.web("#e53935") : hpPct > 0.25 ? Color.ORANGE : Color.RED);
+        gc.setFill(hpPct > 0.5 ? HP_HIGH : hpPct > 0.25 ? Color.ORANGE : Color.RED);
         gc.fillRoundRect(10, 8, 170 * hpPct, 16, 5, 5);
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 11));
-        gc.fillText("HP: " + player.getHealth() + " / " + player.getMaxHealth(), 14, 21);
-        gc.setFill(Color.web("#ff8a65"));
-        gc.fillText("ATK: " + player.getAttack(), 14, 42);
-        gc.setFill(Color.web("#90caf9"));
-        gc.fillText("DEF: " + player.getDefense(), 80, 42);
-
-        gc.setFill(Color.web("#ffd700"));
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 13));
-        gc.fillText("GOLD: " + player.getGold() + "g", 200, 23);
-        gc.setFill(Color.web("#b0bec5"));
-        gc.setFont(Font.font("Arial", 11));
-        gc.fillText("⛏ " + pickaxe.getName() + " (Pwr:" + pickaxe.getPower() + ")", 200, 42);
-
-        String weaponStr = player.getEquippedWeapon() != null
-                ? "⚔ " + player.getEquippedWeapon().getName() : "⚔ None";
-        String armorStr = player.getEquippedArmor() != null
-                ? "🛡 " + player.getEquippedArmor().getName() : "🛡 None";
-        gc.setFill(Color.rgb(0, 0, 0, 0.55));
+        gc.setFont(FONT_BOLD_11);
+        if (hpText.stale(null, ((long) hp << 32) | (maxHp & 0xffffffffL))) hpText.text = "HP: " + hp + " / " + maxHp;
+        gc.fillText(hpText.text, 14, 21);
+        gc.setFill(ATK_TEXT);
+        if (atkText.stale(null, player.getAttack())) atkText.text = "ATK: " + player.getAttack();
+        gc.fillText(atkText.text, 14, 42);
+        gc.setFill(DEF_TEXT);
+        if (defText.stale(null, player.getDefense())) defText.text = "DEF: " + player.getDefense();
+        gc.fillText(defText.text, 80, 42);
+
+        gc.setFill(GOLD_TEXT);
+        gc.setFont(FONT_BOLD_13);
+        if (goldText.stale(null, player.getGold())) goldText.text = "GOLD: " + player.getGold() + "g";
+        gc.fillText(goldText.text, 200, 23);
+        gc.setFill(PICKAXE_TEXT);
+        gc.setFont(FONT_11);
+        if (pickaxeText.stale(pickaxe, pickaxe.getPower()))
+            pickaxeText.text = "⛏ " + pickaxe.getName() + " (Pwr:" + pickaxe.getPower() + ")";
+        gc.fillText(pickaxeText.text, 200, 42);
+
+        var weapon = player.getEquippedWeapon();
+        var armor = player.getEquippedArmor();
+        if (weaponText.stale(weapon, 0)) weaponText.text = weapon != null ? "⚔ " + weapon.getName() : "⚔ None";
+        if (armorText.stale(armor, 0)) armorText.text = armor != null ? "🛡 " + armor.getName() : "🛡 None";
+        gc.setFill(GEAR_BG);
         gc.fillRoundRect(W / 2.0 - 130, 4, 260, 48, 8, 8);
-        gc.setFill(player.getEquippedWeapon() != null ? Color.web("#ffcc80") : Color.web("#757575"));
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 11));
+        gc.setFill(weapon != null ? WEAPON_TEXT : NONE_TEXT);
+        gc.setFont(FONT_BOLD_11);
         gc.setTextAlign(TextAlignment.CENTER);
-        gc.fillText(weaponStr, W / 2.0, 22);
-        gc.setFill(player.getEquippedArmor() != null ? Color.web("#80cbc4") : Color.web("#757575"));
-        gc.fillText(armorStr, W / 2.0, 42);
+        gc.fillText(weaponText.text, W / 2.0, 22);
+        gc.setFill(armor != null ? ARMOR_TEXT : NONE_TEXT);
+        gc.fillText(armorText.text, W / 2.0, 42);
         gc.setTextAlign(TextAlignment.LEFT);
 
-        long alive = controller.getMonsters().stream().filter(me -> me.monster.isAlive()).count();
-        gc.setFill(alive == 0 ? Color.LIMEGREEN : Color.web("#ff8a80"));
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 11));
-        gc.fillText("Monsters: " + alive, W - 150, 23);
+        int alive = controller.getMonsters().size();
+        gc.setFill(alive == 0 ? Color.LIMEGREEN : MONSTER_COUNT_TEXT);
+        gc.setFont(FONT_BOLD_11);
+        if (monsterCountText.stale(null, alive)) monsterCountText.text = "Monsters: " + alive;
+        gc.fillText(monsterCountText.text, W - 150, 23);
         if (alive == 0) gc.fillText("✓ Area clear!", W - 150, 42);
 
-        gc.setFill(Color.rgb(0, 0, 0, 0.70));
+        gc.setFill(PANEL_BG);
         gc.fillRoundRect(6, H - 106, 220, 100, 8, 8);
-        gc.setFill(Color.web("#ffd54f"));
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 11));
+        gc.setFill(INVENTORY_TITLE);
+        gc.setFont(FONT_BOLD_11);
         gc.fillText("INVENTORY", 14, H - 92);
         List<ItemCounter> inv = player.getInventory();
         if (inv.isEmpty()) {
             gc.setFill(Color.LIGHTGRAY);
-            gc.setFont(Font.font("Arial", 10));
+            gc.setFont(FONT_10);
             gc.fillText("(mine rocks to fill inventory)", 14, H - 78);
         } else {
-            int shown = Math.min(inv.size(), 5);
+            int shown = Math.min(inv.size(), HUD_INVENTORY_LINES);
+            gc.setFill(Color.WHITE);
+            gc.setFont(FONT_10);
             for (int i = 0; i < shown; i++) {
                 ItemCounter ic = inv.get(i);
-                gc.setFill(Color.WHITE);
-                gc.setFont(Font.font("Arial", 10));
-                gc.fillText("• " + ic.getItem().getName() + ": " + ic.getCount(), 14, H - 78 + i * 14);
+                HudText line = inventoryText[i];
+                if (line.stale(ic.getItem(), ic.getCount()))
+                    line.text = "• " + ic.getItem().getName() + ": " + ic.getCount();
+                gc.fillText(line.text, 14, H - 78 + i * 14);
             }
-            if (inv.size() > 5) {
+            if (inv.size() > HUD_INVENTORY_LINES) {
                 gc.setFill(Color.LIGHTGRAY);
-                gc.fillText("...+" + (inv.size() - 5) + " more", 14, H - 78 + 5 * 14);
+                int more = inv.size() - HUD_INVENTORY_LINES;
+                if (moreText.stale(null, more)) moreText.text = "...+" + more + " more";
+                gc.fillText(moreText.text, 14, H - 78 + HUD_INVENTORY_LINES * 14);
             }
         }
 
-        gc.setFill(Color.rgb(0, 0, 0, 0.70));
+        gc.setFill(PANEL_BG);
         gc.fillRoundRect(W - 190, H - 116, 184, 110, 8, 8);
-        gc.setFill(Color.web("#80cbc4"));
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 11));
+        gc.setFill(CONTROLS_TITLE);
+        gc.setFont(FONT_BOLD_11);
         gc.fillText("CONTROLS", W - 180, H - 100);
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", 10));
-        String[] lines = {"WASD-Move", "E-Inventory", "LMB-Attack", "RMB-Mine",
-                "(yellow border = mine target)", "(cyan border = enter building)"};
-        for (int i = 0; i < lines.length; i++)
-            gc.fillText(lines[i], W - 180, H - 86 + i * 14);
-
-        long age = System.currentTimeMillis() - controller.getNotifTime();
-        if (age < GameController.NOTIF_DURATION && !controller.getNotifMsg().isEmpty()) {
+        gc.setFont(FONT_10);
+        for (int i = 0; i < CONTROL_LINES.length; i++)
+            gc.fillText(CONTROL_LINES[i], W - 180, H - 86 + i * 14);
+
+        long age = controller.getNotifAge();
+        if (!controller.getNotifMsg().isEmpty()) {
             double a = age < 1800 ? 1.0 : 1.0 - (age - 1800) / 400.0;
-            gc.setFill(Color.rgb(0, 0, 0, 0.75 * a));
+            gc.setFill(faded(0x000000, 0.75 * a));
             gc.fillRoundRect(W / 2.0 - 180, H - 138, 360, 28, 10, 10);
-            gc.setFill(Color.rgb(255, 235, 59, a));
-            gc.setFont(Font.font("Arial", FontWeight.BOLD, 13));
+            gc.setFill(faded(0xffeb3b, a));
+            gc.setFont(FONT_BOLD_13);
             gc.setTextAlign(TextAlignment.CENTER);
             gc.fillText(controller.getNotifMsg(), W / 2.0, H - 119);
             gc.setTextAlign(TextAlignment.LEFT);
         }
     }
+
+    /**
+     * A HUD label that is rebuilt only when the values it shows change.
+     */
+    private static final class HudText {
+
+        /** The current label text. */
+        String text = "";
+
+        /** Object the text was built from, compared by identity. */
+        private Object ref;
+
+        /** Value the text was built from. */
+        private long key;
+
+        /** {@code false} until the first text has been built. */
+        private boolean valid;
+
+        /**
+         * Returns whether the label must be rebuilt for the given inputs, and records them.
+         *
+         * @param ref an object shown by the label, or {@code null}
+         * @param key a value shown by the label
+         * @return {@code true} if the caller must assign a new {@link #text}
+         */
+        boolean stale(Object ref, long key) {
+            if (valid && ref == this.ref && key == this.key) return false;
+            valid = true;
+            this.ref = ref;
+            this.key = key;
+            return true;
+        }
+    }
 }
\ No newline at end of file
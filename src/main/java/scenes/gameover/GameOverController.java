@@ -2,8 +2,9 @@ package scenes.gameover;
 
 import application.SceneManager;
 import logic.creatures.Player;
+import logic.util.GameRandom;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Controller for the game-over / victory scene.
@@ -42,16 +43,21 @@ public class GameOverController {
     /** Radius of each particle in pixels. */
     private final double[] pr = new double[PARTICLE_COUNT];
 
+    /** Random stream for particle placement. */
+    private final SplittableRandom rng;
+
     /**
      * Creates a new GameOverController and initialises particle positions and velocities.
      * Particles rise for a victory result and fall for a defeat result.
      *
      * @param won    {@code true} if the player defeated all bosses; {@code false} on defeat
      * @param player the player whose final stats are displayed on the game-over screen
+     * @param random the random source the particles are drawn from
      */
-    public GameOverController(boolean won, Player player) {
+    public GameOverController(boolean won, Player player, GameRandom random) {
         this.won = won;
         this.player = player;
+        this.rng = random.stream(GameRandom.EFFECTS);
         initParticles();
     }
 
@@ -61,7 +67,6 @@ public class GameOverController {
      * Velocity direction depends on {@link #won}: rising for victory, falling for defeat.
      */
     private void initParticles() {
-        Random rng = new Random();
         for (int i = 0; i < PARTICLE_COUNT; i++) {
             px[i] = rng.nextDouble() * W;
             py[i] = rng.nextDouble() * H;
@@ -86,12 +91,12 @@ public class GameOverController {
 
             if (won && py[i] < -10) {
                 py[i] = H + 5;
-                px[i] = Math.random() * W;
+                px[i] = rng.nextDouble() * W;
             }
 
             if (!won && py[i] > H + 10) {
                 py[i] = -5;
-                px[i] = Math.random() * W;
+                px[i] = rng.nextDouble() * W;
             }
         }
     }
@@ -1,6 +1,7 @@
 package scenes.gameover;
 
 import application.Main;
+import application.ManagedScene;
 import application.SceneManager;
 import javafx.animation.AnimationTimer;
 import javafx.scene.Scene;
@@ -23,7 +24,7 @@ import logic.util.ItemCounter;
  * the result headline, final player stats, and navigation buttons.
  * Delegates particle animation logic to {@link GameOverController}.
  */
-public class GameOverView {
+public class GameOverView implements ManagedScene {
 
     /** Scene width in pixels. */
     private static final int W = SceneManager.W;
@@ -34,6 +35,12 @@ public class GameOverView {
     /** The controller providing particle animation and player data. */
     private final GameOverController controller;
 
+    /** The game-over scene, built on the first {@link #getScene()}. */
+    private Scene scene;
+
+    /** Animation timer driving the particles. */
+    private AnimationTimer loop;
+
     /**
      * Creates a new GameOverView.
      *
@@ -44,13 +51,41 @@ public class GameOverView {
     }
 
     /**
-     * Builds and returns the game-over {@link Scene}, including the animated canvas,
-     * result headline, stats panel, and "Main Menu" / "Quit" buttons.
-     * Starts an {@link javafx.animation.AnimationTimer} that drives the animation loop.
+     * Returns the game-over {@link Scene}, building it on the first call.
+     *
+     * @return the game-over scene
+     */
+    @Override
+    public Scene getScene() {
+        if (scene == null) scene = build();
+        return scene;
+    }
+
+    /**
+     * Starts the animation loop.
+     */
+    @Override
+    public void resume() {
+        getScene();
+        loop.start();
+    }
+
+    /**
+     * Stops the animation loop.
+     */
+    @Override
+    public void suspend() {
+        if (loop != null) loop.stop();
+    }
+
+    /**
+     * Builds the game-over {@link Scene}, including the animated canvas,
+     * result headline, stats panel, and "Main Menu" / "Quit" buttons,
+     * and the {@link javafx.animation.AnimationTimer} that drives the animation loop.
      *
      * @return the fully constructed game-over scene
      */
-    public Scene build() {
+    private Scene build() {
         Canvas canvas = new Canvas(W, H);
         GraphicsContext gc = canvas.getGraphicsContext2D();
         Pane root = new Pane(canvas);
@@ -71,7 +106,7 @@ public class GameOverView {
         // The AnimationTimer acts like a movie projector running at 60 frames per second.
         // Every frame, it updates the math (particle positions) and tells the GraphicsContext
         // to erase the old frame and paint the new one.
-        new AnimationTimer() {
+        loop = new AnimationTimer() {
             double t = 0;
 
             @Override
@@ -80,7 +115,7 @@ public class GameOverView {
                 controller.updateParticles();
                 draw(gc, t);
             }
-        }.start();
+        };
 
         return new Scene(root, W, H);
     }
@@ -1,8 +1,9 @@
 package scenes.mainmenu;
 
 import application.SceneManager;
+import logic.util.GameRandom;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Controller for the main-menu scene.
@@ -31,12 +32,17 @@ public class MainMenuController {
     /** Radius of each star in pixels. */
     private final double[] starR = new double[STAR_COUNT];
 
+    /** Random stream for star placement. */
+    private final SplittableRandom rng;
+
     /**
      * Creates a new MainMenuController and initialises star positions,
      * speeds, and radii with random values.
+     *
+     * @param random the random source the stars are drawn from
      */
-    public MainMenuController() {
-        Random rng = new Random();
+    public MainMenuController(GameRandom random) {
+        rng = random.stream(GameRandom.EFFECTS);
         for (int i = 0; i < STAR_COUNT; i++) {
             starX[i] = rng.nextDouble() * W;
             starY[i] = rng.nextDouble() * H;
@@ -57,7 +63,7 @@ public class MainMenuController {
             starY[i] += starSpd[i];
             if (starY[i] > H) {
                 starY[i] = 0;
-                starX[i] = Math.random() * W;
+                starX[i] = rng.nextDouble() * W;
             }
         }
     }
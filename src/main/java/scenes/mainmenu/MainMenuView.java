@@ -1,7 +1,9 @@
 package scenes.mainmenu;
 
 import application.Main;
+import application.ManagedScene;
 import application.SceneManager;
+import assets.AssetCache;
 import javafx.animation.AnimationTimer;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -26,8 +28,9 @@ import logic.pickaxe.Pickaxe;
  * JavaFX view for the main menu scene.
  * Renders the animated starfield background, game title, logo, and navigation buttons.
  * Delegates star animation logic to {@link MainMenuController}.
+ * The menu is built once and reused every time the player returns to it.
  */
-public class MainMenuView {
+public class MainMenuView implements ManagedScene {
 
     /** Scene width in pixels. */
     private static final int W = SceneManager.W;
@@ -35,12 +38,27 @@ public class MainMenuView {
     /** Scene height in pixels. */
     private static final int H = SceneManager.H;
 
+    /** Side length in pixels of the round logo. */
+    private static final int LOGO_SIZE = 250;
+
     /** The controller providing animated star data. */
     private final MainMenuController controller;
 
     /** The game logo image displayed in the title area, or {@code null} if unavailable. */
     private final Image logo;
 
+    /** The menu scene, built on the first {@link #getScene()}. */
+    private Scene scene;
+
+    /** Animation timer driving the starfield and title bob. */
+    private AnimationTimer loop;
+
+    /** Timestamp of the previous animation frame in nanoseconds, or {@code 0} before the first. */
+    private long lastTime;
+
+    /** Phase of the title bobbing animation. */
+    private double titleBob;
+
     /**
      * Creates a new MainMenuView and attempts to load the game logo image from resources.
      * If the logo resource is not found, drawing the logo is silently skipped.
@@ -50,24 +68,46 @@ public class MainMenuView {
     public MainMenuView(MainMenuController controller) {
         this.controller = controller;
 
-        Image loaded = null;
-        try {
-            var stream = getClass().getResourceAsStream("/images/logo.png");
-            if (stream != null) loaded = new Image(stream);
-        } catch (Exception e) {
-            System.out.println("Logo not found — skipping logo draw.");
-        }
-        this.logo = loaded;
+        this.logo = AssetCache.image("/images/logo.png", LOGO_SIZE, LOGO_SIZE);
     }
 
     /**
-     * Builds and returns the main-menu {@link Scene}, including the animated
-     * starfield canvas, game title, and "Play" / "Quit" buttons.
-     * Starts an {@link javafx.animation.AnimationTimer} that drives the animation loop.
+     * Returns the main-menu {@link Scene}, building it on the first call.
+     *
+     * @return the menu scene
+     */
+    @Override
+    public Scene getScene() {
+        if (scene == null) scene = build();
+        return scene;
+    }
+
+    /**
+     * Starts the animation loop.
+     */
+    @Override
+    public void resume() {
+        getScene();
+        lastTime = 0;
+        loop.start();
+    }
+
+    /**
+     * Stops the animation loop.
+     */
+    @Override
+    public void suspend() {
+        if (loop != null) loop.stop();
+    }
+
+    /**
+     * Builds the main-menu {@link Scene}, including the animated
+     * starfield canvas, game title, and "Play" / "Quit" buttons,
+     * and the {@link javafx.animation.AnimationTimer} that drives the animation loop.
      *
      * @return the fully constructed main-menu scene
      */
-    public Scene build() {
+    private Scene build() {
         Canvas canvas = new Canvas(W, H);
         GraphicsContext gc = canvas.getGraphicsContext2D();
 
@@ -85,10 +125,7 @@ public class MainMenuView {
         Pane root = new Pane(canvas, buttons);
         Scene scene = new Scene(root, W, H);
 
-        new AnimationTimer() {
-            long lastTime = 0;
-            double titleBob = 0;
-
+        loop = new AnimationTimer() {
             @Override
             public void handle(long now) {
                 double dt = lastTime == 0 ? 0 : (now - lastTime) / 1_000_000_000.0;
@@ -98,7 +135,7 @@ public class MainMenuView {
                 controller.update(dt);
                 drawBackground(gc, titleBob);
             }
-        }.start();
+        };
 
         return scene;
     }
@@ -212,7 +249,7 @@ public class MainMenuView {
     private void drawLogo(GraphicsContext gc, double bobY) {
         if (logo == null || logo.isError()) return;
 
-        double logoSize = 250;
+        double logoSize = LOGO_SIZE;
         double cx = W / 2.0;
         double cy = H * 0.17 + bobY;
 
@@ -221,7 +258,7 @@ public class MainMenuView {
         gc.arc(cx, cy, logoSize / 2.0, logoSize / 2.0, 0, 360);
         gc.closePath();
         gc.clip();
-        gc.drawImage(logo, cx - logoSize / 2.0, cy - logoSize / 2.0, logoSize, logoSize);
+        gc.drawImage(logo, cx - logoSize / 2.0, cy - logoSize / 2.0);
         gc.restore();
     }
 
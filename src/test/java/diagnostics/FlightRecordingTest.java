@@ -0,0 +1,95 @@
+package diagnostics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import logic.creatures.Player;
+import logic.pickaxe.Pickaxe;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import scenes.game.GameController;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingTest {
+
+    @TempDir
+    Path dir;
+
+    // ── Game events ──────────────────────────────────────────────────────────
+
+    @Test
+    void tick_emitsOneEventPerStepWithWorldCounts() throws Exception {
+        GameController controller = new GameController(new Player(100, 20, 10), Pickaxe.createNormalStonePickaxe());
+        Path file = dir.resolve("ticks.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("tanjiro.Tick");
+            recording.start();
+            for (int i = 0; i < 30; i++) controller.tick();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("tanjiro.Tick")).toList();
+        assertEquals(30, events.size());
+        RecordedEvent last = events.get(events.size() - 1);
+        assertEquals(controller.getTicks(), last.getLong("tick"));
+        assertEquals(controller.getMonsters().size(), last.getInt("monsters"));
+        assertTrue(last.getInt("loadedChunks") > 0);
+    }
+
+    @Test
+    void tickEvent_enabledOnlyWhileRecording() {
+        assertFalse(TickEvent.enabled());
+        try (Recording recording = new Recording()) {
+            recording.enable("tanjiro.Tick");
+            recording.start();
+            assertTrue(TickEvent.enabled());
+            recording.disable("tanjiro.Tick");
+            assertFalse(TickEvent.enabled());
+        }
+        assertFalse(TickEvent.enabled());
+    }
+
+    @Test
+    void viewEvents_enabledOnlyWhileRecording() {
+        assertFalse(RenderEvent.enabled() || AssetLoadEvent.enabled()
+                || SceneTransitionEvent.enabled() || MusicEvent.enabled());
+        try (Recording recording = new Recording()) {
+            recording.enable("tanjiro.Render");
+            recording.enable("tanjiro.AssetLoad");
+            recording.enable("tanjiro.SceneTransition");
+            recording.enable("tanjiro.PlayBGM");
+            recording.start();
+            assertTrue(RenderEvent.enabled() && AssetLoadEvent.enabled()
+                    && SceneTransitionEvent.enabled() && MusicEvent.enabled());
+        }
+        assertFalse(RenderEvent.enabled());
+    }
+
+    // ── Launch option ────────────────────────────────────────────────────────
+
+    @Test
+    void startIfRequested_doesNothingWithoutProperty() {
+        assertNull(System.getProperty(FlightRecording.PROPERTY));
+        assertNull(FlightRecording.startIfRequested());
+    }
+
+    @Test
+    void start_keepsContinuousRecordingDumpedToDestination() throws Exception {
+        Path file = dir.resolve("game.jfr");
+        try (Recording recording = FlightRecording.start(file)) {
+            assertEquals(FlightRecording.MAX_AGE, recording.getMaxAge());
+            assertTrue(recording.getDumpOnExit());
+            assertEquals(file, recording.getDestination());
+            new SceneTransitionEvent().commit();
+            recording.stop();
+        }
+        assertTrue(Files.size(file) > 0);
+    }
+}
@@ -0,0 +1,77 @@
+package logic.base;
+
+import logic.creatures.Player;
+import logic.stone.Iron;
+import logic.stone.NormalStone;
+import logic.util.ItemCounter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemRegistryTest {
+
+    // ── Interning ────────────────────────────────────────────────────────────
+
+    @Test
+    void intern_sameAttributes_returnsSameType() {
+        ItemType a = ItemRegistry.intern("Registry Test Gem", true, 64);
+        ItemType b = ItemRegistry.intern("Registry Test Gem", true, 64);
+        assertSame(a, b);
+    }
+
+    @Test
+    void intern_differentAttributes_returnsDifferentTypes() {
+        ItemType stackable = ItemRegistry.intern("Registry Test Relic", true, 64);
+        ItemType single = ItemRegistry.intern("Registry Test Relic", false, 1);
+        assertNotSame(stackable, single);
+        assertNotEquals(stackable.getId(), single.getId());
+    }
+
+    @Test
+    void byId_roundTripsEveryRegisteredType() {
+        ItemType t = ItemRegistry.intern("Registry Test Shard", true, 16);
+        assertTrue(t.getId() < ItemRegistry.size());
+        assertSame(t, ItemRegistry.byId(t.getId()));
+        for (int id = 0; id < ItemRegistry.size(); id++)
+            assertEquals(id, ItemRegistry.byId(id).getId());
+    }
+
+    @Test
+    void byId_unknownId_throws() {
+        assertThrows(IndexOutOfBoundsException.class, () -> ItemRegistry.byId(ItemRegistry.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> ItemRegistry.byId(-1));
+    }
+
+    // ── Items ────────────────────────────────────────────────────────────────
+
+    @Test
+    void baseItem_sameKind_sharesTypeAndEquals() {
+        BaseItem a = new BaseItem("Iron");
+        assertSame(Iron.MATERIAL.getType(), a.getType());
+        assertEquals(Iron.MATERIAL, a);
+        assertEquals(Iron.MATERIAL.hashCode(), a.hashCode());
+        assertNotEquals(NormalStone.MATERIAL, a);
+    }
+
+    @Test
+    void baseItem_nonStackable_clampsMaxStackToOne() {
+        BaseItem item = new BaseItem("Registry Test Blade", false, 10);
+        assertEquals(1, item.getMaxStack());
+        assertFalse(item.isStackable());
+    }
+
+    @Test
+    void itemCounter_equalsByType() {
+        assertEquals(new ItemCounter(new BaseItem("Iron"), 1), new ItemCounter(Iron.MATERIAL, 5));
+    }
+
+    @Test
+    void brokenStone_dropsSharedMaterial() {
+        Iron node = new Iron();
+        List<BaseItem> drops = node.mine(node.getMaxDurability(), new Player(100, 20, 10));
+        assertEquals(3, drops.size());
+        for (BaseItem drop : drops) assertSame(Iron.MATERIAL, drop);
+    }
+}
@@ -0,0 +1,101 @@
+package logic.util;
+
+import interfaces.Craftable;
+import logic.creatures.Player;
+import logic.item.armor.StoneArmor;
+import logic.item.weapon.IronSword;
+import logic.item.weapon.StoneSword;
+import logic.stone.Iron;
+import logic.stone.NormalStone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CraftableSetTest {
+
+    private Player player;
+    private List<Craftable> recipes;
+    private CraftableSet set;
+
+    @BeforeEach
+    void setUp() {
+        player = new Player(100, 20, 10);
+        recipes = List.of(new StoneSword(), new IronSword(), new StoneArmor());
+        set = new CraftableSet(recipes);
+    }
+
+    // ── Recipe ───────────────────────────────────────────────────────────────
+
+    @Test
+    void compile_mergesRepeatedIngredients() {
+        Recipe r = Recipe.compile(List.of(
+                new ItemCounter(NormalStone.MATERIAL, 2),
+                new ItemCounter(Iron.MATERIAL, 3),
+                new ItemCounter(NormalStone.MATERIAL, 4)));
+        assertEquals(2, r.size());
+        assertEquals(NormalStone.MATERIAL.getId(), r.getTypeId(0));
+        assertEquals(6, r.getAmount(0));
+        assertEquals(Iron.MATERIAL.getId(), r.getTypeId(1));
+        assertEquals(3, r.getAmount(1));
+    }
+
+    @Test
+    void requirements_compiledOnceFromRecipeList() {
+        IronSword sword = new IronSword();
+        Recipe r = sword.getRequirements();
+        assertEquals(sword.getRecipe().size(), r.size());
+        assertSame(r, sword.getRequirements());
+    }
+
+    @Test
+    void satisfiedAndConsume_useInventoryCounts() {
+        Recipe r = new IronSword().getRequirements();
+        Inventory inv = player.getInventory();
+        inv.addItem(NormalStone.MATERIAL, 5);
+        inv.addItem(Iron.MATERIAL, 7);
+        assertFalse(r.isSatisfiedBy(inv));
+        inv.addItem(Iron.MATERIAL, 1);
+        assertTrue(r.isSatisfiedBy(inv));
+        r.consume(inv);
+        assertEquals(0, inv.count(NormalStone.MATERIAL));
+        assertEquals(0, inv.count(Iron.MATERIAL));
+        assertTrue(inv.isEmpty());
+    }
+
+    // ── Craftable set ────────────────────────────────────────────────────────
+
+    @Test
+    void refresh_recomputesOnlyAfterInventoryOrGoldChange() {
+        assertTrue(set.refresh(player));
+        assertFalse(set.refresh(player));
+        player.addItem(NormalStone.MATERIAL, 1);
+        assertTrue(set.refresh(player));
+        assertFalse(set.refresh(player));
+        player.setGold(500);
+        assertTrue(set.refresh(player));
+        assertFalse(set.refresh(player));
+    }
+
+    @Test
+    void isCraftable_tracksMaterialsAndGold() {
+        set.refresh(player);
+        assertEquals(0, set.size());
+
+        player.addItem(NormalStone.MATERIAL, 10);
+        set.refresh(player);
+        assertEquals(recipes.get(0).canCraft(player), set.isCraftable(0));
+        assertEquals(recipes.get(2).canCraft(player), set.isCraftable(2));
+
+        player.addItem(Iron.MATERIAL, 8);
+        player.setGold(1000);
+        set.refresh(player);
+        assertTrue(set.isCraftable(1));
+
+        recipes.get(1).craft(player);
+        set.refresh(player);
+        assertFalse(set.isCraftable(1));
+    }
+}
@@ -0,0 +1,85 @@
+package logic.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameClockTest {
+
+    private static final long MS = 1_000_000L;
+
+    // ── Syncing ──────────────────────────────────────────────────────────────
+
+    @Test
+    void sync_firstCallOnlyRecordsTimestamp() {
+        GameClock clock = new GameClock();
+        assertEquals(0, clock.sync(5_000 * MS));
+        assertEquals(16 * MS, clock.sync(5_016 * MS));
+        assertEquals(16, clock.millis());
+    }
+
+    @Test
+    void sync_capsLongGaps() {
+        GameClock clock = new GameClock(100 * MS);
+        clock.sync(0);
+        assertEquals(100 * MS, clock.sync(10_000 * MS));
+    }
+
+    @Test
+    void sync_ignoresTimestampsGoingBackwards() {
+        GameClock clock = new GameClock();
+        clock.sync(50 * MS);
+        assertEquals(0, clock.sync(40 * MS));
+        assertEquals(10 * MS, clock.sync(50 * MS));
+    }
+
+    @Test
+    void resync_dropsTimeSpentAway() {
+        GameClock clock = new GameClock();
+        clock.sync(0);
+        clock.sync(10 * MS);
+        clock.resync();
+        assertEquals(0, clock.sync(200 * MS));
+        assertEquals(10 * MS, clock.nanos());
+    }
+
+    // ── Pause and scale ──────────────────────────────────────────────────────
+
+    @Test
+    void paused_timeDoesNotPass() {
+        GameClock clock = new GameClock();
+        clock.sync(0);
+        clock.setPaused(true);
+        assertEquals(0, clock.sync(16 * MS));
+        clock.setPaused(false);
+        assertEquals(16 * MS, clock.sync(32 * MS));
+        assertEquals(16 * MS, clock.nanos());
+    }
+
+    @Test
+    void scale_speedsUpAndSlowsDownTime() {
+        GameClock clock = new GameClock();
+        clock.setScale(100);
+        clock.sync(0);
+        assertEquals(1_600 * MS, clock.sync(16 * MS));
+
+        clock.setScale(0.5);
+        assertEquals(8 * MS, clock.sync(32 * MS));
+    }
+
+    @Test
+    void advance_keepsFractionalNanoseconds() {
+        GameClock clock = new GameClock();
+        clock.setScale(1.0 / 3);
+        for (int i = 0; i < 3; i++) clock.advance(1);
+        assertEquals(1, clock.nanos());
+    }
+
+    @Test
+    void setScale_rejectsInvalidValues() {
+        GameClock clock = new GameClock();
+        assertThrows(IllegalArgumentException.class, () -> clock.setScale(-1));
+        assertThrows(IllegalArgumentException.class, () -> clock.setScale(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> clock.setScale(Double.POSITIVE_INFINITY));
+    }
+}
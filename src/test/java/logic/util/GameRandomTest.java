@@ -0,0 +1,33 @@
+package logic.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRandomTest {
+
+    @Test
+    void stream_sameSeedAndName_repeatsSequence() {
+        SplittableRandom a = new GameRandom(1234).stream(GameRandom.SPAWN);
+        SplittableRandom b = new GameRandom(1234).stream(GameRandom.SPAWN);
+        for (int i = 0; i < 100; i++) assertEquals(a.nextLong(), b.nextLong());
+    }
+
+    @Test
+    void stream_isIndependentOfOtherStreams() {
+        GameRandom random = new GameRandom(1234);
+        SplittableRandom other = random.stream(GameRandom.WANDER);
+        for (int i = 0; i < 50; i++) other.nextLong();
+        assertEquals(new GameRandom(1234).stream(GameRandom.SPAWN).nextLong(),
+                random.stream(GameRandom.SPAWN).nextLong());
+    }
+
+    @Test
+    void streams_differByNameAndSeed() {
+        GameRandom random = new GameRandom(1234);
+        assertNotEquals(random.streamSeed(GameRandom.SPAWN), random.streamSeed(GameRandom.WANDER));
+        assertNotEquals(random.streamSeed(GameRandom.SPAWN), new GameRandom(1235).streamSeed(GameRandom.SPAWN));
+    }
+}
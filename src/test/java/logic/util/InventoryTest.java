@@ -0,0 +1,140 @@
+package logic.util;
+
+import logic.base.BaseItem;
+import logic.item.potion.SmallHealthPotion;
+import logic.stone.Iron;
+import logic.stone.NormalStone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryTest {
+
+    private Inventory inv;
+
+    @BeforeEach
+    void setUp() {
+        inv = new Inventory();
+    }
+
+    // ── Stacking ─────────────────────────────────────────────────────────────
+
+    @Test
+    void addItem_fillsExistingStackBeforeOpeningNew() {
+        inv.addItem(new BaseItem("Iron"), 40);
+        inv.addItem(new BaseItem("Iron"), 40);
+        assertEquals(2, inv.size());
+        assertEquals(64, inv.get(0).getCount());
+        assertEquals(16, inv.get(1).getCount());
+        assertEquals(80, inv.count(new BaseItem("Iron")));
+        assertEquals(1, inv.typeCount());
+    }
+
+    @Test
+    void addItem_keepsDisplayOrder() {
+        inv.addItem(new BaseItem("A"), 1);
+        inv.addItem(new BaseItem("B"), 1);
+        inv.addItem(new BaseItem("A"), 1);
+        assertEquals(2, inv.size());
+        assertEquals("A", inv.get(0).getItem().getName());
+        assertEquals("B", inv.get(1).getItem().getName());
+        assertEquals(2, inv.subList(0, 2).size());
+    }
+
+    @Test
+    void addItem_nonStackable_getsOwnSlots() {
+        BaseItem sword = new BaseItem("Sword", false, 1);
+        inv.addItem(sword, 3);
+        assertEquals(3, inv.size());
+        assertEquals(3, inv.count(sword));
+    }
+
+    // ── Counting ─────────────────────────────────────────────────────────────
+
+    @Test
+    void count_sumsAllStacks() {
+        inv.addItem(new SmallHealthPotion(), 100);
+        assertEquals(4, inv.size());
+        assertEquals(100, inv.count(SmallHealthPotion.class));
+    }
+
+    @Test
+    void count_byClass_matchesInstances() {
+        inv.addItem(new NormalStone(), 5);
+        inv.addItem(new Iron(), 2);
+        assertEquals(5, inv.count(NormalStone.class));
+        assertEquals(7, inv.count(logic.stone.baseStone.class));
+        assertEquals(0, inv.count(SmallHealthPotion.class));
+    }
+
+    @Test
+    void directStackEdits_updateTotals() {
+        inv.addItem(new BaseItem("Iron"), 10);
+        ItemCounter ic = inv.get(0);
+        ic.addCount(-3);
+        assertEquals(7, inv.count(new BaseItem("Iron")));
+        ic.setCount(20);
+        assertEquals(20, inv.count(new BaseItem("Iron")));
+
+        ic.setItem(new BaseItem("Gold"));
+        assertEquals(0, inv.count(new BaseItem("Iron")));
+        assertEquals(20, inv.count(new BaseItem("Gold")));
+    }
+
+    @Test
+    void listAdd_indexesStack() {
+        inv.add(new ItemCounter(new BaseItem("Iron"), 4));
+        assertEquals(4, inv.count(new BaseItem("Iron")));
+    }
+
+    // ── Removal ──────────────────────────────────────────────────────────────
+
+    @Test
+    void removeItem_drainsStacksInOrder() {
+        inv.addItem(new SmallHealthPotion(), 70);
+        assertEquals(45, inv.removeItem(new SmallHealthPotion(), 45));
+        assertEquals(2, inv.size());
+        assertEquals(25, inv.count(SmallHealthPotion.class));
+        assertEquals(25, inv.removeItem(new SmallHealthPotion(), 99));
+        assertTrue(inv.isEmpty());
+        assertEquals(0, inv.typeCount());
+    }
+
+    @Test
+    void remove_prefersTheExactStack() {
+        inv.addItem(new SmallHealthPotion(), 40);
+        ItemCounter second = inv.get(1);
+        second.setCount(0);
+        assertTrue(inv.remove(second));
+        assertEquals(1, inv.size());
+        assertEquals(30, inv.get(0).getCount());
+        assertNull(second.owner);
+    }
+
+    @Test
+    void removedStack_noLongerAffectsTotals() {
+        inv.addItem(new BaseItem("Iron"), 5);
+        ItemCounter ic = inv.remove(0);
+        ic.addCount(10);
+        assertEquals(0, inv.count(new BaseItem("Iron")));
+    }
+
+    @Test
+    void findStack_skipsEmptyStacks() {
+        inv.addItem(new SmallHealthPotion(), 40);
+        inv.get(0).setCount(0);
+        assertSame(inv.get(1), inv.findStack(SmallHealthPotion.class));
+        assertNull(inv.findStack(Iron.class));
+    }
+
+    @Test
+    void version_changesOnCountEditsButNotOnReads() {
+        inv.addItem(new BaseItem("Iron"), 5);
+        long v = inv.getVersion();
+        inv.count(new BaseItem("Iron"));
+        assertEquals(v, inv.getVersion());
+        inv.get(0).addCount(1);
+        assertNotEquals(v, inv.getVersion());
+    }
+}
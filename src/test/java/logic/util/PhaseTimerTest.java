@@ -0,0 +1,69 @@
+package logic.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhaseTimerTest {
+
+    @Test
+    void disabled_recordsNothing() {
+        PhaseTimer t = new PhaseTimer("a");
+        t.begin(0);
+        t.end(0);
+        t.endFrame(1_000);
+        t.endFrame(2_000);
+        assertEquals(0, t.phase(0).total());
+        assertEquals(0, t.frames().total());
+    }
+
+    @Test
+    void endFrame_recordsPhaseTotalsAndIntervals() throws InterruptedException {
+        PhaseTimer t = new PhaseTimer("a", "b");
+        t.setEnabled(true);
+        t.begin(0);
+        Thread.sleep(2);
+        t.end(0);
+        t.endFrame(1_000_000);
+        t.endFrame(17_666_667);
+        assertEquals(2, t.phase(0).total());
+        long[] out = new long[2];
+        t.phase(0).snapshot(out);
+        assertTrue(out[0] >= 2_000_000);
+        assertEquals(0, out[1]);
+        assertEquals(1, t.frames().total());
+        assertEquals(16_666_667, t.frames().last());
+    }
+
+    @Test
+    void phaseEnteredTwice_addsUp() {
+        PhaseTimer t = new PhaseTimer("a");
+        t.setEnabled(true);
+        for (int i = 0; i < 2; i++) {
+            t.begin(0);
+            busy();
+            t.end(0);
+        }
+        t.endFrame(0);
+        assertTrue(t.phase(0).last() >= 2_000_000);
+    }
+
+    @Test
+    void setEnabled_startsFromEmptyHistory() {
+        PhaseTimer t = new PhaseTimer("a");
+        t.setEnabled(true);
+        t.endFrame(0);
+        t.endFrame(10);
+        t.setEnabled(false);
+        t.setEnabled(true);
+        assertEquals(0, t.phase(0).total());
+        assertEquals(0, t.frames().total());
+        assertEquals("a", t.name(0));
+        assertEquals(1, t.phaseCount());
+    }
+
+    private static void busy() {
+        long end = System.nanoTime() + 1_000_000;
+        while (System.nanoTime() < end) Thread.onSpinWait();
+    }
+}
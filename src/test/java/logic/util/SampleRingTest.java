@@ -0,0 +1,67 @@
+package logic.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SampleRingTest {
+
+    // ── Ring ─────────────────────────────────────────────────────────────────
+
+    @Test
+    void snapshot_returnsSamplesOldestFirst() {
+        SampleRing ring = new SampleRing(8);
+        for (int i = 1; i <= 3; i++) ring.add(i * 10);
+        long[] out = new long[8];
+        assertEquals(3, ring.snapshot(out));
+        assertArrayEquals(new long[]{10, 20, 30}, java.util.Arrays.copyOf(out, 3));
+        assertEquals(30, ring.last());
+    }
+
+    @Test
+    void add_overwritesOldestWhenFull() {
+        SampleRing ring = new SampleRing(4);
+        for (int i = 0; i < 10; i++) ring.add(i);
+        long[] out = new long[4];
+        assertEquals(4, ring.snapshot(out));
+        assertArrayEquals(new long[]{6, 7, 8, 9}, out);
+        assertEquals(10, ring.total());
+    }
+
+    @Test
+    void snapshot_truncatesToDestination() {
+        SampleRing ring = new SampleRing(8);
+        for (int i = 0; i < 8; i++) ring.add(i);
+        long[] out = new long[3];
+        assertEquals(3, ring.snapshot(out));
+        assertArrayEquals(new long[]{5, 6, 7}, out);
+    }
+
+    @Test
+    void clear_empties() {
+        SampleRing ring = new SampleRing(4);
+        ring.add(1);
+        ring.clear();
+        assertEquals(0, ring.snapshot(new long[4]));
+        assertEquals(0, ring.last());
+    }
+
+    @Test
+    void constructor_rejectsNonPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new SampleRing(6));
+        assertThrows(IllegalArgumentException.class, () -> new SampleRing(0));
+    }
+
+    // ── Percentiles ──────────────────────────────────────────────────────────
+
+    @Test
+    void percentile_usesNearestRank() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < 100; i++) sorted[i] = i + 1;
+        assertEquals(50, SampleRing.percentile(sorted, 100, 0.50));
+        assertEquals(99, SampleRing.percentile(sorted, 100, 0.99));
+        assertEquals(100, SampleRing.percentile(sorted, 100, 1.0));
+        assertEquals(1, SampleRing.percentile(sorted, 100, 0.0));
+        assertEquals(0, SampleRing.percentile(sorted, 0, 0.5));
+    }
+}
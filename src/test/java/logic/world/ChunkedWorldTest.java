@@ -0,0 +1,195 @@
+package logic.world;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedWorldTest {
+
+    /** Queues generation tasks so tests decide when the "background" work runs. */
+    static class ManualExecutor implements Executor {
+        final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            List<Runnable> batch = new ArrayList<>(tasks);
+            tasks.clear();
+            batch.forEach(Runnable::run);
+        }
+    }
+
+    private ManualExecutor executor;
+    private ChunkedWorld world;
+    private int generated;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ManualExecutor();
+        generated = 0;
+        world = new ChunkedWorld(chunk -> {
+            generated++;
+            for (int r = 0; r < Chunk.SIZE; r++)
+                for (int c = 0; c < Chunk.SIZE; c++)
+                    chunk.setTile(r, c, 1);
+        }, 1, executor);
+    }
+
+    // ── Streaming ────────────────────────────────────────────────────────────
+
+    @Test
+    void update_generatesInBackgroundAndPublishesOnNextUpdate() {
+        world.update(0, 0);
+        assertEquals(9, world.getPendingChunkCount());
+        assertEquals(ChunkedWorld.UNLOADED, world.getTile(0, 0));
+
+        executor.runAll();
+        world.update(0, 0);
+        assertEquals(0, world.getPendingChunkCount());
+        assertEquals(9, world.getLoadedChunkCount());
+        assertEquals(1, world.getTile(-Chunk.SIZE, -Chunk.SIZE));
+        assertEquals(ChunkedWorld.UNLOADED, world.getTile(0, 2 * Chunk.SIZE));
+    }
+
+    @Test
+    void loadAround_loadsSynchronously() {
+        world.loadAround(5, 5);
+        assertEquals(9, world.getLoadedChunkCount());
+        assertTrue(world.isLoaded(-1, -1));
+        assertEquals(0, world.getChunk(0, 0).getDirtyCount());
+        assertFalse(world.getChunk(0, 0).isModified());
+    }
+
+    @Test
+    void movingAway_unloadsFarChunksOnlyBeyondMargin() {
+        world.loadAround(0, 0);
+        Chunk origin = world.getChunk(0, 0);
+
+        world.update(0, 2 * Chunk.SIZE);
+        assertTrue(origin.isLoaded());
+
+        world.update(0, 3 * Chunk.SIZE);
+        assertFalse(origin.isLoaded());
+        assertNull(world.getChunk(0, 0));
+    }
+
+    @Test
+    void modifiedChunk_survivesUnloadAndReload() {
+        world.loadAround(0, 0);
+        world.setTile(3, 4, 7);
+        world.update(0, 10 * Chunk.SIZE);
+        executor.runAll();
+
+        int before = generated;
+        world.loadAround(0, 0);
+        assertEquals(7, world.getTile(3, 4));
+        assertEquals(1, world.getTile(3, 5));
+        assertEquals(before + 9, generated);
+    }
+
+    @Test
+    void modifiedChunk_editsReplayedOnBackgroundReload() {
+        world.loadAround(0, 0);
+        world.setTile(3, 4, 7);
+        world.update(0, 10 * Chunk.SIZE);
+        executor.runAll();
+
+        world.update(0, 0);
+        assertEquals(ChunkedWorld.UNLOADED, world.getTile(3, 4));
+        executor.runAll();
+        world.update(0, 0);
+        assertEquals(7, world.getTile(3, 4));
+        assertTrue(world.getChunk(0, 0).isModified());
+        assertEquals(0, world.getChunk(0, 0).getDirtyCount());
+    }
+
+    @Test
+    void staleBackgroundChunk_isDiscarded() {
+        world.update(0, 0);
+        world.update(0, 10 * Chunk.SIZE);
+        executor.runAll();
+        world.update(0, 10 * Chunk.SIZE);
+        assertNull(world.getChunk(0, 0));
+        assertEquals(9, world.getLoadedChunkCount());
+    }
+
+    // ── Tile access ──────────────────────────────────────────────────────────
+
+    @Test
+    void negativeCoordinates_mapToTheirOwnChunk() {
+        world.loadAround(0, 0);
+        assertTrue(world.setTile(-1, -1, 5));
+        Chunk chunk = world.chunkAt(-1, -1);
+        assertEquals(-1, chunk.getChunkX());
+        assertEquals(-1, chunk.getChunkY());
+        assertEquals(5, chunk.getTile(Chunk.SIZE - 1, Chunk.SIZE - 1));
+    }
+
+    @Test
+    void setTile_onUnloadedChunk_isRejected() {
+        world.loadAround(0, 0);
+        assertFalse(world.setTile(0, 5 * Chunk.SIZE, 5));
+        assertNull(world.getStone(0, 5 * Chunk.SIZE));
+    }
+
+    @Test
+    void dirtyTiles_areQueuedOnceUntilCleared() {
+        world.loadAround(0, 0);
+        Chunk chunk = world.getChunk(0, 0);
+        world.setTile(1, 2, 3);
+        world.markDirty(1, 2);
+        world.setTile(4, 5, 3);
+        assertEquals(2, chunk.getDirtyCount());
+        assertEquals(Chunk.SIZE + 2, chunk.getDirtyIndex(0));
+
+        chunk.clearDirty();
+        assertEquals(0, chunk.getDirtyCount());
+        world.markDirty(1, 2);
+        assertEquals(1, chunk.getDirtyCount());
+    }
+
+    // ── Solidity ─────────────────────────────────────────────────────────────
+
+    @Test
+    void isSolid_tracksTileTypesThroughSetTile() {
+        ChunkedWorld solid = new ChunkedWorld(chunk -> chunk.setTile(0, 0, 3), 0, Runnable::run, ChunkedWorld.typeMask(3));
+        solid.loadAround(0, 0);
+        assertTrue(solid.isSolid(0, 0));
+        assertFalse(solid.isSolid(0, 1));
+
+        solid.setTile(0, 0, 1);
+        solid.setTile(Chunk.SIZE - 1, Chunk.SIZE - 1, 3);
+        assertFalse(solid.isSolid(0, 0));
+        assertTrue(solid.isSolid(Chunk.SIZE - 1, Chunk.SIZE - 1));
+    }
+
+    @Test
+    void isSolid_unloadedTilesAreSolid() {
+        world.loadAround(0, 0);
+        assertFalse(world.isSolid(0, 0));
+        assertTrue(world.isSolid(0, 5 * Chunk.SIZE));
+    }
+
+    @Test
+    void solidGroundType_startsChunksFullySolid() {
+        Chunk chunk = new Chunk(0, 0, ChunkedWorld.typeMask(0));
+        assertTrue(chunk.isSolid(Chunk.SIZE - 1, Chunk.SIZE - 1));
+        chunk.setTile(3, 4, 1);
+        assertFalse(chunk.isSolid(3, 4));
+        assertTrue(chunk.isSolid(3, 5));
+    }
+
+    @Test
+    void typeMask_rejectsTypesOutsideMask() {
+        assertEquals(0b1010, ChunkedWorld.typeMask(1, 3));
+        assertThrows(IllegalArgumentException.class, () -> ChunkedWorld.typeMask(64));
+    }
+}
@@ -0,0 +1,103 @@
+package logic.world;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowFieldTest {
+
+    private Set<Long> walls;
+    private FlowField field;
+
+    @BeforeEach
+    void setUp() {
+        walls = new HashSet<>();
+        field = new FlowField(6);
+    }
+
+    private void wall(int r, int c) {
+        walls.add(((long) r << 32) | (c & 0xffffffffL));
+    }
+
+    private void compute(int goalRow, int goalCol) {
+        field.compute(goalRow, goalCol, (r, c) -> !walls.contains(((long) r << 32) | (c & 0xffffffffL)));
+    }
+
+    /** Follows the field from a start tile and returns the number of steps taken to the goal. */
+    private int walk(int r, int c) {
+        int steps = 0;
+        while (field.hasStep(r, c)) {
+            int nr = r + field.stepRow(r, c), nc = c + field.stepCol(r, c);
+            assertFalse(walls.contains(((long) nr << 32) | (nc & 0xffffffffL)), "stepped into a wall");
+            r = nr;
+            c = nc;
+            assertTrue(++steps < 100, "walk did not terminate");
+        }
+        assertEquals(field.getGoalRow(), r);
+        assertEquals(field.getGoalCol(), c);
+        return steps;
+    }
+
+    // ── Distances ────────────────────────────────────────────────────────────
+
+    @Test
+    void openField_usesChebyshevDistance() {
+        compute(0, 0);
+        assertEquals(0, field.distance(0, 0));
+        assertEquals(3, field.distance(3, -2));
+        assertEquals(6, field.distance(-6, 6));
+        assertFalse(field.hasStep(0, 0));
+    }
+
+    @Test
+    void outsideWindow_isUnreachable() {
+        compute(10, 10);
+        assertEquals(-1, field.distance(10, 17));
+        assertFalse(field.hasStep(10, 17));
+        assertEquals(0, field.stepRow(10, 17));
+    }
+
+    @Test
+    void enclosedTile_isUnreachable() {
+        for (int dr = -1; dr <= 1; dr++)
+            for (int dc = -1; dc <= 1; dc++)
+                if (dr != 0 || dc != 0) wall(3 + dr, 3 + dc);
+        compute(0, 0);
+        assertEquals(-1, field.distance(3, 3));
+    }
+
+    // ── Routing ──────────────────────────────────────────────────────────────
+
+    @Test
+    void wallWithGap_routesThroughGap() {
+        // Vertical wall at column 2 from row -4 to 5; the only way round is over the top
+        for (int r = -4; r <= 5; r++) wall(r, 2);
+        compute(0, 0);
+        int steps = walk(0, 4);
+        assertTrue(steps > 2, "path must detour around the wall");
+        assertEquals(steps, field.distance(0, 4));
+    }
+
+    @Test
+    void diagonal_doesNotCutCorners() {
+        wall(0, 1);
+        compute(0, 0);
+        // (1, 1) -> (0, 0) would squeeze past the wall corner at (0, 1)
+        assertFalse(field.stepRow(1, 1) == -1 && field.stepCol(1, 1) == -1);
+        walk(1, 1);
+    }
+
+    @Test
+    void recompute_followsNewGoal() {
+        compute(0, 0);
+        compute(2, 2);
+        assertEquals(0, field.distance(2, 2));
+        assertEquals(2, field.distance(0, 0));
+        assertEquals(1, field.stepRow(0, 0));
+        assertEquals(1, field.stepCol(0, 0));
+    }
+}
@@ -0,0 +1,117 @@
+package logic.world;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashTest {
+
+    /** Entity positions, indexed by id. */
+    private double[] xs, ys;
+    private SpatialHash grid;
+
+    @BeforeEach
+    void setUp() {
+        xs = new double[64];
+        ys = new double[64];
+        grid = new SpatialHash(48, 64, 4, i -> xs[i], i -> ys[i]);
+    }
+
+    private void add(int id, double x, double y) {
+        xs[id] = x;
+        ys[id] = y;
+        grid.insert(id, x, y);
+    }
+
+    // ── Radius queries ───────────────────────────────────────────────────────
+
+    @Test
+    void queryRadius_findsOnlyEntitiesInRange() {
+        add(0, 100, 100);
+        add(1, 400, 400);
+        assertEquals(1, grid.queryRadius(110, 110, 50));
+        assertEquals(0, grid.hit(0));
+    }
+
+    @Test
+    void queryRadius_isStrict() {
+        add(0, 148, 100);
+        assertEquals(0, grid.queryRadius(100, 100, 48));
+    }
+
+    @Test
+    void queryRadius_handlesNegativeCoordinates() {
+        add(0, -30, -70);
+        assertEquals(1, grid.queryRadius(-20, -60, 20));
+    }
+
+    @Test
+    void queryRadius_doesNotDuplicateOnBucketCollisions() {
+        SpatialHash tiny = new SpatialHash(10, 1, 4, i -> xs[i], i -> ys[i]);
+        for (int i = 0; i < 20; i++) {
+            xs[i] = i * 10 + 5;
+            ys[i] = 5;
+            tiny.insert(i, xs[i], ys[i]);
+        }
+        int n = tiny.queryRadius(100, 5, 1000);
+        Set<Integer> ids = new HashSet<>();
+        for (int k = 0; k < n; k++) ids.add(tiny.hit(k));
+        assertEquals(20, n);
+        assertEquals(20, ids.size());
+    }
+
+    // ── AABB queries ─────────────────────────────────────────────────────────
+
+    @Test
+    void queryAabb_usesHalfOpenBox() {
+        add(0, 0, 0);
+        add(1, 96, 0);
+        assertEquals(1, grid.queryAabb(0, 0, 96, 48));
+        assertEquals(0, grid.hit(0));
+        assertTrue(grid.anyInAabb(90, -5, 100, 5));
+        assertFalse(grid.anyInAabb(1, 1, 95, 47));
+    }
+
+    @Test
+    void queryAabbRows_coversBoxOverAllPhases() {
+        for (int i = 0; i < 40; i++) add(i, (i % 8) * 48 + 5, (i / 8) * 48 + 5);
+        Set<Integer> ids = new HashSet<>();
+        for (int phase = 0; phase < 4; phase++) {
+            int n = grid.queryAabbRows(0, 0, 8 * 48, 5 * 48, 4, phase);
+            for (int k = 0; k < n; k++) assertTrue(ids.add(grid.hit(k)));
+        }
+        assertEquals(40, ids.size());
+    }
+
+    // ── Maintenance ──────────────────────────────────────────────────────────
+
+    @Test
+    void move_rebucketsEntity() {
+        add(0, 10, 10);
+        xs[0] = ys[0] = 500;
+        grid.move(0, 500, 500);
+        assertFalse(grid.anyInAabb(0, 0, 40, 40));
+        assertEquals(1, grid.queryRadius(500, 500, 1));
+        assertEquals(1, grid.size());
+    }
+
+    @Test
+    void remove_dropsEntity() {
+        add(0, 10, 10);
+        add(1, 12, 12);
+        grid.remove(0);
+        assertEquals(1, grid.size());
+        assertEquals(1, grid.queryRadius(10, 10, 10));
+        assertEquals(1, grid.hit(0));
+    }
+
+    @Test
+    void insert_growsPastInitialCapacity() {
+        for (int i = 0; i < 40; i++) add(i, i * 4, 0);
+        assertEquals(40, grid.queryAabb(0, 0, 160, 1));
+    }
+}
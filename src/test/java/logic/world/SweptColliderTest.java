@@ -0,0 +1,83 @@
+package logic.world;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SweptColliderTest {
+
+    private static final int T = 10;
+    private static final int WALL = 1;
+
+    private ChunkedWorld world;
+    private SweptCollider collider;
+
+    @BeforeEach
+    void setUp() {
+        // A wall along column 5 and along row 5, open everywhere else
+        world = new ChunkedWorld(chunk -> {
+            for (int i = 0; i < Chunk.SIZE; i++) {
+                chunk.setTile(i, 5, WALL);
+                chunk.setTile(5, i, WALL);
+            }
+        }, 0, Runnable::run, ChunkedWorld.typeMask(WALL));
+        world.loadAround(0, 0);
+        collider = new SweptCollider(world, T);
+    }
+
+    // ── Sweeping ─────────────────────────────────────────────────────────────
+
+    @Test
+    void moveX_freePathMovesFully() {
+        assertEquals(13.5, collider.moveX(10, 10, 8, 8, 3.5));
+        assertEquals(6.5, collider.moveX(10, 10, 8, 8, -3.5));
+    }
+
+    @Test
+    void moveX_stopsFlushAgainstWall() {
+        assertEquals(42, collider.moveX(40, 10, 8, 8, 5));
+        assertEquals(60, collider.moveX(62, 10, 8, 8, -5));
+    }
+
+    @Test
+    void moveX_fastMoverCannotTunnel() {
+        assertEquals(42, collider.moveX(10, 10, 8, 8, 100));
+        assertEquals(60, collider.moveX(90, 10, 8, 8, -100));
+    }
+
+    @Test
+    void moveX_boxTouchingWallStaysPut() {
+        assertEquals(42, collider.moveX(42, 10, 8, 8, 1));
+    }
+
+    @Test
+    void moveX_boxSpanningTwoRowsIsBlockedByEither() {
+        world.setTile(4, 5, 0);
+        // Row 4 only: through the gap
+        assertEquals(55, collider.moveX(40, 41, 8, 8, 15));
+        // Rows 3 and 4: the wall in row 3 blocks
+        assertEquals(42, collider.moveX(40, 35, 8, 8, 15));
+    }
+
+    @Test
+    void moveY_stopsFlushAgainstWall() {
+        assertEquals(42, collider.moveY(10, 10, 8, 8, 100));
+        assertEquals(60, collider.moveY(10, 70, 8, 8, -100));
+    }
+
+    @Test
+    void unloadedTiles_blockMovement() {
+        assertEquals(0, collider.moveX(2, 10, 8, 8, -50));
+        assertEquals(0, collider.moveY(10, 2, 8, 8, -50));
+    }
+
+    // ── Overlap ──────────────────────────────────────────────────────────────
+
+    @Test
+    void overlapsSolid_usesHalfOpenBoxes() {
+        assertFalse(collider.overlapsSolid(42, 10, 8, 8));
+        assertTrue(collider.overlapsSolid(42.5, 10, 8, 8));
+        assertTrue(collider.overlapsSolid(10, 48, 8, 8));
+    }
+}
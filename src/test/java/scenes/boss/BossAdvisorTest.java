@@ -0,0 +1,91 @@
+package scenes.boss;
+
+import logic.creatures.Player;
+import logic.item.armor.MithrilArmor;
+import logic.item.armor.StoneArmor;
+import logic.item.potion.BigHealthPotion;
+import logic.item.weapon.MithrilSword;
+import logic.item.weapon.StoneSword;
+import logic.util.GameClock;
+import logic.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BossAdvisorTest {
+
+    private static final BossAdvisor FIXED = new BossAdvisor(ForkJoinPool.commonPool(), 3, Long.MAX_VALUE);
+
+    private static BossController battle() {
+        Player p = new Player(100, 20, 10);
+        p.equipWeapon(new MithrilSword());
+        p.equipArmor(new MithrilArmor());
+        p.addItem(new BigHealthPotion(), 2);
+        return new BossController(p, new GameClock(), new GameRandom(1));
+    }
+
+    // ── Recommendations ──────────────────────────────────────────────────────
+
+    @Test
+    void advise_finishesBossWhenPossible() {
+        BossController b = battle();
+        b.getCurrentBoss().setHealthPoint(1);
+        BossAdvisor.Advice advice = FIXED.advise(b);
+        assertEquals(BossController.ActionResult.BOSS_DEFEATED, BossAdvisor.apply(b, advice.action()));
+    }
+
+    @Test
+    void advise_healsWhenNextHitIsLethal() {
+        BossController b = battle();
+        b.getPlayer().setHealth(10);
+        int action = FIXED.advise(b).action();
+        assertTrue(action >= CombatState.POTION || action == CombatState.SKILL + 1,
+                "expected a potion or Dead Calm, got " + BossAdvisor.describe(b, action));
+    }
+
+    @Test
+    void advise_isDeterministicWithoutBudget() {
+        CombatState s = CombatState.of(battle());
+        assertEquals(FIXED.advise(s), FIXED.advise(s));
+        assertEquals(3, FIXED.advise(s).depth());
+    }
+
+    @Test
+    void advise_stopsAtBudget() {
+        BossAdvisor quick = new BossAdvisor(ForkJoinPool.commonPool(), BossAdvisor.MAX_DEPTH, 2_000_000L);
+        long start = System.nanoTime();
+        BossAdvisor.Advice advice = quick.advise(battle());
+        assertTrue(System.nanoTime() - start < 500_000_000L);
+        assertTrue(advice.depth() >= 1 && advice.depth() < BossAdvisor.MAX_DEPTH);
+    }
+
+    @Test
+    void constructor_rejectsBadDepth() {
+        assertThrows(IllegalArgumentException.class, () -> new BossAdvisor(ForkJoinPool.commonPool(), 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BossAdvisor(ForkJoinPool.commonPool(), BossAdvisor.MAX_DEPTH + 1, 1));
+    }
+
+    @Test
+    void describe_namesActions() {
+        BossController b = battle();
+        assertEquals("Attack", BossAdvisor.describe(b, CombatState.ATTACK));
+        assertEquals("Kagura Dance", BossAdvisor.describe(b, CombatState.SKILL));
+        assertEquals("Big Health Potion", BossAdvisor.describe(b, CombatState.POTION));
+    }
+
+    // ── As a policy ──────────────────────────────────────────────────────────
+
+    @Test
+    void policy_beatsAttackOnly() {
+        BossSimulator sim = new BossSimulator();
+        BossSimulator.Loadout gear = new BossSimulator.Loadout(new StoneSword(), new StoneArmor());
+        BossSimulator.PlayerSpec spec = new BossSimulator.PlayerSpec(300, 40, 20, 3, 2, 1);
+        BossSimulator.Result bot = sim.run(gear, spec, new BossAdvisor(ForkJoinPool.commonPool(), 2, Long.MAX_VALUE), 200, 5);
+        BossSimulator.Result naive = sim.run(gear, spec, BattlePolicy.ATTACK_ONLY, 200, 5);
+        assertTrue(bot.getKills(0) + bot.getKills(1) + bot.getKills(2)
+                > naive.getKills(0) + naive.getKills(1) + naive.getKills(2));
+    }
+}
@@ -0,0 +1,103 @@
+package scenes.boss;
+
+import logic.item.armor.StoneArmor;
+import logic.item.armor.VibraniumArmor;
+import logic.item.weapon.VibraniumSword;
+import logic.item.weapon.WoodenSword;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BossSimulatorTest {
+
+    private static final BossSimulator.Loadout BEST =
+            new BossSimulator.Loadout(new VibraniumSword(), new VibraniumArmor());
+
+    private static final BossSimulator.Loadout WORST =
+            new BossSimulator.Loadout(new WoodenSword(), new StoneArmor());
+
+    private static final BossSimulator.PlayerSpec POTIONS = new BossSimulator.PlayerSpec(100, 20, 10, 2, 2, 1);
+
+    // ── Single batches ───────────────────────────────────────────────────────
+
+    @Test
+    void run_countsEveryFight() {
+        BossSimulator.Result r = new BossSimulator().run(BEST, POTIONS, BattlePolicy.GREEDY, 5_000, 1);
+        assertEquals(5_000, r.getFights());
+        assertTrue(r.getKills(0) >= r.getKills(1));
+        assertTrue(r.getKills(1) >= r.getKills(2));
+        assertEquals(r.getWins(), r.getKills(2));
+    }
+
+    @Test
+    void run_sameTotalsOnAnyPoolSize() {
+        ForkJoinPool single = new ForkJoinPool(1), quad = new ForkJoinPool(4);
+        try {
+            BossSimulator.Result a = new BossSimulator(single).run(BEST, POTIONS, BattlePolicy.RANDOM, 10_000, 42);
+            BossSimulator.Result b = new BossSimulator(quad).run(BEST, POTIONS, BattlePolicy.RANDOM, 10_000, 42);
+            assertEquals(a.toString(), b.toString());
+            assertEquals(a.getWins(), b.getWins());
+            assertEquals(a.meanTurns(), b.meanTurns());
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+
+    @Test
+    void run_betterGearWinsMore() {
+        BossSimulator sim = new BossSimulator();
+        BossSimulator.Result best = sim.run(BEST, POTIONS, BattlePolicy.GREEDY, 2_000, 7);
+        BossSimulator.Result worst = sim.run(WORST, POTIONS, BattlePolicy.GREEDY, 2_000, 7);
+        assertTrue(best.getKills(0) > worst.getKills(0));
+        assertTrue(best.getKills(1) > worst.getKills(1));
+        assertTrue(best.winRate() >= worst.winRate());
+    }
+
+    @Test
+    void run_greedyPolicyDrinksPotions() {
+        BossSimulator.Result r = new BossSimulator().run(WORST, POTIONS, BattlePolicy.GREEDY, 1_000, 3);
+        assertTrue(r.meanPotionsUsed() > 0);
+        assertTrue(r.meanPotionsUsed() <= 5);
+    }
+
+    @Test
+    void run_harmlessPlayerEndsInStalemate() {
+        BossSimulator.PlayerSpec wall = new BossSimulator.PlayerSpec(100, 0, 10_000, 0, 0, 0);
+        BossSimulator.Result r = new BossSimulator().run(new BossSimulator.Loadout(null, null), wall,
+                BattlePolicy.ATTACK_ONLY, 10, 1);
+        assertEquals(10, r.getStalemates());
+        assertEquals(BossSimulator.MAX_TURNS, r.meanTurns());
+        assertTrue(Double.isNaN(r.meanTurnsToKill(0)));
+    }
+
+    @Test
+    void run_rejectsNegativeCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BossSimulator().run(BEST, POTIONS, BattlePolicy.GREEDY, -1, 1));
+    }
+
+    // ── Sweeps ───────────────────────────────────────────────────────────────
+
+    @Test
+    void sweep_coversEveryPair() {
+        Map<BossSimulator.Loadout, BossSimulator.Result> results = new BossSimulator().sweep(
+                BossSimulator.weapons(), BossSimulator.armors(), POTIONS, BattlePolicy.ATTACK_ONLY, 100, 1);
+        assertEquals(BossSimulator.weapons().size() * BossSimulator.armors().size(), results.size());
+        results.values().forEach(r -> assertEquals(100, r.getFights()));
+    }
+
+    @Test
+    void sweep_keepsWeaponMajorOrder() {
+        List<BossSimulator.Loadout> keys = List.copyOf(new BossSimulator().sweep(
+                List.of(new WoodenSword(), new VibraniumSword()), List.of(new StoneArmor(), new VibraniumArmor()),
+                POTIONS, BattlePolicy.ATTACK_ONLY, 1, 1).keySet());
+        assertEquals("Wooden Sword + Stone Armor", keys.get(0).toString());
+        assertEquals("Wooden Sword + Vibranium Armor", keys.get(1).toString());
+        assertEquals("Vibranium Sword + Stone Armor", keys.get(2).toString());
+    }
+}
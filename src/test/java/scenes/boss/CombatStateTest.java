@@ -0,0 +1,102 @@
+package scenes.boss;
+
+import logic.creatures.Player;
+import logic.item.armor.IronArmor;
+import logic.item.potion.HealPotion;
+import logic.item.potion.SmallHealthPotion;
+import logic.item.weapon.MithrilSword;
+import logic.util.GameClock;
+import logic.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CombatStateTest {
+
+    private static BossController battle(long seed) {
+        Player p = new Player(300, 20, 10);
+        p.equipWeapon(new MithrilSword());
+        p.equipArmor(new IronArmor());
+        p.addItem(new SmallHealthPotion(), 3);
+        p.addItem(new HealPotion(), 2);
+        return new BossController(p, new GameClock(), new GameRandom(seed));
+    }
+
+    // ── Snapshot ─────────────────────────────────────────────────────────────
+
+    @Test
+    void of_capturesBattle() {
+        BossController b = battle(1);
+        CombatState s = CombatState.of(b);
+        assertEquals(b.getPlayer().getHealth(), s.getHp());
+        assertEquals(b.getCurrentBoss().getHealthPoint(), s.getBossHp());
+        assertEquals(0, s.getBossIndex());
+        assertEquals(CombatState.POTION + 2, s.actionCount());
+    }
+
+    @Test
+    void isLegal_followsCooldownsAndStock() {
+        BossController b = battle(1);
+        b.doSkill(0);
+        b.doEnemyTurn();
+        CombatState s = CombatState.of(b);
+        assertFalse(s.isLegal(CombatState.SKILL));
+        assertTrue(s.isLegal(CombatState.SKILL + 1));
+        assertTrue(s.isLegal(CombatState.POTION + 1));
+    }
+
+    @Test
+    void copy_isIndependent() {
+        CombatState s = CombatState.of(battle(1));
+        CombatState c = s.copy();
+        c.playerAction(CombatState.ATTACK);
+        c.playerAction(CombatState.POTION);
+        assertNotEquals(s.getBossHp(), c.getBossHp());
+        assertTrue(s.isLegal(CombatState.POTION));
+        assertEquals(s.getBossHp(), c.copyFrom(s).getBossHp());
+    }
+
+    // ── Rules match BossController ───────────────────────────────────────────
+
+    @Test
+    void actions_matchController() {
+        SplittableRandom rng = new SplittableRandom(9);
+        for (long seed = 0; seed < 20; seed++) {
+            BossController b = battle(seed);
+            while (b.getState() == BossController.BattleState.PLAYER_TURN) {
+                CombatState before = CombatState.of(b);
+                int action;
+                do action = rng.nextInt(before.actionCount()); while (!before.isLegal(action));
+
+                CombatState predicted = before.copy();
+                int outcome = predicted.playerAction(action);
+                BossController.ActionResult r = BossAdvisor.apply(b, action);
+                if (outcome == CombatState.WON) {
+                    assertEquals(BossController.ActionResult.ALL_CLEAR, r);
+                    break;
+                }
+                if (outcome == CombatState.BOSS_DOWN) {
+                    assertEquals(BossController.ActionResult.BOSS_DEFEATED, r);
+                    b.advanceToNextBoss();
+                    assertEquals(predicted.getBossIndex(), b.getBossIndex());
+                    continue;
+                }
+                assertEquals(BossController.ActionResult.ENEMY_TURN, r);
+                assertEquals(predicted.getBossHp(), b.getCurrentBoss().getHealthPoint());
+
+                b.doEnemyTurn();
+                int normal = hpAfterEnemy(predicted, false), crit = hpAfterEnemy(predicted, true);
+                int actual = b.getPlayer().getHealth();
+                assertTrue(actual == normal || actual == crit, "hp " + actual + " not " + normal + "/" + crit);
+            }
+        }
+    }
+
+    private static int hpAfterEnemy(CombatState s, boolean crit) {
+        CombatState c = s.copy();
+        c.enemyTurn(crit);
+        return c.getHp();
+    }
+}
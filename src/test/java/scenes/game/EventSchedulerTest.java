@@ -0,0 +1,88 @@
+package scenes.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSchedulerTest {
+
+    // ── Ordering ─────────────────────────────────────────────────────────────
+
+    @Test
+    void poll_firesOnlyDueEvents() {
+        EventScheduler s = new EventScheduler(4);
+        s.schedule(10, 1, 0, 0);
+        assertFalse(s.poll(9));
+        assertTrue(s.poll(10));
+        assertEquals(1, s.kind());
+        assertFalse(s.poll(10));
+    }
+
+    @Test
+    void poll_firesInDueOrderThenScheduleOrder() {
+        EventScheduler s = new EventScheduler(2);
+        s.schedule(30, 0, 3, 0);
+        s.schedule(10, 0, 1, 0);
+        s.schedule(20, 0, 2, 0);
+        s.schedule(10, 0, 4, 0);
+        s.schedule(20, 0, 5, 0);
+
+        int[] order = new int[5];
+        int n = 0;
+        while (s.poll(100)) order[n++] = s.argA();
+
+        assertArrayEquals(new int[]{1, 4, 2, 5, 3}, order);
+        assertEquals(0, s.size());
+    }
+
+    @Test
+    void poll_returnsArguments() {
+        EventScheduler s = new EventScheduler(4);
+        s.schedule(5, 7, 11, 13);
+        assertTrue(s.poll(5));
+        assertEquals(7, s.kind());
+        assertEquals(11, s.argA());
+        assertEquals(13, s.argB());
+    }
+
+    @Test
+    void manyEvents_fireSorted() {
+        EventScheduler s = new EventScheduler(1);
+        Random rng = new Random(42);
+        for (int i = 0; i < 1_000; i++) s.schedule(rng.nextInt(500), 0, i, 0);
+        assertEquals(1_000, s.size());
+
+        long last = Long.MIN_VALUE;
+        for (long tick = 0; tick < 500; tick++) {
+            assertTrue(s.peekDue() >= tick);
+            while (s.poll(tick)) {
+                assertTrue(tick >= last);
+                last = tick;
+            }
+            assertTrue(s.peekDue() > tick);
+        }
+        assertEquals(0, s.size());
+        assertEquals(Long.MAX_VALUE, s.peekDue());
+    }
+
+    // ── Bookkeeping ──────────────────────────────────────────────────────────
+
+    @Test
+    void count_andClear() {
+        EventScheduler s = new EventScheduler(4);
+        s.schedule(1, 0, 0, 0);
+        s.schedule(2, 1, 0, 0);
+        s.schedule(3, 1, 0, 0);
+        assertEquals(2, s.count(1));
+        s.clear();
+        assertEquals(0, s.size());
+        assertFalse(s.poll(Long.MAX_VALUE));
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new EventScheduler(0));
+    }
+}
@@ -0,0 +1,93 @@
+package scenes.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FloatingTextPoolTest {
+
+    private FloatingTextPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new FloatingTextPool(4);
+    }
+
+    // ── Lifetime ─────────────────────────────────────────────────────────────
+
+    @Test
+    void update_risesAndExpiresAfterLifetime() {
+        pool.add(10, 100, "hi", 0xffffff, 3);
+        pool.update();
+        assertEquals(100 + FloatingTextPool.RISE_PER_TICK, pool.getY(0));
+        pool.update();
+        pool.update();
+        assertEquals(1, pool.size());
+        pool.update();
+        assertEquals(0, pool.size());
+        assertNull(pool.getText(0));
+    }
+
+    @Test
+    void update_keepsCreationOrderWhenMiddleExpires() {
+        pool.add(0, 0, "a", 0, 10);
+        pool.add(0, 0, "b", 0, 1);
+        pool.add(0, 0, "c", 0, 10);
+        pool.update();
+        pool.update();
+        assertEquals(2, pool.size());
+        assertEquals("a", pool.getText(0));
+        assertEquals("c", pool.getText(1));
+    }
+
+    @Test
+    void renderYAndOpacity_interpolateWithinTick() {
+        pool.add(0, 50, "x", 0, 10);
+        pool.savePrevious();
+        pool.update();
+        assertEquals(50 + FloatingTextPool.RISE_PER_TICK / 2, pool.renderY(0, 0.5), 1e-9);
+        assertEquals(1.0 - 1.5 / 10, pool.opacity(0, 0.5), 1e-9);
+    }
+
+    // ── Capacity ─────────────────────────────────────────────────────────────
+
+    @Test
+    void add_whenFull_dropsOldest() {
+        for (int i = 0; i < 6; i++) pool.add(0, 0, "t" + i, 0, 100);
+        assertEquals(4, pool.size());
+        assertEquals("t2", pool.getText(0));
+        assertEquals("t5", pool.getText(3));
+    }
+
+    // ── Counters ─────────────────────────────────────────────────────────────
+
+    @Test
+    void addCounter_sameTargetWithinWindow_merges() {
+        Object target = new Object();
+        pool.addCounter(target, 0, 0, "-", 5, "", 0xff0000, 60);
+        pool.update();
+        pool.addCounter(target, 0, 0, "-", 7, "", 0xff0000, 60);
+        assertEquals(1, pool.size());
+        assertEquals("-12", pool.getText(0));
+    }
+
+    @Test
+    void addCounter_otherTargetOrAfterWindow_spawnsNew() {
+        Object a = new Object(), b = new Object();
+        pool.addCounter(a, 0, 0, "-", 1, " HP", 0xff0000, 200);
+        pool.addCounter(b, 0, 0, "-", 1, " HP", 0xff0000, 200);
+        assertEquals(2, pool.size());
+        for (int i = 0; i <= FloatingTextPool.MERGE_TICKS; i++) pool.update();
+        pool.addCounter(a, 0, 0, "-", 2, " HP", 0xff0000, 200);
+        assertEquals(3, pool.size());
+        assertEquals("-2 HP", pool.getText(2));
+    }
+
+    @Test
+    void addCounter_plainTextNeverMerges() {
+        pool.add(0, 0, "-3", 0xff0000, 60);
+        pool.addCounter(null, 0, 0, "-", 3, "", 0xff0000, 60);
+        assertEquals(2, pool.size());
+    }
+}
@@ -0,0 +1,479 @@
+package scenes.game;
+
+import logic.creatures.EasyMonster;
+import logic.creatures.Monster;
+import logic.creatures.Player;
+import logic.pickaxe.Pickaxe;
+import logic.util.GameRandom;
+import logic.world.Chunk;
+import logic.world.ChunkedWorld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class GameControllerTest {
+
+    private static final long FRAME_NANOS = 16_666_667L;
+
+    private Player player;
+    private GameController controller;
+
+    @BeforeEach
+    void setUp() {
+        player = new Player(100, 20, 10);
+        controller = new GameController(player, Pickaxe.createNormalStonePickaxe());
+    }
+
+    // ── Headless simulation ──────────────────────────────────────────────────
+
+    @Test
+    void update_runsHeadlessForManyFrames() {
+        player.setMaxHealthPoint(Integer.MAX_VALUE);
+        player.setHealth(Integer.MAX_VALUE);
+        for (int i = 1; i <= 5_000; i++) {
+            assertTrue(controller.update(i * FRAME_NANOS));
+        }
+    }
+
+    @Test
+    void keyPressed_movesPlayerRight() {
+        double startX = controller.getPlayerX();
+        controller.keyPressed(InputKey.D);
+        for (int i = 1; i <= 10; i++) controller.update(i * FRAME_NANOS);
+        assertTrue(controller.getPlayerX() > startX);
+        assertEquals(3, controller.getFacing());
+    }
+
+    @Test
+    void keyReleased_stopsMovement() {
+        controller.keyPressed(InputKey.D);
+        controller.update(FRAME_NANOS);
+        controller.keyReleased(InputKey.D);
+        double x = controller.getPlayerX();
+        for (int i = 2; i <= 10; i++) controller.update(i * FRAME_NANOS);
+        assertEquals(x, controller.getPlayerX());
+    }
+
+    @Test
+    void sameSeedAndInput_reproducesRun() {
+        GameController a = seeded(99), b = seeded(99);
+        for (int i = 0; i < 3_000; i++) {
+            a.tick();
+            b.tick();
+        }
+        assertEquals(a.getMonsters().size(), b.getMonsters().size());
+        for (int i = 0; i < a.getMonsters().size(); i++) {
+            assertEquals(a.getMonsters().getX(i), b.getMonsters().getX(i));
+            assertEquals(a.getMonsters().getY(i), b.getMonsters().getY(i));
+        }
+    }
+
+    @Test
+    void differentSeeds_wanderDifferently() {
+        GameController a = seeded(1), b = seeded(2);
+        for (int i = 0; i < 600; i++) {
+            a.tick();
+            b.tick();
+        }
+        assertNotEquals(a.getMonsters().getX(0), b.getMonsters().getX(0));
+    }
+
+    private static GameController seeded(long seed) {
+        return new GameController(new Player(100, 20, 10), Pickaxe.createNormalStonePickaxe(), new GameRandom(seed),
+                ReplayPlayer.SAME_THREAD);
+    }
+
+    @Test
+    void phaseTimer_recordsSimulationPhasesWhenEnabled() {
+        controller.getPhaseTimer().setEnabled(true);
+        for (int i = 0; i < 10; i++) controller.tick();
+        controller.getPhaseTimer().endFrame(0);
+        for (int p = 0; p < GameController.PHASE_NAMES.length; p++) {
+            assertEquals(1, controller.getPhaseTimer().phase(p).total());
+            assertTrue(controller.getPhaseTimer().phase(p).last() > 0);
+        }
+    }
+
+    // ── Fixed timestep ───────────────────────────────────────────────────────
+
+    @Test
+    void update_runsSameTickCountAtAnyFrameRate() {
+        GameController at144 = new GameController(new Player(100, 20, 10), Pickaxe.createNormalStonePickaxe());
+        at144.keyPressed(InputKey.D);
+        controller.keyPressed(InputKey.D);
+
+        for (int i = 0; i <= 60; i++) controller.update(i * GameController.TICK_NANOS);
+        for (int i = 0; i <= 144; i++) at144.update(i * 1_000_000_000L / 144);
+
+        assertEquals(60, controller.getTicks());
+        assertEquals(60, at144.getTicks(), 1);
+        assertEquals(controller.getPlayerX(), at144.getPlayerX(), GameController.PLAYER_SPEED);
+    }
+
+    @Test
+    void update_capsCatchUpAfterLongStall() {
+        controller.update(0);
+        controller.update(10_000_000_000L);
+        assertTrue(controller.getTicks() <= 5);
+    }
+
+    @Test
+    void update_pausedClock_runsNoTicks() {
+        controller.getClock().setPaused(true);
+        for (int i = 0; i <= 60; i++) controller.update(i * GameController.TICK_NANOS);
+        assertEquals(0, controller.getTicks());
+
+        controller.getClock().setPaused(false);
+        controller.update(61 * GameController.TICK_NANOS);
+        assertEquals(1, controller.getTicks());
+    }
+
+    @Test
+    void update_scaledClock_fastForwards() {
+        player.setMaxHealthPoint(Integer.MAX_VALUE);
+        player.setHealth(Integer.MAX_VALUE);
+        controller.getClock().setScale(100);
+        for (int i = 0; i <= 60; i++) controller.update(i * GameController.TICK_NANOS);
+        assertEquals(6_000, controller.getTicks());
+    }
+
+    @Test
+    void renderPosition_interpolatesBetweenTicks() {
+        controller.keyPressed(InputKey.D);
+        controller.update(0);
+        controller.update(GameController.TICK_NANOS + GameController.TICK_NANOS / 2);
+
+        double expected = controller.getPlayerX() - GameController.PLAYER_SPEED / 2;
+        assertEquals(0.5, controller.getInterpolation(), 1e-6);
+        assertEquals(expected, controller.getRenderPlayerX(), 1e-6);
+    }
+
+    @Test
+    void suspend_releasesInputAndSkipsTimeAway() {
+        controller.keyPressed(InputKey.D);
+        controller.update(0);
+        controller.update(GameController.TICK_NANOS);
+        controller.suspend();
+        long ticks = controller.getTicks();
+        double x = controller.getPlayerX();
+
+        controller.update(60_000_000_000L);
+        controller.update(60_000_000_000L + GameController.TICK_NANOS);
+
+        assertEquals(ticks + 1, controller.getTicks());
+        assertEquals(x, controller.getPlayerX());
+    }
+
+    // ── Combat ───────────────────────────────────────────────────────────────
+
+    @Test
+    void attack_killsMonsterInMeleeRange() {
+        MonsterStore monsters = controller.getMonsters();
+        Monster target = monsters.getMonster(0);
+        int before = monsters.size();
+        monsters.moveTo(0, controller.getPlayerX() + 20, controller.getPlayerY());
+        target.setHealthPoint(1);
+        int gold = player.getGold();
+
+        controller.setLeftMouse(true);
+        controller.tick();
+
+        assertEquals(-1, monsters.indexOf(target));
+        assertEquals(before - 1, controller.getMonsters().size());
+        assertTrue(player.getGold() > gold);
+    }
+
+    @Test
+    void killedMonster_respawnsFromScheduler() {
+        MonsterStore monsters = controller.getMonsters();
+        int before = monsters.size();
+        monsters.moveTo(0, controller.getPlayerX() + 20, controller.getPlayerY());
+        monsters.getMonster(0).setHealthPoint(1);
+
+        controller.setLeftMouse(true);
+        controller.tick();
+        controller.setLeftMouse(false);
+        assertEquals(1, controller.pendingEvents(GameController.EV_MONSTER_RESPAWN));
+
+        for (int i = 0; i < 3 * GameController.TICKS_PER_SECOND; i++) controller.tick();
+
+        assertEquals(0, controller.pendingEvents(GameController.EV_MONSTER_RESPAWN));
+        assertEquals(before, controller.getMonsters().size());
+    }
+
+    @Test
+    void attack_heldButton_respectsCooldown() {
+        controller.setLeftMouse(true);
+        controller.tick();
+        assertTrue(controller.isAttackAnim());
+        assertEquals(1, controller.pendingEvents(GameController.EV_ATTACK_READY));
+
+        for (int i = 0; i < GameController.TICKS_PER_SECOND / 2; i++) controller.tick();
+        assertEquals(1, controller.pendingEvents(GameController.EV_ATTACK_READY));
+
+        controller.setLeftMouse(false);
+        for (int i = 0; i < GameController.TICKS_PER_SECOND; i++) controller.tick();
+        assertFalse(controller.isAttackAnim());
+        assertEquals(0, controller.pendingEvents(GameController.EV_ATTACK_READY));
+    }
+
+    @Test
+    void chasingMonster_routesAroundRocks() {
+        player.setMaxHealthPoint(Integer.MAX_VALUE);
+        player.setHealth(Integer.MAX_VALUE);
+        ChunkedWorld world = controller.getWorld();
+        for (int r = 2; r <= 12; r++)
+            for (int c = 2; c <= 12; c++) {
+                world.setTile(r, c, GameController.T_GROUND);
+                world.setStone(r, c, null);
+            }
+        for (int r = 5; r <= 9; r++) controller.placeRock(r, 7, GameController.T_HARD_ROCK);
+
+        MonsterStore monsters = controller.getMonsters();
+        for (int i = 1; i < monsters.size(); i++) monsters.moveTo(i, -30 * GameController.TILE_SIZE, monsters.getY(i));
+        monsters.moveTo(0, 6 * GameController.TILE_SIZE, 7 * GameController.TILE_SIZE);
+
+        boolean reached = false;
+        for (int i = 0; i < 2_000 && !reached; i++) {
+            controller.tick();
+            double x = monsters.getX(0), y = monsters.getY(0);
+            assertFalse(controller.isSolid(x + GameController.TILE_SIZE / 2.0,
+                    y + GameController.TILE_SIZE / 2.0), "chaser walked into a rock");
+            reached = Math.hypot(controller.getPlayerX() - x, controller.getPlayerY() - y)
+                    < GameController.TILE_SIZE;
+        }
+        assertTrue(reached);
+    }
+
+    // ── AI level of detail ───────────────────────────────────────────────────
+
+    @Test
+    void onScreenMonsters_updateEveryTick() {
+        MonsterStore monsters = controller.getMonsters();
+        monsters.clear();
+        double x = controller.getPlayerX() + 7 * GameController.TILE_SIZE;
+        for (int i = 0; i < 10; i++) controller.addMonster(new EasyMonster(), x, controller.getPlayerY(), 0);
+
+        for (int t = 0; t < 5; t++) {
+            controller.tick();
+            assertEquals(10, controller.getAiUpdateCount());
+        }
+    }
+
+    @Test
+    void farMonsters_updateOncePerFarInterval() {
+        MonsterStore monsters = controller.getMonsters();
+        monsters.clear();
+        double x = controller.getPlayerX() + 40 * GameController.TILE_SIZE;
+        for (int i = 0; i < 64; i++) controller.addMonster(new EasyMonster(), x, controller.getPlayerY(), 0);
+        long start = controller.getTicks();
+
+        for (int t = 0; t < GameController.AI_FAR_INTERVAL; t++) {
+            controller.tick();
+            assertEquals(64 / GameController.AI_FAR_INTERVAL, controller.getAiUpdateCount());
+        }
+        for (int i = 0; i < monsters.size(); i++) assertTrue(monsters.getAiTick(i) > start);
+    }
+
+    @Test
+    void midRangeMonster_catchesUpSkippedTicks() {
+        ChunkedWorld world = controller.getWorld();
+        int row = GameController.ROWS / 2;
+        for (int c = 22; c <= 30; c++) {
+            world.setTile(row, c, GameController.T_PATH);
+            world.setStone(row, c, null);
+        }
+        MonsterStore monsters = controller.getMonsters();
+        monsters.clear();
+        double x0 = 26 * GameController.TILE_SIZE;
+        int i = controller.addMonster(new EasyMonster(), x0, row * GameController.TILE_SIZE, 0);
+        monsters.setVelocity(i, 0.5, 0);
+        monsters.setMoveTimer(i, 100);
+        long start = controller.getTicks();
+
+        int updates = 0;
+        for (int t = 0; t < 3 * GameController.AI_MID_INTERVAL; t++) {
+            controller.tick();
+            updates += controller.getAiUpdateCount();
+        }
+
+        assertEquals(3, updates);
+        long ran = monsters.getAiTick(i) - start;
+        assertTrue(ran > 2 * GameController.AI_MID_INTERVAL);
+        assertEquals(0.5 * ran, monsters.getX(i) - x0, 1e-9);
+    }
+
+    @Test
+    void midRangeMonster_turnsOnTheTickItsTimerRunsOut() {
+        ChunkedWorld world = controller.getWorld();
+        int row = GameController.ROWS / 2;
+        for (int r = row - 4; r <= row + 4; r++)
+            for (int c = 22; c <= 30; c++) {
+                world.setTile(r, c, GameController.T_PATH);
+                world.setStone(r, c, null);
+            }
+        MonsterStore monsters = controller.getMonsters();
+        monsters.clear();
+        // Mid-cell, so the new heading cannot carry it into another row of grid cells
+        double x0 = 26 * GameController.TILE_SIZE, y0 = (row + 0.5) * GameController.TILE_SIZE;
+        int i = controller.addMonster(new EasyMonster(), x0, y0, 0);
+        monsters.setVelocity(i, 0.5, 0);
+        // Runs out on the third tick, which already walks the new heading
+        monsters.setMoveTimer(i, 2.5 * GameController.TICK_SECONDS);
+        long start = controller.getTicks();
+
+        for (int t = 0; t < 3 * GameController.AI_MID_INTERVAL; t++) controller.tick();
+
+        long after = monsters.getAiTick(i) - start - 2;
+        assertTrue(after > GameController.AI_MID_INTERVAL);
+        assertEquals(x0 + 0.5 * 2 + monsters.getDx(i) * after, monsters.getX(i), 1e-9);
+        assertEquals(y0 + monsters.getDy(i) * after, monsters.getY(i), 1e-9);
+    }
+
+    // ── Listener ─────────────────────────────────────────────────────────────
+
+    @Test
+    void playerDeath_notifiesListenerOnce() {
+        int[] defeats = {0};
+        controller.setListener(new GameListener() {
+            @Override
+            public void onPlayerDefeated(Player p) {
+                assertSame(player, p);
+                defeats[0]++;
+            }
+        });
+        player.setHealth(0);
+
+        assertFalse(controller.update(FRAME_NANOS));
+        assertFalse(controller.update(2 * FRAME_NANOS));
+        assertEquals(1, defeats[0]);
+    }
+
+    @Test
+    void setListener_null_fallsBackToNoOp() {
+        controller.setListener(null);
+        player.setHealth(0);
+        assertFalse(controller.update(FRAME_NANOS));
+    }
+
+    // ── Chunked world ────────────────────────────────────────────────────────
+
+    @Test
+    void placeRock_marksChunkTileDirtyOnce() {
+        Chunk chunk = controller.getWorld().chunkAt(3, 4);
+        chunk.clearDirty();
+
+        controller.placeRock(3, 4, GameController.T_HARD_ROCK);
+        controller.placeRock(3, 4, GameController.T_IRON_ROCK);
+        assertEquals(1, chunk.getDirtyCount());
+        assertEquals(3 * Chunk.SIZE + 4, chunk.getDirtyIndex(0));
+        assertEquals(GameController.T_IRON_ROCK, controller.getWorld().getTile(3, 4));
+        assertNotNull(controller.getWorld().getStone(3, 4));
+    }
+
+    @Test
+    void placeRockAndMining_maintainSolidity() {
+        assertFalse(controller.getWorld().isSolid(3, 4));
+        controller.placeRock(3, 4, GameController.T_HARD_ROCK);
+        assertTrue(controller.getWorld().isSolid(3, 4));
+        assertTrue(controller.isSolid(4.5 * GameController.TILE_SIZE, 3.5 * GameController.TILE_SIZE));
+        controller.getWorld().setTile(3, 4, GameController.T_GROUND);
+        assertFalse(controller.getWorld().isSolid(3, 4));
+    }
+
+    @Test
+    void tileProperties_classifyRocksAndBuildings() {
+        assertTrue(GameController.isMineableTile(GameController.T_VIBRANIUM));
+        assertFalse(GameController.isMineableTile(GameController.T_SHOP));
+        assertTrue(GameController.isBuildingTile(GameController.T_BOSS_DOOR));
+        assertEquals(GameController.TILE_SOLID, GameController.tileProperties(ChunkedWorld.UNLOADED));
+        assertEquals(0, GameController.tileProperties(GameController.T_PATH));
+    }
+
+    @Test
+    void speedStat_raisesWalkingSpeed() {
+        assertEquals(GameController.PLAYER_SPEED, controller.getPlayerSpeed());
+        player.addBonus(0, 0, 0, 4);
+        assertEquals(GameController.PLAYER_SPEED + 4 * GameController.SPEED_PER_POINT, controller.getPlayerSpeed());
+    }
+
+    @Test
+    void fastPlayer_cannotTunnelThroughWall() {
+        player.setMaxHealthPoint(Integer.MAX_VALUE);
+        player.setHealth(Integer.MAX_VALUE);
+        player.addBonus(0, 0, 0, 400);
+        assertTrue(controller.getPlayerSpeed() > 2 * GameController.TILE_SIZE);
+        controller.keyPressed(InputKey.W);
+        for (int i = 0; i < 60; i++) {
+            controller.tick();
+            double x = controller.getPlayerX(), y = controller.getPlayerY();
+            assertFalse(controller.isSolid(x + 5, y + 5) || controller.isSolid(x + GameController.TILE_SIZE - 6, y + 5)
+                    || controller.isSolid(x + 5, y + GameController.TILE_SIZE - 6)
+                    || controller.isSolid(x + GameController.TILE_SIZE - 6, y + GameController.TILE_SIZE - 6));
+        }
+        // Stopped inside the home area's top wall
+        assertTrue(controller.getPlayerY() >= GameController.TILE_SIZE - 5);
+    }
+
+    @Test
+    void homeArea_hasBuildingsAndGates() {
+        ChunkedWorld world = controller.getWorld();
+        assertEquals(GameController.T_SHOP, world.getTile(2, 2));
+        assertEquals(GameController.T_BOSS_DOOR, world.getTile(GameController.ROWS - 3, GameController.COLS / 2 - 1));
+        assertEquals(GameController.T_PATH, world.getTile(GameController.ROWS / 2, 0));
+        assertEquals(GameController.T_PATH, world.getTile(GameController.ROWS / 2, -40));
+    }
+
+    @Test
+    void walkingThroughGate_leavesHomeArea() {
+        player.setMaxHealthPoint(Integer.MAX_VALUE);
+        player.setHealth(Integer.MAX_VALUE);
+        controller.keyPressed(InputKey.A);
+        for (int i = 1; i <= 600; i++) controller.tick();
+        assertTrue(controller.getPlayerX() < 0);
+        assertTrue(controller.inBounds(GameController.ROWS / 2, GameController.tileOf(controller.getPlayerX())));
+    }
+
+    @Test
+    void inputKey_fromName() {
+        assertEquals(InputKey.LEFT, InputKey.fromName("LEFT"));
+        assertNull(InputKey.fromName("SPACE"));
+    }
+
+    // ── Allocation ───────────────────────────────────────────────────────────
+
+    @Test
+    void update_steadyState_doesNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        player.setMaxHealthPoint(Integer.MAX_VALUE);
+        player.setHealth(Integer.MAX_VALUE);
+        // Keep monsters wandering but out of reach, so no hits or respawns happen
+        MonsterStore monsters = controller.getMonsters();
+        for (int i = 0; i < monsters.size(); i++)
+            monsters.moveTo(i, monsters.getX(i) + 40 * GameController.TILE_SIZE, monsters.getY(i) + 40 * GameController.TILE_SIZE);
+
+        long[] frame = {0};
+        Runnable walkFrames = () -> {
+            for (int i = 0; i < 2_000; i++) {
+                // Pace left and right inside the home area
+                if (i % 120 == 0) { controller.keyReleased(InputKey.D); controller.keyPressed(InputKey.A); }
+                if (i % 120 == 60) { controller.keyReleased(InputKey.A); controller.keyPressed(InputKey.D); }
+                controller.update(++frame[0] * FRAME_NANOS);
+            }
+        };
+        for (int i = 0; i < 10; i++) walkFrames.run(); // warm up and let the JIT settle
+
+        long tid = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(tid);
+        walkFrames.run();
+        long allocated = threads.getThreadAllocatedBytes(tid) - before;
+        assertTrue(allocated < 1024, "game loop allocated " + allocated + " bytes over 2000 frames");
+    }
+}
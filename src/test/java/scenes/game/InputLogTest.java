@@ -0,0 +1,186 @@
+package scenes.game;
+
+import logic.creatures.Player;
+import logic.pickaxe.Pickaxe;
+import logic.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputLogTest {
+
+    // ── Encoding ─────────────────────────────────────────────────────────────
+
+    @Test
+    void codes_roundTrip() {
+        for (InputKey key : InputKey.values()) {
+            int code = InputLog.keyCode(key, true);
+            assertEquals(key, InputLog.key(InputLog.inputId(code)));
+            assertTrue(InputLog.isDown(code));
+            assertFalse(InputLog.isDown(InputLog.keyCode(key, false)));
+        }
+        assertEquals(InputLog.RIGHT_MOUSE, InputLog.inputId(InputLog.code(InputLog.RIGHT_MOUSE, false)));
+    }
+
+    @Test
+    void record_shortGapsTakeTwoBytes() {
+        InputLog log = new InputLog(1);
+        log.record(5, InputLog.keyCode(InputKey.D, true));
+        log.record(40, InputLog.keyCode(InputKey.D, false));
+        assertEquals(4, log.byteSize());
+        log.record(40 + 300, InputLog.code(InputLog.LEFT_MOUSE, true));
+        assertEquals(7, log.byteSize());
+    }
+
+    @Test
+    void cursor_returnsEventsInOrder() {
+        InputLog log = new InputLog(1);
+        log.record(0, 3);
+        log.record(0, 4);
+        log.record(1_000_000, 5);
+        InputLog.Cursor c = log.cursor();
+        assertTrue(c.next());
+        assertEquals(0, c.tick());
+        assertEquals(3, c.code());
+        assertTrue(c.next());
+        assertEquals(4, c.code());
+        assertTrue(c.next());
+        assertEquals(1_000_000, c.tick());
+        assertEquals(5, c.code());
+        assertFalse(c.next());
+    }
+
+    @Test
+    void record_rejectsDecreasingTick() {
+        InputLog log = new InputLog(1);
+        log.record(10, 3);
+        assertThrows(IllegalArgumentException.class, () -> log.record(9, 3));
+    }
+
+    @Test
+    void writeRead_roundTrip() throws IOException {
+        InputLog log = new InputLog(1234);
+        for (int i = 0; i < 500; i++) log.record(i * 7L, i % 20);
+        log.finish(5_000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.write(out);
+
+        InputLog read = InputLog.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(1234, read.getSeed());
+        assertEquals(5_000, read.getEndTick());
+        assertEquals(500, read.size());
+        InputLog.Cursor a = log.cursor(), b = read.cursor();
+        while (a.next()) {
+            assertTrue(b.next());
+            assertEquals(a.tick(), b.tick());
+            assertEquals(a.code(), b.code());
+        }
+        assertFalse(b.next());
+    }
+
+    @Test
+    void read_rejectsOtherData() {
+        assertThrows(IOException.class, () -> InputLog.read(new ByteArrayInputStream(new byte[32])));
+    }
+
+    // ── Recording and replay ─────────────────────────────────────────────────
+
+    @Test
+    void controller_recordsOnlyStateChanges() {
+        GameController controller = seeded(5);
+        InputLog log = controller.startRecording();
+        controller.keyPressed(InputKey.D);
+        controller.keyPressed(InputKey.D);
+        controller.setLeftMouse(false);
+        controller.tick();
+        controller.keyReleased(InputKey.D);
+        assertEquals(2, log.size());
+        assertSame(log, controller.stopRecording());
+        assertEquals(1, log.getEndTick());
+    }
+
+    @Test
+    void startRecording_afterFirstTick_throws() {
+        GameController controller = seeded(5);
+        controller.tick();
+        assertThrows(IllegalStateException.class, controller::startRecording);
+    }
+
+    @Test
+    void replay_reproducesRecordedRun() {
+        GameController live = seeded(42);
+        InputLog log = live.startRecording();
+        InputKey[] path = {InputKey.D, InputKey.S, InputKey.A, InputKey.W, InputKey.RIGHT};
+        for (int i = 0; i < 1_200; i++) {
+            if (i % 120 == 0) {
+                if (i > 0) live.keyReleased(path[(i / 120 - 1) % path.length]);
+                live.keyPressed(path[(i / 120) % path.length]);
+            }
+            live.setLeftMouse(i % 50 < 10);
+            live.tick();
+        }
+        live.stopRecording();
+
+        GameController replayed = seeded(log.getSeed());
+        assertEquals(1_200, ReplayPlayer.play(log, replayed));
+        assertSameState(live, replayed);
+    }
+
+    @Test
+    void replay_twiceEndsInSameState() {
+        InputLog log = new InputLog(7);
+        InputKey[] legs = {InputKey.D, InputKey.S, InputKey.D, InputKey.W};
+        for (int t = 0, leg = 0; t < 2_400; t += 150, leg = (leg + 1) % legs.length) {
+            if (t > 0) log.record(t, InputLog.keyCode(legs[(leg + 3) % legs.length], false));
+            log.record(t, InputLog.keyCode(legs[leg], true));
+            log.record(t, InputLog.code(InputLog.LEFT_MOUSE, leg % 2 == 0));
+        }
+        log.finish(2_400);
+
+        GameController first = ReplayPlayer.newController(log, player(), Pickaxe.createNormalStonePickaxe());
+        GameController second = ReplayPlayer.newController(log, player(), Pickaxe.createNormalStonePickaxe());
+        assertEquals(2_400, ReplayPlayer.play(log, first));
+        assertEquals(2_400, ReplayPlayer.play(log, second));
+        assertSameState(first, second);
+    }
+
+    @Test
+    void play_rejectsBackgroundChunkLoading() {
+        InputLog log = new InputLog(1);
+        log.finish(10);
+        GameController controller = new GameController(player(), Pickaxe.createNormalStonePickaxe(), new GameRandom(1));
+        assertThrows(IllegalArgumentException.class, () -> ReplayPlayer.play(log, controller));
+    }
+
+    private static void assertSameState(GameController expected, GameController actual) {
+        assertEquals(expected.getTicks(), actual.getTicks());
+        assertEquals(expected.getPlayerX(), actual.getPlayerX());
+        assertEquals(expected.getPlayerY(), actual.getPlayerY());
+        assertEquals(expected.getPlayer().getHealthPoint(), actual.getPlayer().getHealthPoint());
+        assertEquals(expected.getPlayer().getGold(), actual.getPlayer().getGold());
+        MonsterStore a = expected.getMonsters(), b = actual.getMonsters();
+        assertEquals(a.size(), b.size());
+        for (int i = 0; i < a.size(); i++) {
+            assertEquals(a.getX(i), b.getX(i));
+            assertEquals(a.getY(i), b.getY(i));
+            assertEquals(a.getHp(i), b.getHp(i));
+            assertEquals(a.isAggro(i), b.isAggro(i));
+        }
+    }
+
+    private static GameController seeded(long seed) {
+        return new GameController(player(), Pickaxe.createNormalStonePickaxe(), new GameRandom(seed),
+                ReplayPlayer.SAME_THREAD);
+    }
+
+    private static Player player() {
+        Player player = new Player(100, 20, 10);
+        player.setMaxHealthPoint(Integer.MAX_VALUE);
+        player.setHealth(Integer.MAX_VALUE);
+        return player;
+    }
+}
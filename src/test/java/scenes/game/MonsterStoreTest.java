@@ -0,0 +1,160 @@
+package scenes.game;
+
+import logic.creatures.EasyMonster;
+import logic.creatures.HardMonster;
+import logic.creatures.Monster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonsterStoreTest {
+
+    private MonsterStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MonsterStore(10, 2);
+    }
+
+    // ── Columns ──────────────────────────────────────────────────────────────
+
+    @Test
+    void add_fillsColumnsAndGrows() {
+        Monster hard = new HardMonster();
+        for (int i = 0; i < 5; i++) store.add(new EasyMonster(), i, 2 * i, 0, 1.5, 0);
+        int i = store.add(hard, 7, 8, 2, 2.5, 40);
+        assertEquals(6, store.size());
+        assertEquals(5, i);
+        assertSame(hard, store.getMonster(i));
+        assertEquals(7, store.getX(i));
+        assertEquals(8, store.getY(i));
+        assertEquals(2, store.getTier(i));
+        assertEquals(2.5, store.getMoveTimer(i));
+        assertEquals(hard.getMaxHealthPoint(), store.getMaxHp(i));
+        assertEquals(-1, store.getAggroTick(i));
+        assertEquals(40, store.getAiTick(i));
+    }
+
+    @Test
+    void remove_movesLastMonsterIntoSlot() {
+        Monster a = new EasyMonster(), b = new EasyMonster(), c = new HardMonster();
+        store.add(a, 0, 0, 0, 1, 0);
+        store.add(b, 10, 0, 0, 1, 0);
+        store.add(c, 20, 5, 2, 3, 0);
+        store.setVelocity(2, 0.5, -0.5);
+        store.setAiTick(2, 9);
+
+        store.remove(0);
+        assertEquals(2, store.size());
+        assertSame(c, store.getMonster(0));
+        assertEquals(20, store.getX(0));
+        assertEquals(-0.5, store.getDy(0));
+        assertEquals(2, store.getTier(0));
+        assertEquals(9, store.getAiTick(0));
+        assertEquals(-1, store.indexOf(a));
+        assertEquals(1, store.indexOf(b));
+    }
+
+    @Test
+    void syncHp_copiesDamageFromMonster() {
+        Monster m = new EasyMonster();
+        store.add(m, 0, 0, 0, 1, 0);
+        m.setHealthPoint(3);
+        assertEquals(m.getMaxHealthPoint(), store.getHp(0));
+        store.syncHp(0);
+        assertEquals(3, store.getHp(0));
+    }
+
+    @Test
+    void renderPosition_interpolatesFromPreviousTick() {
+        store.add(new EasyMonster(), 0, 0, 0, 1, 0);
+        store.savePrevious();
+        store.moveTo(0, 10, 20);
+        assertEquals(5, store.renderX(0, 0.5));
+        assertEquals(10, store.renderY(0, 0.5));
+    }
+
+    // ── Grid queries ─────────────────────────────────────────────────────────
+
+    @Test
+    void queryRadius_findsOnlyMonstersInRange() {
+        store.add(new EasyMonster(), 0, 0, 0, 1, 0);
+        store.add(new EasyMonster(), 15, 0, 0, 1, 0);
+        store.add(new EasyMonster(), 100, 100, 0, 1, 0);
+        assertEquals(2, store.queryRadius(0, 0, 20));
+        Set<Integer> found = new HashSet<>();
+        for (int k = 0; k < 2; k++) found.add(store.hit(k));
+        assertEquals(Set.of(0, 1), found);
+    }
+
+    @Test
+    void queries_followMovesAndRemovals() {
+        store.add(new EasyMonster(), 0, 0, 0, 1, 0);
+        store.add(new EasyMonster(), 500, 500, 0, 1, 0);
+        assertEquals(1, store.queryRadius(0, 0, 5));
+
+        store.moveTo(0, 300, 300);
+        assertEquals(0, store.queryRadius(0, 0, 5));
+        assertTrue(store.anyInAabb(290, 290, 310, 310));
+
+        store.remove(0);
+        assertFalse(store.anyInAabb(290, 290, 310, 310));
+        assertEquals(1, store.queryRadius(500, 500, 5));
+        assertEquals(0, store.hit(0));
+    }
+
+    @Test
+    void add_afterQueryIsIndexed() {
+        store.add(new EasyMonster(), 0, 0, 0, 1, 0);
+        assertEquals(1, store.queryRadius(0, 0, 5));
+        store.add(new EasyMonster(), 2, 2, 0, 1, 0);
+        assertEquals(2, store.queryRadius(0, 0, 5));
+    }
+
+    @Test
+    void queries_matchBruteForceAfterManyMovesAndRemovals() {
+        Random rng = new Random(3);
+        for (int i = 0; i < 300; i++) store.add(new EasyMonster(), rng.nextInt(400), rng.nextInt(400), 0, 1, 0);
+        for (int step = 0; step < 2_000; step++) {
+            int i = rng.nextInt(store.size());
+            if (step % 10 == 0) store.remove(i);
+            else store.moveTo(i, store.getX(i) + rng.nextInt(21) - 10, store.getY(i) + rng.nextInt(21) - 10);
+            if (step % 7 == 0) store.add(new EasyMonster(), rng.nextInt(400), rng.nextInt(400), 0, 1, 0);
+
+            double cx = rng.nextInt(400), cy = rng.nextInt(400);
+            Set<Integer> expected = new HashSet<>(), found = new HashSet<>();
+            for (int k = 0; k < store.size(); k++) {
+                double ox = store.getX(k) - cx, oy = store.getY(k) - cy;
+                if (ox * ox + oy * oy < 40 * 40) expected.add(k);
+            }
+            for (int k = 0, n = store.queryRadius(cx, cy, 40); k < n; k++) found.add(store.hit(k));
+            assertEquals(expected, found);
+        }
+    }
+
+    @Test
+    void queryAabbRows_phasesTogetherCoverTheBox() {
+        Random rng = new Random(5);
+        for (int i = 0; i < 200; i++) store.add(new EasyMonster(), rng.nextInt(300) - 150, rng.nextInt(300) - 150, 0, 1, 0);
+        Set<Integer> all = new HashSet<>();
+        for (int k = 0, n = store.queryAabb(-95, -62, 81, 104); k < n; k++) all.add(store.hit(k));
+
+        Set<Integer> union = new HashSet<>();
+        for (int phase = 0; phase < 4; phase++)
+            for (int k = 0, n = store.queryAabbRows(-95, -62, 81, 104, 4, phase); k < n; k++)
+                assertTrue(union.add(store.hit(k)), "found in two phases");
+        assertEquals(all, union);
+        assertFalse(all.isEmpty());
+    }
+
+    @Test
+    void queryRadius_growsResultBuffer() {
+        for (int i = 0; i < 100; i++) store.add(new EasyMonster(), i % 10, i / 10, 0, 1, 0);
+        assertEquals(100, store.queryRadius(5, 5, 50));
+    }
+}